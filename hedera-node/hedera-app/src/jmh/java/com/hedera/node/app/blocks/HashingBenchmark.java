@@ -30,6 +30,8 @@ import com.hedera.hapi.node.base.Timestamp;
 import com.hedera.hapi.node.state.token.Account;
 import com.hedera.node.app.blocks.impl.ConcurrentStreamingTreeHasher;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.common.crypto.CryptographyFactory;
+import com.swirlds.common.crypto.CryptographyHolder;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -66,11 +68,15 @@ public class HashingBenchmark {
     @Param({"10000"})
     private int numLeaves;
 
+    @Param({"false", "true"})
+    private boolean multiBufferDigest;
+
     private List<Bytes> leaves;
     private Bytes expectedAnswer;
 
     @Setup(Level.Trial)
     public void setup() {
+        CryptographyHolder.set(CryptographyFactory.create(multiBufferDigest));
         leaves = new ArrayList<>(numLeaves);
         for (int i = 0; i < numLeaves; i++) {
             leaves.add(BlockItem.PROTOBUF.toBytes(randomBlockItem()));
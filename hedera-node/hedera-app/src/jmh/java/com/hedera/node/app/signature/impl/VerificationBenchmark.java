@@ -20,9 +20,13 @@ import com.hedera.hapi.node.base.Key;
 import com.hedera.hapi.node.base.SignaturePair;
 import com.hedera.node.app.fixtures.AppTestBase;
 import com.hedera.node.app.signature.ExpandedSignaturePair;
+import com.hedera.node.app.signature.SignatureVerificationBatch;
 import com.hedera.node.app.spi.fixtures.Scenarios;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.common.crypto.CryptographyHolder;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -37,7 +41,15 @@ import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.infra.Blackhole;
 
-/** Measures the amount of time to prepare expanded signatures and call the crypto engine */
+/**
+ * Measures the amount of time to prepare expanded signatures and call the crypto engine, for transactions signed only
+ * with ED25519 keys, only with ECDSA_SECP256K1 keys, or with a mix of both (which needs both messages in the batch).
+ *
+ * <p>{@link #verifyBench} verifies each transaction on its own, the way ingest does, while {@link #verifyBatchBench}
+ * adds all the transactions to one {@link SignatureVerificationBatch} and verifies it at once, the way pre-handle does
+ * for an event. The {@code FAKE} engine only measures the preparation overhead; the {@code REAL} engine verifies the
+ * (random, so invalid) signatures and shows what the parallel batch saves.
+ */
 @State(Scope.Benchmark)
 @Fork(value = 1, warmups = 1)
 @BenchmarkMode(Mode.AverageTime)
@@ -46,33 +58,67 @@ public class VerificationBenchmark extends AppTestBase implements Scenarios {
     @Param({"1", "2", "5", "10"})
     public int numSigPairs;
 
-    private Set<ExpandedSignaturePair> sigPairs;
+    @Param({"ED25519", "ECDSA_SECP256K1", "MIXED"})
+    public String keyType;
+
+    @Param({"1", "10", "50"})
+    public int numTransactions;
+
+    @Param({"FAKE", "REAL"})
+    public String engine;
+
+    private List<Set<ExpandedSignaturePair>> transactions;
     private Bytes fakeSignedBytes;
     private SignatureVerifierImpl subject;
 
     @Setup(Level.Invocation)
     public void setUp() {
-        sigPairs = createSigPairs(numSigPairs);
-        final var fakeCryptoEngine = new DoNothingCryptoEngine();
+        transactions = new ArrayList<>(numTransactions);
+        for (int i = 0; i < numTransactions; i++) {
+            transactions.add(createSigPairs(numSigPairs));
+        }
+        final var cryptoEngine = engine.equals("REAL") ? CryptographyHolder.get() : new DoNothingCryptoEngine();
         fakeSignedBytes = Bytes.wrap(new byte[] {1, 2, 3, 4, 5});
-        subject = new SignatureVerifierImpl(fakeCryptoEngine);
+        subject = new SignatureVerifierImpl(cryptoEngine);
     }
 
     @Benchmark
     public void verifyBench(Blackhole blackhole) {
-        blackhole.consume(subject.verify(fakeSignedBytes, sigPairs));
+        for (final var sigPairs : transactions) {
+            blackhole.consume(subject.verify(fakeSignedBytes, sigPairs));
+        }
+    }
+
+    @Benchmark
+    public void verifyBatchBench(Blackhole blackhole) {
+        final var batch = subject.newBatch();
+        for (final var sigPairs : transactions) {
+            blackhole.consume(subject.verifyInBatch(fakeSignedBytes, sigPairs, batch));
+        }
+        batch.verify();
     }
 
     private Set<ExpandedSignaturePair> createSigPairs(int numSigPairs) {
         final var pairs = new HashSet<ExpandedSignaturePair>();
         for (int i = 0; i < numSigPairs; i++) {
-            final var keyBytes = randomBytes(32);
-            final var sigPair = SignaturePair.newBuilder()
-                    .ed25519(keyBytes)
-                    .pubKeyPrefix(keyBytes.slice(0, 10))
-                    .build();
-            pairs.add(
-                    new ExpandedSignaturePair(Key.newBuilder().ed25519(keyBytes).build(), keyBytes, null, sigPair));
+            final var useEcdsa = keyType.equals("ECDSA_SECP256K1") || (keyType.equals("MIXED") && i % 2 == 1);
+            if (useEcdsa) {
+                final var keyBytes = randomBytes(33);
+                final var sigPair = SignaturePair.newBuilder()
+                        .ecdsaSecp256k1(randomBytes(64))
+                        .pubKeyPrefix(keyBytes.slice(0, 10))
+                        .build();
+                pairs.add(new ExpandedSignaturePair(
+                        Key.newBuilder().ecdsaSecp256k1(keyBytes).build(), keyBytes, randomBytes(20), sigPair));
+            } else {
+                final var keyBytes = randomBytes(32);
+                final var sigPair = SignaturePair.newBuilder()
+                        .ed25519(keyBytes)
+                        .pubKeyPrefix(keyBytes.slice(0, 10))
+                        .build();
+                pairs.add(new ExpandedSignaturePair(
+                        Key.newBuilder().ed25519(keyBytes).build(), keyBytes, null, sigPair));
+            }
         }
         return pairs;
     }
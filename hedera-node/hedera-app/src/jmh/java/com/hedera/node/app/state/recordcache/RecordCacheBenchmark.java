@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.state.recordcache;
+
+import static com.hedera.node.app.state.recordcache.schemas.V0540RecordCacheSchema.TXN_RECEIPT_QUEUE;
+
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.base.ResponseCodeEnum;
+import com.hedera.hapi.node.base.Timestamp;
+import com.hedera.hapi.node.base.TokenType;
+import com.hedera.hapi.node.base.Transaction;
+import com.hedera.hapi.node.base.TransactionID;
+import com.hedera.hapi.node.transaction.TransactionReceipt;
+import com.hedera.hapi.node.transaction.TransactionRecord;
+import com.hedera.node.app.fixtures.AppTestBase;
+import com.hedera.node.app.fixtures.state.FakeState;
+import com.hedera.node.app.state.SingleTransactionRecord;
+import com.hedera.node.app.state.SingleTransactionRecord.TransactionOutputs;
+import com.hedera.node.app.state.WorkingStateAccessor;
+import com.hedera.node.config.ConfigProvider;
+import com.hedera.node.config.VersionedConfigImpl;
+import java.time.Instant;
+import java.time.InstantSource;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures {@link RecordCacheImpl#getRecords(AccountID)} for a payer with many recent transactions, and the cost of
+ * adding, committing and expiring a round of receipts. Run with {@code -prof gc} to see the allocation rate.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1, warmups = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RecordCacheBenchmark extends AppTestBase {
+    private static final AccountID PAYER = AccountID.newBuilder().accountNum(1001).build();
+    private static final TransactionOutputs OUTPUTS = new TransactionOutputs(TokenType.FUNGIBLE_COMMON);
+    private static final int TRANSACTIONS_PER_ROUND = 100;
+
+    @Param({"1000", "5000", "10000"})
+    public int numRecentTransactions;
+
+    private FakeState state;
+    private RecordCacheImpl subject;
+    private Instant consensusNow;
+    private long nextTransaction;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final ConfigProvider configProvider = () -> new VersionedConfigImpl(DEFAULT_CONFIG, 1);
+        state = new FakeState()
+                .addService(RecordCacheService.NAME, Map.of(TXN_RECEIPT_QUEUE, new ConcurrentLinkedDeque<>()));
+        final var workingStateAccessor = new WorkingStateAccessor();
+        workingStateAccessor.setState(state);
+        subject = new RecordCacheImpl(
+                new DeduplicationCacheImpl(configProvider, InstantSource.system()),
+                workingStateAccessor,
+                configProvider);
+        consensusNow = Instant.ofEpochSecond(1_234_567L);
+        while (nextTransaction < numRecentTransactions) {
+            handleRound();
+        }
+    }
+
+    @Benchmark
+    public void getRecords(final Blackhole blackhole) {
+        blackhole.consume(subject.getRecords(PAYER));
+    }
+
+    @Benchmark
+    public void handleRound() {
+        // Each round moves consensus time forward, so that the oldest round expires
+        consensusNow = consensusNow.plusMillis(180_000L / Math.max(1, numRecentTransactions / TRANSACTIONS_PER_ROUND));
+        subject.resetRoundReceipts();
+        for (int i = 0; i < TRANSACTIONS_PER_ROUND; i++) {
+            final var validStart = new Timestamp(consensusNow.getEpochSecond(), (int) (nextTransaction++ % 1_000_000));
+            final var txId = TransactionID.newBuilder()
+                    .accountID(PAYER)
+                    .transactionValidStart(validStart)
+                    .build();
+            final var record = TransactionRecord.newBuilder()
+                    .transactionID(txId)
+                    .receipt(TransactionReceipt.newBuilder().status(ResponseCodeEnum.SUCCESS))
+                    .build();
+            subject.add(
+                    0, PAYER, List.of(new SingleTransactionRecord(Transaction.DEFAULT, record, List.of(), OUTPUTS)));
+        }
+        subject.commitRoundReceipts(state, consensusNow);
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.workflows;
+
+import com.hedera.hapi.node.base.AccountAmount;
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.base.ContractID;
+import com.hedera.hapi.node.base.Duration;
+import com.hedera.hapi.node.base.SignatureMap;
+import com.hedera.hapi.node.base.SignaturePair;
+import com.hedera.hapi.node.base.Timestamp;
+import com.hedera.hapi.node.base.TopicID;
+import com.hedera.hapi.node.base.Transaction;
+import com.hedera.hapi.node.base.TransactionID;
+import com.hedera.hapi.node.base.TransferList;
+import com.hedera.hapi.node.consensus.ConsensusSubmitMessageTransactionBody;
+import com.hedera.hapi.node.contract.ContractCallTransactionBody;
+import com.hedera.hapi.node.token.CryptoTransferTransactionBody;
+import com.hedera.hapi.node.transaction.SignedTransaction;
+import com.hedera.hapi.node.transaction.TransactionBody;
+import com.hedera.pbj.runtime.ParseException;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the cost of parsing a serialized transaction the way {@link TransactionChecker#check(Transaction, Bytes)}
+ * does (fully parsing the {@link Transaction} and {@link SignedTransaction} wrappers) with going through a
+ * {@link TransactionView}, for a few transaction types of different sizes. Run with {@code -prof gc} to see the
+ * allocation rate.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1, warmups = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TransactionParsingBenchmark {
+    private static final AccountID PAYER = AccountID.newBuilder().accountNum(1001).build();
+
+    @Param({"CRYPTO_TRANSFER", "CONSENSUS_SUBMIT_MESSAGE", "CONTRACT_CALL"})
+    public String transactionType;
+
+    private Bytes buffer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final var random = new Random(42);
+        final var body = switch (transactionType) {
+            case "CRYPTO_TRANSFER" -> baseBody()
+                    .cryptoTransfer(CryptoTransferTransactionBody.newBuilder()
+                            .transfers(TransferList.newBuilder()
+                                    .accountAmounts(
+                                            AccountAmount.newBuilder()
+                                                    .accountID(PAYER)
+                                                    .amount(-1_000L)
+                                                    .build(),
+                                            AccountAmount.newBuilder()
+                                                    .accountID(AccountID.newBuilder()
+                                                            .accountNum(1002)
+                                                            .build())
+                                                    .amount(1_000L)
+                                                    .build())
+                                    .build()))
+                    .build();
+            case "CONSENSUS_SUBMIT_MESSAGE" -> baseBody()
+                    .consensusSubmitMessage(ConsensusSubmitMessageTransactionBody.newBuilder()
+                            .topicID(TopicID.newBuilder().topicNum(2001).build())
+                            .message(randomBytes(random, 1024)))
+                    .build();
+            case "CONTRACT_CALL" -> baseBody()
+                    .contractCall(ContractCallTransactionBody.newBuilder()
+                            .contractID(ContractID.newBuilder().contractNum(3001).build())
+                            .gas(100_000L)
+                            .functionParameters(randomBytes(random, 4096)))
+                    .build();
+            default -> throw new IllegalArgumentException("Unknown transaction type " + transactionType);
+        };
+        final var signatureMap = SignatureMap.newBuilder()
+                .sigPair(SignaturePair.newBuilder()
+                        .pubKeyPrefix(randomBytes(random, 32))
+                        .ed25519(randomBytes(random, 64))
+                        .build())
+                .build();
+        final var signedTransaction = SignedTransaction.newBuilder()
+                .bodyBytes(TransactionBody.PROTOBUF.toBytes(body))
+                .sigMap(signatureMap)
+                .build();
+        buffer = Transaction.PROTOBUF.toBytes(Transaction.newBuilder()
+                .signedTransactionBytes(SignedTransaction.PROTOBUF.toBytes(signedTransaction))
+                .build());
+    }
+
+    @Benchmark
+    public void fullParse(final Blackhole blackhole) throws ParseException {
+        final var transaction = Transaction.PROTOBUF.parseStrict(buffer.toReadableSequentialData());
+        final var signedTransaction = SignedTransaction.PROTOBUF.parseStrict(
+                transaction.signedTransactionBytes().toReadableSequentialData());
+        blackhole.consume(signedTransaction.sigMap());
+        blackhole.consume(
+                TransactionBody.PROTOBUF.parseStrict(signedTransaction.bodyBytes().toReadableSequentialData()));
+    }
+
+    @Benchmark
+    public void viewParse(final Blackhole blackhole) throws ParseException {
+        final var view = TransactionView.tryWrap(buffer);
+        blackhole.consume(SignatureMap.PROTOBUF.parseStrict(view.signatureMapBytes().toReadableSequentialData()));
+        blackhole.consume(TransactionBody.PROTOBUF.parseStrict(view.bodyBytes().toReadableSequentialData()));
+    }
+
+    private static TransactionBody.Builder baseBody() {
+        return TransactionBody.newBuilder()
+                .transactionID(TransactionID.newBuilder()
+                        .accountID(PAYER)
+                        .transactionValidStart(
+                                Timestamp.newBuilder().seconds(1_700_000_000L).build()))
+                .nodeAccountID(AccountID.newBuilder().accountNum(3).build())
+                .transactionFee(100_000_000L)
+                .transactionValidDuration(Duration.newBuilder().seconds(120).build())
+                .memo("benchmark");
+    }
+
+    private static Bytes randomBytes(final Random random, final int length) {
+        final var bytes = new byte[length];
+        random.nextBytes(bytes);
+        return Bytes.wrap(bytes);
+    }
+}
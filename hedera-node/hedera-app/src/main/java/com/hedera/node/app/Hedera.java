@@ -41,6 +41,7 @@ import com.hedera.node.app.blocks.BlockStreamManager;
 import com.hedera.node.app.blocks.BlockStreamService;
 import com.hedera.node.app.blocks.impl.BoundaryStateChangeListener;
 import com.hedera.node.app.blocks.impl.KVStateChangeListener;
+import com.hedera.node.app.blocks.impl.LocalBlockNodeSimulator;
 import com.hedera.node.app.config.BootstrapConfigProviderImpl;
 import com.hedera.node.app.config.ConfigProviderImpl;
 import com.hedera.node.app.fees.FeeService;
@@ -650,6 +651,7 @@ public final class Hedera implements SwirldMain, PlatformStatusChangeListener {
 
             logger.debug("Shutting down the block manager");
             daggerApp.blockRecordManager().close();
+            daggerApp.localBlockNode().ifPresent(LocalBlockNodeSimulator::close);
         }
 
         platform = null;
@@ -807,6 +809,7 @@ public final class Hedera implements SwirldMain, PlatformStatusChangeListener {
             if (blockStreamEnabled) {
                 daggerApp.tssBaseService().unregisterLedgerSignatureConsumer(daggerApp.blockStreamManager());
             }
+            daggerApp.localBlockNode().ifPresent(LocalBlockNodeSimulator::close);
         }
         // Fully qualified so as to not confuse javadoc
         daggerApp = com.hedera.node.app.DaggerHederaInjectionComponent.builder()
@@ -829,6 +832,7 @@ public final class Hedera implements SwirldMain, PlatformStatusChangeListener {
                 .migrationStateChanges(migrationStateChanges)
                 .tssBaseService(tssBaseServiceSupplier.get())
                 .build();
+        daggerApp.localBlockNode().ifPresent(LocalBlockNodeSimulator::start);
         // Initialize infrastructure for fees, exchange rates, and throttles from the working state
         daggerApp.initializer().accept(state);
         notifications.register(PlatformStatusChangeListener.class, this);
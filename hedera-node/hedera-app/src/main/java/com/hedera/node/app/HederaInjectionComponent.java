@@ -24,6 +24,7 @@ import com.hedera.node.app.blocks.BlockStreamManager;
 import com.hedera.node.app.blocks.BlockStreamModule;
 import com.hedera.node.app.blocks.impl.BoundaryStateChangeListener;
 import com.hedera.node.app.blocks.impl.KVStateChangeListener;
+import com.hedera.node.app.blocks.impl.LocalBlockNodeSimulator;
 import com.hedera.node.app.components.IngestInjectionComponent;
 import com.hedera.node.app.config.BootstrapConfigProviderImpl;
 import com.hedera.node.app.config.ConfigProviderImpl;
@@ -69,6 +70,7 @@ import dagger.Component;
 import java.nio.charset.Charset;
 import java.time.InstantSource;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import javax.inject.Provider;
@@ -122,6 +124,8 @@ public interface HederaInjectionComponent {
 
     BlockStreamManager blockStreamManager();
 
+    Optional<LocalBlockNodeSimulator> localBlockNode();
+
     FeeManager feeManager();
 
     ExchangeRateManager exchangeRateManager();
@@ -16,16 +16,23 @@
 
 package com.hedera.node.app.blocks;
 
+import com.hedera.node.app.blocks.impl.BlockStreamChannel;
 import com.hedera.node.app.blocks.impl.BlockStreamManagerImpl;
 import com.hedera.node.app.blocks.impl.FileBlockItemWriter;
+import com.hedera.node.app.blocks.impl.LocalBlockNodeSimulator;
+import com.hedera.node.app.blocks.impl.StreamingBlockItemWriter;
 import com.hedera.node.config.ConfigProvider;
 import com.hedera.node.config.data.BlockStreamConfig;
+import com.hedera.node.config.types.BlockStreamWriterMode;
+import com.swirlds.metrics.api.Metrics;
 import com.swirlds.state.spi.info.SelfNodeInfo;
 import dagger.Binds;
 import dagger.Module;
 import dagger.Provides;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.nio.file.FileSystem;
+import java.time.Duration;
+import java.util.Optional;
 import java.util.function.Supplier;
 import javax.inject.Singleton;
 
@@ -35,16 +42,42 @@ public interface BlockStreamModule {
     @Singleton
     BlockStreamManager bindBlockStreamManager(BlockStreamManagerImpl blockStreamManager);
 
+    /**
+     * Provides the local block node that consumes the block stream in {@link BlockStreamWriterMode#LOCAL_STREAM} mode.
+     * It is not started here; {@link com.hedera.node.app.Hedera} starts it after building the component and closes it
+     * before the component is discarded.
+     */
+    @Provides
+    @Singleton
+    static Optional<LocalBlockNodeSimulator> provideLocalBlockNode(
+            @NonNull final ConfigProvider configProvider, @NonNull final Metrics metrics) {
+        final var blockStreamConfig = configProvider.getConfiguration().getConfigData(BlockStreamConfig.class);
+        if (blockStreamConfig.writerMode() != BlockStreamWriterMode.LOCAL_STREAM) {
+            return Optional.empty();
+        }
+        final var channel = new BlockStreamChannel(
+                blockStreamConfig.streamQueueCapacity(),
+                blockStreamConfig.streamMaxUnackedBlocks(),
+                Duration.ofMillis(blockStreamConfig.streamSendTimeoutMs()),
+                metrics);
+        return Optional.of(new LocalBlockNodeSimulator(channel));
+    }
+
     @Provides
     @Singleton
     static Supplier<BlockItemWriter> bindBlockItemWriterSupplier(
             @NonNull final ConfigProvider configProvider,
             @NonNull final SelfNodeInfo selfNodeInfo,
-            @NonNull final FileSystem fileSystem) {
+            @NonNull final FileSystem fileSystem,
+            @NonNull final Optional<LocalBlockNodeSimulator> localBlockNode) {
         final var config = configProvider.getConfiguration();
         final var blockStreamConfig = config.getConfigData(BlockStreamConfig.class);
         return switch (blockStreamConfig.writerMode()) {
             case FILE -> () -> new FileBlockItemWriter(configProvider, selfNodeInfo, fileSystem);
+            case LOCAL_STREAM -> {
+                final var channel = localBlockNode.orElseThrow().channel();
+                yield () -> new StreamingBlockItemWriter(channel);
+            }
             case GRPC -> throw new IllegalArgumentException("gRPC block writer not yet implemented");
         };
     }
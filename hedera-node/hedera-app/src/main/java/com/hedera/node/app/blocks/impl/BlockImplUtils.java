@@ -59,6 +59,7 @@ import static com.hedera.hapi.block.stream.output.StateIdentifier.STATE_ID_UPGRA
 import static com.hedera.node.app.records.impl.BlockRecordInfoUtils.HASH_SIZE;
 
 import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.common.crypto.CryptographyHolder;
 import com.swirlds.common.crypto.DigestType;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.security.MessageDigest;
@@ -241,4 +242,24 @@ public class BlockImplUtils {
             throw new IllegalStateException(fatal);
         }
     }
+
+    /**
+     * Hashes each of the given left hashes with the right hash at the same index, computing all digests in one batch.
+     * @param leftHashes the left hashes
+     * @param rightHashes the right hashes, as many as left hashes
+     * @return the combined hashes, in the order of the given hashes
+     */
+    public static byte[][] combine(final byte[][] leftHashes, final byte[][] rightHashes) {
+        if (leftHashes.length != rightHashes.length) {
+            throw new IllegalArgumentException("Expected as many left as right hashes");
+        }
+        final var messages = new byte[leftHashes.length][];
+        for (int i = 0; i < leftHashes.length; i++) {
+            final var message = new byte[leftHashes[i].length + rightHashes[i].length];
+            System.arraycopy(leftHashes[i], 0, message, 0, leftHashes[i].length);
+            System.arraycopy(rightHashes[i], 0, message, leftHashes[i].length, rightHashes[i].length);
+            messages[i] = message;
+        }
+        return CryptographyHolder.get().digestBatchSync(messages, DigestType.SHA_384);
+    }
 }
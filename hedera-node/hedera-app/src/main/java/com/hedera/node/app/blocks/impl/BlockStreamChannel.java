@@ -0,0 +1,242 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.blocks.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.common.metrics.FunctionGauge;
+import com.swirlds.common.metrics.RunningAverageMetric;
+import com.swirlds.metrics.api.Metrics;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A bounded channel carrying serialized block items from a {@link StreamingBlockItemWriter} to a consumer such as the
+ * {@link LocalBlockNodeSimulator}.
+ *
+ * <p>Flow control happens at two levels. The queue of frames is bounded, so a writer blocks as soon as the consumer
+ * falls {@code queueCapacity} items behind. In addition, the consumer must {@link #acknowledge(long)} every block it
+ * has received in full, and a writer cannot start a new block while {@code maxUnackedBlocks} blocks are still waiting
+ * for an acknowledgement.
+ *
+ * <p>A writer never waits longer than the send timeout. If the consumer does not make room in time, or the channel
+ * was {@link #close() closed}, the send fails with an {@link IllegalStateException}. A timeout leaves the channel
+ * failed, so every later send fails immediately instead of waiting out the timeout again.
+ *
+ * <p>The channel reports the number of queued frames, the number of blocks not yet acknowledged, and the time between
+ * a block being closed by the writer and acknowledged by the consumer.
+ */
+public class BlockStreamChannel {
+    private static final RunningAverageMetric.Config ACK_LAG_CONFIG = new RunningAverageMetric.Config(
+                    "app", "blockStreamAckLag")
+            .withDescription("average time between a block being closed and acknowledged by the block node")
+            .withUnit("ms")
+            .withFormat("%,13.3f");
+
+    /**
+     * A unit of data sent over the channel.
+     *
+     * @param kind the kind of frame
+     * @param blockNumber the block the frame belongs to
+     * @param item the serialized block item, only set for {@link Kind#ITEM} frames
+     */
+    public record Frame(@NonNull Kind kind, long blockNumber, @Nullable Bytes item) {
+        /**
+         * The kinds of frames sent over the channel.
+         */
+        public enum Kind {
+            BLOCK_START,
+            ITEM,
+            BLOCK_END
+        }
+    }
+
+    private final BlockingQueue<Frame> frames;
+    private final Semaphore unackedBlockPermits;
+    private final int maxUnackedBlocks;
+    private final Duration sendTimeout;
+    /** The time in nanoseconds at which each block not yet acknowledged was closed */
+    private final Map<Long, Long> closedBlockNanos = new ConcurrentHashMap<>();
+
+    private final RunningAverageMetric ackLag;
+    private volatile long lastAcknowledgedBlock = -1;
+    /** Why the channel stopped accepting frames, or null while it is open */
+    @Nullable
+    private volatile String failure;
+
+    /**
+     * Create a new channel.
+     *
+     * @param queueCapacity the maximum number of frames that may be queued before senders block
+     * @param maxUnackedBlocks the maximum number of started blocks that may be waiting for an acknowledgement
+     * @param sendTimeout the maximum time a sender waits for the consumer before the send fails
+     * @param metrics the metrics to report queue depth and acknowledgement lag to
+     */
+    public BlockStreamChannel(
+            final int queueCapacity,
+            final int maxUnackedBlocks,
+            @NonNull final Duration sendTimeout,
+            @NonNull final Metrics metrics) {
+        requireNonNull(sendTimeout, "The supplied argument 'sendTimeout' cannot be null!");
+        requireNonNull(metrics, "The supplied argument 'metrics' cannot be null!");
+        if (queueCapacity <= 0) throw new IllegalArgumentException("Queue capacity must be positive");
+        if (maxUnackedBlocks <= 0) throw new IllegalArgumentException("Max unacknowledged blocks must be positive");
+        if (sendTimeout.isNegative() || sendTimeout.isZero()) {
+            throw new IllegalArgumentException("Send timeout must be positive");
+        }
+
+        this.frames = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxUnackedBlocks = maxUnackedBlocks;
+        this.sendTimeout = sendTimeout;
+        this.unackedBlockPermits = new Semaphore(maxUnackedBlocks);
+
+        metrics.getOrCreate(new FunctionGauge.Config<>("app", "blockStreamQueueDepth", Integer.class, frames::size)
+                .withDescription("number of block stream frames queued for the block node")
+                .withFormat("%,d"));
+        metrics.getOrCreate(new FunctionGauge.Config<>(
+                        "app", "blockStreamUnackedBlocks", Integer.class, this::unacknowledgedBlocks)
+                .withDescription("number of streamed blocks not yet acknowledged by the block node")
+                .withFormat("%,d"));
+        this.ackLag = metrics.getOrCreate(ACK_LAG_CONFIG);
+    }
+
+    /**
+     * Starts a new block, waiting until fewer than {@code maxUnackedBlocks} blocks are unacknowledged.
+     *
+     * @param blockNumber the number of the block
+     * @throws InterruptedException if interrupted while waiting
+     * @throws IllegalStateException if the channel is closed or failed, or the consumer did not acknowledge a block
+     * within the send timeout
+     */
+    public void startBlock(final long blockNumber) throws InterruptedException {
+        checkOpen();
+        if (!unackedBlockPermits.tryAcquire(sendTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+            throw fail("No block was acknowledged within " + sendTimeout + " while starting block " + blockNumber);
+        }
+        send(new Frame(Frame.Kind.BLOCK_START, blockNumber, null));
+    }
+
+    /**
+     * Sends a serialized item of the given block, waiting for space in the queue if needed.
+     *
+     * @param blockNumber the number of the block
+     * @param item the serialized block item
+     * @throws InterruptedException if interrupted while waiting
+     * @throws IllegalStateException if the channel is closed or failed, or no space was freed within the send timeout
+     */
+    public void sendItem(final long blockNumber, @NonNull final Bytes item) throws InterruptedException {
+        send(new Frame(Frame.Kind.ITEM, blockNumber, item));
+    }
+
+    /**
+     * Ends the given block, waiting for space in the queue if needed.
+     *
+     * @param blockNumber the number of the block
+     * @throws InterruptedException if interrupted while waiting
+     * @throws IllegalStateException if the channel is closed or failed, or no space was freed within the send timeout
+     */
+    public void endBlock(final long blockNumber) throws InterruptedException {
+        closedBlockNanos.put(blockNumber, System.nanoTime());
+        send(new Frame(Frame.Kind.BLOCK_END, blockNumber, null));
+    }
+
+    private void send(@NonNull final Frame frame) throws InterruptedException {
+        checkOpen();
+        if (!frames.offer(frame, sendTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+            throw fail("Block stream queue stayed full for " + sendTimeout + " while sending a " + frame.kind()
+                    + " frame of block " + frame.blockNumber());
+        }
+    }
+
+    private void checkOpen() {
+        final var reason = failure;
+        if (reason != null) {
+            throw new IllegalStateException("Block stream channel is not accepting frames: " + reason);
+        }
+    }
+
+    @NonNull
+    private IllegalStateException fail(@NonNull final String reason) {
+        failure = reason;
+        return new IllegalStateException(reason);
+    }
+
+    /**
+     * Closes the channel. Every later send fails, and a send already waiting fails once its timeout expires. Frames
+     * already queued may still be taken.
+     */
+    public void close() {
+        if (failure == null) {
+            failure = "closed";
+        }
+    }
+
+    /**
+     * Takes the next frame, waiting until one is available. Called by the consumer.
+     *
+     * @return the next frame
+     * @throws InterruptedException if interrupted while waiting
+     */
+    @NonNull
+    public Frame take() throws InterruptedException {
+        return frames.take();
+    }
+
+    /**
+     * Acknowledges that the given block was received in full. Called by the consumer, once per block, in order.
+     *
+     * @param blockNumber the number of the block
+     */
+    public void acknowledge(final long blockNumber) {
+        final var closedNanos = closedBlockNanos.remove(blockNumber);
+        if (closedNanos == null) {
+            throw new IllegalStateException("Block " + blockNumber + " was not closed or was already acknowledged");
+        }
+        ackLag.update((System.nanoTime() - closedNanos) / 1_000_000.0);
+        lastAcknowledgedBlock = blockNumber;
+        unackedBlockPermits.release();
+    }
+
+    /**
+     * The number of the last block that was acknowledged, or -1 if none was.
+     */
+    public long lastAcknowledgedBlock() {
+        return lastAcknowledgedBlock;
+    }
+
+    /**
+     * The number of frames currently queued.
+     */
+    public int queueDepth() {
+        return frames.size();
+    }
+
+    /**
+     * The number of started blocks that are not yet acknowledged.
+     */
+    public int unacknowledgedBlocks() {
+        return maxUnackedBlocks - unackedBlockPermits.availablePermits();
+    }
+}
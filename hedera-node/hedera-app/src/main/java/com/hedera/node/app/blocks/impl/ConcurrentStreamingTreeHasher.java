@@ -23,6 +23,7 @@ import com.hedera.node.app.blocks.StreamingTreeHasher;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
@@ -167,13 +168,14 @@ public class ConcurrentStreamingTreeHasher implements StreamingTreeHasher {
             final var scheduledWork = pendingHashes;
             final var pendingCombination = CompletableFuture.supplyAsync(
                     () -> {
-                        final List<byte[]> result = new ArrayList<>();
-                        for (int i = 0, m = scheduledWork.size(); i < m; i += 2) {
-                            final var left = scheduledWork.get(i);
-                            final var right = i + 1 < m ? scheduledWork.get(i + 1) : EMPTY_HASHES[depth];
-                            result.add(BlockImplUtils.combine(left, right));
+                        final int m = scheduledWork.size();
+                        final var lefts = new byte[(m + 1) / 2][];
+                        final var rights = new byte[lefts.length][];
+                        for (int i = 0; i < m; i += 2) {
+                            lefts[i / 2] = scheduledWork.get(i);
+                            rights[i / 2] = i + 1 < m ? scheduledWork.get(i + 1) : EMPTY_HASHES[depth];
                         }
-                        return result;
+                        return Arrays.asList(BlockImplUtils.combine(lefts, rights));
                     },
                     executorService);
             combination = combination.thenCombine(pendingCombination, (ignore, combined) -> {
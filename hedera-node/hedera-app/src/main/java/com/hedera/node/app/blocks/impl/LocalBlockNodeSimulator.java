@@ -0,0 +1,160 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.blocks.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * A stand-in for a block node, consuming the frames of a {@link BlockStreamChannel} on its own thread. It checks that
+ * every block is framed correctly and arrives in order, counts what it receives, and acknowledges each block once its
+ * end frame arrives. It does not persist anything, so it measures the cost of producing and transporting the stream
+ * alone.
+ *
+ * <p>The simulator owns its consumer thread. Whoever calls {@link #start()} must call {@link #close()} when the stream
+ * is no longer needed; closing also closes the channel, so writers fail instead of waiting for a consumer that is gone.
+ */
+public class LocalBlockNodeSimulator implements Runnable, AutoCloseable {
+    private static final Logger logger = LogManager.getLogger(LocalBlockNodeSimulator.class);
+
+    private final BlockStreamChannel channel;
+    private final AtomicLong blocksReceived = new AtomicLong();
+    private final AtomicLong itemsReceived = new AtomicLong();
+    private final AtomicLong bytesReceived = new AtomicLong();
+
+    /** The block currently being received, or -1 if between blocks */
+    private long currentBlock = -1;
+    /** The last block received in full, or -1 if none was */
+    private long lastBlock = -1;
+
+    /** The consumer thread, or null if not started */
+    @Nullable
+    private Thread thread;
+
+    /**
+     * Create a new simulator consuming the given channel.
+     *
+     * @param channel the channel to consume
+     */
+    public LocalBlockNodeSimulator(@NonNull final BlockStreamChannel channel) {
+        this.channel = requireNonNull(channel, "The supplied argument 'channel' cannot be null!");
+    }
+
+    /**
+     * Starts consuming the channel on a new daemon thread.
+     *
+     * @throws IllegalStateException if already started
+     */
+    public synchronized void start() {
+        if (thread != null) throw new IllegalStateException("Local block node already started");
+        thread = new Thread(this, "local-block-node");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Closes the channel and stops the consumer thread, waiting for it to exit.
+     */
+    @Override
+    public synchronized void close() {
+        channel.close();
+        if (thread == null) {
+            return;
+        }
+        thread.interrupt();
+        try {
+            thread.join();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * The channel this simulator consumes.
+     */
+    @NonNull
+    public BlockStreamChannel channel() {
+        return channel;
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                receive(channel.take());
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void receive(@NonNull final BlockStreamChannel.Frame frame) {
+        switch (frame.kind()) {
+            case BLOCK_START -> {
+                if (currentBlock != -1) {
+                    logger.error("Block {} started before block {} ended", frame.blockNumber(), currentBlock);
+                }
+                if (lastBlock != -1 && frame.blockNumber() <= lastBlock) {
+                    logger.error("Block {} started after block {}", frame.blockNumber(), lastBlock);
+                }
+                currentBlock = frame.blockNumber();
+            }
+            case ITEM -> {
+                if (frame.blockNumber() != currentBlock) {
+                    logger.error("Item for block {} received while in block {}", frame.blockNumber(), currentBlock);
+                }
+                itemsReceived.incrementAndGet();
+                bytesReceived.addAndGet(requireNonNull(frame.item()).length());
+            }
+            case BLOCK_END -> {
+                if (frame.blockNumber() != currentBlock) {
+                    logger.error("Block {} ended while in block {}", frame.blockNumber(), currentBlock);
+                }
+                lastBlock = frame.blockNumber();
+                currentBlock = -1;
+                blocksReceived.incrementAndGet();
+                channel.acknowledge(frame.blockNumber());
+            }
+        }
+    }
+
+    /**
+     * The number of blocks received in full.
+     */
+    public long blocksReceived() {
+        return blocksReceived.get();
+    }
+
+    /**
+     * The number of block items received.
+     */
+    public long itemsReceived() {
+        return itemsReceived.get();
+    }
+
+    /**
+     * The total number of bytes of the block items received.
+     */
+    public long bytesReceived() {
+        return bytesReceived.get();
+    }
+}
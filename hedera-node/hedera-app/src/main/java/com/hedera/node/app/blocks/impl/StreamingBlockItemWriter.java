@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.blocks.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.node.app.blocks.BlockItemWriter;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * Writes serialized block items to a {@link BlockStreamChannel}, one writer per block number. Unlike the
+ * {@link FileBlockItemWriter}, no compression or disk I/O happens on the calling thread; the only cost is waiting when
+ * the consumer of the channel falls behind.
+ */
+public class StreamingBlockItemWriter implements BlockItemWriter {
+    /** The channel items are sent to */
+    private final BlockStreamChannel channel;
+
+    /** The state of this writer */
+    private State state;
+
+    /**
+     * The block number we are writing. Once it is set in {@link #openBlock}, it is never changed.
+     */
+    private long blockNumber;
+
+    private enum State {
+        UNINITIALIZED,
+        OPEN,
+        CLOSED
+    }
+
+    /**
+     * Construct a new StreamingBlockItemWriter.
+     *
+     * @param channel the channel to send block items to
+     */
+    public StreamingBlockItemWriter(@NonNull final BlockStreamChannel channel) {
+        this.channel = requireNonNull(channel, "The supplied argument 'channel' cannot be null!");
+        this.state = State.UNINITIALIZED;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void openBlock(final long blockNumber) {
+        if (state == State.OPEN) throw new IllegalStateException("Cannot initialize a StreamingBlockItemWriter twice");
+        if (blockNumber < 0) throw new IllegalArgumentException("Block number must be non-negative");
+
+        this.blockNumber = blockNumber;
+        try {
+            channel.startBlock(blockNumber);
+        } catch (final InterruptedException e) {
+            throw interrupted(e);
+        }
+        state = State.OPEN;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StreamingBlockItemWriter writeItem(@NonNull final Bytes serializedItem) {
+        requireNonNull(serializedItem, "The supplied argument 'serializedItem' cannot be null!");
+        if (serializedItem.length() <= 0) throw new IllegalArgumentException("Item must be non-empty");
+        if (state != State.OPEN) {
+            throw new IllegalStateException(
+                    "Cannot write to a StreamingBlockItemWriter that is not open for block: " + this.blockNumber);
+        }
+
+        try {
+            channel.sendItem(blockNumber, serializedItem);
+        } catch (final InterruptedException e) {
+            throw interrupted(e);
+        }
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void closeBlock() {
+        if (state.ordinal() < State.OPEN.ordinal()) {
+            throw new IllegalStateException("Cannot close a StreamingBlockItemWriter that is not open");
+        } else if (state.ordinal() == State.CLOSED.ordinal()) {
+            throw new IllegalStateException("Cannot close a StreamingBlockItemWriter that is already closed");
+        }
+
+        try {
+            channel.endBlock(blockNumber);
+        } catch (final InterruptedException e) {
+            throw interrupted(e);
+        }
+        state = State.CLOSED;
+    }
+
+    @NonNull
+    private IllegalStateException interrupted(@NonNull final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return new IllegalStateException("Interrupted while streaming block " + blockNumber, e);
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.signature;
+
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import java.util.Set;
+
+/**
+ * Collects the signatures of several transactions so that they are verified together, see
+ * {@link SignatureVerifier#verifyInBatch(Bytes, Set, SignatureVerificationBatch)}. Signatures may be added from several
+ * threads at once.
+ */
+public interface SignatureVerificationBatch {
+    /**
+     * Verifies every signature added to this batch and completes their futures. Must be called exactly once, after the
+     * last signature was added. Until it is called, waiting on the future of a signature in the batch blocks.
+     */
+    void verify();
+}
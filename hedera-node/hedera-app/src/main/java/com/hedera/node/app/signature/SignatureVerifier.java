@@ -55,4 +55,28 @@ public interface SignatureVerifier {
     @NonNull
     Map<Key, SignatureVerificationFuture> verify(
             @NonNull Bytes signedBytes, @NonNull Set<ExpandedSignaturePair> sigPairs, @NonNull MessageType messageType);
+
+    /**
+     * Creates an empty batch, to collect the signatures of several transactions with
+     * {@link #verifyInBatch(Bytes, Set, SignatureVerificationBatch)}.
+     *
+     * @return the new batch
+     */
+    @NonNull
+    SignatureVerificationBatch newBatch();
+
+    /**
+     * Like {@link #verify(Bytes, Set)}, but rather than verifying the given {@code sigPairs} right away, adds them to
+     * the given batch. The returned futures complete once {@link SignatureVerificationBatch#verify()} is called.
+     *
+     * @param signedBytes The signed bytes to verify
+     * @param sigPairs The matching set of signatures to be verified
+     * @param batch The batch to add the signatures to, created by {@link #newBatch()}
+     * @return A {@link Set} of {@link Future}s, one per {@link ExpandedSignaturePair}.
+     */
+    @NonNull
+    Map<Key, SignatureVerificationFuture> verifyInBatch(
+            @NonNull Bytes signedBytes,
+            @NonNull Set<ExpandedSignaturePair> sigPairs,
+            @NonNull SignatureVerificationBatch batch);
 }
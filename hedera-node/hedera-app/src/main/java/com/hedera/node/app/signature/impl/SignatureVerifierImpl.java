@@ -16,14 +16,15 @@
 
 package com.hedera.node.app.signature.impl;
 
-import static com.hedera.hapi.node.base.SignaturePair.SignatureOneOfType.ECDSA_SECP256K1;
 import static com.hedera.hapi.node.base.SignaturePair.SignatureOneOfType.ED25519;
 import static com.hedera.node.app.spi.signatures.SignatureVerifier.MessageType.KECCAK_256_HASH;
+import static com.hedera.node.app.spi.signatures.SignatureVerifier.MessageType.RAW;
 import static java.util.Objects.requireNonNull;
 
 import com.hedera.hapi.node.base.Key;
 import com.hedera.node.app.hapi.utils.MiscCryptoUtils;
 import com.hedera.node.app.signature.ExpandedSignaturePair;
+import com.hedera.node.app.signature.SignatureVerificationBatch;
 import com.hedera.node.app.signature.SignatureVerificationFuture;
 import com.hedera.node.app.signature.SignatureVerifier;
 import com.hedera.node.app.spi.signatures.SignatureVerifier.MessageType;
@@ -31,20 +32,41 @@ import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.common.crypto.Cryptography;
 import com.swirlds.common.crypto.SignatureType;
 import com.swirlds.common.crypto.TransactionSignature;
+import com.swirlds.common.crypto.VerificationStatus;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
 /**
  * A concrete implementation of {@link SignatureVerifier} that uses the {@link Cryptography} engine to verify the
  * signatures.
+ *
+ * <p>All signatures of a single transaction are laid out in one shared array. {@code verify} hands them to the engine
+ * as one list, on the calling thread. {@code verifyInBatch} instead collects them with the signatures of other
+ * transactions. The whole batch is then split into chunks that are verified in parallel, and every future in a chunk is
+ * completed at once.
  */
 @Singleton
 public final class SignatureVerifierImpl implements SignatureVerifier {
 
+    /**
+     * The smallest number of signatures verified by one task of a batch. Verifying a signature takes tens of
+     * microseconds, so smaller chunks would cost more to schedule than they save.
+     */
+    private static final int MIN_SIGNATURES_PER_TASK = 8;
+
     /** The {@link Cryptography} engine to use for signature verification. */
     private final Cryptography cryptoEngine;
 
@@ -60,6 +82,55 @@ public final class SignatureVerifierImpl implements SignatureVerifier {
             @NonNull final Bytes signedBytes,
             @NonNull final Set<ExpandedSignaturePair> sigs,
             @NonNull final MessageType messageType) {
+        final var futures = HashMap.<Key, SignatureVerificationFuture>newHashMap(sigs.size());
+        final var preparer = prepare(signedBytes, sigs, messageType, futures);
+        if (preparer != null) {
+            // Verify every signature of the transaction with a single call, which completes every future before
+            // returning
+            cryptoEngine.verifySync(preparer.signatures());
+        }
+        return futures;
+    }
+
+    @NonNull
+    @Override
+    public SignatureVerificationBatch newBatch() {
+        return new Batch();
+    }
+
+    @NonNull
+    @Override
+    public Map<Key, SignatureVerificationFuture> verifyInBatch(
+            @NonNull final Bytes signedBytes,
+            @NonNull final Set<ExpandedSignaturePair> sigs,
+            @NonNull final SignatureVerificationBatch batch) {
+        requireNonNull(batch);
+        if (!(batch instanceof final Batch ownBatch)) {
+            throw new IllegalArgumentException("Batch was not created by this verifier");
+        }
+        final var futures = HashMap.<Key, SignatureVerificationFuture>newHashMap(sigs.size());
+        final var preparer = prepare(signedBytes, sigs, RAW, futures);
+        if (preparer != null) {
+            ownBatch.add(preparer.signatures());
+        }
+        return futures;
+    }
+
+    /**
+     * Lays out the given signatures for the crypto engine and creates their futures.
+     *
+     * @param signedBytes the signed bytes
+     * @param sigs the signatures to verify
+     * @param messageType the type of the signed bytes
+     * @param futures the map to put the future of each signature in
+     * @return the prepared signatures, or null if there are none
+     */
+    @Nullable
+    private static Preparer prepare(
+            @NonNull final Bytes signedBytes,
+            @NonNull final Set<ExpandedSignaturePair> sigs,
+            @NonNull final MessageType messageType,
+            @NonNull final Map<Key, SignatureVerificationFuture> futures) {
         requireNonNull(signedBytes);
         requireNonNull(sigs);
         requireNonNull(messageType);
@@ -68,126 +139,159 @@ public final class SignatureVerifierImpl implements SignatureVerifier {
                     "Message type " + KECCAK_256_HASH + " must be 32 bytes long, got '" + signedBytes.toHex() + "'");
         }
 
-        Preparer edPreparer = null;
-        final var hasEDSignature =
-                sigs.stream().anyMatch(sigPair -> sigPair.sigPair().signature().kind() == ED25519);
-        if (hasEDSignature) {
-            edPreparer = createPreparerForED(signedBytes);
+        // Work out how much space the signatures and keys need, and reject unsupported signature types before
+        // handing anything to the crypto engine
+        int payloadLength = 0;
+        boolean hasEDSignature = false;
+        boolean hasECSignature = false;
+        for (final ExpandedSignaturePair sigPair : sigs) {
+            final var kind = sigPair.sigPair().signature().kind();
+            switch (kind) {
+                case ECDSA_SECP256K1 -> hasECSignature = true;
+                case ED25519 -> hasEDSignature = true;
+                case CONTRACT, ECDSA_384, RSA_3072, UNSET -> throw new IllegalArgumentException(
+                        "Unsupported signature type: " + kind);
+            }
+            payloadLength += (int) (sigPair.signature().length() + sigPair.keyBytes().length());
         }
 
-        Preparer ecPreparer = null;
-        final var hasECSignature =
-                sigs.stream().anyMatch(sigPair -> sigPair.sigPair().signature().kind() == ECDSA_SECP256K1);
-        if (hasECSignature) {
-            ecPreparer = createPreparerForEC(signedBytes, messageType);
+        if (sigs.isEmpty()) {
+            return null;
         }
 
-        // Gather each TransactionSignature to send to the platform and the resulting SignatureVerificationFutures
-        final var futures = HashMap.<Key, SignatureVerificationFuture>newHashMap(sigs.size());
-        for (ExpandedSignaturePair sigPair : sigs) {
-            final var kind = sigPair.sigPair().signature().kind();
-            final var preparer =
-                    switch (kind) {
-                        case ECDSA_SECP256K1 -> ecPreparer;
-                        case ED25519 -> edPreparer;
-                        case CONTRACT, ECDSA_384, RSA_3072, UNSET -> throw new IllegalArgumentException(
-                                "Unsupported signature type: " + kind);
-                    };
-
-            if (preparer == null) {
-                throw new RuntimeException("Preparer should not be null");
-            }
-            preparer.addSignature(sigPair.signature());
-            preparer.addKey(sigPair.keyBytes());
-            final TransactionSignature txSig = preparer.prepareTransactionSignature();
-            cryptoEngine.verifySync(txSig);
-            final SignatureVerificationFuture future =
-                    new SignatureVerificationFutureImpl(sigPair.key(), sigPair.evmAlias(), txSig);
-            futures.put(sigPair.key(), future);
+        // ED25519 signatures are over the signed bytes, while ECDSA_SECP256K1 signatures are over their Keccak-256
+        // hash. Each message is computed and copied into the array exactly once.
+        final var edMessage = hasEDSignature ? signedBytes : null;
+        final var ecMessage = hasECSignature ? ecMessage(signedBytes, messageType) : null;
+        final var preparer = new Preparer(edMessage, ecMessage, payloadLength, sigs.size());
+        for (final ExpandedSignaturePair sigPair : sigs) {
+            final var type = sigPair.sigPair().signature().kind() == ED25519
+                    ? SignatureType.ED25519
+                    : SignatureType.ECDSA_SECP256K1;
+            final var txSig = preparer.add(sigPair.signature(), sigPair.keyBytes(), type);
+            futures.put(sigPair.key(), new SignatureVerificationFutureImpl(sigPair.key(), sigPair.evmAlias(), txSig));
         }
-
-        return futures;
+        return preparer;
     }
 
-    private static Preparer createPreparerForED(@NonNull final Bytes signedBytes) {
-        return new Preparer(signedBytes, SignatureType.ED25519);
+    /**
+     * The signatures of several transactions, verified together. Transactions are added concurrently by the threads
+     * pre-handling them.
+     */
+    private final class Batch implements SignatureVerificationBatch {
+        private final Queue<TransactionSignature> signatures = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean verified = new AtomicBoolean();
+
+        private void add(@NonNull final List<TransactionSignature> transactionSignatures) {
+            if (verified.get()) {
+                throw new IllegalStateException("Signatures cannot be added to a batch that was already verified");
+            }
+            signatures.addAll(transactionSignatures);
+        }
+
+        @Override
+        public void verify() {
+            if (!verified.compareAndSet(false, true)) {
+                throw new IllegalStateException("Batch was already verified");
+            }
+            final List<TransactionSignature> all = new ArrayList<>(signatures);
+            final int size = all.size();
+            final int tasks = Math.min(
+                    ForkJoinPool.getCommonPoolParallelism() + 1,
+                    (size + MIN_SIGNATURES_PER_TASK - 1) / MIN_SIGNATURES_PER_TASK);
+            try {
+                IntStream.range(0, tasks)
+                        .parallel()
+                        .forEach(task ->
+                                cryptoEngine.verifySync(all.subList(task * size / tasks, (task + 1) * size / tasks)));
+            } finally {
+                // A signature the engine failed on must still get a future, or whoever waits for it waits forever
+                for (final TransactionSignature signature : all) {
+                    if (signature.getFuture() == null) {
+                        signature.setSignatureStatus(VerificationStatus.INVALID);
+                        signature.setFuture(CompletableFuture.completedFuture(null));
+                    }
+                }
+            }
+        }
     }
 
-    private static Preparer createPreparerForEC(
-            @NonNull final Bytes signedBytes, @NonNull final MessageType messageType) {
+    @NonNull
+    private static Bytes ecMessage(@NonNull final Bytes signedBytes, @NonNull final MessageType messageType) {
         return switch (messageType) {
             case RAW -> {
                 final var bytes = new byte[(int) signedBytes.length()];
                 signedBytes.getBytes(0, bytes, 0, bytes.length);
-                yield new Preparer(Bytes.wrap(MiscCryptoUtils.keccak256DigestOf(bytes)), SignatureType.ECDSA_SECP256K1);
+                yield Bytes.wrap(MiscCryptoUtils.keccak256DigestOf(bytes));
             }
-            case KECCAK_256_HASH -> new Preparer(signedBytes, SignatureType.ECDSA_SECP256K1);
+            case KECCAK_256_HASH -> signedBytes;
         };
     }
 
     // The Hashgraph Platform crypto engine takes a list of TransactionSignature objects to verify. Each of these
     // is fed a byte array of the signed bytes, the public key, the signature, and the signature type, with
-    // appropriate offsets. Rather than many small arrays, we're going to create one big array for all ED25519
-    // verifications and one for ECDSA_SECP256K1 verifications and reuse them across all TransactionSignature
-    // objects.
+    // appropriate offsets. Rather than many small arrays, we create one array per transaction holding the message of
+    // each signature type followed by every signature and key, and share it across all TransactionSignature objects.
+    // The array is sized exactly, so verifying a transaction with a handful of keys does not allocate more than it
+    // needs to.
     private static final class Preparer {
-        // Each transaction, encoded as protobuf, is a maximum of 6K, *including* signatures. A single instance of the
-        // Preparer is used for verifying keys on a single transaction. If the transaction has 6K signed bytes, there
-        // is virtually no space left for signatures. If the transaction has no signed bytes, the maximum number of
-        // signatures would still be less than 6K. This array wants to be large enough to not need any copies as it is
-        // being built, but small enough to not waste too much space. 10K seems like it will fit the bill. In the off
-        // chance that it *is* too small, an array copy will be made to enlarge it.
-        private static final int DEFAULT_SIZE = 10 * 1024;
-        private final int signedBytesLength;
-        private final SignatureType signatureType;
-        private byte[] content = new byte[DEFAULT_SIZE];
+        private final byte[] content;
+        private final List<TransactionSignature> signatures;
+        private final int edMessageLength;
+        private final int ecMessageOffset;
+        private final int ecMessageLength;
         private int offset;
-        private int signatureOffset;
-        private int keyOffset;
-        private int signatureLength;
-        private int keyLength;
-
-        Preparer(@NonNull final Bytes signedBytes, @NonNull final SignatureType signatureType) {
-            this.signatureType = requireNonNull(signatureType);
-            signedBytesLength = (int) signedBytes.length();
-            signedBytes.getBytes(0, content, 0, signedBytesLength);
-            offset = signedBytesLength;
-        }
 
-        void addSignature(@NonNull final Bytes signature) {
-            signatureOffset = offset;
-            signatureLength = (int) signature.length();
-            add(signature);
-        }
-
-        void addKey(@NonNull final Bytes key) {
-            keyOffset = offset;
-            keyLength = (int) key.length();
-            add(key);
+        Preparer(
+                @Nullable final Bytes edMessage,
+                @Nullable final Bytes ecMessage,
+                final int payloadLength,
+                final int numSignatures) {
+            edMessageLength = edMessage == null ? 0 : (int) edMessage.length();
+            ecMessageLength = ecMessage == null ? 0 : (int) ecMessage.length();
+            content = new byte[edMessageLength + ecMessageLength + payloadLength];
+            signatures = new ArrayList<>(numSignatures);
+            if (edMessage != null) {
+                edMessage.getBytes(0, content, 0, edMessageLength);
+            }
+            ecMessageOffset = edMessageLength;
+            if (ecMessage != null) {
+                ecMessage.getBytes(0, content, ecMessageOffset, ecMessageLength);
+            }
+            offset = ecMessageOffset + ecMessageLength;
         }
 
         @NonNull
-        TransactionSignature prepareTransactionSignature() {
-            return new TransactionSignature(
+        TransactionSignature add(
+                @NonNull final Bytes signature, @NonNull final Bytes key, @NonNull final SignatureType signatureType) {
+            final var signatureOffset = offset;
+            final var signatureLength = append(signature);
+            final var keyOffset = offset;
+            final var keyLength = append(key);
+            final var isED = signatureType == SignatureType.ED25519;
+            final var txSig = new TransactionSignature(
                     content,
                     signatureOffset,
                     signatureLength,
                     keyOffset,
                     keyLength,
-                    0,
-                    signedBytesLength,
+                    isED ? 0 : ecMessageOffset,
+                    isED ? edMessageLength : ecMessageLength,
                     signatureType);
+            signatures.add(txSig);
+            return txSig;
         }
 
-        private void add(@NonNull final Bytes bytes) {
+        @NonNull
+        List<TransactionSignature> signatures() {
+            return signatures;
+        }
+
+        private int append(@NonNull final Bytes bytes) {
             final var length = (int) bytes.length();
-            if (offset + length > content.length) {
-                final var oldContent = content;
-                content = new byte[oldContent.length * 2];
-                System.arraycopy(oldContent, 0, content, 0, offset);
-            }
             bytes.getBytes(0, content, offset, length);
             offset += length;
+            return length;
         }
     }
 }
@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.state;
+
+import static java.util.Objects.requireNonNull;
+
+import com.swirlds.state.spi.ReadableKVState;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * A wrapper around a {@link ReadableKVState} that records every key looked up through it into a given set of
+ * {@link StateReadKey}s, while delegating all reads to the wrapped state.
+ *
+ * @param <K> The type of the key
+ * @param <V> The type of the value
+ */
+public class RecordingReadableKVState<K, V> implements ReadableKVState<K, V> {
+    private final String serviceName;
+    private final ReadableKVState<K, V> delegate;
+    private final Set<StateReadKey> readSet;
+
+    /**
+     * Create a new wrapper around the given {@code delegate}.
+     *
+     * @param serviceName the name of the service owning the state
+     * @param delegate the {@link ReadableKVState} to wrap
+     * @param readSet the set that records all keys read through this state
+     */
+    public RecordingReadableKVState(
+            @NonNull final String serviceName,
+            @NonNull final ReadableKVState<K, V> delegate,
+            @NonNull final Set<StateReadKey> readSet) {
+        this.serviceName = requireNonNull(serviceName, "serviceName must not be null");
+        this.delegate = requireNonNull(delegate, "delegate must not be null");
+        this.readSet = requireNonNull(readSet, "readSet must not be null");
+    }
+
+    @NonNull
+    @Override
+    public String getStateKey() {
+        return delegate.getStateKey();
+    }
+
+    @Override
+    public boolean contains(@NonNull final K key) {
+        record(key);
+        return delegate.contains(key);
+    }
+
+    @Nullable
+    @Override
+    public V get(@NonNull final K key) {
+        record(key);
+        return delegate.get(key);
+    }
+
+    @NonNull
+    @Override
+    public Iterator<K> keys() {
+        return delegate.keys();
+    }
+
+    @NonNull
+    @Override
+    public Set<K> readKeys() {
+        return delegate.readKeys();
+    }
+
+    @Override
+    public long size() {
+        return delegate.size();
+    }
+
+    @Override
+    public void warm(@NonNull final K key) {
+        delegate.warm(key);
+    }
+
+    private void record(@NonNull final K key) {
+        requireNonNull(key);
+        readSet.add(new StateReadKey(serviceName, delegate.getStateKey(), key));
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.state;
+
+import static java.util.Objects.requireNonNull;
+
+import com.swirlds.state.spi.ReadableKVState;
+import com.swirlds.state.spi.ReadableQueueState;
+import com.swirlds.state.spi.ReadableSingletonState;
+import com.swirlds.state.spi.ReadableStates;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Set;
+
+/**
+ * A wrapper around a {@link ReadableStates} that returns {@link RecordingReadableKVState}s, so all keys read from
+ * the k/v states of a service are recorded. Singleton and queue states are not recorded, since they are always
+ * held in memory.
+ */
+public class RecordingReadableStates implements ReadableStates {
+
+    private final String serviceName;
+    private final ReadableStates delegate;
+    private final Set<StateReadKey> readSet;
+
+    /**
+     * Create a new wrapper around the given {@code delegate}.
+     *
+     * @param serviceName the name of the service the states belong to
+     * @param delegate the {@link ReadableStates} to wrap
+     * @param readSet the set that records all keys read through the returned states
+     */
+    public RecordingReadableStates(
+            @NonNull final String serviceName,
+            @NonNull final ReadableStates delegate,
+            @NonNull final Set<StateReadKey> readSet) {
+        this.serviceName = requireNonNull(serviceName, "serviceName must not be null");
+        this.delegate = requireNonNull(delegate, "delegate must not be null");
+        this.readSet = requireNonNull(readSet, "readSet must not be null");
+    }
+
+    @NonNull
+    @Override
+    public <K, V> ReadableKVState<K, V> get(@NonNull final String stateKey) {
+        return new RecordingReadableKVState<>(serviceName, delegate.get(stateKey), readSet);
+    }
+
+    @NonNull
+    @Override
+    public <T> ReadableSingletonState<T> getSingleton(@NonNull final String stateKey) {
+        return delegate.getSingleton(stateKey);
+    }
+
+    @NonNull
+    @Override
+    public <E> ReadableQueueState<E> getQueue(@NonNull final String stateKey) {
+        return delegate.getQueue(stateKey);
+    }
+
+    @Override
+    public boolean contains(@NonNull final String stateKey) {
+        return delegate.contains(stateKey);
+    }
+
+    @NonNull
+    @Override
+    public Set<String> stateKeys() {
+        return delegate.stateKeys();
+    }
+}
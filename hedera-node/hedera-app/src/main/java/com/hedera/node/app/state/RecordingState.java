@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.state;
+
+import static java.util.Objects.requireNonNull;
+
+import com.swirlds.state.State;
+import com.swirlds.state.spi.ReadableStates;
+import com.swirlds.state.spi.WritableStates;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Set;
+
+/**
+ * A read-only {@link State} that wraps another {@link State} and records every k/v key read through it. It is used
+ * during pre-handle to capture the read set of a transaction, so the cache warmer can load exactly these keys before
+ * the transaction reaches the handle workflow.
+ */
+public class RecordingState implements State {
+
+    private final State delegate;
+    private final Set<StateReadKey> readSet;
+
+    /**
+     * Constructs a {@link RecordingState} that wraps the given {@link State}.
+     *
+     * @param delegate the {@link State} to wrap
+     * @param readSet the set that records all keys read through this state
+     * @throws NullPointerException if any of the arguments is {@code null}
+     */
+    public RecordingState(@NonNull final State delegate, @NonNull final Set<StateReadKey> readSet) {
+        this.delegate = requireNonNull(delegate, "delegate must not be null");
+        this.readSet = requireNonNull(readSet, "readSet must not be null");
+    }
+
+    @NonNull
+    @Override
+    public ReadableStates getReadableStates(@NonNull final String serviceName) {
+        return new RecordingReadableStates(serviceName, delegate.getReadableStates(serviceName), readSet);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * A {@link RecordingState} is read-only, this method always throws an {@link UnsupportedOperationException}.
+     */
+    @NonNull
+    @Override
+    public WritableStates getWritableStates(@NonNull final String serviceName) {
+        throw new UnsupportedOperationException("A RecordingState is read-only");
+    }
+}
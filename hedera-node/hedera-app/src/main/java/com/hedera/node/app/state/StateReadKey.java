@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.state;
+
+import static java.util.Objects.requireNonNull;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Comparator;
+
+/**
+ * Identifies a single key that was read from a {@link com.swirlds.state.spi.ReadableKVState} of a service. A set of
+ * these keys describes everything a transaction looked at during pre-handle, and is used to warm the state before
+ * the transaction is handled.
+ *
+ * @param serviceName the name of the service owning the state
+ * @param stateKey the state key within the service
+ * @param key the key that was read
+ */
+public record StateReadKey(@NonNull String serviceName, @NonNull String stateKey, @NonNull Object key) {
+
+    /**
+     * The order in which read keys are warmed. Keys of the same state are grouped together and then ordered by their
+     * hash code, which is the order in which the on-disk key index buckets them. This order is not consistent with
+     * {@link #equals(Object)} and must only be used to sort lists.
+     */
+    public static final Comparator<StateReadKey> WARM_ORDER = Comparator.comparing(StateReadKey::serviceName)
+            .thenComparing(StateReadKey::stateKey)
+            .thenComparingInt(readKey -> readKey.key().hashCode());
+
+    /**
+     * Create a new instance.
+     */
+    public StateReadKey {
+        requireNonNull(serviceName, "serviceName must not be null");
+        requireNonNull(stateKey, "stateKey must not be null");
+        requireNonNull(key, "key must not be null");
+    }
+}
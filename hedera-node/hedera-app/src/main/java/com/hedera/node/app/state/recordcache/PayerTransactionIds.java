@@ -0,0 +1,159 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.state.recordcache;
+
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.base.TransactionID;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.function.Predicate;
+
+/**
+ * The transaction IDs paid for by a single payer, in the order in which they came to consensus.
+ *
+ * <p>The IDs are kept in a growable ring buffer. New IDs are always appended at the tail, and since records expire in
+ * consensus order, expired IDs are always removed from the head. Neither operation allocates unless the buffer has
+ * to grow.
+ *
+ * <p>Mutation methods must only be called from a single thread (the "handle" thread, or during startup or reconnect).
+ * {@link #forEachNewestFirst(Predicate)} may be called from any thread, and is best-effort: if it races with the
+ * handle thread, it may skip IDs that were just added or visit IDs that were just removed.
+ */
+final class PayerTransactionIds {
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final AccountID payerId;
+    /** The ring buffer, its length is always a power of two */
+    private volatile TransactionID[] ids = new TransactionID[INITIAL_CAPACITY];
+    /** The (ever-increasing) position of the oldest ID */
+    private volatile long head;
+    /** The (ever-increasing) position after the newest ID */
+    private volatile long tail;
+
+    /**
+     * Create a new, empty instance for the given payer.
+     *
+     * @param payerId the payer of all transactions in this instance
+     */
+    PayerTransactionIds(@NonNull final AccountID payerId) {
+        this.payerId = requireNonNull(payerId);
+    }
+
+    /**
+     * Returns the payer of all transactions in this instance.
+     *
+     * @return the payer
+     */
+    @NonNull
+    AccountID payerId() {
+        return payerId;
+    }
+
+    /**
+     * Returns whether this instance contains no transaction IDs.
+     *
+     * @return {@code true} if this instance is empty
+     */
+    boolean isEmpty() {
+        return head == tail;
+    }
+
+    /**
+     * Appends the given transaction ID as the newest entry.
+     *
+     * @param transactionID the transaction ID to append
+     */
+    void add(@NonNull final TransactionID transactionID) {
+        requireNonNull(transactionID);
+        final long h = head;
+        final long t = tail;
+        TransactionID[] buffer = ids;
+        if (t - h == buffer.length) {
+            final var grown = new TransactionID[buffer.length << 1];
+            for (long i = h; i < t; i++) {
+                grown[slot(i, grown)] = buffer[slot(i, buffer)];
+            }
+            // Publish the new buffer before the new tail, so readers never see a tail beyond their buffer
+            ids = grown;
+            buffer = grown;
+        }
+        buffer[slot(t, buffer)] = transactionID;
+        tail = t + 1;
+    }
+
+    /**
+     * Removes the oldest entry, if any.
+     */
+    void removeOldest() {
+        final long h = head;
+        if (h == tail) {
+            return;
+        }
+        ids[slot(h, ids)] = null;
+        head = h + 1;
+        skipRemovedEntries();
+    }
+
+    /**
+     * Removes the oldest occurrence of the given transaction ID. This is a linear search, and only used if expired
+     * entries are not removed in consensus order.
+     *
+     * @param transactionID the transaction ID to remove
+     */
+    void remove(@NonNull final TransactionID transactionID) {
+        final var buffer = ids;
+        for (long i = head, t = tail; i < t; i++) {
+            if (transactionID.equals(buffer[slot(i, buffer)])) {
+                buffer[slot(i, buffer)] = null;
+                break;
+            }
+        }
+        skipRemovedEntries();
+    }
+
+    /**
+     * Visits the transaction IDs from the newest to the oldest, until the visitor returns {@code false}.
+     *
+     * @param visitor the visitor, returning whether to continue with the next (older) transaction ID
+     */
+    void forEachNewestFirst(@NonNull final Predicate<TransactionID> visitor) {
+        final long t = tail;
+        final var buffer = ids;
+        final long h = Math.max(head, t - buffer.length);
+        for (long i = t - 1; i >= h; i--) {
+            final var transactionID = buffer[slot(i, buffer)];
+            if (transactionID != null && !visitor.test(transactionID)) {
+                return;
+            }
+        }
+    }
+
+    private void skipRemovedEntries() {
+        final var buffer = ids;
+        long h = head;
+        final long t = tail;
+        while (h < t && buffer[slot(h, buffer)] == null) {
+            h++;
+        }
+        head = h;
+    }
+
+    private static int slot(final long position, @NonNull final TransactionID[] buffer) {
+        return (int) (position & (buffer.length - 1));
+    }
+}
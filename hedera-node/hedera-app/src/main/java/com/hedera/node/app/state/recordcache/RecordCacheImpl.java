@@ -44,13 +44,15 @@ import com.swirlds.state.spi.WritableQueueState;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.time.Instant;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.ConcurrentModificationException;
-import java.util.HashSet;
+import java.util.Deque;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -116,14 +118,22 @@ public class RecordCacheImpl implements HederaRecordCache {
      */
     private final Map<TransactionID, History> histories;
     /**
-     * A secondary index that maps from the AccountID of the payer account to a set of transaction IDs that were
-     * submitted by this payer. This is only needed for answering queries. Ideally such queries would exist on the
-     * mirror node instead. The answer to this query will include child records that were created as a consequence
-     * of the original user transaction, but not any preceding records triggered by it.
+     * A secondary index that maps from the AccountID of the payer account to the user transaction IDs that were
+     * submitted by this payer, in consensus order. This is only needed for answering queries. Ideally such queries
+     * would exist on the mirror node instead. The answer to this query will include child records that were created
+     * as a consequence of the original user transaction, but not any preceding records triggered by it.
      */
-    private final Map<AccountID, Set<TransactionID>> payerToTransactionIndex = new ConcurrentHashMap<>();
+    private final Map<AccountID, PayerTransactionIds> payerToTransactionIndex = new ConcurrentHashMap<>();
+    /**
+     * One segment for each element of the receipt queue in state, in the same order. Each segment remembers the
+     * latest valid start of its receipts and the payer index entries they created, so a whole segment can be expired
+     * without scanning its receipts for the latest valid start, and without hash lookups in the payer index.
+     */
+    private final Deque<ReceiptSegment> segments = new ArrayDeque<>();
 
     private final List<TransactionReceiptEntry> transactionReceipts = new ArrayList<>();
+    /** The payer index entries created by the receipts of the current round, parallel to transactionReceipts */
+    private final List<PayerTransactionIds> roundPayerIndexEntries = new ArrayList<>();
 
     /**
      * Called once during startup to create this singleton. Rebuilds the in-memory data structures based on the current
@@ -163,6 +173,9 @@ public class RecordCacheImpl implements HederaRecordCache {
         requireNonNull(workingStateAccessor);
         histories.clear();
         payerToTransactionIndex.clear();
+        segments.clear();
+        transactionReceipts.clear();
+        roundPayerIndexEntries.clear();
         // FUTURE: It doesn't hurt to clear the dedupe cache here, but is also probably not the best place to do it. The
         // system should clear the dedupe cache directly and not indirectly through this call.
         deduplicationCache.clear();
@@ -171,14 +184,22 @@ public class RecordCacheImpl implements HederaRecordCache {
         final var itr = queue.iterator();
         while (itr.hasNext()) {
             final var roundReceipts = itr.next();
-            for (final var receipt : roundReceipts.entries()) {
+            final var entries = roundReceipts.entries();
+            if (entries.isEmpty()) {
+                // Will be removed (with a warning) on the next purge, and has no segment
+                continue;
+            }
+            final var payerIndexEntries = new PayerTransactionIds[entries.size()];
+            for (int i = 0, n = entries.size(); i < n; i++) {
+                final var receipt = entries.get(i);
                 final var partialRecord = asTxnRecord(receipt);
                 // Make the partial record queryable
-                addToInMemoryCache(
+                payerIndexEntries[i] = addToInMemoryCache(
                         receipt.nodeId(), receipt.transactionIdOrThrow().accountIDOrThrow(), partialRecord);
                 // Ensure this node won't submit duplicate transactions and be penalized for it
                 deduplicationCache.add(receipt.transactionIdOrThrow());
             }
+            segments.addLast(new ReceiptSegment(latestValidStart(entries), entries, payerIndexEntries));
         }
     }
 
@@ -208,16 +229,18 @@ public class RecordCacheImpl implements HederaRecordCache {
             final var rec = singleTransactionRecord.transactionRecord();
             // Make the full record queryable, but don't include all the details in state (so a reconnected node
             // will only have a partial record available)
-            addToInMemoryCache(nodeId, payerAccountId, rec);
+            final var payerIndexEntry = addToInMemoryCache(nodeId, payerAccountId, rec);
             // Include its receipt in the current round's entries, to be committed to state and the end of the round
             transactionReceipts.add(new TransactionReceiptEntry(
                     nodeId, rec.transactionIDOrThrow(), rec.receiptOrThrow().status()));
+            roundPayerIndexEntries.add(payerIndexEntry);
         }
     }
 
     @Override
     public void resetRoundReceipts() {
         transactionReceipts.clear();
+        roundPayerIndexEntries.clear();
     }
 
     @Override
@@ -228,7 +251,15 @@ public class RecordCacheImpl implements HederaRecordCache {
         final var queue = states.<TransactionReceiptEntries>getQueue(TXN_RECEIPT_QUEUE);
         purgeExpiredReceiptEntries(queue, consensusNow);
         if (!transactionReceipts.isEmpty()) {
-            queue.add(new TransactionReceiptEntries(new ArrayList<>(transactionReceipts)));
+            final var entries = new ArrayList<>(transactionReceipts);
+            queue.add(new TransactionReceiptEntries(entries));
+            segments.addLast(new ReceiptSegment(
+                    latestValidStart(entries),
+                    entries,
+                    roundPayerIndexEntries.toArray(new PayerTransactionIds[0])));
+            // The receipts are now owned by the queue, so they must not be committed again
+            transactionReceipts.clear();
+            roundPayerIndexEntries.clear();
         }
         if (states instanceof CommittableWritableStates committable) {
             committable.commit();
@@ -255,8 +286,10 @@ public class RecordCacheImpl implements HederaRecordCache {
      * @param payerAccountId The {@link AccountID} of the payer of the transaction, so we can look up transactions by
      * payer later, if needed.
      * @param transactionRecord The record to add.
+     * @return The payer index entry the record was added to
      */
-    private void addToInMemoryCache(
+    @NonNull
+    private PayerTransactionIds addToInMemoryCache(
             final long nodeId,
             @NonNull final AccountID payerAccountId,
             @NonNull final TransactionRecord transactionRecord) {
@@ -285,9 +318,10 @@ public class RecordCacheImpl implements HederaRecordCache {
         final var listToAddTo = (isChildTx && !txId.scheduled()) ? history.childRecords() : history.records();
         listToAddTo.add(transactionRecord);
 
-        // Add to the payer-to-transaction index
-        final var transactionIDs = payerToTransactionIndex.computeIfAbsent(payerAccountId, ignored -> new HashSet<>());
-        transactionIDs.add(txId);
+        // Add to the payer-to-transaction index, using the ID the history is stored under
+        final var transactionIDs = payerToTransactionIndex.computeIfAbsent(payerAccountId, PayerTransactionIds::new);
+        transactionIDs.add(userTxId);
+        return transactionIDs;
     }
 
     /**
@@ -304,32 +338,47 @@ public class RecordCacheImpl implements HederaRecordCache {
         // Loop in order and expunge the entry if even the latest TransactionReceiptEntry is expired
         TransactionReceiptEntries roundReceipts;
         while ((roundReceipts = queue.peek()) != null) {
-            if (roundReceipts.entries().isEmpty()) {
+            final var entries = roundReceipts.entries();
+            if (entries.isEmpty()) {
                 logger.warn("Unexpected empty round receipts in the queue, removing them");
                 queue.poll();
                 continue;
             }
-            final var latestReceiptValidStart = roundReceipts.entries().stream()
-                    .max(TRANSACTION_VALID_START_COMPARATOR)
-                    .map(entry -> entry.transactionIdOrElse(TransactionID.DEFAULT)
-                            .transactionValidStartOrElse(Timestamp.DEFAULT))
-                    .orElseThrow();
+            // The segments mirror the queue, unless the queue was modified behind our back; in that case we
+            // fall back to scanning the receipts until the next rebuild
+            final var segment = segments.peekFirst();
+            final var aligned = segment != null && segment.isFor(entries);
+            if (!aligned && segment != null) {
+                logger.warn("Receipt segments are out of sync with the receipt queue, falling back to scanning");
+                segments.clear();
+            }
+            final var latestReceiptValidStart = aligned ? segment.latestValidStart() : latestValidStart(entries);
             // If even the latest valid start time is before the earliest valid start, then all transaction
             // ids used in this round are expired and cannot be duplicated
             if (isBefore(latestReceiptValidStart, earliestValidStart)) {
                 // Remove all in-memory context for these transaction ids.  Note that all transactions are added
                 // to this map keyed to the "user transaction" ID, so removing the entry here removes both "parent"
                 // and "child" transaction records associated with that ID.
-                for (final var receipt : roundReceipts.entries()) {
-                    final var txId = receipt.transactionIdOrThrow();
-                    histories.remove(txId);
-                    // Remove from the payer to transaction index
-                    final var payerAccountId = txId.accountIDOrThrow(); // NOTE: Not accurate if the payer was the node
-                    final var transactionIDs =
-                            payerToTransactionIndex.computeIfAbsent(payerAccountId, ignored -> new HashSet<>());
-                    transactionIDs.remove(txId);
-                    if (transactionIDs.isEmpty()) {
-                        payerToTransactionIndex.remove(payerAccountId);
+                for (final var receipt : entries) {
+                    histories.remove(receipt.transactionIdOrThrow());
+                }
+                // Remove from the payer to transaction index
+                if (aligned) {
+                    // Entries expire in consensus order, so they are always the oldest of their payer
+                    for (final var payerIndexEntry : segment.payerIndexEntries()) {
+                        payerIndexEntry.removeOldest();
+                        removeIfEmpty(payerIndexEntry);
+                    }
+                    segments.pollFirst();
+                } else {
+                    for (final var receipt : entries) {
+                        final var txId = receipt.transactionIdOrThrow();
+                        // NOTE: Not accurate if the payer was the node
+                        final var payerIndexEntry = payerToTransactionIndex.get(txId.accountIDOrThrow());
+                        if (payerIndexEntry != null) {
+                            payerIndexEntry.remove(txId.copyBuilder().nonce(0).build());
+                            removeIfEmpty(payerIndexEntry);
+                        }
                     }
                 }
                 // Remove the round receipts from the queue
@@ -339,6 +388,51 @@ public class RecordCacheImpl implements HederaRecordCache {
             }
         }
     }
+
+    private void removeIfEmpty(@NonNull final PayerTransactionIds payerIndexEntry) {
+        if (payerIndexEntry.isEmpty()) {
+            payerToTransactionIndex.remove(payerIndexEntry.payerId(), payerIndexEntry);
+        }
+    }
+
+    /**
+     * Returns the latest transaction valid start of the given receipts.
+     *
+     * @param entries the receipts, must not be empty
+     * @return the latest valid start
+     */
+    @NonNull
+    private static Timestamp latestValidStart(@NonNull final List<TransactionReceiptEntry> entries) {
+        Timestamp latest = null;
+        for (final var entry : entries) {
+            final var validStart =
+                    entry.transactionIdOrElse(TransactionID.DEFAULT).transactionValidStartOrElse(Timestamp.DEFAULT);
+            if (latest == null || TIMESTAMP_COMPARATOR.compare(validStart, latest) > 0) {
+                latest = validStart;
+            }
+        }
+        return requireNonNull(latest);
+    }
+
+    /**
+     * The in-memory counterpart of one element of the receipt queue in state.
+     *
+     * @param latestValidStart the latest transaction valid start of all receipts in the element
+     * @param entries the receipts of the element, used to check that the segment still mirrors the queue
+     * @param payerIndexEntries the payer index entries the receipts were added to, in receipt order
+     */
+    private record ReceiptSegment(
+            @NonNull Timestamp latestValidStart,
+            @NonNull List<TransactionReceiptEntry> entries,
+            @NonNull PayerTransactionIds[] payerIndexEntries) {
+        boolean isFor(@NonNull final List<TransactionReceiptEntry> queuedEntries) {
+            return entries == queuedEntries
+                    || (entries.size() == queuedEntries.size()
+                            && entries.get(0).equals(queuedEntries.get(0))
+                            && entries.get(entries.size() - 1).equals(queuedEntries.get(queuedEntries.size() - 1)));
+        }
+    }
+
     // ---------------------------------------------------------------------------------------------------------------
     // Implementation methods of RecordCache
     // ---------------------------------------------------------------------------------------------------------------
@@ -360,27 +454,29 @@ public class RecordCacheImpl implements HederaRecordCache {
 
         // Note that at **most** LedgerConfig#recordsMaxQueryableByAccount() records will be available, even if the
         // given account has paid for more than this number of transactions in the last 180 seconds.
-        var maxRemaining = configProvider
+        final var maxRecords = configProvider
                 .getConfiguration()
                 .getConfigData(LedgerConfig.class)
                 .recordsMaxQueryableByAccount();
 
-        // While we still need to gather more records, collect them from the different histories.
-        final var records = new ArrayList<TransactionRecord>(maxRemaining);
-        // Because the set of transaction IDs could be concurrently modified by
-        // the handle thread, wrap this in a try-catch block to deal with a CME
-        // and return whatever we are able to gather. (I.e. this is a best-effort
+        // While we still need to gather more records, collect them from the different histories, starting with
+        // the most recent transactions. A history is reachable from one index entry per record it contains, so we
+        // make sure to visit each history only once.
+        final var records = new ArrayList<TransactionRecord>(maxRecords);
+        final var visited = Collections.newSetFromMap(new IdentityHashMap<History, Boolean>());
+        // Because the histories could be concurrently modified by the handle thread, wrap this in a try-catch
+        // block to deal with a CME and return whatever we are able to gather. (I.e. this is a best-effort
         // query, and not a critical path; unused in production environments)
         try {
-            for (final var transactionID : transactionIDs) {
+            transactionIDs.forEachNewestFirst(transactionID -> {
                 final var history = histories.get(transactionID);
-                if (history != null) {
+                if (history != null && visited.add(history)) {
                     final var recs = history.orderedRecords();
-                    records.addAll(recs.size() > maxRemaining ? recs.subList(0, maxRemaining) : recs);
-                    maxRemaining -= recs.size();
-                    if (maxRemaining <= 0) break;
+                    final var remaining = maxRecords - records.size();
+                    records.addAll(recs.size() > remaining ? recs.subList(0, remaining) : recs);
                 }
-            }
+                return records.size() < maxRecords;
+            });
         } catch (ConcurrentModificationException ignore) {
             // Ignore the exception and return what we found; this query is unused in production environments
         }
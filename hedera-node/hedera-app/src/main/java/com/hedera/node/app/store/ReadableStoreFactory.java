@@ -57,6 +57,8 @@ import com.hedera.node.app.service.token.impl.ReadableNftStoreImpl;
 import com.hedera.node.app.service.token.impl.ReadableStakingInfoStoreImpl;
 import com.hedera.node.app.service.token.impl.ReadableTokenRelationStoreImpl;
 import com.hedera.node.app.service.token.impl.ReadableTokenStoreImpl;
+import com.hedera.node.app.state.RecordingState;
+import com.hedera.node.app.state.StateReadKey;
 import com.swirlds.platform.state.MerkleStateRoot;
 import com.swirlds.platform.state.service.PlatformStateService;
 import com.swirlds.platform.state.service.ReadablePlatformStateStore;
@@ -68,6 +70,7 @@ import edu.umd.cs.findbugs.annotations.Nullable;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 
 /**
@@ -134,6 +137,26 @@ public class ReadableStoreFactory {
         }
     }
 
+    private ReadableStoreFactory(
+            @NonNull final State state, @NonNull final Function<SemanticVersion, SoftwareVersion> versionFactory) {
+        this.state = requireNonNull(state);
+        this.versionFactory = requireNonNull(versionFactory);
+    }
+
+    /**
+     * Creates a new {@code ReadableStoreFactory} over the same {@link State} that additionally records every key read
+     * from the stores it creates into the given set.
+     *
+     * @param readSet the set that records all keys read through the returned factory
+     * @return a new {@code ReadableStoreFactory} recording its reads
+     * @throws NullPointerException if {@code readSet} is {@code null}
+     */
+    @NonNull
+    public ReadableStoreFactory recordingReadsInto(@NonNull final Set<StateReadKey> readSet) {
+        requireNonNull(readSet, "The supplied argument 'readSet' cannot be null!");
+        return new ReadableStoreFactory(new RecordingState(state, readSet), versionFactory);
+    }
+
     /**
      * Create a new store given the store's interface. This gives read-only access to the store.
      *
@@ -144,6 +144,12 @@ public class TransactionChecker {
      */
     @NonNull
     public TransactionInfo parseAndCheck(@NonNull final Bytes buffer) throws PreCheckException {
+        // Transactions in the canonical encoding (i.e., almost all of them) skip parsing the Transaction and
+        // SignedTransaction wrappers; everything else goes through the full strict parse
+        final var view = buffer.length() > maxSignedTxnSize ? null : TransactionView.tryWrap(buffer);
+        if (view != null) {
+            return check(view);
+        }
         final var tx = parse(buffer);
         return check(tx, buffer);
     }
@@ -228,6 +234,35 @@ public class TransactionChecker {
         if (signatureMap == null) {
             throw new PreCheckException(INVALID_TRANSACTION_BODY);
         }
+        return checkBody(tx, bodyBytes, signatureMap, serializedTx);
+    }
+
+    /**
+     * Check the validity of the transaction represented by the given {@link TransactionView}. The checks are the same
+     * as the ones done by {@link #check(Transaction, Bytes)}, but the {@link Transaction} and {@link SignedTransaction}
+     * wrappers are not parsed again, and the resulting {@link TransactionInfo} refers to slices of the original
+     * buffer rather than copies of it.
+     *
+     * @param view the {@link TransactionView} of the transaction that needs to be checked
+     * @return an {@link TransactionInfo} with the parsed and checked entities
+     * @throws PreCheckException if the data is not valid
+     * @throws NullPointerException if {@code view} is {@code null}
+     */
+    @NonNull
+    public TransactionInfo check(@NonNull final TransactionView view) throws PreCheckException {
+        final var tx = view.transaction();
+        checkTransactionDeprecation(tx);
+        final var signatureMap = parseStrict(
+                view.signatureMapBytes().toReadableSequentialData(), SignatureMap.PROTOBUF, INVALID_TRANSACTION);
+        return checkBody(tx, view.bodyBytes(), signatureMap, view.buffer());
+    }
+
+    private TransactionInfo checkBody(
+            @NonNull final Transaction tx,
+            @NonNull final Bytes bodyBytes,
+            @NonNull final SignatureMap signatureMap,
+            @Nullable final Bytes serializedTx)
+            throws PreCheckException {
         final var txBody =
                 parseStrict(bodyBytes.toReadableSequentialData(), TransactionBody.PROTOBUF, INVALID_TRANSACTION_BODY);
         final HederaFunctionality functionality;
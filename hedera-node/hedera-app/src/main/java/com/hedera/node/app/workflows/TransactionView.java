@@ -0,0 +1,208 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.workflows;
+
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.hapi.node.base.SignatureMap;
+import com.hedera.hapi.node.base.Transaction;
+import com.hedera.hapi.node.transaction.SignedTransaction;
+import com.hedera.hapi.node.transaction.TransactionBody;
+import com.hedera.pbj.runtime.ParseException;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * A view over the serialized bytes of a {@link Transaction} that uses the {@code signedTransactionBytes} field, which
+ * is the only encoding produced by current SDKs.
+ *
+ * <p>Instead of letting PBJ parse the {@link Transaction} and the {@link SignedTransaction} wrappers (which copies
+ * the nested byte fields), this class walks the protobuf wire format of both wrappers once and keeps the
+ * {@code signedTransactionBytes}, {@code bodyBytes} and {@code sigMap} fields as slices of the original buffer. Only
+ * the {@link TransactionBody} and the {@link SignatureMap} remain to be parsed, and the body is parsed lazily on
+ * first access.
+ *
+ * <p>The view only accepts the canonical encoding: a {@link Transaction} containing nothing but a non-empty
+ * {@code signedTransactionBytes} field, and a {@link SignedTransaction} containing {@code bodyBytes} followed by
+ * {@code sigMap}. Anything else (deprecated fields, unknown fields, repeated fields, a different field order) makes
+ * {@link #tryWrap(Bytes)} return {@code null}, so the caller can fall back to a full strict parse and report exactly
+ * the same errors as before.
+ *
+ * <p>This class is not thread-safe. The lazily parsed body may be computed more than once if the view is shared
+ * between threads, which is harmless since the result is always the same.
+ */
+public final class TransactionView {
+    /** Tag of {@code Transaction.signedTransactionBytes} (field 5, length-delimited). */
+    private static final int SIGNED_TRANSACTION_BYTES_TAG = (5 << 3) | 2;
+    /** Tag of {@code SignedTransaction.bodyBytes} (field 1, length-delimited). */
+    private static final int BODY_BYTES_TAG = (1 << 3) | 2;
+    /** Tag of {@code SignedTransaction.sigMap} (field 2, length-delimited). */
+    private static final int SIG_MAP_TAG = (2 << 3) | 2;
+
+    private final Bytes buffer;
+    private final Bytes signedTransactionBytes;
+    private final Bytes bodyBytes;
+    private final Bytes signatureMapBytes;
+
+    private Transaction transaction;
+    private TransactionBody body;
+
+    private TransactionView(
+            @NonNull final Bytes buffer,
+            @NonNull final Bytes signedTransactionBytes,
+            @NonNull final Bytes bodyBytes,
+            @NonNull final Bytes signatureMapBytes) {
+        this.buffer = buffer;
+        this.signedTransactionBytes = signedTransactionBytes;
+        this.bodyBytes = bodyBytes;
+        this.signatureMapBytes = signatureMapBytes;
+    }
+
+    /**
+     * Creates a view over the given serialized {@link Transaction}, if it uses the canonical encoding.
+     *
+     * @param buffer the serialized {@link Transaction}
+     * @return the view, or {@code null} if the bytes are not in the canonical encoding and must be parsed fully
+     */
+    @Nullable
+    public static TransactionView tryWrap(@NonNull final Bytes buffer) {
+        requireNonNull(buffer);
+        final var signedTransactionBytes = sliceField(buffer, 0, SIGNED_TRANSACTION_BYTES_TAG);
+        if (signedTransactionBytes == null
+                || signedTransactionBytes.length() == 0
+                || endOf(0, signedTransactionBytes) != buffer.length()) {
+            return null;
+        }
+        final var bodyBytes = sliceField(signedTransactionBytes, 0, BODY_BYTES_TAG);
+        if (bodyBytes == null) {
+            return null;
+        }
+        final var signatureMapOffset = endOf(0, bodyBytes);
+        final var signatureMapBytes = sliceField(signedTransactionBytes, signatureMapOffset, SIG_MAP_TAG);
+        if (signatureMapBytes == null
+                || endOf(signatureMapOffset, signatureMapBytes) != signedTransactionBytes.length()) {
+            return null;
+        }
+        return new TransactionView(buffer, signedTransactionBytes, bodyBytes, signatureMapBytes);
+    }
+
+    /**
+     * The original serialized {@link Transaction}.
+     */
+    @NonNull
+    public Bytes buffer() {
+        return buffer;
+    }
+
+    /**
+     * The {@code signedTransactionBytes} of the transaction, as a slice of {@link #buffer()}.
+     */
+    @NonNull
+    public Bytes signedTransactionBytes() {
+        return signedTransactionBytes;
+    }
+
+    /**
+     * The serialized {@link TransactionBody}, as a slice of {@link #buffer()}. These are the bytes that were signed.
+     */
+    @NonNull
+    public Bytes bodyBytes() {
+        return bodyBytes;
+    }
+
+    /**
+     * The serialized {@link SignatureMap}, as a slice of {@link #buffer()}.
+     */
+    @NonNull
+    public Bytes signatureMapBytes() {
+        return signatureMapBytes;
+    }
+
+    /**
+     * The {@link Transaction} this view represents. Its {@code signedTransactionBytes} share the original buffer.
+     */
+    @NonNull
+    public Transaction transaction() {
+        if (transaction == null) {
+            transaction = Transaction.newBuilder()
+                    .signedTransactionBytes(signedTransactionBytes)
+                    .build();
+        }
+        return transaction;
+    }
+
+    /**
+     * The {@link TransactionBody} of the transaction, parsed leniently on first access. Callers that need to reject
+     * unknown fields must parse {@link #bodyBytes()} strictly themselves, as {@link TransactionChecker} does.
+     *
+     * @return the parsed body
+     * @throws ParseException if the body bytes cannot be parsed
+     */
+    @NonNull
+    public TransactionBody body() throws ParseException {
+        if (body == null) {
+            body = TransactionBody.PROTOBUF.parse(bodyBytes.toReadableSequentialData());
+        }
+        return body;
+    }
+
+    /**
+     * Returns the slice holding the value of the length-delimited field starting at {@code offset}, or {@code null}
+     * if there is no field with the expected tag at that offset or its length is malformed. Lengths that are not
+     * minimally encoded are rejected as well, so that {@link #endOf(long, Bytes)} can recompute the field size.
+     */
+    @Nullable
+    private static Bytes sliceField(@NonNull final Bytes bytes, final long offset, final int expectedTag) {
+        final long length = bytes.length();
+        // All tags we look for fit in a single byte
+        if (offset >= length || bytes.getByte(offset) != expectedTag) {
+            return null;
+        }
+        long position = offset + 1;
+        long fieldLength = 0;
+        for (int shift = 0; ; shift += 7) {
+            if (position >= length || shift > 28) {
+                return null;
+            }
+            final byte b = bytes.getByte(position++);
+            fieldLength |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (b == 0 && shift > 0) {
+                    return null;
+                }
+                break;
+            }
+        }
+        if (fieldLength > length - position) {
+            return null;
+        }
+        return bytes.slice(position, fieldLength);
+    }
+
+    /**
+     * Returns the offset right after the field starting at {@code offset} whose value is {@code value}.
+     */
+    private static long endOf(final long offset, @NonNull final Bytes value) {
+        final long length = value.length();
+        int lengthSize = 1;
+        for (long remaining = length >>> 7; remaining != 0; remaining >>>= 7) {
+            lengthSize++;
+        }
+        return offset + 1 + lengthSize + length;
+    }
+}
@@ -68,6 +68,7 @@ import com.hedera.node.app.workflows.handle.record.SystemSetup;
 import com.hedera.node.app.workflows.handle.steps.HollowAccountCompletions;
 import com.hedera.node.app.workflows.handle.steps.NodeStakeUpdates;
 import com.hedera.node.app.workflows.handle.steps.UserTxn;
+import com.hedera.node.app.workflows.prehandle.PreHandleResult;
 import com.hedera.node.app.workflows.prehandle.PreHandleWorkflow;
 import com.hedera.node.config.ConfigProvider;
 import com.hedera.node.config.data.BlockStreamConfig;
@@ -290,6 +291,14 @@ public class HandleWorkflow {
             @NonNull final BlockStreamConfig blockStreamConfig) {
         final var handleStart = System.nanoTime();
 
+        // Track how much of the pre-handle read set was warmed before we got here
+        if (txn.getMetadata() instanceof PreHandleResult preHandleResult) {
+            final var readKeys = preHandleResult.getReadKeys();
+            if (!readKeys.isEmpty()) {
+                handleWorkflowMetrics.updateCacheWarmHits(cacheWarmer.countWarmed(readKeys), readKeys.size());
+            }
+        }
+
         // Always use platform-assigned time for user transaction, c.f. https://hips.hedera.com/hip/hip-993
         final var consensusNow = txn.getConsensusTimestamp();
         stakePeriodManager.setCurrentStakePeriodFor(consensusNow);
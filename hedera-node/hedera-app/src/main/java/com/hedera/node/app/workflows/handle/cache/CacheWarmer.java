@@ -25,18 +25,27 @@ import com.hedera.node.app.service.token.ReadableAccountStore;
 import com.hedera.node.app.spi.workflows.PreCheckException;
 import com.hedera.node.app.spi.workflows.TransactionHandler;
 import com.hedera.node.app.spi.workflows.WarmupContext;
+import com.hedera.node.app.state.StateReadKey;
 import com.hedera.node.app.store.ReadableStoreFactory;
 import com.hedera.node.app.workflows.TransactionChecker;
 import com.hedera.node.app.workflows.TransactionInfo;
+import com.hedera.node.app.workflows.TransactionView;
 import com.hedera.node.app.workflows.dispatcher.TransactionDispatcher;
 import com.hedera.node.app.workflows.prehandle.PreHandleResult;
+import com.hedera.pbj.runtime.ParseException;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.platform.system.Round;
 import com.swirlds.platform.system.events.ConsensusEvent;
 import com.swirlds.platform.system.transaction.Transaction;
 import com.swirlds.state.State;
+import com.swirlds.state.spi.ReadableKVState;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -44,16 +53,23 @@ import javax.inject.Singleton;
 
 /**
  * This class is used to warm up the cache. It is called at the beginning of a round with the current state
- * and the round. It will start a background thread which iterates through all transactions and calls the
- * {@link TransactionHandler#warm} method.
+ * and the round. It collects the state keys each transaction read during pre-handle, and loads the union of these
+ * keys in sorted batches on background threads. Afterwards it calls the {@link TransactionHandler#warm} method
+ * for all transactions of the round, using one background task per event.
  */
 @Singleton
 public class CacheWarmer {
 
+    /** The maximum number of read keys that are warmed in a single background task */
+    private static final int WARM_BATCH_SIZE = 256;
+
     private final TransactionChecker checker;
     private final TransactionDispatcher dispatcher;
     private final Executor executor;
 
+    /** The read keys of the current round that were already warmed */
+    private volatile Set<StateReadKey> warmedKeys = ConcurrentHashMap.newKeySet();
+
     @Inject
     public CacheWarmer(
             @NonNull final TransactionChecker checker,
@@ -71,11 +87,20 @@ public class CacheWarmer {
      * @param round the current round
      */
     public void warm(@NonNull final State state, @NonNull final Round round) {
+        // The read sets have to be collected before the handle workflow starts, as it clears the metadata
+        final var readKeys = collectReadKeys(round);
+        final Set<StateReadKey> roundWarmedKeys = ConcurrentHashMap.newKeySet(readKeys.size());
+        warmedKeys = roundWarmedKeys;
         executor.execute(() -> {
+            readKeys.sort(StateReadKey.WARM_ORDER);
+            for (int from = 0; from < readKeys.size(); from += WARM_BATCH_SIZE) {
+                final var batch = readKeys.subList(from, Math.min(from + WARM_BATCH_SIZE, readKeys.size()));
+                executor.execute(() -> warmReadKeys(state, batch, roundWarmedKeys));
+            }
             final ReadableStoreFactory storeFactory = new ReadableStoreFactory(state);
             final ReadableAccountStore accountStore = storeFactory.getStore(ReadableAccountStore.class);
             for (final ConsensusEvent event : round) {
-                event.forEachTransaction(platformTransaction -> executor.execute(() -> {
+                executor.execute(() -> event.forEachTransaction(platformTransaction -> {
                     final TransactionBody txBody = extractTransactionBody(platformTransaction);
                     if (txBody != null) {
                         final AccountID payerID = txBody.transactionIDOrElse(TransactionID.DEFAULT)
@@ -91,6 +116,55 @@ public class CacheWarmer {
         });
     }
 
+    /**
+     * Counts how many of the given read keys were already warmed for the current round.
+     *
+     * @param readKeys the read keys of a transaction
+     * @return the number of read keys that were already warmed
+     */
+    public int countWarmed(@NonNull final Set<StateReadKey> readKeys) {
+        final var roundWarmedKeys = warmedKeys;
+        int count = 0;
+        for (final var readKey : readKeys) {
+            if (roundWarmedKeys.contains(readKey)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @NonNull
+    private static List<StateReadKey> collectReadKeys(@NonNull final Round round) {
+        final Set<StateReadKey> union = new HashSet<>();
+        for (final ConsensusEvent event : round) {
+            event.forEachTransaction(platformTransaction -> {
+                if (platformTransaction.getMetadata() instanceof PreHandleResult result) {
+                    union.addAll(result.getReadKeys());
+                }
+            });
+        }
+        return new ArrayList<>(union);
+    }
+
+    private static void warmReadKeys(
+            @NonNull final State state,
+            @NonNull final List<StateReadKey> batch,
+            @NonNull final Set<StateReadKey> roundWarmedKeys) {
+        String serviceName = null;
+        String stateKey = null;
+        ReadableKVState<Object, Object> kvState = null;
+        for (final var readKey : batch) {
+            // The batch is sorted, so we only need to look up the k/v state when it changes
+            if (!readKey.serviceName().equals(serviceName) || !readKey.stateKey().equals(stateKey)) {
+                serviceName = readKey.serviceName();
+                stateKey = readKey.stateKey();
+                kvState = state.getReadableStates(serviceName).get(stateKey);
+            }
+            kvState.warm(readKey.key());
+            roundWarmedKeys.add(readKey);
+        }
+    }
+
     @Nullable
     private TransactionBody extractTransactionBody(@NonNull final Transaction platformTransaction) {
         // First we check if the transaction was already parsed during pre-handle (should be almost always the case)
@@ -99,11 +173,18 @@ public class CacheWarmer {
             return result.txInfo() == null ? null : result.txInfo().txBody();
         }
 
-        // If not we parse it here using existing code. This is not ideal but should be rare.
-        // We can potentially optimize this by limiting the code to the bare minimum needed
-        // or keeping the result for later.
+        // If not we parse it here. This should be rare, and since warming does not need a checked
+        // transaction, we only parse the body if the transaction is in the canonical encoding.
+        final Bytes buffer = platformTransaction.getApplicationTransaction();
+        final var view = TransactionView.tryWrap(buffer);
+        if (view != null) {
+            try {
+                return view.body();
+            } catch (ParseException ex) {
+                return null;
+            }
+        }
         try {
-            final Bytes buffer = platformTransaction.getApplicationTransaction();
             return checker.parseAndCheck(buffer).txBody();
         } catch (PreCheckException ex) {
             return null;
@@ -45,11 +45,18 @@ public class HandleWorkflowMetrics {
             .withDescription("average EVM gas used per second of consensus time")
             .withFormat("%,13.6f");
 
+    private static final IntegerPairAccumulator.Config<Double> CACHE_WARM_HIT_RATIO_CONFIG =
+            new IntegerPairAccumulator.Config<>("app", "cacheWarmHitRatio", Double.class, IntegerPairAccumulator.AVERAGE)
+                    .withDescription("fraction of the state keys read in pre-handle that were warmed before handle")
+                    .withFormat("%,13.6f");
+
     private final Map<HederaFunctionality, TransactionMetric> transactionMetrics =
             new EnumMap<>(HederaFunctionality.class);
 
     private final RunningAverageMetric gasPerConsSec;
 
+    private final IntegerPairAccumulator<Double> cacheWarmHitRatio;
+
     private long gasUsedThisConsensusSecond = 0L;
 
     /**
@@ -82,6 +89,7 @@ public class HandleWorkflowMetrics {
 
         final StatsConfig statsConfig = configProvider.getConfiguration().getConfigData(StatsConfig.class);
         gasPerConsSec = metrics.getOrCreate(GAS_PER_CONS_SEC_CONFIG.withHalfLife(statsConfig.runningAvgHalfLifeSecs()));
+        cacheWarmHitRatio = metrics.getOrCreate(CACHE_WARM_HIT_RATIO_CONFIG);
     }
 
     /**
@@ -105,6 +113,16 @@ public class HandleWorkflowMetrics {
         }
     }
 
+    /**
+     * Update the cache warm hit ratio with the result of a single transaction
+     *
+     * @param warmedKeys the number of read keys of the transaction that were warmed before it was handled
+     * @param readKeys the total number of read keys of the transaction
+     */
+    public void updateCacheWarmHits(final int warmedKeys, final int readKeys) {
+        cacheWarmHitRatio.update(warmedKeys, readKeys);
+    }
+
     public void switchConsensusSecond() {
         gasPerConsSec.update(gasUsedThisConsensusSecond);
         gasUsedThisConsensusSecond = 0L;
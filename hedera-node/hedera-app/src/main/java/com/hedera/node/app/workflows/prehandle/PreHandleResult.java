@@ -26,6 +26,7 @@ import com.hedera.hapi.node.base.ResponseCodeEnum;
 import com.hedera.hapi.node.state.token.Account;
 import com.hedera.node.app.signature.SignatureVerificationFuture;
 import com.hedera.node.app.spi.workflows.PreHandleContext;
+import com.hedera.node.app.state.StateReadKey;
 import com.hedera.node.app.workflows.TransactionInfo;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
@@ -56,6 +57,8 @@ import java.util.concurrent.Future;
  *                            are used as the key of this map.
  * @param innerResult {@link PreHandleResult} of the inner transaction (where appropriate)
  * @param configVersion The version of the configuration that was used during pre-handle
+ * @param readKeys The set of state keys the transaction read during pre-handle, used to warm the state before the
+ *                 transaction is handled. This will be {@code null} if the read set was not captured.
  */
 public record PreHandleResult(
         @Nullable AccountID payer,
@@ -68,7 +71,8 @@ public record PreHandleResult(
         @Nullable Set<Account> hollowAccounts,
         @Nullable Map<Key, SignatureVerificationFuture> verificationResults,
         @Nullable PreHandleResult innerResult,
-        long configVersion) {
+        long configVersion,
+        @Nullable Set<StateReadKey> readKeys) {
 
     /**
      * Returns whether this result's verification results are valid for the given context. This is <b>only</b>
@@ -112,6 +116,38 @@ public record PreHandleResult(
         return hollowAccounts == null ? Collections.emptySet() : hollowAccounts;
     }
 
+    /**
+     * Returns the state keys read during pre-handle; or an empty set if they were not captured.
+     *
+     * @return the state keys read during pre-handle; or an empty set if they were not captured.
+     */
+    public @NonNull Set<StateReadKey> getReadKeys() {
+        return readKeys == null ? Collections.emptySet() : readKeys;
+    }
+
+    /**
+     * Returns a copy of this result with the given read set.
+     *
+     * @param readKeys the state keys read during pre-handle
+     * @return a copy of this result with the given read set
+     */
+    @NonNull
+    public PreHandleResult withReadKeys(@Nullable final Set<StateReadKey> readKeys) {
+        return new PreHandleResult(
+                payer,
+                payerKey,
+                status,
+                responseCode,
+                txInfo,
+                requiredKeys,
+                optionalKeys,
+                hollowAccounts,
+                verificationResults,
+                innerResult,
+                configVersion,
+                readKeys);
+    }
+
     /**
      * An enumeration of all possible types of pre-handle results.
      */
@@ -145,6 +181,34 @@ public record PreHandleResult(
         requireNonNull(responseCode);
     }
 
+    /** Create a new instance without a captured read set. */
+    public PreHandleResult(
+            @Nullable final AccountID payer,
+            @Nullable final Key payerKey,
+            @NonNull final Status status,
+            @NonNull final ResponseCodeEnum responseCode,
+            @Nullable final TransactionInfo txInfo,
+            @Nullable final Set<Key> requiredKeys,
+            @Nullable final Set<Key> optionalKeys,
+            @Nullable final Set<Account> hollowAccounts,
+            @Nullable final Map<Key, SignatureVerificationFuture> verificationResults,
+            @Nullable final PreHandleResult innerResult,
+            final long configVersion) {
+        this(
+                payer,
+                payerKey,
+                status,
+                responseCode,
+                txInfo,
+                requiredKeys,
+                optionalKeys,
+                hollowAccounts,
+                verificationResults,
+                innerResult,
+                configVersion,
+                null);
+    }
+
     /**
      * Creates a new {@link PreHandleResult} in the event of a random failure that should not be automatically
      * charged to the node. Instead, during the handle phase, we will try again and charge the node if it fails again.
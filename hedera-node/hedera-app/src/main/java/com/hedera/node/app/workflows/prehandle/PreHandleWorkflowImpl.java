@@ -35,12 +35,14 @@ import com.hedera.hapi.node.transaction.TransactionBody;
 import com.hedera.node.app.service.token.ReadableAccountStore;
 import com.hedera.node.app.signature.ExpandedSignaturePair;
 import com.hedera.node.app.signature.SignatureExpander;
+import com.hedera.node.app.signature.SignatureVerificationBatch;
 import com.hedera.node.app.signature.SignatureVerificationFuture;
 import com.hedera.node.app.signature.SignatureVerifier;
 import com.hedera.node.app.spi.workflows.PreCheckException;
 import com.hedera.node.app.spi.workflows.PreHandleContext;
 import com.hedera.node.app.spi.workflows.TransactionHandler;
 import com.hedera.node.app.state.DeduplicationCache;
+import com.hedera.node.app.state.StateReadKey;
 import com.hedera.node.app.store.ReadableStoreFactory;
 import com.hedera.node.app.workflows.TransactionChecker;
 import com.hedera.node.app.workflows.TransactionInfo;
@@ -51,6 +53,7 @@ import com.swirlds.platform.system.events.Event;
 import com.swirlds.platform.system.transaction.Transaction;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
@@ -134,23 +137,34 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
         requireNonNull(creator);
         requireNonNull(transactions);
 
-        // Used for looking up payer account information.
-        final var accountStore = readableStoreFactory.getStore(ReadableAccountStore.class);
-
-        // In parallel, we will pre-handle each transaction.
-        transactions.parallel().forEach(tx -> {
-            if (tx.isSystem()) return;
-            try {
-                tx.setMetadata(preHandleTransaction(creator, readableStoreFactory, accountStore, tx));
-            } catch (final Exception unexpectedException) {
-                // If some random exception happened, then we should not charge the node for it. Instead,
-                // we will just record the exception and try again during handle. Then if we fail again
-                // at handle, then we will throw away the transaction (hopefully, deterministically!)
-                logger.error(
-                        "Possibly CATASTROPHIC failure while running the pre-handle workflow", unexpectedException);
-                tx.setMetadata(unknownFailure());
-            }
-        });
+        // The signatures of every transaction in the event are collected and verified together at the end
+        final var signatureBatch = signatureVerifier.newBatch();
+        try {
+            // In parallel, we will pre-handle each transaction.
+            transactions.parallel().forEach(tx -> {
+                if (tx.isSystem()) return;
+                try {
+                    // Capture every state key the transaction reads, so the cache warmer can load them before handle
+                    final Set<StateReadKey> readKeys = new HashSet<>();
+                    final var recordingStoreFactory = readableStoreFactory.recordingReadsInto(readKeys);
+                    // Used for looking up payer account information.
+                    final var accountStore = recordingStoreFactory.getStore(ReadableAccountStore.class);
+                    final var result = preHandleTransaction(
+                            creator, recordingStoreFactory, accountStore, tx, null, signatureBatch);
+                    tx.setMetadata(result.withReadKeys(Set.copyOf(readKeys)));
+                } catch (final Exception unexpectedException) {
+                    // If some random exception happened, then we should not charge the node for it. Instead,
+                    // we will just record the exception and try again during handle. Then if we fail again
+                    // at handle, then we will throw away the transaction (hopefully, deterministically!)
+                    logger.error(
+                            "Possibly CATASTROPHIC failure while running the pre-handle workflow", unexpectedException);
+                    tx.setMetadata(unknownFailure());
+                }
+            });
+        } finally {
+            // Always verify, even if pre-handle failed part way, so no future in a result is left incomplete
+            signatureBatch.verify();
+        }
     }
 
     // For each transaction, we will use a background thread to parse the transaction, validate it, lookup the
@@ -163,7 +177,24 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
             @NonNull final ReadableStoreFactory storeFactory,
             @NonNull final ReadableAccountStore accountStore,
             @NonNull final Transaction platformTx,
-            @Nullable PreHandleResult previousResult) {
+            @Nullable final PreHandleResult previousResult) {
+        return preHandleTransaction(creator, storeFactory, accountStore, platformTx, previousResult, null);
+    }
+
+    /**
+     * Pre-handles a single transaction, see {@link #preHandleTransaction(AccountID, ReadableStoreFactory,
+     * ReadableAccountStore, Transaction, PreHandleResult)}.
+     *
+     * @param signatureBatch the batch to add the signatures of the transaction to, or null to verify them right away
+     */
+    @NonNull
+    private PreHandleResult preHandleTransaction(
+            @NonNull final AccountID creator,
+            @NonNull final ReadableStoreFactory storeFactory,
+            @NonNull final ReadableAccountStore accountStore,
+            @NonNull final Transaction platformTx,
+            @Nullable PreHandleResult previousResult,
+            @Nullable final SignatureVerificationBatch signatureBatch) {
         // 0. Ignore the previous result if it was computed using different node configuration
         if (!wasComputedWithCurrentNodeConfiguration(previousResult)) {
             previousResult = null;
@@ -236,7 +267,7 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
         }
 
         // 3. Expand and verify signatures
-        return expandAndVerifySignatures(txInfo, payer, payerAccount, storeFactory, previousResult);
+        return expandAndVerifySignatures(txInfo, payer, payerAccount, storeFactory, previousResult, signatureBatch);
     }
 
     /**
@@ -247,6 +278,7 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
      * @param payerAccount the payer account
      * @param storeFactory the store factory
      * @param previousResult the reusable result
+     * @param signatureBatch the batch to add the signatures to, or null to verify them right away
      * @return the pre-handle result
      */
     private PreHandleResult expandAndVerifySignatures(
@@ -254,7 +286,8 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
             final AccountID payer,
             final Account payerAccount,
             final ReadableStoreFactory storeFactory,
-            @Nullable final PreHandleResult previousResult) {
+            @Nullable final PreHandleResult previousResult,
+            @Nullable final SignatureVerificationBatch signatureBatch) {
         // 1a. Create the PreHandleContext. This will get reused across several calls to the transaction handlers
         final PreHandleContext context;
         final VersionedConfiguration configuration = configProvider.getConfiguration();
@@ -299,14 +332,15 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
             // In that case, the payer will end up paying for the transaction. So we still need to do the signature
             // verifications that we have determined so far.
             logger.debug("Transaction failed pre-check", preCheck);
-            final var results =
-                    verifySignatures(txInfo, context, VerifyOnlyPayerKey.YES, payerIsHollow, previousResult);
+            final var results = verifySignatures(
+                    txInfo, context, VerifyOnlyPayerKey.YES, payerIsHollow, previousResult, signatureBatch);
             return preHandleFailure(
                     payer, payerKey, preCheck.responseCode(), txInfo, Set.of(), Set.of(), Set.of(), results);
         }
 
         // 3. Get the verification results
-        final var results = verifySignatures(txInfo, context, VerifyOnlyPayerKey.NO, payerIsHollow, previousResult);
+        final var results = verifySignatures(
+                txInfo, context, VerifyOnlyPayerKey.NO, payerIsHollow, previousResult, signatureBatch);
 
         // 4. Create and return TransactionMetadata
         return new PreHandleResult(
@@ -347,7 +381,8 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
             @NonNull final PreHandleContext context,
             @NonNull final VerifyOnlyPayerKey onlyPayerKey,
             @NonNull final PayerIsHollow payerIsHollow,
-            @Nullable final PreHandleResult previousResult) {
+            @Nullable final PreHandleResult previousResult,
+            @Nullable final SignatureVerificationBatch signatureBatch) {
         // Maybe we can reuse the previous result's verification results
         if (previousResult != null && previousResult.hasReusableVerificationResultsFor(context)) {
             return previousResult.verificationResults();
@@ -366,7 +401,9 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
             signatureExpander.expand(context.requiredNonPayerKeys(), originals, expanded);
             signatureExpander.expand(context.optionalNonPayerKeys(), originals, expanded);
         }
-        return signatureVerifier.verify(txInfo.signedBytes(), expanded);
+        return signatureBatch == null
+                ? signatureVerifier.verify(txInfo.signedBytes(), expanded)
+                : signatureVerifier.verifyInBatch(txInfo.signedBytes(), expanded, signatureBatch);
     }
 
     // too many parameters
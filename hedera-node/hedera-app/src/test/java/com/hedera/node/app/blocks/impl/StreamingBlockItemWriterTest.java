@@ -0,0 +1,156 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.blocks.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hedera.node.app.blocks.impl.BlockStreamChannel.Frame;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.common.metrics.noop.NoOpMetrics;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class StreamingBlockItemWriterTest {
+    private static final Bytes ITEM = Bytes.wrap(new byte[] {1, 2, 3, 4});
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @Test
+    void writesFramedBlockToChannel() throws InterruptedException {
+        final var channel = new BlockStreamChannel(16, 2, TIMEOUT, new NoOpMetrics());
+        final var writer = new StreamingBlockItemWriter(channel);
+
+        writer.openBlock(7);
+        writer.writeItem(ITEM).writeItem(ITEM);
+        writer.closeBlock();
+
+        assertThat(channel.queueDepth()).isEqualTo(4);
+        assertThat(channel.take()).isEqualTo(new Frame(Frame.Kind.BLOCK_START, 7, null));
+        assertThat(channel.take()).isEqualTo(new Frame(Frame.Kind.ITEM, 7, ITEM));
+        assertThat(channel.take()).isEqualTo(new Frame(Frame.Kind.ITEM, 7, ITEM));
+        assertThat(channel.take()).isEqualTo(new Frame(Frame.Kind.BLOCK_END, 7, null));
+        assertThat(channel.unacknowledgedBlocks()).isEqualTo(1);
+
+        channel.acknowledge(7);
+        assertThat(channel.unacknowledgedBlocks()).isZero();
+        assertThat(channel.lastAcknowledgedBlock()).isEqualTo(7);
+    }
+
+    @Test
+    void rejectsWritesOutsideOpenBlock() {
+        final var writer = new StreamingBlockItemWriter(new BlockStreamChannel(16, 2, TIMEOUT, new NoOpMetrics()));
+
+        assertThatThrownBy(() -> writer.writeItem(ITEM)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(writer::closeBlock).isInstanceOf(IllegalStateException.class);
+
+        writer.openBlock(0);
+        assertThatThrownBy(() -> writer.openBlock(1)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> writer.writeItem(Bytes.EMPTY)).isInstanceOf(IllegalArgumentException.class);
+        writer.closeBlock();
+        assertThatThrownBy(writer::closeBlock).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void failsToStartTooManyBlocksWithoutAcknowledgement() {
+        final var channel = new BlockStreamChannel(16, 1, Duration.ofMillis(50), new NoOpMetrics());
+        final var firstWriter = new StreamingBlockItemWriter(channel);
+        firstWriter.openBlock(0);
+        firstWriter.writeItem(ITEM);
+        firstWriter.closeBlock();
+
+        final var secondWriter = new StreamingBlockItemWriter(channel);
+        assertThatThrownBy(() -> secondWriter.openBlock(1))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("acknowledged");
+        assertThat(channel.unacknowledgedBlocks()).isEqualTo(1);
+
+        // A failed channel does not wait out the timeout again, even once there is room
+        channel.acknowledge(0);
+        assertThatThrownBy(() -> new StreamingBlockItemWriter(channel).openBlock(2))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("not accepting frames");
+    }
+
+    @Test
+    void failsWhenQueueStaysFull() {
+        final var channel = new BlockStreamChannel(2, 1, Duration.ofMillis(50), new NoOpMetrics());
+        final var writer = new StreamingBlockItemWriter(channel);
+        writer.openBlock(0);
+        writer.writeItem(ITEM);
+
+        assertThatThrownBy(() -> writer.writeItem(ITEM))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("queue stayed full");
+    }
+
+    @Test
+    void acknowledgementLetsNextBlockStart() throws Exception {
+        final var channel = new BlockStreamChannel(16, 1, TIMEOUT, new NoOpMetrics());
+        final var firstWriter = new StreamingBlockItemWriter(channel);
+        firstWriter.openBlock(0);
+        firstWriter.writeItem(ITEM);
+        firstWriter.closeBlock();
+
+        final var secondBlockOpened =
+                CompletableFuture.runAsync(() -> new StreamingBlockItemWriter(channel).openBlock(1));
+        channel.acknowledge(0);
+        secondBlockOpened.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        assertThat(channel.unacknowledgedBlocks()).isEqualTo(1);
+    }
+
+    @Test
+    void closedChannelRejectsWrites() {
+        final var channel = new BlockStreamChannel(16, 2, TIMEOUT, new NoOpMetrics());
+        final var blockNode = new LocalBlockNodeSimulator(channel);
+        blockNode.start();
+        blockNode.close();
+
+        assertThatThrownBy(() -> new StreamingBlockItemWriter(channel).openBlock(0))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("closed");
+    }
+
+    @Test
+    void localBlockNodeAcknowledgesEveryBlock() {
+        final var channel = new BlockStreamChannel(4, 2, TIMEOUT, new NoOpMetrics());
+        final var blockNode = new LocalBlockNodeSimulator(channel);
+        blockNode.start();
+        try {
+            for (int blockNumber = 0; blockNumber < 10; blockNumber++) {
+                final var writer = new StreamingBlockItemWriter(channel);
+                writer.openBlock(blockNumber);
+                for (int i = 0; i < 10; i++) {
+                    writer.writeItem(ITEM);
+                }
+                writer.closeBlock();
+            }
+
+            // With at most two blocks unacknowledged, opening two more blocks awaits the acknowledgement of the
+            // last two blocks written
+            new StreamingBlockItemWriter(channel).openBlock(10);
+            new StreamingBlockItemWriter(channel).openBlock(11);
+            assertThat(channel.lastAcknowledgedBlock()).isEqualTo(9);
+            assertThat(blockNode.blocksReceived()).isEqualTo(10);
+            assertThat(blockNode.itemsReceived()).isEqualTo(100);
+            assertThat(blockNode.bytesReceived()).isEqualTo(100 * ITEM.length());
+        } finally {
+            blockNode.close();
+        }
+    }
+}
@@ -25,10 +25,12 @@ import static java.util.Collections.emptySet;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 import com.hedera.node.app.fixtures.AppTestBase;
 import com.hedera.node.app.hapi.utils.MiscCryptoUtils;
@@ -40,7 +42,9 @@ import com.swirlds.common.crypto.Cryptography;
 import com.swirlds.common.crypto.TransactionSignature;
 import com.swirlds.common.crypto.VerificationStatus;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -66,7 +70,7 @@ final class SignatureVerifierImplTest extends AppTestBase implements Scenarios {
     private Cryptography cryptoEngine;
     /** Captures the args sent to the crypto engine. */
     @Captor
-    ArgumentCaptor<TransactionSignature> sigsCaptor;
+    ArgumentCaptor<List<TransactionSignature>> sigsCaptor;
     /** The verifier under test. */
     private SignatureVerifierImpl verifier;
 
@@ -110,6 +114,7 @@ final class SignatureVerifierImplTest extends AppTestBase implements Scenarios {
     void noSignatures() {
         final var result = verifier.verify(signedBytes, emptySet());
         assertThat(result).isEmpty();
+        verifyNoInteractions(cryptoEngine);
     }
 
     /**
@@ -126,14 +131,16 @@ final class SignatureVerifierImplTest extends AppTestBase implements Scenarios {
                 hollowPair(ERIN.keyInfo().publicKey(), ERIN.account()));
 
         //noinspection unchecked
-        doAnswer((Answer<Void>) invocation -> {
-                    final TransactionSignature signature = invocation.getArgument(0);
-                    signature.setSignatureStatus(VerificationStatus.VALID);
-                    signature.setFuture(completedFuture(null));
-                    return null;
+        doAnswer((Answer<Boolean>) invocation -> {
+                    final List<TransactionSignature> signatures = invocation.getArgument(0);
+                    for (final var signature : signatures) {
+                        signature.setSignatureStatus(VerificationStatus.VALID);
+                        signature.setFuture(completedFuture(null));
+                    }
+                    return true;
                 })
                 .when(cryptoEngine)
-                .verifySync(any(TransactionSignature.class));
+                .verifySync(anyList());
 
         // When we verify them
         final var map = verifier.verify(signedBytes, sigs);
@@ -167,9 +174,10 @@ final class SignatureVerifierImplTest extends AppTestBase implements Scenarios {
         // When we verify them
         verifier.verify(signedBytes, sigs, messageType);
 
-        // Then we find the crypto engine was given an array with all the data
-        verify(cryptoEngine, times(3)).verifySync(sigsCaptor.capture());
-        final var txSigs = sigsCaptor.getAllValues();
+        // Then we find the crypto engine was given a single batch, sharing an array with all the data
+        verify(cryptoEngine, times(1)).verifySync(sigsCaptor.capture());
+        final var txSigs = sigsCaptor.getValue();
+        assertThat(txSigs).hasSize(3);
 
         final var itr = sigs.iterator();
         for (int i = 0; i < 3; i++) {
@@ -196,4 +204,66 @@ final class SignatureVerifierImplTest extends AppTestBase implements Scenarios {
                     .isTrue();
         }
     }
+
+    @Test
+    @DisplayName("A batch verifies the signatures of several transactions together")
+    void batchVerifiesSeveralTransactionsTogether() {
+        // Given a crypto engine that successfully finishes every signature check
+        //noinspection unchecked
+        doAnswer((Answer<Boolean>) invocation -> {
+                    final List<TransactionSignature> signatures = invocation.getArgument(0);
+                    for (final var signature : signatures) {
+                        signature.setSignatureStatus(VerificationStatus.VALID);
+                        signature.setFuture(completedFuture(null));
+                    }
+                    return true;
+                })
+                .when(cryptoEngine)
+                .verifySync(anyList());
+
+        // When the signatures of two transactions are added to a batch
+        final var batch = verifier.newBatch();
+        final var first = verifier.verifyInBatch(
+                signedBytes,
+                Set.of(ecdsaPair(ALICE.keyInfo().publicKey()), ed25519Pair(BOB.keyInfo().publicKey())),
+                batch);
+        final var second =
+                verifier.verifyInBatch(randomBytes(32), Set.of(ecdsaPair(CAROL.keyInfo().publicKey())), batch);
+
+        // Then nothing is verified until the batch is
+        verifyNoInteractions(cryptoEngine);
+        assertThat(first.values()).noneMatch(Future::isDone);
+        assertThat(second.values()).noneMatch(Future::isDone);
+
+        // And verifying the batch verifies the signatures of both transactions in one call
+        batch.verify();
+        verify(cryptoEngine, times(1)).verifySync(sigsCaptor.capture());
+        assertThat(sigsCaptor.getValue()).hasSize(3);
+        assertThat(first.values()).allMatch(Future::isDone);
+        assertThat(second.get(CAROL.keyInfo().publicKey()))
+                .succeedsWithin(1, TimeUnit.SECONDS)
+                .extracting("passed")
+                .isEqualTo(true);
+
+        // And the batch cannot be used again
+        assertThatThrownBy(batch::verify).isInstanceOf(IllegalStateException.class);
+        final var late = Set.of(ed25519Pair(BOB.keyInfo().publicKey()));
+        assertThatThrownBy(() -> verifier.verifyInBatch(signedBytes, late, batch))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("A batch completes every future even if the crypto engine fails")
+    void batchCompletesFuturesWhenEngineFails() {
+        doThrow(new IllegalStateException("engine failure")).when(cryptoEngine).verifySync(anyList());
+
+        final var batch = verifier.newBatch();
+        final var futures = verifier.verifyInBatch(signedBytes, Set.of(ed25519Pair(BOB.keyInfo().publicKey())), batch);
+
+        assertThatThrownBy(batch::verify).isInstanceOf(IllegalStateException.class);
+        assertThat(futures.get(BOB.keyInfo().publicKey()))
+                .succeedsWithin(1, TimeUnit.SECONDS)
+                .extracting("passed")
+                .isEqualTo(false);
+    }
 }
@@ -0,0 +1,81 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.state;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+import com.swirlds.state.State;
+import com.swirlds.state.test.fixtures.MapReadableKVState;
+import com.swirlds.state.test.fixtures.MapReadableStates;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class RecordingStateTest {
+    private static final String SERVICE_NAME = "FruitService";
+    private static final String STATE_KEY = "FRUIT";
+
+    @Mock
+    private State delegate;
+
+    @Test
+    void recordsAllReadKeys() {
+        final var readableStates = MapReadableStates.builder()
+                .state(new MapReadableKVState<>(STATE_KEY, Map.of("A", "Apple", "B", "Banana")))
+                .build();
+        given(delegate.getReadableStates(SERVICE_NAME)).willReturn(readableStates);
+        final Set<StateReadKey> readSet = new HashSet<>();
+        final var subject = new RecordingState(delegate, readSet);
+
+        final var kvState = subject.getReadableStates(SERVICE_NAME).<String, String>get(STATE_KEY);
+
+        assertThat(kvState.get("A")).isEqualTo("Apple");
+        assertThat(kvState.contains("C")).isFalse();
+        assertThat(readSet)
+                .containsExactlyInAnyOrder(
+                        new StateReadKey(SERVICE_NAME, STATE_KEY, "A"), new StateReadKey(SERVICE_NAME, STATE_KEY, "C"));
+    }
+
+    @Test
+    void isReadOnly() {
+        final var subject = new RecordingState(delegate, new HashSet<>());
+
+        assertThatThrownBy(() -> subject.getWritableStates(SERVICE_NAME))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void warmOrderGroupsKeysByState() {
+        final var first = new StateReadKey("A", "X", "k");
+        final var second = new StateReadKey("A", "Y", "k");
+        final var third = new StateReadKey("B", "X", "k");
+        final List<StateReadKey> readKeys = new ArrayList<>(List.of(third, second, first));
+
+        readKeys.sort(StateReadKey.WARM_ORDER);
+
+        assertThat(readKeys).containsExactly(first, second, third);
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.state.recordcache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.base.Timestamp;
+import com.hedera.hapi.node.base.TransactionID;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+final class PayerTransactionIdsTest {
+    private static final AccountID PAYER = AccountID.newBuilder().accountNum(1001).build();
+
+    private final PayerTransactionIds subject = new PayerTransactionIds(PAYER);
+
+    @Test
+    void visitsNewestFirstAcrossGrowth() {
+        for (int i = 0; i < 20; i++) {
+            subject.add(transactionID(i));
+        }
+
+        assertThat(newestFirst()).hasSize(20).startsWith(transactionID(19)).endsWith(transactionID(0));
+    }
+
+    @Test
+    void removesOldestInOrder() {
+        for (int i = 0; i < 3; i++) {
+            subject.add(transactionID(i));
+        }
+
+        subject.removeOldest();
+        subject.removeOldest();
+
+        assertThat(newestFirst()).containsExactly(transactionID(2));
+        subject.removeOldest();
+        assertThat(subject.isEmpty()).isTrue();
+        subject.removeOldest();
+        assertThat(subject.isEmpty()).isTrue();
+    }
+
+    @Test
+    void removesArbitraryEntries() {
+        for (int i = 0; i < 3; i++) {
+            subject.add(transactionID(i));
+        }
+
+        subject.remove(transactionID(1));
+        assertThat(newestFirst()).containsExactly(transactionID(2), transactionID(0));
+        subject.remove(transactionID(0));
+        assertThat(newestFirst()).containsExactly(transactionID(2));
+        subject.removeOldest();
+        assertThat(subject.isEmpty()).isTrue();
+    }
+
+    @Test
+    void stopsWhenVisitorReturnsFalse() {
+        for (int i = 0; i < 5; i++) {
+            subject.add(transactionID(i));
+        }
+        final List<TransactionID> visited = new ArrayList<>();
+
+        subject.forEachNewestFirst(transactionID -> {
+            visited.add(transactionID);
+            return visited.size() < 2;
+        });
+
+        assertThat(visited).containsExactly(transactionID(4), transactionID(3));
+    }
+
+    private List<TransactionID> newestFirst() {
+        final List<TransactionID> ids = new ArrayList<>();
+        subject.forEachNewestFirst(ids::add);
+        return ids;
+    }
+
+    private static TransactionID transactionID(final int nanos) {
+        return TransactionID.newBuilder()
+                .transactionValidStart(Timestamp.newBuilder().seconds(1_234_567L).nanos(nanos))
+                .accountID(PAYER)
+                .build();
+    }
+}
@@ -336,6 +336,36 @@ final class TransactionCheckerTest extends AppTestBase {
                     .isInstanceOf(PreCheckException.class)
                     .has(responseCode(TRANSACTION_HAS_UNKNOWN_FIELDS));
         }
+
+        @Test
+        @DisplayName("`parseAndCheck` gives the same result for canonical transactions as parse and check")
+        void parseAndCheckOfCanonicalTransactionMatchesFullParse() throws PreCheckException {
+            // Given a valid serialized transaction in the canonical encoding
+            final var expected = checker.check(checker.parse(inputBuffer), inputBuffer);
+
+            // When we parse and check it in one step
+            final var info = checker.parseAndCheck(inputBuffer);
+
+            // Then the result is the same as with the full parse
+            assertThat(info).isEqualTo(expected);
+            assertThat(info.serializedTransaction()).isSameAs(inputBuffer);
+        }
+
+        @Test
+        @DisplayName("`parseAndCheck` still rejects unknown fields in the transaction body")
+        void parseAndCheckWithUnknownFieldInBody() {
+            // Given a canonical transaction whose body has an unknown field
+            final var localSignedTx = SignedTransaction.newBuilder()
+                    .bodyBytes(appendUnknownField(TransactionBody.PROTOBUF, txBody))
+                    .sigMap(signatureMap)
+                    .build();
+            inputBuffer = Bytes.wrap(asByteArray(txBuilder(localSignedTx).build()));
+
+            // When we parse and check, then the parsing fails because the body has unknown fields
+            assertThatThrownBy(() -> checker.parseAndCheck(inputBuffer))
+                    .isInstanceOf(PreCheckException.class)
+                    .has(responseCode(TRANSACTION_HAS_UNKNOWN_FIELDS));
+        }
     }
 
     /**
@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.workflows;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.base.SignatureMap;
+import com.hedera.hapi.node.base.SignaturePair;
+import com.hedera.hapi.node.base.Transaction;
+import com.hedera.hapi.node.base.TransactionID;
+import com.hedera.hapi.node.transaction.SignedTransaction;
+import com.hedera.hapi.node.transaction.TransactionBody;
+import com.hedera.pbj.runtime.ParseException;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+class TransactionViewTest {
+    private static final TransactionBody BODY = TransactionBody.newBuilder()
+            .transactionID(TransactionID.newBuilder()
+                    .accountID(AccountID.newBuilder().accountNum(1001).build())
+                    .build())
+            .memo("a memo long enough to need more than a single byte for the length of the body bytes field, "
+                    + "which exercises the multi-byte varint decoding of field lengths in the view")
+            .build();
+    private static final SignatureMap SIGNATURE_MAP = SignatureMap.newBuilder()
+            .sigPair(SignaturePair.newBuilder()
+                    .pubKeyPrefix(Bytes.wrap(new byte[] {1, 2, 3}))
+                    .ed25519(Bytes.wrap(new byte[64]))
+                    .build())
+            .build();
+
+    @Test
+    void wrapsCanonicalTransaction() throws ParseException {
+        final var bodyBytes = TransactionBody.PROTOBUF.toBytes(BODY);
+        final var signedTransactionBytes = SignedTransaction.PROTOBUF.toBytes(SignedTransaction.newBuilder()
+                .bodyBytes(bodyBytes)
+                .sigMap(SIGNATURE_MAP)
+                .build());
+        final var transaction = Transaction.newBuilder()
+                .signedTransactionBytes(signedTransactionBytes)
+                .build();
+        final var buffer = Transaction.PROTOBUF.toBytes(transaction);
+
+        final var view = TransactionView.tryWrap(buffer);
+
+        assertThat(view).isNotNull();
+        assertThat(view.buffer()).isSameAs(buffer);
+        assertThat(view.transaction()).isEqualTo(transaction);
+        assertThat(view.signedTransactionBytes()).isEqualTo(signedTransactionBytes);
+        assertThat(view.bodyBytes()).isEqualTo(bodyBytes);
+        assertThat(view.signatureMapBytes()).isEqualTo(SignatureMap.PROTOBUF.toBytes(SIGNATURE_MAP));
+        assertThat(view.body()).isEqualTo(BODY);
+        assertThat(view.body()).isSameAs(view.body());
+    }
+
+    @Test
+    void doesNotWrapDeprecatedEncoding() {
+        final var buffer = Transaction.PROTOBUF.toBytes(Transaction.newBuilder()
+                .bodyBytes(TransactionBody.PROTOBUF.toBytes(BODY))
+                .sigMap(SIGNATURE_MAP)
+                .build());
+
+        assertThat(TransactionView.tryWrap(buffer)).isNull();
+    }
+
+    @Test
+    void doesNotWrapSignedTransactionWithoutSignatureMap() {
+        final var buffer = Transaction.PROTOBUF.toBytes(Transaction.newBuilder()
+                .signedTransactionBytes(SignedTransaction.PROTOBUF.toBytes(SignedTransaction.newBuilder()
+                        .bodyBytes(TransactionBody.PROTOBUF.toBytes(BODY))
+                        .build()))
+                .build());
+
+        assertThat(TransactionView.tryWrap(buffer)).isNull();
+    }
+
+    @Test
+    void doesNotWrapTrailingOrTruncatedBytes() {
+        final var canonical = Transaction.PROTOBUF
+                .toBytes(Transaction.newBuilder()
+                        .signedTransactionBytes(SignedTransaction.PROTOBUF.toBytes(SignedTransaction.newBuilder()
+                                .bodyBytes(TransactionBody.PROTOBUF.toBytes(BODY))
+                                .sigMap(SIGNATURE_MAP)
+                                .build()))
+                        .build())
+                .toByteArray();
+        final var trailing = Arrays.copyOf(canonical, canonical.length + 2);
+        trailing[canonical.length] = (byte) 0b11111000;
+        trailing[canonical.length + 1] = (byte) 0b00001111;
+        final var truncated = Arrays.copyOf(canonical, canonical.length - 1);
+
+        assertThat(TransactionView.tryWrap(Bytes.wrap(trailing))).isNull();
+        assertThat(TransactionView.tryWrap(Bytes.wrap(truncated))).isNull();
+        assertThat(TransactionView.tryWrap(Bytes.EMPTY)).isNull();
+    }
+}
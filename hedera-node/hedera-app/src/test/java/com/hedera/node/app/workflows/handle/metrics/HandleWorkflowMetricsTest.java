@@ -56,7 +56,7 @@ class HandleWorkflowMetricsTest {
 
         // then
         final int transactionMetricsCount = (HederaFunctionality.values().length - 1) * 2;
-        assertThat(metrics.findMetricsByCategory("app")).hasSize(transactionMetricsCount + 1);
+        assertThat(metrics.findMetricsByCategory("app")).hasSize(transactionMetricsCount + 2);
     }
 
     @Test
@@ -170,4 +170,18 @@ class HandleWorkflowMetricsTest {
         assertThat((Double) metrics.getMetric("app", "gasPerConsSec").get(VALUE))
                 .isGreaterThan(0.0);
     }
+
+    @Test
+    void testUpdateCacheWarmHits() {
+        // given
+        final var handleWorkflowMetrics = new HandleWorkflowMetrics(metrics, configProvider);
+
+        // when
+        handleWorkflowMetrics.updateCacheWarmHits(1, 4);
+        handleWorkflowMetrics.updateCacheWarmHits(2, 4);
+
+        // then
+        assertThat((Double) metrics.getMetric("app", "cacheWarmHitRatio").get(VALUE))
+                .isCloseTo(0.375, offset(1e-6));
+    }
 }
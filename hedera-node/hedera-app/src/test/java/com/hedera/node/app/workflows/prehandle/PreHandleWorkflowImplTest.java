@@ -34,6 +34,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -47,6 +48,7 @@ import com.hedera.node.app.service.token.TokenService;
 import com.hedera.node.app.signature.AppKeyVerifier;
 import com.hedera.node.app.signature.DefaultKeyVerifier;
 import com.hedera.node.app.signature.SignatureExpander;
+import com.hedera.node.app.signature.SignatureVerificationBatch;
 import com.hedera.node.app.signature.SignatureVerificationFuture;
 import com.hedera.node.app.signature.SignatureVerifier;
 import com.hedera.node.app.signature.impl.SignatureVerificationImpl;
@@ -105,6 +107,10 @@ final class PreHandleWorkflowImplTest extends AppTestBase implements Scenarios {
     @Mock
     private SignatureVerifier signatureVerifier;
 
+    /** The batch the signatures of an event are collected in, verified once the whole event was pre-handled. */
+    @Mock
+    private SignatureVerificationBatch signatureBatch;
+
     /** We use a mocked {@link SignatureExpander}, so it is easy to fake out expansion of signatures. */
     @Mock
     private SignatureExpander signatureExpander;
@@ -147,6 +153,7 @@ final class PreHandleWorkflowImplTest extends AppTestBase implements Scenarios {
 
         final var config = new VersionedConfigImpl(HederaTestConfigBuilder.createConfig(), DEFAULT_CONFIG_VERSION);
         when(configProvider.getConfiguration()).thenReturn(config);
+        lenient().when(signatureVerifier.newBatch()).thenReturn(signatureBatch);
 
         workflow = new PreHandleWorkflowImpl(
                 dispatcher,
@@ -394,7 +401,7 @@ final class PreHandleWorkflowImplTest extends AppTestBase implements Scenarios {
             final Transaction platformTx = createAppPayloadWrapper(asByteArray(txInfo.transaction()));
             final var key = ALICE.keyInfo().publicKey();
             when(transactionChecker.parseAndCheck(any(Bytes.class))).thenReturn(txInfo);
-            when(signatureVerifier.verify(any(), any())).thenReturn(Map.of(key, sigFuture));
+            when(signatureVerifier.verifyInBatch(any(), any(), any())).thenReturn(Map.of(key, sigFuture));
             when(sigFuture.get(anyLong(), any())).thenReturn(new SignatureVerificationImpl(key, null, false));
 
             // When we pre-handle the transaction
@@ -486,7 +493,7 @@ final class PreHandleWorkflowImplTest extends AppTestBase implements Scenarios {
             final Transaction platformTx = createAppPayloadWrapper(txBytes);
             final var key = ALICE.keyInfo().publicKey();
             when(transactionChecker.parseAndCheck(any(Bytes.class))).thenReturn(txInfo);
-            when(signatureVerifier.verify(any(), any())).thenReturn(Map.of(key, sigFuture));
+            when(signatureVerifier.verifyInBatch(any(), any(), any())).thenReturn(Map.of(key, sigFuture));
             doThrow(new PreCheckException(INVALID_ACCOUNT_AMOUNTS))
                     .when(dispatcher)
                     .dispatchPreHandle(any());
@@ -546,7 +553,7 @@ final class PreHandleWorkflowImplTest extends AppTestBase implements Scenarios {
             when(goodFuture.get(anyLong(), any())).thenReturn(new SignatureVerificationImpl(payerKey, null, true));
             when(badFuture.get(anyLong(), any())).thenReturn(new SignatureVerificationImpl(badKey, null, false));
             when(transactionChecker.parseAndCheck(any(Bytes.class))).thenReturn(txInfo);
-            when(signatureVerifier.verify(any(), any()))
+            when(signatureVerifier.verifyInBatch(any(), any(), any()))
                     .thenReturn(Map.of(
                             payerKey, goodFuture, // Payer check passes
                             badKey, badFuture)); // Sig checks fail
@@ -597,7 +604,7 @@ final class PreHandleWorkflowImplTest extends AppTestBase implements Scenarios {
             final Transaction platformTx = createAppPayloadWrapper(txBytes);
             when(sigFuture.get(anyLong(), any())).thenReturn(new SignatureVerificationImpl(payerKey, null, true));
             when(transactionChecker.parseAndCheck(any(Bytes.class))).thenReturn(txInfo);
-            when(signatureVerifier.verify(any(), any())).thenReturn(Map.of(payerKey, sigFuture));
+            when(signatureVerifier.verifyInBatch(any(), any(), any())).thenReturn(Map.of(payerKey, sigFuture));
 
             // When we pre-handle the transaction
             workflow.preHandle(storeFactory, NODE_1.nodeAccountID(), Stream.of(platformTx));
@@ -614,6 +621,8 @@ final class PreHandleWorkflowImplTest extends AppTestBase implements Scenarios {
             assertThat(result.txInfo()).isNotNull();
             assertThat(result.txInfo()).isSameAs(txInfo);
             assertThat(result.configVersion()).isEqualTo(DEFAULT_CONFIG_VERSION);
+            // And the signatures were verified as part of the event's batch, once the event was pre-handled
+            verify(signatureBatch).verify();
             // And we do see this transaction registered with the deduplication cache
             verify(deduplicationCache).add(txInfo.txBody().transactionIDOrThrow());
         }
@@ -724,7 +733,7 @@ final class PreHandleWorkflowImplTest extends AppTestBase implements Scenarios {
             final var txBytes = asByteArray(txInfo.transaction());
             final Transaction platformTx = createAppPayloadWrapper(txBytes);
             when(transactionChecker.parseAndCheck(any(Bytes.class))).thenReturn(txInfo);
-            when(signatureVerifier.verify(any(), any())).thenReturn(Map.of(finalizedKey, sigFuture));
+            when(signatureVerifier.verifyInBatch(any(), any(), any())).thenReturn(Map.of(finalizedKey, sigFuture));
             when(sigFuture.evmAlias()).thenReturn(hollowAccountAlias);
             when(sigFuture.get(anyLong(), any()))
                     .thenReturn(new SignatureVerificationImpl(finalizedKey, hollowAccountAlias, true));
@@ -765,7 +774,7 @@ final class PreHandleWorkflowImplTest extends AppTestBase implements Scenarios {
             final var txBytes = asByteArray(txInfo.transaction());
             final Transaction platformTx = createAppPayloadWrapper(txBytes);
             when(transactionChecker.parseAndCheck(any(Bytes.class))).thenReturn(txInfo);
-            when(signatureVerifier.verify(any(), any()))
+            when(signatureVerifier.verifyInBatch(any(), any(), any()))
                     .thenReturn(Map.of(payerKey, payerSigFuture, finalizedKey, nonPayerSigFuture));
             when(payerSigFuture.get(anyLong(), any())).thenReturn(new SignatureVerificationImpl(payerKey, null, true));
             when(nonPayerSigFuture.get(anyLong(), any()))
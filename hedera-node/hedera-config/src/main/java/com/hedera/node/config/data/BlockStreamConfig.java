@@ -31,6 +31,10 @@ import com.swirlds.config.api.ConfigProperty;
  * @param writerMode if we are writing to a file or gRPC stream
  * @param blockFileDir directory to store block files
  * @param compressFilesOnCreation whether to compress files on creation
+ * @param roundsPerBlock the number of rounds per block
+ * @param streamQueueCapacity the number of block items that may be queued for a streaming writer before it blocks
+ * @param streamMaxUnackedBlocks the number of blocks a streaming writer may send before they are acknowledged
+ * @param streamSendTimeoutMs how long a streaming writer waits for the block node to catch up before it fails
  */
 @ConfigData("blockStream")
 public record BlockStreamConfig(
@@ -38,7 +42,10 @@ public record BlockStreamConfig(
         @ConfigProperty(defaultValue = "FILE") @NodeProperty BlockStreamWriterMode writerMode,
         @ConfigProperty(defaultValue = "data/block-streams") @NodeProperty String blockFileDir,
         @ConfigProperty(defaultValue = "true") @NetworkProperty boolean compressFilesOnCreation,
-        @ConfigProperty(defaultValue = "1") @NetworkProperty int roundsPerBlock) {
+        @ConfigProperty(defaultValue = "1") @NetworkProperty int roundsPerBlock,
+        @ConfigProperty(defaultValue = "4096") @NodeProperty int streamQueueCapacity,
+        @ConfigProperty(defaultValue = "8") @NodeProperty int streamMaxUnackedBlocks,
+        @ConfigProperty(defaultValue = "30000") @NodeProperty long streamSendTimeoutMs) {
     public boolean streamBlocks() {
         return streamMode == BOTH;
     }
@@ -28,5 +28,10 @@ public enum BlockStreamWriterMode {
     /**
      * Write block streams to files.
      */
-    FILE
+    FILE,
+    /**
+     * Stream block items over a bounded in-process channel to a local block node stand-in, which acknowledges each
+     * block. Used to measure block streaming throughput without depending on files or a real block node.
+     */
+    LOCAL_STREAM
 }
@@ -17,6 +17,8 @@
 package com.swirlds.benchmark;
 
 import com.swirlds.fchashmap.FCHashMap;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.IntStream;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -24,6 +26,7 @@ import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.TearDown;
@@ -36,6 +39,14 @@ import org.openjdk.jmh.annotations.Warmup;
 @Measurement(iterations = 5)
 public class FCHashMapBench extends BaseBench {
 
+    /** Purge released copies on a background thread rather than in release(). */
+    @Param({"false", "true"})
+    public boolean backgroundPurging;
+
+    /** Number of copies that are kept alive while new copies are made, as when a state is being saved. */
+    @Param({"10"})
+    public int longLivedCopies = 10;
+
     String benchmarkName() {
         return "FCHashMapBench";
     }
@@ -45,7 +56,7 @@ public class FCHashMapBench extends BaseBench {
         beforeTest("update");
 
         final long[] map = new long[verify ? maxKey : 0];
-        FCHashMap<BenchmarkKey, BenchmarkValue> fcHashMap = new FCHashMap<>();
+        FCHashMap<BenchmarkKey, BenchmarkValue> fcHashMap = new FCHashMap<>(0, backgroundPurging);
 
         // Update values
         long start = System.currentTimeMillis();
@@ -103,7 +114,7 @@ public class FCHashMapBench extends BaseBench {
         beforeTest("create");
 
         final BenchmarkValue[] map = new BenchmarkValue[verify ? maxKey : 0];
-        FCHashMap<BenchmarkKey, BenchmarkValue> fcHashMap = new FCHashMap<>();
+        FCHashMap<BenchmarkKey, BenchmarkValue> fcHashMap = new FCHashMap<>(0, backgroundPurging);
         System.out.println();
 
         // Write files
@@ -146,6 +157,74 @@ public class FCHashMapBench extends BaseBench {
         afterTest(finalMap::release);
     }
 
+    /**
+     * Update values while the oldest copies are kept alive for a while, as when a state is being saved, then read
+     * from the mutable copy. Mutation chains grow until the long-lived copies are released, so this measures how
+     * quickly purging catches up and how much the longer chains slow down updates and reads.
+     */
+    @Benchmark
+    public void updateWithLongLivedCopies() throws Exception {
+        beforeTest("updateWithLongLivedCopies");
+
+        FCHashMap<BenchmarkKey, BenchmarkValue> fcHashMap = new FCHashMap<>(0, backgroundPurging);
+        final Deque<FCHashMap<BenchmarkKey, BenchmarkValue>> heldCopies = new ArrayDeque<>();
+
+        // Update values, keeping every numFiles / longLivedCopies-th copy alive for longLivedCopies rounds
+        long start = System.currentTimeMillis();
+        long releaseTime = 0;
+        final int holdInterval = Math.max(1, numFiles / longLivedCopies);
+        for (int i = 0; i < numFiles; i++) {
+            for (int j = 0; j < numRecords; ++j) {
+                final BenchmarkKey key = new BenchmarkKey(Utils.randomLong(maxKey));
+                final var modifiableValue = fcHashMap.getForModify(key);
+                final long val = nextValue();
+                if (modifiableValue != null) {
+                    modifiableValue.value().update((l) -> l + val);
+                } else {
+                    fcHashMap.put(key, new BenchmarkValue(val));
+                }
+            }
+
+            final var newCopy = fcHashMap.copy();
+            final long releaseStart = System.nanoTime();
+            if (i % holdInterval == 0) {
+                heldCopies.addLast(fcHashMap);
+                if (heldCopies.size() > longLivedCopies) {
+                    heldCopies.removeFirst().release();
+                }
+            } else {
+                fcHashMap.release();
+            }
+            releaseTime += System.nanoTime() - releaseStart;
+            fcHashMap = newCopy;
+        }
+        System.out.println("Updated " + numFiles + " copies in " + (System.currentTimeMillis() - start)
+                + " ms, releasing copies took " + releaseTime / 1_000_000 + " ms");
+
+        // Read from the mutable copy while the long-lived copies are still alive
+        final var finalMap = fcHashMap;
+        start = System.currentTimeMillis();
+        final AtomicLong total = new AtomicLong(0);
+        IntStream.range(0, numThreads).parallel().forEach(thread -> {
+            long sum = 0;
+            for (int i = 0; i < numRecords; ++i) {
+                final BenchmarkValue value = finalMap.get(new BenchmarkKey(Utils.randomLong(maxKey)));
+                if (value != null) {
+                    sum += value.hashCode();
+                }
+            }
+            total.addAndGet(sum);
+        });
+        System.out.println("Read " + ((long) numRecords * numThreads) + " records from " + numThreads
+                + " threads with " + heldCopies.size() + " long-lived copies in "
+                + (System.currentTimeMillis() - start) + " ms");
+
+        afterTest(() -> {
+            heldCopies.forEach(FCHashMap::release);
+            finalMap.release();
+        });
+    }
+
     /* The map is pre-created on demand, reused between benchmarks/iterations */
     private FCHashMap<BenchmarkKey, BenchmarkValue> fcHashMap;
 
@@ -159,7 +238,7 @@ public class FCHashMapBench extends BaseBench {
 
     private void preCreateMap() {
         if (fcHashMap != null) return;
-        fcHashMap = new FCHashMap<>();
+        fcHashMap = new FCHashMap<>(0, backgroundPurging);
 
         long start = System.currentTimeMillis();
         int count = 0;
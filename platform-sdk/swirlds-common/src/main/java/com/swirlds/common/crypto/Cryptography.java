@@ -123,6 +123,37 @@ public interface Cryptography {
     @NonNull
     byte[] digestBytesSync(@NonNull final byte[] message, @NonNull final DigestType digestType);
 
+    /**
+     * Same as {@link #digestBatchSync(byte[][], DigestType)} with DigestType set to {@link DigestType#SHA_384}
+     */
+    @NonNull
+    default byte[][] digestBatchSync(@NonNull final byte[][] messages) {
+        return digestBatchSync(messages, DEFAULT_DIGEST_TYPE);
+    }
+
+    /**
+     * Computes the cryptographic hashes (message digests) of several messages of the same length in one call, such as
+     * the concatenated child hashes of many internal nodes. This avoids the per-message overhead of
+     * {@link #digestBytesSync(byte[], DigestType)} and allows implementations to hash the messages interleaved.
+     *
+     * @param messages   the messages to be hashed, all of the same length
+     * @param digestType the type of digest used to compute the hashes
+     * @return the cryptographic hashes of the messages, in the order of the messages
+     * @throws IllegalArgumentException if the messages are not all of the same length
+     * @throws CryptographyException    if an unrecoverable error occurs while computing the digests
+     */
+    @NonNull
+    default byte[][] digestBatchSync(@NonNull final byte[][] messages, @NonNull final DigestType digestType) {
+        final byte[][] digests = new byte[messages.length][];
+        for (int i = 0; i < messages.length; i++) {
+            if (messages[i].length != messages[0].length) {
+                throw new IllegalArgumentException("all messages of a batch must have the same length");
+            }
+            digests[i] = digestBytesSync(messages[i], digestType);
+        }
+        return digests;
+    }
+
     /**
      * @return the hash for a null value. Uses SHA_384.
      */
@@ -36,4 +36,16 @@ public final class CryptographyFactory {
     public static Cryptography create() {
         return new CryptoEngine();
     }
+
+    /**
+     * Creates a new {@link Cryptography} instance.
+     *
+     * @param multiBufferDigest if true then {@link Cryptography#digestBatchSync(byte[][], DigestType)} computes SHA-384
+     *                          digests several messages at a time instead of using the JCA provider
+     * @return a new {@link Cryptography} instance
+     */
+    @NonNull
+    public static Cryptography create(final boolean multiBufferDigest) {
+        return new CryptoEngine(multiBufferDigest);
+    }
 }
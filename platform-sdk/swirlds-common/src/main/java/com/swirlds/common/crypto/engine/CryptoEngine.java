@@ -80,10 +80,28 @@ public class CryptoEngine implements Cryptography {
      */
     private Map<DigestType, Hash> nullHashes;
 
+    /**
+     * If true then batches of SHA-384 digests are computed by {@link Sha384MultiBuffer}, otherwise by the JCA
+     * provider.
+     */
+    private final boolean multiBufferDigest;
+
     /**
      * Constructor.
      */
     public CryptoEngine() {
+        this(false);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param multiBufferDigest if true then batches of SHA-384 digests are computed several messages at a time by a
+     *                          pure Java implementation, otherwise one message at a time by the JCA provider. The JCA
+     *                          provider is usually faster where the JVM has an intrinsic for SHA-512.
+     */
+    public CryptoEngine(final boolean multiBufferDigest) {
+        this.multiBufferDigest = multiBufferDigest;
         this.digestProvider = new DigestProvider();
 
         this.ed25519VerificationProvider = new Ed25519VerificationProvider();
@@ -165,6 +183,27 @@ public class CryptoEngine implements Cryptography {
         return digestSyncInternal(message, digestType, digestProvider);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    public byte[][] digestBatchSync(@NonNull final byte[][] messages, @NonNull final DigestType digestType) {
+        for (final byte[] message : messages) {
+            if (message.length != messages[0].length) {
+                throw new IllegalArgumentException("all messages of a batch must have the same length");
+            }
+        }
+        if (multiBufferDigest && digestType == DigestType.SHA_384 && messages.length > 1) {
+            return Sha384MultiBuffer.digest(messages);
+        }
+        try {
+            return digestProvider.computeBatch(messages, digestType);
+        } catch (final NoSuchAlgorithmException ex) {
+            throw new CryptographyException(ex, LogMarker.EXCEPTION);
+        }
+    }
+
     /**
      * Compute and store hash for null using different digest types.
      */
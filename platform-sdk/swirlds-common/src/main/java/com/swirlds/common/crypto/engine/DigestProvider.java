@@ -69,6 +69,28 @@ public class DigestProvider extends CachingOperationProvider<Message, Void, byte
         return compute(msg, 0, msg.length, algorithmType);
     }
 
+    /**
+     * Computes the message digests of several messages, reusing the same algorithm instance for all of them.
+     *
+     * @param messages
+     * 		the messages for which to compute message digests
+     * @param algorithmType
+     * 		the required algorithm to be used when computing the message digests
+     * @return the message digests as arrays of the raw bytes, in the order of the messages
+     * @throws NoSuchAlgorithmException
+     * 		if an implementation of the required algorithm cannot be located or loaded
+     */
+    protected @NonNull byte[][] computeBatch(
+            @NonNull final byte[][] messages, @NonNull final DigestType algorithmType)
+            throws NoSuchAlgorithmException {
+        final MessageDigest algorithm = loadAlgorithm(algorithmType);
+        final byte[][] digests = new byte[messages.length][];
+        for (int i = 0; i < messages.length; i++) {
+            digests[i] = compute(algorithm, messages[i], 0, messages[i].length);
+        }
+        return digests;
+    }
+
     /**
      * Computes the result of the cryptographic transformation using the given subset of bytes from the provided
      * message.  This implementation defaults to an SHA-384 message digest and is provided for convenience.
@@ -0,0 +1,247 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.crypto.engine;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Arrays;
+
+/**
+ * A pure Java SHA-384 implementation that hashes two messages of the same length at a time. The rounds of both
+ * messages are interleaved, so a superscalar CPU can work on one message while the other waits for the result of a
+ * dependent instruction. Since the messages have the same length they have the same padding and number of blocks, so
+ * both lanes always run in lockstep.
+ * <p>
+ * Where the JVM has an intrinsic for SHA-512, which SHA-384 is a truncation of, the JCA provider is usually faster
+ * than this class.
+ */
+final class Sha384MultiBuffer {
+
+    static final int DIGEST_LENGTH = 48;
+    private static final int BLOCK_LENGTH = 128;
+    private static final int LENGTH_FIELD_LENGTH = 16;
+    private static final int ROUNDS = 80;
+
+    private static final long[] K = {
+        0x428a2f98d728ae22L, 0x7137449123ef65cdL, 0xb5c0fbcfec4d3b2fL, 0xe9b5dba58189dbbcL, 0x3956c25bf348b538L,
+        0x59f111f1b605d019L, 0x923f82a4af194f9bL, 0xab1c5ed5da6d8118L, 0xd807aa98a3030242L, 0x12835b0145706fbeL,
+        0x243185be4ee4b28cL, 0x550c7dc3d5ffb4e2L, 0x72be5d74f27b896fL, 0x80deb1fe3b1696b1L, 0x9bdc06a725c71235L,
+        0xc19bf174cf692694L, 0xe49b69c19ef14ad2L, 0xefbe4786384f25e3L, 0x0fc19dc68b8cd5b5L, 0x240ca1cc77ac9c65L,
+        0x2de92c6f592b0275L, 0x4a7484aa6ea6e483L, 0x5cb0a9dcbd41fbd4L, 0x76f988da831153b5L, 0x983e5152ee66dfabL,
+        0xa831c66d2db43210L, 0xb00327c898fb213fL, 0xbf597fc7beef0ee4L, 0xc6e00bf33da88fc2L, 0xd5a79147930aa725L,
+        0x06ca6351e003826fL, 0x142929670a0e6e70L, 0x27b70a8546d22ffcL, 0x2e1b21385c26c926L, 0x4d2c6dfc5ac42aedL,
+        0x53380d139d95b3dfL, 0x650a73548baf63deL, 0x766a0abb3c77b2a8L, 0x81c2c92e47edaee6L, 0x92722c851482353bL,
+        0xa2bfe8a14cf10364L, 0xa81a664bbc423001L, 0xc24b8b70d0f89791L, 0xc76c51a30654be30L, 0xd192e819d6ef5218L,
+        0xd69906245565a910L, 0xf40e35855771202aL, 0x106aa07032bbd1b8L, 0x19a4c116b8d2d0c8L, 0x1e376c085141ab53L,
+        0x2748774cdf8eeb99L, 0x34b0bcb5e19b48a8L, 0x391c0cb3c5c95a63L, 0x4ed8aa4ae3418acbL, 0x5b9cca4f7763e373L,
+        0x682e6ff3d6b2b8a3L, 0x748f82ee5defb2fcL, 0x78a5636f43172f60L, 0x84c87814a1f0ab72L, 0x8cc702081a6439ecL,
+        0x90befffa23631e28L, 0xa4506cebde82bde9L, 0xbef9a3f7b2c67915L, 0xc67178f2e372532bL, 0xca273eceea26619cL,
+        0xd186b8c721c0c207L, 0xeada7dd6cde0eb1eL, 0xf57d4f7fee6ed178L, 0x06f067aa72176fbaL, 0x0a637dc5a2c898a6L,
+        0x113f9804bef90daeL, 0x1b710b35131c471bL, 0x28db77f523047d84L, 0x32caab7b40c72493L, 0x3c9ebe0a15c9bebcL,
+        0x431d67c49c100d4cL, 0x4cc5d4becb3e42b6L, 0x597f299cfc657e2aL, 0x5fcb6fab3ad6faecL, 0x6c44198c4a475817L
+    };
+
+    private static final long[] INITIAL_STATE = {
+        0xcbbb9d5dc1059ed8L, 0x629a292a367cd507L, 0x9159015a3070dd17L, 0x152fecd8f70e5939L,
+        0x67332667ffc00b31L, 0x8eb44a8768581511L, 0xdb0c2e0d64f98fa7L, 0x47b5481dbefa4fa4L
+    };
+
+    private Sha384MultiBuffer() {}
+
+    /**
+     * Computes the SHA-384 digests of several messages of the same length.
+     *
+     * @param messages the messages, all of the same length
+     * @return the digests, in the order of the messages
+     * @throws IllegalArgumentException if the messages are not all of the same length
+     */
+    @NonNull
+    static byte[][] digest(@NonNull final byte[][] messages) {
+        final byte[][] digests = new byte[messages.length][];
+        if (messages.length == 0) {
+            return digests;
+        }
+        final int length = messages[0].length;
+        final int paddedLength = paddedLength(length);
+        final byte[] padded0 = new byte[paddedLength];
+        final byte[] padded1 = new byte[paddedLength];
+        final long[] w0 = new long[ROUNDS];
+        final long[] w1 = new long[ROUNDS];
+        final long[] state0 = new long[INITIAL_STATE.length];
+        final long[] state1 = new long[INITIAL_STATE.length];
+
+        int index = 0;
+        for (; index + 1 < messages.length; index += 2) {
+            pad(messages[index], length, padded0);
+            pad(messages[index + 1], length, padded1);
+            System.arraycopy(INITIAL_STATE, 0, state0, 0, INITIAL_STATE.length);
+            System.arraycopy(INITIAL_STATE, 0, state1, 0, INITIAL_STATE.length);
+            for (int offset = 0; offset < paddedLength; offset += BLOCK_LENGTH) {
+                compress(padded0, padded1, offset, w0, w1, state0, state1);
+            }
+            digests[index] = toDigest(state0);
+            digests[index + 1] = toDigest(state1);
+        }
+        if (index < messages.length) {
+            // an odd message out is hashed in both lanes
+            pad(messages[index], length, padded0);
+            System.arraycopy(INITIAL_STATE, 0, state0, 0, INITIAL_STATE.length);
+            System.arraycopy(INITIAL_STATE, 0, state1, 0, INITIAL_STATE.length);
+            for (int offset = 0; offset < paddedLength; offset += BLOCK_LENGTH) {
+                compress(padded0, padded0, offset, w0, w1, state0, state1);
+            }
+            digests[index] = toDigest(state0);
+        }
+        return digests;
+    }
+
+    /**
+     * Returns the length of a message of the given length after padding, a multiple of the block length.
+     */
+    private static int paddedLength(final int length) {
+        return (length + 1 + LENGTH_FIELD_LENGTH + BLOCK_LENGTH - 1) / BLOCK_LENGTH * BLOCK_LENGTH;
+    }
+
+    /**
+     * Copies the message into the padded array and appends the padding: a single 1 bit, zeros and the length of the
+     * message in bits.
+     */
+    private static void pad(final byte[] message, final int length, final byte[] padded) {
+        if (message.length != length) {
+            throw new IllegalArgumentException("all messages must have the same length");
+        }
+        System.arraycopy(message, 0, padded, 0, length);
+        padded[length] = (byte) 0x80;
+        final int lengthOffset = padded.length - 8;
+        Arrays.fill(padded, length + 1, lengthOffset, (byte) 0);
+        final long bits = (long) length << 3;
+        for (int i = 0; i < 8; i++) {
+            padded[lengthOffset + i] = (byte) (bits >>> (56 - 8 * i));
+        }
+    }
+
+    private static long readLong(final byte[] bytes, final int offset) {
+        return ((long) bytes[offset] << 56)
+                | ((bytes[offset + 1] & 0xFFL) << 48)
+                | ((bytes[offset + 2] & 0xFFL) << 40)
+                | ((bytes[offset + 3] & 0xFFL) << 32)
+                | ((bytes[offset + 4] & 0xFFL) << 24)
+                | ((bytes[offset + 5] & 0xFFL) << 16)
+                | ((bytes[offset + 6] & 0xFFL) << 8)
+                | (bytes[offset + 7] & 0xFFL);
+    }
+
+    private static byte[] toDigest(final long[] state) {
+        final byte[] digest = new byte[DIGEST_LENGTH];
+        for (int i = 0; i < DIGEST_LENGTH; i++) {
+            digest[i] = (byte) (state[i >>> 3] >>> (56 - 8 * (i & 7)));
+        }
+        return digest;
+    }
+
+    /**
+     * Processes one block of each message, updating the states of both lanes.
+     */
+    private static void compress(
+            final byte[] block0,
+            final byte[] block1,
+            final int offset,
+            final long[] w0,
+            final long[] w1,
+            final long[] state0,
+            final long[] state1) {
+        for (int t = 0; t < 16; t++) {
+            w0[t] = readLong(block0, offset + 8 * t);
+            w1[t] = readLong(block1, offset + 8 * t);
+        }
+        for (int t = 16; t < ROUNDS; t++) {
+            w0[t] = sigma1(w0[t - 2]) + w0[t - 7] + sigma0(w0[t - 15]) + w0[t - 16];
+            w1[t] = sigma1(w1[t - 2]) + w1[t - 7] + sigma0(w1[t - 15]) + w1[t - 16];
+        }
+
+        long a0 = state0[0];
+        long b0 = state0[1];
+        long c0 = state0[2];
+        long d0 = state0[3];
+        long e0 = state0[4];
+        long f0 = state0[5];
+        long g0 = state0[6];
+        long h0 = state0[7];
+        long a1 = state1[0];
+        long b1 = state1[1];
+        long c1 = state1[2];
+        long d1 = state1[3];
+        long e1 = state1[4];
+        long f1 = state1[5];
+        long g1 = state1[6];
+        long h1 = state1[7];
+        for (int t = 0; t < ROUNDS; t++) {
+            final long k = K[t];
+            final long t10 = h0 + bigSigma1(e0) + ((e0 & f0) ^ (~e0 & g0)) + k + w0[t];
+            final long t11 = h1 + bigSigma1(e1) + ((e1 & f1) ^ (~e1 & g1)) + k + w1[t];
+            final long t20 = bigSigma0(a0) + ((a0 & b0) ^ (a0 & c0) ^ (b0 & c0));
+            final long t21 = bigSigma0(a1) + ((a1 & b1) ^ (a1 & c1) ^ (b1 & c1));
+            h0 = g0;
+            g0 = f0;
+            f0 = e0;
+            e0 = d0 + t10;
+            d0 = c0;
+            c0 = b0;
+            b0 = a0;
+            a0 = t10 + t20;
+            h1 = g1;
+            g1 = f1;
+            f1 = e1;
+            e1 = d1 + t11;
+            d1 = c1;
+            c1 = b1;
+            b1 = a1;
+            a1 = t11 + t21;
+        }
+        state0[0] += a0;
+        state0[1] += b0;
+        state0[2] += c0;
+        state0[3] += d0;
+        state0[4] += e0;
+        state0[5] += f0;
+        state0[6] += g0;
+        state0[7] += h0;
+        state1[0] += a1;
+        state1[1] += b1;
+        state1[2] += c1;
+        state1[3] += d1;
+        state1[4] += e1;
+        state1[5] += f1;
+        state1[6] += g1;
+        state1[7] += h1;
+    }
+
+    private static long bigSigma0(final long x) {
+        return Long.rotateRight(x, 28) ^ Long.rotateRight(x, 34) ^ Long.rotateRight(x, 39);
+    }
+
+    private static long bigSigma1(final long x) {
+        return Long.rotateRight(x, 14) ^ Long.rotateRight(x, 18) ^ Long.rotateRight(x, 41);
+    }
+
+    private static long sigma0(final long x) {
+        return Long.rotateRight(x, 1) ^ Long.rotateRight(x, 8) ^ (x >>> 7);
+    }
+
+    private static long sigma1(final long x) {
+        return Long.rotateRight(x, 19) ^ Long.rotateRight(x, 61) ^ (x >>> 6);
+    }
+}
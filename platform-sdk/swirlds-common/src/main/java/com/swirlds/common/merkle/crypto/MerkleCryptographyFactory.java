@@ -16,8 +16,6 @@
 
 package com.swirlds.common.merkle.crypto;
 
-import static com.swirlds.common.threading.manager.AdHocThreadManager.getStaticThreadManager;
-
 import com.swirlds.common.crypto.Cryptography;
 import com.swirlds.common.crypto.config.CryptoConfig;
 import com.swirlds.common.merkle.crypto.internal.MerkleCryptoEngine;
@@ -41,7 +39,6 @@ public final class MerkleCryptographyFactory {
     @NonNull
     public static MerkleCryptography create(
             @NonNull final Configuration configuration, @NonNull final Cryptography cryptography) {
-        return new MerkleCryptoEngine(
-                getStaticThreadManager(), cryptography, configuration.getConfigData(CryptoConfig.class));
+        return new MerkleCryptoEngine(cryptography, configuration.getConfigData(CryptoConfig.class));
     }
 }
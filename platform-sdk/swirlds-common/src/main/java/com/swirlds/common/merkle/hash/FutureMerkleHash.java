@@ -18,6 +18,7 @@ package com.swirlds.common.merkle.hash;
 
 import com.swirlds.common.crypto.Hash;
 import com.swirlds.common.merkle.MerkleNode;
+import java.time.Duration;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
@@ -31,6 +32,7 @@ public class FutureMerkleHash implements Future<Hash> {
 
     private volatile Hash hash;
     private volatile Throwable exception;
+    private volatile Duration hashingTime = Duration.ZERO;
     private final CountDownLatch latch;
 
     /**
@@ -119,4 +121,25 @@ public class FutureMerkleHash implements Future<Hash> {
             latch.countDown();
         }
     }
+
+    /**
+     * Record how long the task that hashed the tree spent hashing it. Must be called before {@link #set(Hash)}, so
+     * that it is visible to any thread that has waited for the hash.
+     *
+     * @param hashingTime
+     * 		the time spent hashing the tree
+     */
+    public void setHashingTime(final Duration hashingTime) {
+        this.hashingTime = hashingTime;
+    }
+
+    /**
+     * Get how long the task that hashed the tree spent hashing it, not counting the time the task waited for a
+     * thread. Only meaningful once the hash is available.
+     *
+     * @return the time spent hashing the tree, or {@link Duration#ZERO} if it has not been recorded
+     */
+    public Duration getHashingTime() {
+        return hashingTime;
+    }
 }
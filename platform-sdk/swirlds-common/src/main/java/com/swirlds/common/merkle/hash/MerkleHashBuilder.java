@@ -17,36 +17,46 @@
 package com.swirlds.common.merkle.hash;
 
 import static com.swirlds.common.crypto.engine.CryptoEngine.THREAD_COMPONENT_NAME;
-import static com.swirlds.common.merkle.iterators.MerkleIterationOrder.POST_ORDERED_DEPTH_FIRST_RANDOM;
 import static com.swirlds.common.merkle.utility.MerkleConstants.MERKLE_DIGEST_TYPE;
 import static com.swirlds.logging.legacy.LogMarker.EXCEPTION;
 
+import com.swirlds.common.concurrent.internal.DefaultForkJoinWorkerThreadFactory;
 import com.swirlds.common.crypto.Cryptography;
 import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.merkle.MerkleInternal;
+import com.swirlds.common.merkle.MerkleLeaf;
 import com.swirlds.common.merkle.MerkleNode;
 import com.swirlds.common.merkle.crypto.MerkleCryptography;
-import com.swirlds.common.merkle.iterators.MerkleIterator;
-import com.swirlds.common.threading.framework.config.ThreadConfiguration;
 import com.swirlds.common.threading.futures.StandardFuture;
-import com.swirlds.common.threading.manager.ThreadManager;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.Future;
-import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.RecursiveAction;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 /**
  * This class is responsible for hashing a merkle tree.
+ * <p>
+ * Asynchronous hashing runs on a fork/join pool. The subtree below every internal node is split into one task per
+ * internal child, which idle threads of the pool can steal, while the leaf children are hashed in one batch by the
+ * task of their parent. Self hashing nodes, such as virtual maps, get a task of their own so that their siblings are
+ * hashed while they are.
  */
 public class MerkleHashBuilder {
     private static final Logger logger = LogManager.getLogger(MerkleHashBuilder.class);
 
-    private final Executor threadPool;
+    /**
+     * If a thread has more than this many tasks queued that no other thread has stolen yet, it hashes the subtrees of
+     * internal children itself instead of creating more tasks.
+     */
+    private static final int SURPLUS_TASK_THRESHOLD = 3;
 
-    private final int cpuThreadCount;
+    private final ForkJoinPool hashingPool;
 
     private final MerkleCryptography merkleCryptography;
 
@@ -55,33 +65,31 @@ public class MerkleHashBuilder {
     /**
      * Construct an object which calculates the hash of a merkle tree.
      *
-     * @param threadManager
-     * 		responsible for managing thread lifecycles
+     * @param merkleCryptography
+     * 		the {@link MerkleCryptography} used to hash individual nodes
      * @param cryptography
      * 		the {@link Cryptography} implementation to use
      * @param cpuThreadCount
-     * 		the number of threads to be used for computing hash
+     * 		the parallelism of the pool used for computing hash
      */
     public MerkleHashBuilder(
-            final ThreadManager threadManager,
-            final MerkleCryptography merkleCryptography,
-            final Cryptography cryptography,
-            final int cpuThreadCount) {
+            final MerkleCryptography merkleCryptography, final Cryptography cryptography, final int cpuThreadCount) {
         this.merkleCryptography = merkleCryptography;
         this.cryptography = cryptography;
-        this.cpuThreadCount = cpuThreadCount;
-
-        final ThreadFactory threadFactory = new ThreadConfiguration(threadManager)
-                .setDaemon(true)
-                .setComponent(THREAD_COMPONENT_NAME)
-                .setThreadName("merkle hash")
-                .setPriority(Thread.NORM_PRIORITY)
-                .setExceptionHandler((t, ex) -> {
-                    logger.error(EXCEPTION.getMarker(), "Uncaught exception in MerkleHashBuilder thread pool", ex);
-                })
-                .buildFactory();
-
-        this.threadPool = Executors.newFixedThreadPool(cpuThreadCount, threadFactory);
+
+        final DefaultForkJoinWorkerThreadFactory threadFactory = new DefaultForkJoinWorkerThreadFactory(
+                new ThreadGroup(THREAD_COMPONENT_NAME),
+                DefaultForkJoinWorkerThreadFactory.createThreadNameFactory("merkle hash"),
+                null);
+
+        // a thread manager can not create fork/join workers, so the pool creates its own. They are daemon threads, the
+        // pool is never shut down
+        this.hashingPool = new ForkJoinPool(
+                cpuThreadCount,
+                threadFactory,
+                (t, ex) -> logger.error(
+                        EXCEPTION.getMarker(), "Uncaught exception in MerkleHashBuilder thread pool", ex),
+                false);
     }
 
     /**
@@ -125,7 +133,7 @@ public class MerkleHashBuilder {
         final Iterator<MerkleNode> iterator = root.treeIterator()
                 .setFilter(MerkleHashBuilder::filter)
                 .setDescendantFilter(MerkleHashBuilder::descendantFilter);
-        hashSubtree(iterator, null);
+        hashSubtree(iterator);
         return root.getHash();
     }
 
@@ -139,70 +147,42 @@ public class MerkleHashBuilder {
     public Future<Hash> digestTreeAsync(MerkleNode root) {
         if (root == null) {
             return new StandardFuture<>(cryptography.getNullHash(MERKLE_DIGEST_TYPE));
-        } else if (root.getHash() != null) {
+        } else if (!root.isSelfHashing() && root.getHash() != null) {
             return new StandardFuture<>(root.getHash());
         } else {
+            // a self hashing root computes its hash when asked for it, which is done by the pool, not by the caller
             final FutureMerkleHash result = new FutureMerkleHash();
-            AtomicInteger activeThreadCount = new AtomicInteger(cpuThreadCount);
-            for (int threadIndex = 0; threadIndex < cpuThreadCount; threadIndex++) {
-                threadPool.execute(createHashingRunnable(threadIndex, activeThreadCount, result, root));
-            }
+            hashingPool.execute(() -> {
+                final long start = System.nanoTime();
+                try {
+                    if (root.isSelfHashing()) {
+                        root.getHash();
+                    } else if (root.isLeaf()) {
+                        hashLeaf(root.asLeaf());
+                    } else {
+                        new InternalHashTask(root.asInternal()).invoke();
+                    }
+                    final Hash hash = root.getHash();
+                    result.setHashingTime(Duration.ofNanos(System.nanoTime() - start));
+                    result.set(hash);
+                } catch (final Throwable t) {
+                    result.cancelWithException(t);
+                }
+            });
             return result;
         }
     }
 
-    /**
-     * Create a thread that will attempt to hash the tree starting at the root.
-     *
-     * @param threadId
-     * 		Used to generate a randomized iteration order
-     */
-    private Runnable createHashingRunnable(
-            final int threadId, AtomicInteger activeThreadCount, final FutureMerkleHash result, final MerkleNode root) {
-
-        return () -> {
-            final MerkleIterator<MerkleNode> it = root.treeIterator()
-                    .setFilter(MerkleHashBuilder::filter)
-                    .setDescendantFilter(MerkleHashBuilder::descendantFilter);
-            if (threadId > 0) {
-                // One thread can iterate in-order, all others will use random order.
-                it.setOrder(POST_ORDERED_DEPTH_FIRST_RANDOM);
-            }
-
-            try {
-                hashSubtree(it, activeThreadCount);
-
-                // The last thread to terminate is responsible for setting the future
-                int remainingActiveThreads = activeThreadCount.getAndDecrement() - 1;
-                if (remainingActiveThreads == 0) {
-                    result.set(root.getHash());
-                }
-            } catch (final Throwable t) {
-                result.cancelWithException(t);
-            }
-        };
-    }
-
     /**
      * The root of a merkle tree.
      *
      * @param it
      * 		An iterator that walks through the tree.
-     * @param activeThreadCount
-     * 		If single threaded then this is null, otherwise contains the number of threads
-     * 		that are actively hashing. Once the active thread count dips below the maximum,
-     * 		this means that one thread has either finished or exploded.
      */
-    private void hashSubtree(final Iterator<MerkleNode> it, final AtomicInteger activeThreadCount) {
+    private void hashSubtree(final Iterator<MerkleNode> it) {
         while (it.hasNext()) {
             final MerkleNode node = it.next();
-            // Potential optimization: if this node is currently locked, do not wait here. Skip it and continue.
-            // This would require a lock object that support the "try lock" paradigm.
             synchronized (node) {
-                if (activeThreadCount != null && activeThreadCount.get() != cpuThreadCount) {
-                    break;
-                }
-
                 if (node.getHash() != null) {
                     continue;
                 }
@@ -215,4 +195,117 @@ public class MerkleHashBuilder {
             }
         }
     }
+
+    /**
+     * Hash a leaf unless it already has a hash.
+     *
+     * @param leaf
+     * 		the leaf to hash
+     */
+    private void hashLeaf(final MerkleLeaf leaf) {
+        synchronized (leaf) {
+            if (leaf.getHash() == null) {
+                merkleCryptography.digestSync(leaf, MERKLE_DIGEST_TYPE);
+            }
+        }
+    }
+
+    /**
+     * Hash an internal node whose children all have a hash, unless it already has a hash.
+     *
+     * @param node
+     * 		the internal node to hash
+     */
+    private void hashInternal(final MerkleInternal node) {
+        synchronized (node) {
+            if (node.getHash() == null) {
+                merkleCryptography.digestSync(node, MERKLE_DIGEST_TYPE);
+            }
+        }
+    }
+
+    /**
+     * Hashes the subtree below an internal node that does not have a hash yet, and then the node itself.
+     */
+    private final class InternalHashTask extends RecursiveAction {
+
+        private final MerkleInternal node;
+
+        InternalHashTask(final MerkleInternal node) {
+            this.node = node;
+        }
+
+        @Override
+        protected void compute() {
+            List<ForkJoinTask<?>> subtasks = null;
+            for (int childIndex = 0; childIndex < node.getNumberOfChildren(); childIndex++) {
+                final MerkleNode child = node.getChild(childIndex);
+                if (!filter(child)) {
+                    continue;
+                }
+
+                final ForkJoinTask<?> subtask;
+                if (child.isSelfHashing()) {
+                    subtask = new SelfHashingTask(child);
+                } else if (child.isLeaf()) {
+                    hashLeaf(child.asLeaf());
+                    continue;
+                } else if (getSurplusQueuedTaskCount() > SURPLUS_TASK_THRESHOLD) {
+                    new InternalHashTask(child.asInternal()).compute();
+                    continue;
+                } else {
+                    subtask = new InternalHashTask(child.asInternal());
+                }
+
+                if (subtasks == null) {
+                    subtasks = new ArrayList<>();
+                }
+                subtasks.add(subtask.fork());
+            }
+
+            if (subtasks != null) {
+                // join the most recently forked tasks first, these are the ones most likely not to have been stolen
+                for (int index = subtasks.size() - 1; index >= 0; index--) {
+                    subtasks.get(index).join();
+                }
+            }
+            hashInternal(node);
+        }
+    }
+
+    /**
+     * Hashes a self hashing node. The thread may block until the node is hashed, e.g. by the hasher of a virtual map,
+     * so the pool is allowed to start another thread to keep its parallelism in the meantime.
+     */
+    private static final class SelfHashingTask extends RecursiveAction implements ForkJoinPool.ManagedBlocker {
+
+        private final MerkleNode node;
+        private volatile boolean hashed;
+
+        SelfHashingTask(final MerkleNode node) {
+            this.node = node;
+        }
+
+        @Override
+        protected void compute() {
+            try {
+                ForkJoinPool.managedBlock(this);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("interrupted while hashing a self hashing node", e);
+            }
+        }
+
+        @Override
+        public boolean block() {
+            node.getHash();
+            hashed = true;
+            return true;
+        }
+
+        @Override
+        public boolean isReleasable() {
+            return hashed;
+        }
+    }
 }
@@ -0,0 +1,210 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.metrics;
+
+import static com.swirlds.metrics.api.Metric.ValueType.MAX;
+import static com.swirlds.metrics.api.Metric.ValueType.P50;
+import static com.swirlds.metrics.api.Metric.ValueType.P90;
+import static com.swirlds.metrics.api.Metric.ValueType.P99;
+import static com.swirlds.metrics.api.Metric.ValueType.P999;
+import static com.swirlds.metrics.api.Metric.ValueType.VALUE;
+
+import com.swirlds.metrics.api.FloatFormats;
+import com.swirlds.metrics.api.Metric;
+import com.swirlds.metrics.api.MetricType;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.EnumSet;
+
+/**
+ * A histogram records the distribution of non-negative long values, e.g. latencies in nanoseconds. Values are counted
+ * in logarithmic buckets of fixed size, so recording a value never allocates and never blocks, and the memory used by
+ * the histogram does not depend on the number or the range of the recorded values.
+ * <p>
+ * The mean, maximum and percentiles reported by a histogram cover the values recorded since the last snapshot, while
+ * {@link #getCount()} and {@link #getSum()} are cumulative. {@link #getSnapshotCount()} and {@link #getSnapshotSum()}
+ * are the cumulative values as of the last snapshot, taken together with the percentiles of that snapshot.
+ */
+public interface HistogramMetric extends Metric {
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    default MetricType getMetricType() {
+        return MetricType.HISTOGRAM;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    default DataType getDataType() {
+        return DataType.FLOAT;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    default EnumSet<ValueType> getValueTypes() {
+        return EnumSet.of(VALUE, MAX, P50, P90, P99, P999);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    Double get(@NonNull final ValueType valueType);
+
+    /**
+     * Record a value. Negative values are recorded as {@code 0}.
+     *
+     * @param value the value to record
+     */
+    void update(final long value);
+
+    /**
+     * Get the total number of values that have been recorded.
+     *
+     * @return the number of recorded values
+     */
+    long getCount();
+
+    /**
+     * Get the sum of all values that have been recorded.
+     *
+     * @return the sum of the recorded values
+     */
+    long getSum();
+
+    /**
+     * Get the total number of values that had been recorded when the last snapshot was taken. Unlike
+     * {@link #getCount()}, this matches the percentiles of that snapshot, even if values are recorded after it.
+     *
+     * @return the number of values recorded up to the last snapshot
+     */
+    long getSnapshotCount();
+
+    /**
+     * Get the sum of all values that had been recorded when the last snapshot was taken. Unlike {@link #getSum()},
+     * this matches the percentiles of that snapshot, even if values are recorded after it.
+     *
+     * @return the sum of the values recorded up to the last snapshot
+     */
+    long getSnapshotSum();
+
+    /**
+     * Get a percentile of the values recorded since the last snapshot. The result is the highest value that is
+     * equivalent to the requested percentile at the precision of the histogram.
+     *
+     * @param percentile the percentile, between {@code 0} and {@code 100}
+     * @return the value at the given percentile, or {@code 0} if no values were recorded
+     * @throws IllegalArgumentException if {@code percentile} is not between {@code 0} and {@code 100}
+     */
+    double getPercentile(final double percentile);
+
+    /**
+     * Configuration of a {@link HistogramMetric}
+     */
+    final class Config extends PlatformMetricConfig<HistogramMetric, Config> {
+
+        /**
+         * Constructor of {@code HistogramMetric.Config}
+         *
+         * @param category the kind of metric (stats are grouped or filtered by this)
+         * @param name     a short name for the statistic
+         * @throws NullPointerException     if one of the parameters is {@code null}
+         * @throws IllegalArgumentException if one of the parameters consists only of whitespaces
+         */
+        public Config(@NonNull final String category, @NonNull final String name) {
+            super(category, name, FloatFormats.FORMAT_11_3);
+        }
+
+        /**
+         * Constructor of {@code HistogramMetric.Config}
+         *
+         * @param category    the kind of metric (stats are grouped or filtered by this)
+         * @param name        a short name for the statistic
+         * @param description metric description
+         * @param unit        metric unit
+         * @param format      metric format
+         * @throws NullPointerException     if one of the parameters is {@code null}
+         * @throws IllegalArgumentException if one of the parameters consists only of whitespaces
+         */
+        private Config(
+                @NonNull final String category,
+                @NonNull final String name,
+                @NonNull final String description,
+                @NonNull final String unit,
+                @NonNull final String format) {
+            super(category, name, description, unit, format);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @NonNull
+        @Override
+        public HistogramMetric.Config withDescription(@NonNull final String description) {
+            return new HistogramMetric.Config(getCategory(), getName(), description, getUnit(), getFormat());
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @NonNull
+        @Override
+        public HistogramMetric.Config withUnit(@NonNull final String unit) {
+            return new HistogramMetric.Config(getCategory(), getName(), getDescription(), unit, getFormat());
+        }
+
+        /**
+         * Sets the {@link Metric#getFormat() Metric.format} in fluent style.
+         *
+         * @param format the format-string
+         * @return a new configuration-object with updated {@code format}
+         * @throws NullPointerException     if one of the parameters is {@code null}
+         * @throws IllegalArgumentException if one of the parameters consists only of whitespaces
+         */
+        @NonNull
+        public HistogramMetric.Config withFormat(@NonNull final String format) {
+            return new HistogramMetric.Config(getCategory(), getName(), getDescription(), getUnit(), format);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @NonNull
+        @Override
+        public Class<HistogramMetric> getResultClass() {
+            return HistogramMetric.class;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        @NonNull
+        public HistogramMetric create(@NonNull final PlatformMetricsFactory factory) {
+            return factory.createHistogramMetric(this);
+        }
+    }
+}
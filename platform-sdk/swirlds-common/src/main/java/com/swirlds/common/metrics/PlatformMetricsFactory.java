@@ -46,6 +46,15 @@ public interface PlatformMetricsFactory extends MetricsFactory {
      */
     <T> FunctionGauge<T> createFunctionGauge(final FunctionGauge.Config<T> config);
 
+    /**
+     * Creates a {@link HistogramMetric}
+     *
+     * @param config the configuration
+     * @return the new {@code HistogramMetric}
+     * @throws IllegalArgumentException if {@code config} is {@code null}
+     */
+    HistogramMetric createHistogramMetric(final HistogramMetric.Config config);
+
     /**
      * Creates a {@link IntegerPairAccumulator}
      *
@@ -44,6 +44,9 @@ import java.time.Duration;
  *         the file name to be used for Metrics document generation
  * @param halfLife
  * 		   half life of some of the various statistics (give half the weight to the last halfLife seconds)
+ * @param accumulationPeriod
+ *         the period for which updates of speedometers and running averages are accumulated without locking before
+ *         they are added to the statistics. {@code 0} adds every update immediately.
  */
 @ConfigData("metrics")
 public record MetricsConfig(
@@ -54,7 +57,8 @@ public record MetricsConfig(
         @ConfigProperty(defaultValue = "false") boolean csvAppend,
         @Min(0) @ConfigProperty(defaultValue = "3000") int csvWriteFrequency,
         @ConfigProperty(defaultValue = "metricsDoc.tsv") String metricsDocFileName,
-        @ConfigProperty(defaultValue = "10") double halfLife) {
+        @ConfigProperty(defaultValue = "10") double halfLife,
+        @ConfigProperty(defaultValue = "1ms") Duration accumulationPeriod) {
 
     /**
      * Returns the metrics update interval time as a {@link Duration}.
@@ -18,6 +18,7 @@ package com.swirlds.common.metrics.noop.internal;
 
 import com.swirlds.common.metrics.DurationGauge;
 import com.swirlds.common.metrics.FunctionGauge;
+import com.swirlds.common.metrics.HistogramMetric;
 import com.swirlds.common.metrics.IntegerPairAccumulator;
 import com.swirlds.common.metrics.PlatformMetricsFactory;
 import com.swirlds.common.metrics.RunningAverageMetric;
@@ -77,6 +78,14 @@ public class NoOpMetricsFactory implements PlatformMetricsFactory {
         return new NoOpFunctionGauge<>(config, config.getSupplier().get());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NonNull HistogramMetric createHistogramMetric(final @NonNull HistogramMetric.Config config) {
+        return new NoOpHistogramMetric(config);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -47,6 +47,12 @@ public abstract class AbstractDistributionMetric extends AbstractMetric implemen
      */
     public abstract double get();
 
+    /**
+     * Folds the updates that have been accumulated since the last fold into the statistics of this {@code Metric}.
+     * This is done whenever the metric is read, and periodically by the metrics update service.
+     */
+    abstract void fold();
+
     /**
      * Getter of the {@code halfLife}
      *
@@ -63,6 +69,7 @@ public abstract class AbstractDistributionMetric extends AbstractMetric implemen
     @Override
     public Double get(@NonNull final ValueType valueType) {
         Objects.requireNonNull(valueType, "valueType must not be null");
+        fold();
         return switch (valueType) {
             case VALUE -> get();
             case MAX -> getStatsBuffered().getMax();
@@ -78,6 +85,7 @@ public abstract class AbstractDistributionMetric extends AbstractMetric implemen
     @NonNull
     @Override
     public List<SnapshotEntry> takeSnapshot() {
+        fold();
         final StatsBuffered statsBuffered = getStatsBuffered();
         return List.of(
                 new SnapshotEntry(ValueType.VALUE, get()),
@@ -91,6 +99,7 @@ public abstract class AbstractDistributionMetric extends AbstractMetric implemen
      */
     @Override
     public void reset() {
+        fold();
         getStatsBuffered().reset(halfLife);
     }
 }
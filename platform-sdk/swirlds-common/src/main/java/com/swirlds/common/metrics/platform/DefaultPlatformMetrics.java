@@ -108,6 +108,21 @@ public class DefaultPlatformMetrics implements PlatformMetrics {
         this.updateService = metricsConfig.metricsUpdatePeriodMillis() <= 0
                 ? null
                 : new MetricsUpdateService(executor, metricsConfig.metricsUpdatePeriodMillis(), TimeUnit.MILLISECONDS);
+        if (updateService != null) {
+            updateService.addUpdater(this::foldDistributionMetrics);
+        }
+    }
+
+    /**
+     * Fold the accumulated updates of all speedometers and running averages, so their values decay and their history
+     * is recorded even if they are not read.
+     */
+    private void foldDistributionMetrics() {
+        for (final Metric metric : metricMap.values()) {
+            if (metric instanceof final AbstractDistributionMetric distributionMetric) {
+                distributionMetric.fold();
+            }
+        }
     }
 
     /**
@@ -27,6 +27,7 @@ import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
 import com.swirlds.base.utility.Pair;
 import com.swirlds.base.utility.ToStringBuilder;
 import com.swirlds.common.config.BasicCommonConfig;
+import com.swirlds.common.metrics.HistogramMetric;
 import com.swirlds.common.metrics.config.MetricsConfig;
 import com.swirlds.common.platform.NodeId;
 import com.swirlds.common.utility.ThresholdLimitingHandler;
@@ -190,7 +191,9 @@ public class LegacyCsvWriter {
 
     private boolean showAllEntries(@NonNull final Metric metric) {
         Objects.requireNonNull(metric, "metric is null");
-        return basicConfig.verboseStatistics() && !metric.getCategory().contains(EXCLUDE_CATEGORY);
+        // the percentiles are the reason to use a histogram, so they are written even without verbose statistics
+        return (basicConfig.verboseStatistics() || metric instanceof HistogramMetric)
+                && !metric.getCategory().contains(EXCLUDE_CATEGORY);
     }
 
     // Add two rows, one with all categories, the other with all names
@@ -225,6 +228,10 @@ public class LegacyCsvWriter {
                 case MAX -> names.add(metric.getName() + "Max");
                 case MIN -> names.add(metric.getName() + "Min");
                 case STD_DEV -> names.add(metric.getName() + "Std");
+                case P50 -> names.add(metric.getName() + "P50");
+                case P90 -> names.add(metric.getName() + "P90");
+                case P99 -> names.add(metric.getName() + "P99");
+                case P999 -> names.add(metric.getName() + "P999");
                 default -> names.add(metric.getName());
             }
         }
@@ -0,0 +1,313 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.metrics.platform;
+
+import com.swirlds.base.utility.ToStringBuilder;
+import com.swirlds.common.metrics.HistogramMetric;
+import com.swirlds.common.metrics.PlatformMetric;
+import com.swirlds.metrics.api.snapshot.Snapshot.SnapshotEntry;
+import com.swirlds.metrics.impl.AbstractMetric;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Platform-implementation of {@link HistogramMetric}.
+ * <p>
+ * Values are counted in buckets that grow exponentially: every power of two is split into {@value #SUB_BUCKET_COUNT}
+ * linear sub-buckets, so the relative error of a reported value is at most {@code 1/}{@value #SUB_BUCKET_COUNT}. The
+ * full range of {@code long} values is covered by {@value #BUCKET_COUNT} buckets. Recording a value increments a
+ * single bucket and two {@link LongAdder}s, it never allocates and never takes a lock.
+ * <p>
+ * The buckets are cumulative. A snapshot reports the difference to the buckets seen by the previous snapshot.
+ */
+public class PlatformHistogramMetric extends AbstractMetric implements HistogramMetric, PlatformMetric {
+
+    /**
+     * The number of bits of a value that are used to find the sub-bucket within a power of two.
+     */
+    private static final int SUB_BUCKET_BITS = 4;
+
+    /**
+     * The number of sub-buckets each power of two is split into.
+     */
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * The total number of buckets. Values below {@link #SUB_BUCKET_COUNT} have one bucket each, every larger power of
+     * two up to {@code 2^62} gets {@link #SUB_BUCKET_COUNT} buckets.
+     */
+    private static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (Long.SIZE - 1 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+
+    /**
+     * The bucket counts at the time of the last snapshot, guarded by {@code this}.
+     */
+    private final long[] previousBuckets = new long[BUCKET_COUNT];
+
+    /**
+     * The sum at the time of the last snapshot, guarded by {@code this}.
+     */
+    private long previousSum;
+
+    /**
+     * The number of values counted by the buckets at the time of the last snapshot, guarded by {@code this}.
+     */
+    private long previousCount;
+
+    /**
+     * Constructs a new PlatformHistogramMetric with the given configuration.
+     *
+     * @param config the configuration for this histogram
+     */
+    public PlatformHistogramMetric(@NonNull final HistogramMetric.Config config) {
+        super(config);
+    }
+
+    /**
+     * Get the index of the bucket that counts the given value.
+     *
+     * @param value the value, must not be negative
+     * @return the index of the bucket
+     */
+    static int bucketIndex(final long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        final int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        final int shift = exponent - SUB_BUCKET_BITS;
+        final int subBucket = (int) (value >>> shift) & (SUB_BUCKET_COUNT - 1);
+        return SUB_BUCKET_COUNT + shift * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    /**
+     * Get the highest value that is counted by the bucket with the given index.
+     *
+     * @param index the index of the bucket
+     * @return the highest value of the bucket
+     */
+    static long highestEquivalentValue(final int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        final int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_COUNT;
+        final long subBucket = (index - SUB_BUCKET_COUNT) % SUB_BUCKET_COUNT;
+        final long lowestValue = (SUB_BUCKET_COUNT + subBucket) << shift;
+        return lowestValue + (1L << shift) - 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update(final long value) {
+        final long sanitized = Math.max(0, value);
+        buckets.incrementAndGet(bucketIndex(sanitized));
+        count.increment();
+        sum.add(sanitized);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getSum() {
+        return sum.sum();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized long getSnapshotCount() {
+        return previousCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized long getSnapshotSum() {
+        return previousSum;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized double getPercentile(final double percentile) {
+        return percentile(intervalBuckets(), percentile);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    public synchronized Double get(@NonNull final ValueType valueType) {
+        Objects.requireNonNull(valueType, "valueType must not be null");
+        final long[] interval = intervalBuckets();
+        return switch (valueType) {
+            case VALUE -> mean(interval, getSum() - previousSum);
+            case MAX -> max(interval);
+            case P50 -> percentile(interval, 50.0);
+            case P90 -> percentile(interval, 90.0);
+            case P99 -> percentile(interval, 99.0);
+            case P999 -> percentile(interval, 99.9);
+            default -> throw new IllegalArgumentException("Unsupported ValueType: " + valueType);
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    public synchronized List<SnapshotEntry> takeSnapshot() {
+        final long currentSum = getSum();
+        final long[] interval = intervalBuckets();
+        final List<SnapshotEntry> entries = List.of(
+                new SnapshotEntry(ValueType.VALUE, mean(interval, currentSum - previousSum)),
+                new SnapshotEntry(ValueType.MAX, max(interval)),
+                new SnapshotEntry(ValueType.P50, percentile(interval, 50.0)),
+                new SnapshotEntry(ValueType.P90, percentile(interval, 90.0)),
+                new SnapshotEntry(ValueType.P99, percentile(interval, 99.0)),
+                new SnapshotEntry(ValueType.P999, percentile(interval, 99.9)));
+        advance(interval, currentSum);
+        return entries;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void reset() {
+        advance(intervalBuckets(), getSum());
+    }
+
+    /**
+     * Get the number of values each bucket has counted since the last snapshot.
+     *
+     * @return the bucket counts of the current interval
+     */
+    @NonNull
+    private long[] intervalBuckets() {
+        final long[] interval = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            interval[i] = buckets.get(i) - previousBuckets[i];
+        }
+        return interval;
+    }
+
+    /**
+     * Start a new interval.
+     *
+     * @param interval   the bucket counts of the interval that ends
+     * @param currentSum the sum at the end of the interval
+     */
+    private void advance(@NonNull final long[] interval, final long currentSum) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            previousBuckets[i] += interval[i];
+            previousCount += interval[i];
+        }
+        previousSum = currentSum;
+    }
+
+    /**
+     * Calculate the mean of an interval.
+     *
+     * @param interval    the bucket counts of the interval
+     * @param intervalSum the sum of the values recorded during the interval
+     * @return the mean, or {@code 0} if no values were recorded
+     */
+    private static double mean(@NonNull final long[] interval, final long intervalSum) {
+        long total = 0;
+        for (final long bucketCount : interval) {
+            total += bucketCount;
+        }
+        return total == 0 ? 0.0 : (double) intervalSum / total;
+    }
+
+    /**
+     * Find the maximum of an interval.
+     *
+     * @param interval the bucket counts of the interval
+     * @return the highest value equivalent to the largest recorded value, or {@code 0} if no values were recorded
+     */
+    private static double max(@NonNull final long[] interval) {
+        for (int i = BUCKET_COUNT - 1; i >= 0; i--) {
+            if (interval[i] > 0) {
+                return highestEquivalentValue(i);
+            }
+        }
+        return 0.0;
+    }
+
+    /**
+     * Find a percentile of an interval.
+     *
+     * @param interval   the bucket counts of the interval
+     * @param percentile the percentile, between {@code 0} and {@code 100}
+     * @return the highest value equivalent to the percentile, or {@code 0} if no values were recorded
+     */
+    private static double percentile(@NonNull final long[] interval, final double percentile) {
+        if (percentile < 0.0 || percentile > 100.0) {
+            throw new IllegalArgumentException("percentile must be between 0 and 100, but is " + percentile);
+        }
+        long total = 0;
+        for (final long bucketCount : interval) {
+            total += bucketCount;
+        }
+        if (total == 0) {
+            return 0.0;
+        }
+        final long rank = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += interval[i];
+            if (seen >= rank) {
+                return highestEquivalentValue(i);
+            }
+        }
+        return max(interval);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .appendSuper(super.toString())
+                .append("count", getCount())
+                .append("sum", getSum())
+                .toString();
+    }
+}
@@ -18,6 +18,7 @@ package com.swirlds.common.metrics.platform;
 
 import com.swirlds.common.metrics.DurationGauge;
 import com.swirlds.common.metrics.FunctionGauge;
+import com.swirlds.common.metrics.HistogramMetric;
 import com.swirlds.common.metrics.IntegerPairAccumulator;
 import com.swirlds.common.metrics.PlatformMetricsFactory;
 import com.swirlds.common.metrics.RunningAverageMetric;
@@ -86,6 +87,14 @@ public class PlatformMetricsFactoryImpl implements PlatformMetricsFactory {
         return new PlatformFunctionGauge<>(config);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public HistogramMetric createHistogramMetric(final HistogramMetric.Config config) {
+        return new PlatformHistogramMetric(config);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -132,9 +141,10 @@ public class PlatformMetricsFactoryImpl implements PlatformMetricsFactory {
     @Override
     public RunningAverageMetric createRunningAverageMetric(final RunningAverageMetric.Config config) {
         if (config.isUseDefaultHalfLife()) {
-            return new PlatformRunningAverageMetric(config.withHalfLife(metricsConfig.halfLife()));
+            return new PlatformRunningAverageMetric(
+                    config.withHalfLife(metricsConfig.halfLife()), metricsConfig.accumulationPeriod());
         }
-        return new PlatformRunningAverageMetric(config);
+        return new PlatformRunningAverageMetric(config, metricsConfig.accumulationPeriod());
     }
 
     /**
@@ -143,9 +153,10 @@ public class PlatformMetricsFactoryImpl implements PlatformMetricsFactory {
     @Override
     public SpeedometerMetric createSpeedometerMetric(final SpeedometerMetric.Config config) {
         if (config.isUseDefaultHalfLife()) {
-            return new PlatformSpeedometerMetric(config.withHalfLife(metricsConfig.halfLife()));
+            return new PlatformSpeedometerMetric(
+                    config.withHalfLife(metricsConfig.halfLife()), metricsConfig.accumulationPeriod());
         }
-        return new PlatformSpeedometerMetric(config);
+        return new PlatformSpeedometerMetric(config, metricsConfig.accumulationPeriod());
     }
 
     /**
@@ -22,9 +22,13 @@ import com.swirlds.common.metrics.RunningAverageMetric;
 import com.swirlds.common.metrics.statistics.StatsBuffered;
 import com.swirlds.common.metrics.statistics.StatsRunningAverage;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.time.Duration;
 
 /**
  * Platform-implementation of {@link RunningAverageMetric}
+ * <p>
+ * Updates are accumulated without locking for a short period before they are added to the running average, see
+ * {@link StripedAccumulator}.
  */
 @SuppressWarnings("unused")
 public class PlatformRunningAverageMetric extends AbstractDistributionMetric implements RunningAverageMetric {
@@ -32,6 +36,8 @@ public class PlatformRunningAverageMetric extends AbstractDistributionMetric imp
     @SuppressWarnings("removal")
     private final @NonNull StatsRunningAverage runningAverage;
 
+    private final @NonNull StripedAccumulator accumulator;
+
     /**
      * Constructs a new PlatformRunningAverageMetric with the given configuration.
      * @param config the configuration for this running average
@@ -40,13 +46,35 @@ public class PlatformRunningAverageMetric extends AbstractDistributionMetric imp
         this(config, Time.getCurrent());
     }
 
+    /**
+     * Constructs a new PlatformRunningAverageMetric with the given configuration that accumulates updates for the
+     * given period before adding them to the running average.
+     *
+     * @param config             the configuration for this running average
+     * @param accumulationPeriod the period to accumulate updates for, {@link Duration#ZERO} to add every update
+     *                           immediately
+     */
+    public PlatformRunningAverageMetric(
+            @NonNull final RunningAverageMetric.Config config, @NonNull final Duration accumulationPeriod) {
+        this(config, Time.getCurrent(), accumulationPeriod);
+    }
+
     /**
      * This constructor should only be used for testing.
      */
-    @SuppressWarnings("removal")
     public PlatformRunningAverageMetric(final RunningAverageMetric.Config config, final Time time) {
+        this(config, time, Duration.ZERO);
+    }
+
+    /**
+     * This constructor should only be used for testing.
+     */
+    @SuppressWarnings("removal")
+    public PlatformRunningAverageMetric(
+            final RunningAverageMetric.Config config, final Time time, final Duration accumulationPeriod) {
         super(config, config.getHalfLife());
         this.runningAverage = new StatsRunningAverage(halfLife, time);
+        this.accumulator = new StripedAccumulator(time, accumulationPeriod.toNanos(), runningAverage::recordValues);
     }
 
     /**
@@ -62,10 +90,21 @@ public class PlatformRunningAverageMetric extends AbstractDistributionMetric imp
     /**
      * {@inheritDoc}
      */
-    @SuppressWarnings("removal")
     @Override
     public void update(final double value) {
-        runningAverage.recordValue(value);
+        if (Double.isNaN(value)) {
+            // NaN would spoil the sum of all values accumulated with it
+            return;
+        }
+        accumulator.add(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    void fold() {
+        accumulator.fold();
     }
 
     /**
@@ -74,6 +113,7 @@ public class PlatformRunningAverageMetric extends AbstractDistributionMetric imp
     @SuppressWarnings("removal")
     @Override
     public double get() {
+        fold();
         return runningAverage.getWeightedMean();
     }
 
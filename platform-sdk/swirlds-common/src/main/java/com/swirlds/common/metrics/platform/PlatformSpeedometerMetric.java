@@ -22,15 +22,21 @@ import com.swirlds.common.metrics.SpeedometerMetric;
 import com.swirlds.common.metrics.statistics.StatsBuffered;
 import com.swirlds.common.metrics.statistics.StatsSpeedometer;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.time.Duration;
 
 /**
  * Platform-implementation of {@link SpeedometerMetric}
+ * <p>
+ * Updates are accumulated without locking for a short period before they are added to the speedometer, see
+ * {@link StripedAccumulator}.
  */
 public class PlatformSpeedometerMetric extends AbstractDistributionMetric implements SpeedometerMetric {
 
     @SuppressWarnings("removal")
     private final StatsSpeedometer speedometer;
 
+    private final StripedAccumulator accumulator;
+
     /**
      * Constructs a new PlatformSpeedometerMetric with the given configuration.
      * @param config the configuration for this speedometer
@@ -39,13 +45,36 @@ public class PlatformSpeedometerMetric extends AbstractDistributionMetric implem
         this(config, Time.getCurrent());
     }
 
+    /**
+     * Constructs a new PlatformSpeedometerMetric with the given configuration that accumulates updates for the given
+     * period before adding them to the speedometer.
+     *
+     * @param config             the configuration for this speedometer
+     * @param accumulationPeriod the period to accumulate updates for, {@link Duration#ZERO} to add every update
+     *                           immediately
+     */
+    public PlatformSpeedometerMetric(
+            @NonNull final SpeedometerMetric.Config config, @NonNull final Duration accumulationPeriod) {
+        this(config, Time.getCurrent(), accumulationPeriod);
+    }
+
     /**
      * This constructor should only be used for testing.
      */
-    @SuppressWarnings("removal")
     public PlatformSpeedometerMetric(final SpeedometerMetric.Config config, final Time time) {
+        this(config, time, Duration.ZERO);
+    }
+
+    /**
+     * This constructor should only be used for testing.
+     */
+    @SuppressWarnings("removal")
+    public PlatformSpeedometerMetric(
+            final SpeedometerMetric.Config config, final Time time, final Duration accumulationPeriod) {
         super(config, config.getHalfLife());
         this.speedometer = new StatsSpeedometer(halfLife, time);
+        this.accumulator = new StripedAccumulator(
+                time, accumulationPeriod.toNanos(), (sum, count, nanoTime) -> speedometer.update(sum, nanoTime));
     }
 
     /**
@@ -61,10 +90,17 @@ public class PlatformSpeedometerMetric extends AbstractDistributionMetric implem
     /**
      * {@inheritDoc}
      */
-    @SuppressWarnings("removal")
     @Override
     public void update(final double value) {
-        speedometer.update(value);
+        accumulator.add(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    void fold() {
+        accumulator.fold();
     }
 
     /**
@@ -81,6 +117,7 @@ public class PlatformSpeedometerMetric extends AbstractDistributionMetric implem
     @SuppressWarnings("removal")
     @Override
     public double get() {
+        fold();
         return speedometer.getCyclesPerSecond();
     }
 
@@ -0,0 +1,195 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.metrics.platform;
+
+import com.swirlds.base.time.Time;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Accumulates the updates of a distribution metric without taking a lock, and hands them to a {@link Folder} in
+ * batches.
+ * <p>
+ * Updates are added to striped adders of the current bucket. A bucket is open for the accumulation period, starting
+ * with its first update, and is folded once it has expired, when {@link #fold()} is called, or when the metric is read.
+ * All updates of a bucket are folded as if they happened at the time of the first update, so the error is bounded by
+ * the accumulation period. If the accumulation period is {@code 0}, every update is folded immediately while holding
+ * the lock, which is the behavior of the metrics before updates were accumulated.
+ * <p>
+ * An update that races with a fold may find that its bucket was retired while it was being added. In that case the
+ * updating thread folds the remainder of the bucket itself, so no update is ever lost. The value and the count of
+ * such an update may end up in consecutive folds.
+ */
+final class StripedAccumulator {
+
+    /**
+     * Receives the accumulated updates. Calls are serialized, and the times passed are never decreasing.
+     */
+    @FunctionalInterface
+    interface Folder {
+
+        /**
+         * Fold a batch of updates.
+         *
+         * @param sum      the sum of the values of the updates
+         * @param count    the number of updates
+         * @param nanoTime the time of the updates
+         */
+        void fold(double sum, long count, long nanoTime);
+    }
+
+    /**
+     * A set of updates that are folded together.
+     */
+    private static final class Bucket {
+        private final long startNanos;
+        private final DoubleAdder sum = new DoubleAdder();
+        private final LongAdder count = new LongAdder();
+
+        private Bucket(final long startNanos) {
+            this.startNanos = startNanos;
+        }
+    }
+
+    private final Time time;
+    private final long periodNanos;
+    private final Folder folder;
+    private final AtomicReference<Bucket> current;
+
+    /**
+     * The time of the last fold, guarded by {@code this}.
+     */
+    private long lastFoldNanos = Long.MIN_VALUE;
+
+    /**
+     * Constructor.
+     *
+     * @param time        the time source, must be the same as the one used by the folded statistics
+     * @param periodNanos the accumulation period in nanoseconds, {@code 0} to fold every update immediately
+     * @param folder      receives the accumulated updates
+     * @throws IllegalArgumentException if {@code periodNanos} is negative
+     */
+    StripedAccumulator(@NonNull final Time time, final long periodNanos, @NonNull final Folder folder) {
+        if (periodNanos < 0) {
+            throw new IllegalArgumentException("periodNanos must not be negative: " + periodNanos);
+        }
+        this.time = Objects.requireNonNull(time, "time must not be null");
+        this.periodNanos = periodNanos;
+        this.folder = Objects.requireNonNull(folder, "folder must not be null");
+        this.current = new AtomicReference<>(expiredBucket(time.nanoTime()));
+    }
+
+    /**
+     * Add an update.
+     *
+     * @param value the value of the update
+     */
+    void add(final double value) {
+        if (periodNanos == 0) {
+            synchronized (this) {
+                foldAt(value, 1, time.nanoTime());
+            }
+            return;
+        }
+
+        final long now = time.nanoTime();
+        Bucket bucket = current.get();
+        if (now - bucket.startNanos >= periodNanos) {
+            bucket = roll(now);
+        }
+        // the value has to be added before the count, see drain()
+        bucket.sum.add(value);
+        bucket.count.increment();
+        if (current.get() != bucket) {
+            // the bucket was retired concurrently, the update may have been missed by the fold
+            synchronized (this) {
+                drain(bucket);
+            }
+        }
+    }
+
+    /**
+     * Fold all updates that have been added so far.
+     */
+    synchronized void fold() {
+        drain(current.getAndSet(expiredBucket(time.nanoTime())));
+    }
+
+    /**
+     * Replace the current bucket with a new one starting at the given time, if it has expired.
+     *
+     * @param now the current time
+     * @return the bucket to add updates to
+     */
+    @NonNull
+    private synchronized Bucket roll(final long now) {
+        final Bucket bucket = current.get();
+        if (now - bucket.startNanos < periodNanos) {
+            // another thread rolled the bucket already
+            return bucket;
+        }
+        final Bucket next = new Bucket(now);
+        current.set(next);
+        drain(bucket);
+        return next;
+    }
+
+    /**
+     * Fold the updates of a bucket that is no longer current. Must be called while holding the lock.
+     *
+     * @param bucket the bucket
+     */
+    private void drain(@NonNull final Bucket bucket) {
+        // the count has to be taken before the value, so every update that is counted has its value included
+        final long count = bucket.count.sumThenReset();
+        final double sum = bucket.sum.sumThenReset();
+        if (count == 0) {
+            if (sum != 0) {
+                // an update is in progress, the updating thread will find the bucket retired and drain it again
+                bucket.sum.add(sum);
+            }
+            return;
+        }
+        foldAt(sum, count, bucket.startNanos);
+    }
+
+    /**
+     * Pass updates to the folder, making sure the time never decreases. Must be called while holding the lock.
+     *
+     * @param sum      the sum of the values
+     * @param count    the number of updates
+     * @param nanoTime the time of the updates
+     */
+    private void foldAt(final double sum, final long count, final long nanoTime) {
+        lastFoldNanos = Math.max(lastFoldNanos, nanoTime);
+        folder.fold(sum, count, lastFoldNanos);
+    }
+
+    /**
+     * Create a bucket that is expired already, so the next update starts a new bucket at its own time.
+     *
+     * @param now the current time
+     * @return the bucket
+     */
+    @NonNull
+    private Bucket expiredBucket(final long now) {
+        return new Bucket(now - periodNanos);
+    }
+}
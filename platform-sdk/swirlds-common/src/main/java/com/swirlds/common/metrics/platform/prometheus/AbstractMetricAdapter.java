@@ -69,6 +69,34 @@ public abstract class AbstractMetricAdapter implements MetricAdapter {
         return values.assignTo(collectorBuilder);
     }
 
+    /**
+     * Get the full Prometheus name of the adapted metric, following the same naming rules as {@link SimpleCollector}.
+     * This is needed by adapters that implement their own {@link io.prometheus.client.Collector}.
+     *
+     * @return the full name of the metric
+     */
+    protected final @NonNull String getFullName() {
+        return values.fullName();
+    }
+
+    /**
+     * Get the Prometheus unit of the adapted metric.
+     *
+     * @return the unit of the metric, or an empty string if the metric does not support units
+     */
+    protected final @NonNull String getUnit() {
+        return values.supportsUnit ? values.unit : "";
+    }
+
+    /**
+     * Get the help text of the adapted metric.
+     *
+     * @return the help text of the metric
+     */
+    protected final @NonNull String getHelp() {
+        return values.help;
+    }
+
     @Override
     public int incAndGetReferenceCount() {
         return referenceCount.incrementAndGet();
@@ -123,6 +151,12 @@ public abstract class AbstractMetricAdapter implements MetricAdapter {
             return supportsUnit ? builder.unit(unit) : builder;
         }
 
+        @NonNull
+        String fullName() {
+            final String fullName = subSystem + "_" + name;
+            return supportsUnit && !unit.isEmpty() && !fullName.endsWith(unit) ? fullName + "_" + unit : fullName;
+        }
+
         /**
          * Identifies changes in the metrics name components (category, name, and unit). If a change is detected, error
          * log statements with the purpose of failing JRS are generated to inform developers that adjustments to the
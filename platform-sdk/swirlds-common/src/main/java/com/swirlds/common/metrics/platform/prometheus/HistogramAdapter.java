@@ -0,0 +1,170 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.metrics.platform.prometheus;
+
+import static com.swirlds.common.metrics.platform.prometheus.PrometheusEndpoint.AdapterType.GLOBAL;
+import static com.swirlds.common.metrics.platform.prometheus.PrometheusEndpoint.NODE_LABEL;
+
+import com.swirlds.common.metrics.HistogramMetric;
+import com.swirlds.common.metrics.platform.prometheus.PrometheusEndpoint.AdapterType;
+import com.swirlds.common.platform.NodeId;
+import com.swirlds.metrics.api.Metric;
+import com.swirlds.metrics.api.snapshot.Snapshot;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import io.prometheus.client.Collector;
+import io.prometheus.client.CollectorRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Adapter that synchronizes a {@link HistogramMetric} with a Prometheus summary. The quantiles of the summary are the
+ * percentiles of the values recorded during the last snapshot interval, while {@code _count} and {@code _sum} are
+ * cumulative, as Prometheus expects. All of them are taken as of the same snapshot, so that values recorded while the
+ * snapshot is exported do not show up in {@code _count} and {@code _sum} only.
+ */
+public class HistogramAdapter extends AbstractMetricAdapter {
+
+    private static final String QUANTILE_LABEL = "quantile";
+
+    private final HistogramCollector collector;
+
+    /**
+     * Constructor of {@code HistogramAdapter}.
+     *
+     * @param registry
+     * 		The {@link CollectorRegistry} with which the Prometheus {@link Collector} should be registered
+     * @param metric
+     * 		The {@link Metric} which value should be reported to Prometheus
+     * @param adapterType
+     * 		Scope of the {@link Metric}, either {@link AdapterType#GLOBAL} or {@link AdapterType#PLATFORM}
+     * @throws NullPointerException if any of the following parameters are {@code null}.
+     *     <ul>
+     *       <li>{@code registry}</li>
+     *       <li>{@code metric}</li>
+     *     </ul>
+     */
+    public HistogramAdapter(final CollectorRegistry registry, final Metric metric, final AdapterType adapterType) {
+        super(adapterType, metric);
+        Objects.requireNonNull(registry, "registry must not be null");
+        Objects.requireNonNull(metric, "metric must not be null");
+        this.collector = new HistogramCollector(getFullName(), getUnit(), getHelp(), adapterType);
+        registry.register(collector);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update(final Snapshot snapshot, final NodeId nodeId) {
+        Objects.requireNonNull(snapshot, "snapshot must not be null");
+        if (adapterType != GLOBAL) {
+            Objects.requireNonNull(nodeId, "nodeId must not be null");
+        }
+        final HistogramMetric metric = (HistogramMetric) snapshot.metric();
+        final List<Quantile> quantiles = new ArrayList<>();
+        for (final Snapshot.SnapshotEntry entry : snapshot.entries()) {
+            final String quantile =
+                    switch (entry.valueType()) {
+                        case P50 -> "0.5";
+                        case P90 -> "0.9";
+                        case P99 -> "0.99";
+                        case P999 -> "0.999";
+                        default -> null;
+                    };
+            if (quantile != null) {
+                quantiles.add(new Quantile(quantile, ((Number) entry.value()).doubleValue()));
+            }
+        }
+        final String node = adapterType == GLOBAL ? "" : nodeId.toString();
+        collector.values.put(node, new Values(quantiles, metric.getSnapshotCount(), metric.getSnapshotSum()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void unregister(final CollectorRegistry registry) {
+        registry.unregister(collector);
+    }
+
+    /**
+     * The value of a single quantile.
+     *
+     * @param quantile the label of the quantile
+     * @param value    the value at the quantile
+     */
+    private record Quantile(@NonNull String quantile, double value) {}
+
+    /**
+     * The values of the summary for one node.
+     *
+     * @param quantiles the quantiles of the last snapshot interval
+     * @param count     the cumulative number of recorded values
+     * @param sum       the cumulative sum of the recorded values
+     */
+    private record Values(@NonNull List<Quantile> quantiles, long count, double sum) {}
+
+    /**
+     * A {@link Collector} that reports the values of the last snapshot as a summary.
+     */
+    private static class HistogramCollector extends Collector {
+
+        private final String name;
+        private final String unit;
+        private final String help;
+        private final AdapterType adapterType;
+        private final Map<String, Values> values = new ConcurrentHashMap<>();
+
+        private HistogramCollector(
+                @NonNull final String name,
+                @NonNull final String unit,
+                @NonNull final String help,
+                @NonNull final AdapterType adapterType) {
+            this.name = name;
+            this.unit = unit;
+            this.help = help;
+            this.adapterType = adapterType;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public List<MetricFamilySamples> collect() {
+            final List<MetricFamilySamples.Sample> samples = new ArrayList<>();
+            for (final Map.Entry<String, Values> entry : values.entrySet()) {
+                final List<String> labelNames = adapterType == GLOBAL ? List.of() : List.of(NODE_LABEL);
+                final List<String> labelValues = adapterType == GLOBAL ? List.of() : List.of(entry.getKey());
+                final Values nodeValues = entry.getValue();
+                for (final Quantile quantile : nodeValues.quantiles()) {
+                    final List<String> quantileNames = new ArrayList<>(labelNames);
+                    quantileNames.add(QUANTILE_LABEL);
+                    final List<String> quantileValues = new ArrayList<>(labelValues);
+                    quantileValues.add(quantile.quantile());
+                    samples.add(new MetricFamilySamples.Sample(name, quantileNames, quantileValues, quantile.value()));
+                }
+                samples.add(
+                        new MetricFamilySamples.Sample(name + "_count", labelNames, labelValues, nodeValues.count()));
+                samples.add(new MetricFamilySamples.Sample(name + "_sum", labelNames, labelValues, nodeValues.sum()));
+            }
+            return List.of(new MetricFamilySamples(name, unit, Type.SUMMARY, help, samples));
+        }
+    }
+}
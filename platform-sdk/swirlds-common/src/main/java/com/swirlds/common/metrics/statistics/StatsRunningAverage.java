@@ -181,6 +181,39 @@ public class StatsRunningAverage implements StatsBuffered {
         }
     }
 
+    /**
+     * Incorporate a batch of values into the running average, as if each of them had been passed to
+     * {@link #recordValue(double)} at the given time. Only the sum and the number of the values are needed for this.
+     *
+     * @param sum
+     * 		the sum of the values
+     * @param count
+     * 		the number of values, nothing is recorded if this is not positive
+     * @param nanoTime
+     * 		the time of the values, as returned by {@link Time#nanoTime()}
+     */
+    public void recordValues(final double sum, final long count, final long nanoTime) {
+        if (count <= 0 || Double.isNaN(sum)) {
+            return;
+        }
+        try {
+            final double value = sum / count;
+            if (firstRecord || value == mean) {
+                // if the same value is always given since the beginning, then avoid roundoff errors
+                firstRecord = false;
+                values.update(sum, nanoTime);
+                times.update(count, nanoTime);
+                mean = value;
+            } else {
+                mean = values.update(sum, nanoTime) / times.update(count, nanoTime);
+            }
+            allHistory.recordValue(mean);
+            recentHistory.recordValue(mean);
+        } catch (Exception e) {
+            logger.error(LogMarker.EXCEPTION.getMarker(), "Exception while updating statistics!", e);
+        }
+    }
+
     /**
      * Get the average of recent calls to recordValue(). This is an exponentially-weighted average of recent
      * calls, with the weighting by time, not by number of calls to recordValue().
@@ -194,7 +194,7 @@ public class StatsSpeedometer implements StatsBuffered {
      */
     public double getCyclesPerSecond() {
         // return a value discounted to right now, but don't save it as a data point
-        return update(0, false);
+        return update(0, false, time.nanoTime());
     }
 
     /**
@@ -224,7 +224,22 @@ public class StatsSpeedometer implements StatsBuffered {
      * @return estimated number of calls to cycle() per second
      */
     public synchronized double update(final double numCycles) {
-        return update(numCycles, true);
+        return update(numCycles, true, time.nanoTime());
+    }
+
+    /**
+     * The same as update(numCycles), except that the cycles are recorded as if they had happened at the given time.
+     * This allows cycles that were counted elsewhere to be added later. A time before the previous update is treated
+     * as the time of the previous update.
+     *
+     * @param numCycles
+     * 		number of cycles to record
+     * @param nanoTime
+     * 		the time of the cycles, as returned by {@link Time#nanoTime()}
+     * @return estimated number of calls to cycle() per second
+     */
+    public synchronized double update(final double numCycles, final long nanoTime) {
+        return update(numCycles, true, Math.max(nanoTime, lastTime));
     }
 
     /**
@@ -232,10 +247,11 @@ public class StatsSpeedometer implements StatsBuffered {
      *
      * @param numCycles
      * 		number of cycles to record
+     * @param currentTime
+     * 		the time of the update
      * @return estimated number of calls to cycle() per second
      */
-    private synchronized double update(final double numCycles, final boolean recordData) {
-        final long currentTime = time.nanoTime();
+    private synchronized double update(final double numCycles, final boolean recordData, final long currentTime) {
         final double t1 = (lastTime - startTime) / 1.0e9; // seconds: start to last update
         final double t2 = (currentTime - startTime) / 1.0e9; // seconds: start to now
         final double dt = (currentTime - lastTime) / 1.0e9; // seconds: last update to now
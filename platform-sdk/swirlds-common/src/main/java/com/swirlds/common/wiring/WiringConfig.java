@@ -38,6 +38,12 @@ import java.time.Duration;
  *                                       considered to be unhealthy and starts to write log warnings
  * @param healthLogPeriod                the minimum amount of time that must pass between health log messages for the
  *                                       same scheduler
+ * @param tracingEnabled                 whether to measure how long tasks wait in the queue of each input wire and how
+ *                                       long they take to handle
+ * @param tracingSamplePeriod            when tracing is enabled, one out of this many tasks inserted into each wire is
+ *                                       measured
+ * @param tracingReportPeriod            when tracing is enabled, the period at which the trace report is logged, or 0
+ *                                       to never log it
  */
 @ConfigData("platform.wiring")
 public record WiringConfig(
@@ -48,4 +54,7 @@ public record WiringConfig(
         @ConfigProperty(defaultValue = "500") int healthMonitorSchedulerCapacity,
         @ConfigProperty(defaultValue = "100ms") Duration healthMonitorHeartbeatPeriod,
         @ConfigProperty(defaultValue = "1s") Duration healthLogThreshold,
-        @ConfigProperty(defaultValue = "10m") Duration healthLogPeriod) {}
+        @ConfigProperty(defaultValue = "10m") Duration healthLogPeriod,
+        @ConfigProperty(defaultValue = "false") boolean tracingEnabled,
+        @ConfigProperty(defaultValue = "100") int tracingSamplePeriod,
+        @ConfigProperty(defaultValue = "1m") Duration tracingReportPeriod) {}
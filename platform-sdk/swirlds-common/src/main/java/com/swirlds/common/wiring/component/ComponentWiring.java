@@ -18,6 +18,7 @@ package com.swirlds.common.wiring.component;
 
 import static com.swirlds.common.wiring.model.diagram.HyperlinkBuilder.platformCoreHyperlink;
 
+import com.swirlds.common.wiring.component.internal.BatchInputWireToBind;
 import com.swirlds.common.wiring.component.internal.FilterToBind;
 import com.swirlds.common.wiring.component.internal.InputWireToBind;
 import com.swirlds.common.wiring.component.internal.TransformerToBind;
@@ -37,6 +38,7 @@ import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -78,6 +80,12 @@ public class ComponentWiring<COMPONENT_TYPE, OUTPUT_TYPE> {
      */
     private final List<InputWireToBind<COMPONENT_TYPE, Object, OUTPUT_TYPE>> inputsToBind = new ArrayList<>();
 
+    /**
+     * Input wires with batch handlers that need to be bound.
+     */
+    private final List<BatchInputWireToBind<COMPONENT_TYPE, Object, OUTPUT_TYPE>> batchInputsToBind =
+            new ArrayList<>();
+
     /**
      * Previously created transformers/splitters/filters.
      */
@@ -273,6 +281,58 @@ public class ComponentWiring<COMPONENT_TYPE, OUTPUT_TYPE> {
         return getOrBuildInputWire(proxy.getMostRecentlyInvokedMethod(), null, null, null, handler);
     }
 
+    /**
+     * Get an input wire for this component that passes data to the component in batches. See
+     * {@link BindableInputWire#bindBatch(Function, int, Duration)} for details on how data is batched.
+     *
+     * @param handler       the component method that will handle each batch, e.g. "MyComponent::handleInputs". Should
+     *                      be a method on the class, not a method on a specific instance.
+     * @param maxBatchSize  the maximum number of items passed to the handler at once
+     * @param maxBatchDelay the maximum amount of time the scheduler may wait for more data before passing a batch that
+     *                      is not full, zero to only batch data that is already queued
+     * @param <INPUT_TYPE>  the type of each item in a batch
+     * @return the input wire
+     */
+    @NonNull
+    public <INPUT_TYPE> InputWire<INPUT_TYPE> getBatchInputWire(
+            @NonNull final BiFunction<COMPONENT_TYPE, List<INPUT_TYPE>, OUTPUT_TYPE> handler,
+            final int maxBatchSize,
+            @NonNull final Duration maxBatchDelay) {
+
+        Objects.requireNonNull(handler);
+        Objects.requireNonNull(maxBatchDelay);
+
+        try {
+            handler.apply(proxyComponent, null);
+        } catch (final NullPointerException e) {
+            throw new IllegalStateException(
+                    "Component wiring does not support primitive input types or return types. Use a boxed primitive "
+                            + "instead.",
+                    e);
+        }
+
+        final Method method = proxy.getMostRecentlyInvokedMethod();
+        if (inputWires.containsKey(method)) {
+            // We've already created this wire
+            return (InputWire<INPUT_TYPE>) inputWires.get(method);
+        }
+
+        final String label = getInputWireLabel(method);
+        final BindableInputWire<INPUT_TYPE, OUTPUT_TYPE> inputWire = scheduler.buildInputWire(label);
+        inputWires.put(method, (BindableInputWire<Object, Object>) inputWire);
+
+        if (component == null) {
+            // we will bind this later
+            batchInputsToBind.add((BatchInputWireToBind<COMPONENT_TYPE, Object, OUTPUT_TYPE>)
+                    new BatchInputWireToBind<>(inputWire, handler, maxBatchSize, maxBatchDelay));
+        } else {
+            // bind this now
+            inputWire.bindBatch(x -> handler.apply(component, x), maxBatchSize, maxBatchDelay);
+        }
+
+        return inputWire;
+    }
+
     /**
      * Get the output wire of this component, transformed by a function.
      *
@@ -620,14 +680,7 @@ public class ComponentWiring<COMPONENT_TYPE, OUTPUT_TYPE> {
             return (InputWire<INPUT_TYPE>) inputWires.get(method);
         }
 
-        final String label;
-        final InputWireLabel inputWireLabel = method.getAnnotation(InputWireLabel.class);
-        if (inputWireLabel == null) {
-            label = method.getName();
-        } else {
-            label = inputWireLabel.value();
-        }
-
+        final String label = getInputWireLabel(method);
         final BindableInputWire<INPUT_TYPE, OUTPUT_TYPE> inputWire = scheduler.buildInputWire(label);
         inputWires.put(method, (BindableInputWire<Object, Object>) inputWire);
 
@@ -660,6 +713,21 @@ public class ComponentWiring<COMPONENT_TYPE, OUTPUT_TYPE> {
         return inputWire;
     }
 
+    /**
+     * Get the label of the input wire for a specified method.
+     *
+     * @param method the method that will handle data on the input wire
+     * @return the value of the method's {@link InputWireLabel}, or the method name if it has no label
+     */
+    @NonNull
+    private static String getInputWireLabel(@NonNull final Method method) {
+        final InputWireLabel inputWireLabel = method.getAnnotation(InputWireLabel.class);
+        if (inputWireLabel == null) {
+            return method.getName();
+        }
+        return inputWireLabel.value();
+    }
+
     /**
      * Flush all data in the task scheduler. Blocks until all data currently in flight has been processed.
      *
@@ -723,6 +791,15 @@ public class ComponentWiring<COMPONENT_TYPE, OUTPUT_TYPE> {
             }
         }
 
+        // Bind input wires with batch handlers
+        for (final BatchInputWireToBind<COMPONENT_TYPE, Object, OUTPUT_TYPE> wireToBind : batchInputsToBind) {
+            final BiFunction<COMPONENT_TYPE, List<Object>, OUTPUT_TYPE> handler = wireToBind.handler();
+            wireToBind
+                    .inputWire()
+                    .bindBatch(
+                            x -> handler.apply(component, x), wireToBind.maxBatchSize(), wireToBind.maxBatchDelay());
+        }
+
         // Bind transformers
         for (final TransformerToBind<COMPONENT_TYPE, Object, Object> transformerToBind : transformersToBind) {
             final WireTransformer<Object, Object> transformer = transformerToBind.transformer();
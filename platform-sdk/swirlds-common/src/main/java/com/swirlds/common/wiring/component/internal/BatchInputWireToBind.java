@@ -0,0 +1,41 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.wiring.component.internal;
+
+import com.swirlds.common.wiring.wires.input.BindableInputWire;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * Contains information necessary to bind an input wire to a batch handler when we eventually get the implementation of
+ * the component.
+ *
+ * @param inputWire        the input wire to bind
+ * @param handler          the component method that handles each batch
+ * @param maxBatchSize     the maximum number of items passed to the handler at once
+ * @param maxBatchDelay    the maximum amount of time to wait for more items before handling a batch that is not full
+ * @param <COMPONENT_TYPE> the type of the component
+ * @param <INPUT_TYPE>     the input type of the input wire
+ * @param <OUTPUT_TYPE>    the output type of the component
+ */
+public record BatchInputWireToBind<COMPONENT_TYPE, INPUT_TYPE, OUTPUT_TYPE>(
+        @NonNull BindableInputWire<INPUT_TYPE, OUTPUT_TYPE> inputWire,
+        @NonNull BiFunction<COMPONENT_TYPE, List<INPUT_TYPE>, OUTPUT_TYPE> handler,
+        int maxBatchSize,
+        @NonNull Duration maxBatchDelay) {}
@@ -18,16 +18,20 @@ package com.swirlds.common.wiring.model;
 
 import static com.swirlds.common.wiring.schedulers.builders.TaskSchedulerType.NO_OP;
 import static com.swirlds.common.wiring.schedulers.builders.TaskSchedulerType.SEQUENTIAL;
+import static com.swirlds.common.wiring.schedulers.builders.TaskSchedulerType.SEQUENTIAL_RING_BUFFER;
 import static com.swirlds.common.wiring.schedulers.builders.TaskSchedulerType.SEQUENTIAL_THREAD;
+import static com.swirlds.logging.legacy.LogMarker.WIRING_TRACE;
 
 import com.swirlds.common.context.PlatformContext;
 import com.swirlds.common.wiring.model.diagram.HyperlinkBuilder;
 import com.swirlds.common.wiring.model.internal.monitor.HealthMonitor;
 import com.swirlds.common.wiring.model.internal.standard.HeartbeatScheduler;
 import com.swirlds.common.wiring.model.internal.standard.JvmAnchor;
+import com.swirlds.common.wiring.model.internal.tracing.WiringTracer;
 import com.swirlds.common.wiring.schedulers.TaskScheduler;
 import com.swirlds.common.wiring.schedulers.builders.TaskSchedulerBuilder;
 import com.swirlds.common.wiring.schedulers.builders.internal.StandardTaskSchedulerBuilder;
+import com.swirlds.common.wiring.schedulers.internal.SequentialRingBufferTaskScheduler;
 import com.swirlds.common.wiring.schedulers.internal.SequentialThreadTaskScheduler;
 import com.swirlds.common.wiring.wires.input.BindableInputWire;
 import com.swirlds.common.wiring.wires.output.OutputWire;
@@ -39,12 +43,16 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.ForkJoinPool;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 /**
  * A standard implementation of a wiring model suitable for production use.
  */
 public class StandardWiringModel extends TraceableWiringModel {
 
+    private static final Logger logger = LogManager.getLogger(StandardWiringModel.class);
+
     /**
      * The platform context.
      */
@@ -75,6 +83,11 @@ public class StandardWiringModel extends TraceableWiringModel {
      */
     private final List<SequentialThreadTaskScheduler<?>> threadSchedulers = new ArrayList<>();
 
+    /**
+     * Ring buffer schedulers also have a thread that needs to be started/stopped.
+     */
+    private final List<SequentialRingBufferTaskScheduler<?>> ringBufferSchedulers = new ArrayList<>();
+
     /**
      * The default fork join pool, schedulers not explicitly assigned a pool will use this one.
      */
@@ -101,7 +114,11 @@ public class StandardWiringModel extends TraceableWiringModel {
      * @param builder the builder for this model, contains all needed configuration
      */
     StandardWiringModel(@NonNull final WiringModelBuilder builder) {
-        super(builder.isHardBackpressureEnabled());
+        super(
+                builder.isHardBackpressureEnabled(),
+                builder.isTracingEnabled()
+                        ? new WiringTracer(builder.getPlatformContext(), builder.getTracingSamplePeriod())
+                        : null);
 
         this.platformContext = Objects.requireNonNull(builder.getPlatformContext());
         this.defaultPool = Objects.requireNonNull(builder.getDefaultPool());
@@ -123,6 +140,17 @@ public class StandardWiringModel extends TraceableWiringModel {
         healthMonitorInputWire = healthMonitorScheduler.buildInputWire("check system health");
         buildHeartbeatWire(builder.getHealthMonitorPeriod()).solderTo(healthMonitorInputWire);
 
+        if (builder.isTracingEnabled() && !builder.getTracingReportPeriod().isZero()) {
+            final TaskScheduler<Void> traceReportScheduler = this.<Void>schedulerBuilder("WiringTraceReport")
+                    .withType(SEQUENTIAL)
+                    .build();
+            final BindableInputWire<Instant, Void> traceReportInputWire =
+                    traceReportScheduler.buildInputWire("log trace report");
+            traceReportInputWire.bindConsumer(
+                    now -> logger.info(WIRING_TRACE.getMarker(), "\n{}", generateTraceReport()));
+            buildHeartbeatWire(builder.getTracingReportPeriod()).solderTo(traceReportInputWire);
+        }
+
         if (builder.isJvmAnchorEnabled()) {
             anchor = new JvmAnchor();
         } else {
@@ -187,6 +215,8 @@ public class StandardWiringModel extends TraceableWiringModel {
         super.registerScheduler(scheduler, hyperlink);
         if (scheduler.getType() == SEQUENTIAL_THREAD) {
             threadSchedulers.add((SequentialThreadTaskScheduler<?>) scheduler);
+        } else if (scheduler.getType() == SEQUENTIAL_RING_BUFFER) {
+            ringBufferSchedulers.add((SequentialRingBufferTaskScheduler<?>) scheduler);
         }
     }
 
@@ -219,6 +249,9 @@ public class StandardWiringModel extends TraceableWiringModel {
         for (final SequentialThreadTaskScheduler<?> threadScheduler : threadSchedulers) {
             threadScheduler.start();
         }
+        for (final SequentialRingBufferTaskScheduler<?> ringBufferScheduler : ringBufferSchedulers) {
+            ringBufferScheduler.start();
+        }
     }
 
     /**
@@ -235,6 +268,9 @@ public class StandardWiringModel extends TraceableWiringModel {
         for (final SequentialThreadTaskScheduler<?> threadScheduler : threadSchedulers) {
             threadScheduler.stop();
         }
+        for (final SequentialRingBufferTaskScheduler<?> ringBufferScheduler : ringBufferSchedulers) {
+            ringBufferScheduler.stop();
+        }
 
         if (anchor != null) {
             anchor.stop();
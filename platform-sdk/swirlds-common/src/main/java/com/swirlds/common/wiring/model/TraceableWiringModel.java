@@ -31,6 +31,7 @@ import com.swirlds.common.wiring.model.internal.analysis.ModelEdge;
 import com.swirlds.common.wiring.model.internal.analysis.ModelVertex;
 import com.swirlds.common.wiring.model.internal.analysis.StandardVertex;
 import com.swirlds.common.wiring.model.internal.analysis.WiringFlowchart;
+import com.swirlds.common.wiring.model.internal.tracing.WiringTracer;
 import com.swirlds.common.wiring.schedulers.TaskScheduler;
 import com.swirlds.common.wiring.schedulers.builders.TaskSchedulerType;
 import com.swirlds.common.wiring.wires.SolderType;
@@ -91,13 +92,51 @@ public abstract class TraceableWiringModel implements WiringModel {
      */
     private final boolean backpressureEnabled;
 
+    /**
+     * Measures the latency of input wires, or null if tracing is not enabled.
+     */
+    private final WiringTracer tracer;
+
     /**
      * Constructor.
      *
      * @param backpressureEnabled true if backpressure is enabled
      */
     TraceableWiringModel(final boolean backpressureEnabled) {
+        this(backpressureEnabled, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param backpressureEnabled true if backpressure is enabled
+     * @param tracer              measures the latency of input wires, or null if tracing is not enabled
+     */
+    TraceableWiringModel(final boolean backpressureEnabled, @Nullable final WiringTracer tracer) {
         this.backpressureEnabled = backpressureEnabled;
+        this.tracer = tracer;
+    }
+
+    /**
+     * Get the object that measures the latency of input wires.
+     *
+     * @return the tracer, or null if tracing is not enabled
+     */
+    @Nullable
+    public WiringTracer getTracer() {
+        return tracer;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    public String generateTraceReport() {
+        if (tracer == null) {
+            return "Wire tracing is not enabled";
+        }
+        return tracer.generateReport();
     }
 
     /**
@@ -144,7 +183,9 @@ public abstract class TraceableWiringModel implements WiringModel {
             @NonNull final List<ModelManualLink> manualLinks,
             final boolean moreMystery) {
         addVertexForUnsolderedInputWires(moreMystery);
-        final WiringFlowchart flowchart = new WiringFlowchart(vertices, substitutions, groups, manualLinks);
+        final Map<String, String> annotations = tracer == null ? Map.of() : tracer.generateSchedulerSummaries();
+        final WiringFlowchart flowchart =
+                new WiringFlowchart(vertices, substitutions, groups, manualLinks, annotations);
         return flowchart.render();
     }
 
@@ -89,7 +89,8 @@ public interface WiringModel extends Startable, Stoppable {
      * @param moreMystery   if enabled then use a generic label for all input from mystery sources. This removes
      *                      information about mystery edges, but allows the diagram to be easier to groc. Turn this off
      *                      when attempting to debug mystery edges.
-     * @return a mermaid style wiring diagram
+     * @return a mermaid style wiring diagram, if tracing is enabled then each scheduler with measured tasks is labeled
+     * with the average time its tasks spend in the queue and in the handler, see {@link #generateTraceReport()}
      */
     @NonNull
     String generateWiringDiagram(
@@ -98,6 +99,17 @@ public interface WiringModel extends Startable, Stoppable {
             @NonNull List<ModelManualLink> manualLinks,
             boolean moreMystery);
 
+    /**
+     * Generate a report of how long tasks spend waiting in the queue of each input wire and how long they take to
+     * handle, with the slowest wires first. Only contains data if tracing was enabled when the model was built (see
+     * {@link WiringModelBuilder#withTracingEnabled(boolean)}). The end of the report is in the folded stack format
+     * read by flame graph tools. Intended to be read next to the diagram from {@link #generateWiringDiagram}.
+     *
+     * @return the report
+     */
+    @NonNull
+    String generateTraceReport();
+
     /**
      * Build a wire that produces an instant (reflecting current time) at the specified rate. Note that the exact rate
      * of heartbeats may vary. This is a best effort algorithm, and actual rates may vary depending on a variety of
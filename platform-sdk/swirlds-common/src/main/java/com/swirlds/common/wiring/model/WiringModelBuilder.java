@@ -38,6 +38,9 @@ public class WiringModelBuilder {
     private Duration healthMonitorPeriod = Duration.ofMillis(100);
     private Duration healthLogThreshold = Duration.ofSeconds(5);
     private Duration healthLogPeriod = Duration.ofMinutes(10);
+    private boolean tracingEnabled = false;
+    private int tracingSamplePeriod = 100;
+    private Duration tracingReportPeriod = Duration.ofMinutes(1);
 
     /**
      * Create a new builder.
@@ -173,6 +176,49 @@ public class WiringModelBuilder {
         return this;
     }
 
+    /**
+     * Set if the latency of input wires should be traced. If enabled, a sample of tasks are timestamped when they are
+     * inserted, when they start, and when they finish, and the results are reported as metrics and by
+     * {@link WiringModel#generateTraceReport()}. Default is false.
+     *
+     * @param tracingEnabled whether to enable tracing
+     * @return this
+     */
+    @NonNull
+    public WiringModelBuilder withTracingEnabled(final boolean tracingEnabled) {
+        this.tracingEnabled = tracingEnabled;
+        return this;
+    }
+
+    /**
+     * Set the fraction of tasks that are measured when tracing is enabled. On average, one out of every this many
+     * tasks inserted into each wire is measured. Default is 100.
+     *
+     * @param tracingSamplePeriod the sample period
+     * @return this
+     */
+    @NonNull
+    public WiringModelBuilder withTracingSamplePeriod(final int tracingSamplePeriod) {
+        if (tracingSamplePeriod < 1) {
+            throw new IllegalArgumentException("Tracing sample period must be at least 1");
+        }
+        this.tracingSamplePeriod = tracingSamplePeriod;
+        return this;
+    }
+
+    /**
+     * Set the period at which the trace report is written to the log when tracing is enabled. If zero then the report
+     * is never logged. Default is 1 minute.
+     *
+     * @param tracingReportPeriod the period between trace reports
+     * @return this
+     */
+    @NonNull
+    public WiringModelBuilder withTracingReportPeriod(@NonNull final Duration tracingReportPeriod) {
+        this.tracingReportPeriod = Objects.requireNonNull(tracingReportPeriod);
+        return this;
+    }
+
     /**
      * Build the wiring model.
      *
@@ -275,4 +321,32 @@ public class WiringModelBuilder {
     Duration getHealthLogPeriod() {
         return healthLogPeriod;
     }
+
+    /**
+     * Check if tracing is enabled.
+     *
+     * @return true if tracing is enabled
+     */
+    boolean isTracingEnabled() {
+        return tracingEnabled;
+    }
+
+    /**
+     * Get the fraction of tasks that are measured when tracing is enabled.
+     *
+     * @return one out of every this many tasks is measured
+     */
+    int getTracingSamplePeriod() {
+        return tracingSamplePeriod;
+    }
+
+    /**
+     * Get the period at which the trace report is written to the log.
+     *
+     * @return the period between trace reports, zero if the report is never logged
+     */
+    @NonNull
+    Duration getTracingReportPeriod() {
+        return tracingReportPeriod;
+    }
 }
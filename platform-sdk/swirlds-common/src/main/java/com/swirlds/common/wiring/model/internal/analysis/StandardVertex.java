@@ -69,6 +69,11 @@ public class StandardVertex implements ModelVertex {
      */
     private final String hyperlink;
 
+    /**
+     * Extra text displayed below the name of the vertex in the wiring diagram, or null if there is none.
+     */
+    private String annotation;
+
     /**
      * Constructor.
      *
@@ -144,6 +149,15 @@ public class StandardVertex implements ModelVertex {
         return substitutedInputs;
     }
 
+    /**
+     * Set extra text to display below the name of the vertex in the wiring diagram.
+     *
+     * @param annotation the text to display, or null to display nothing
+     */
+    public void setAnnotation(@Nullable final String annotation) {
+        this.annotation = annotation;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -237,6 +251,10 @@ public class StandardVertex implements ModelVertex {
             substitutedInputs.stream().sorted().forEachOrdered(sb::append);
         }
 
+        if (annotation != null) {
+            sb.append("<br />").append(annotation);
+        }
+
         sb.append("\"");
 
         switch (metaType) {
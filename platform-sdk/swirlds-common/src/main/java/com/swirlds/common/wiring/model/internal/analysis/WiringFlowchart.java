@@ -22,6 +22,7 @@ import static com.swirlds.common.wiring.schedulers.builders.TaskSchedulerType.CO
 import static com.swirlds.common.wiring.schedulers.builders.TaskSchedulerType.DIRECT;
 import static com.swirlds.common.wiring.schedulers.builders.TaskSchedulerType.DIRECT_THREADSAFE;
 import static com.swirlds.common.wiring.schedulers.builders.TaskSchedulerType.SEQUENTIAL;
+import static com.swirlds.common.wiring.schedulers.builders.TaskSchedulerType.SEQUENTIAL_RING_BUFFER;
 import static com.swirlds.common.wiring.schedulers.builders.TaskSchedulerType.SEQUENTIAL_THREAD;
 
 import com.swirlds.common.wiring.model.diagram.ModelEdgeSubstitution;
@@ -71,10 +72,30 @@ public class WiringFlowchart {
             @NonNull final List<ModelEdgeSubstitution> substitutions,
             @NonNull final List<ModelGroup> groups,
             @NonNull final List<ModelManualLink> manualLinks) {
+        this(modelVertexMap, substitutions, groups, manualLinks, Map.of());
+    }
+
+    /**
+     * Draws a mermaid flowchart from the given wiring model.
+     *
+     * @param modelVertexMap a map from vertex name to vertex
+     * @param substitutions  a list of edge substitutions to perform
+     * @param groups         a list of groups to create
+     * @param manualLinks    a list of manual links to draw
+     * @param annotations    extra text to display below the name of vertices, keyed by vertex name. Annotations of
+     *                       vertices that are collapsed into a group are not displayed.
+     */
+    public WiringFlowchart(
+            @NonNull final Map<String, ModelVertex> modelVertexMap,
+            @NonNull final List<ModelEdgeSubstitution> substitutions,
+            @NonNull final List<ModelGroup> groups,
+            @NonNull final List<ModelManualLink> manualLinks,
+            @NonNull final Map<String, String> annotations) {
 
         Objects.requireNonNull(modelVertexMap);
+        Objects.requireNonNull(annotations);
 
-        vertexMap = copyVertexMap(modelVertexMap);
+        vertexMap = copyVertexMap(modelVertexMap, annotations);
         addManualLinks(manualLinks);
         substituteEdges(substitutions);
         handleGroups(groups);
@@ -83,10 +104,13 @@ public class WiringFlowchart {
     /**
      * Do a deep copy of the vertex map. Allows the local copy to be modified without affecting the original.
      *
+     * @param original    the vertex map to copy
+     * @param annotations extra text to display below the name of vertices, keyed by vertex name
      * @return a deep copy of the vertex map
      */
     @NonNull
-    private Map<String, ModelVertex> copyVertexMap(@NonNull final Map<String, ModelVertex> original) {
+    private Map<String, ModelVertex> copyVertexMap(
+            @NonNull final Map<String, ModelVertex> original, @NonNull final Map<String, String> annotations) {
         final Map<String, ModelVertex> copy = new HashMap<>();
 
         // First, copy the vertices without copying the edges.
@@ -101,6 +125,7 @@ public class WiringFlowchart {
                     SCHEDULER,
                     vertex.getHyperlink(),
                     vertex.isInsertionIsBlocking());
+            vertexCopy.setAnnotation(annotations.get(vertex.getName()));
 
             copy.put(vertex.getName(), vertexCopy);
         }
@@ -309,7 +334,9 @@ public class WiringFlowchart {
                 return CONCURRENT;
             }
 
-            if (vertex.getType() == SEQUENTIAL || vertex.getType() == SEQUENTIAL_THREAD) {
+            if (vertex.getType() == SEQUENTIAL
+                    || vertex.getType() == SEQUENTIAL_THREAD
+                    || vertex.getType() == SEQUENTIAL_RING_BUFFER) {
                 if (hasSequential) {
                     // We've detected more than one sequential scheduler type, so there is more than one logical
                     // thread of execution within this group.
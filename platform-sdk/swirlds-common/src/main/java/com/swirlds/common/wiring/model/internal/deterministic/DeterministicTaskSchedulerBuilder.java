@@ -74,17 +74,18 @@ public class DeterministicTaskSchedulerBuilder<OUT> extends AbstractTaskSchedule
 
         final TaskScheduler<OUT> scheduler =
                 switch (type) {
-                    case CONCURRENT, SEQUENTIAL, SEQUENTIAL_THREAD -> new DeterministicTaskScheduler<>(
-                            model,
-                            name,
-                            type,
-                            counters.onRamp(),
-                            counters.offRamp(),
-                            unhandledTaskCapacity,
-                            flushingEnabled,
-                            squelchingEnabled,
-                            insertionIsBlocking,
-                            submitWork);
+                    case CONCURRENT, SEQUENTIAL, SEQUENTIAL_THREAD, SEQUENTIAL_RING_BUFFER ->
+                        new DeterministicTaskScheduler<>(
+                                model,
+                                name,
+                                type,
+                                counters.onRamp(),
+                                counters.offRamp(),
+                                unhandledTaskCapacity,
+                                flushingEnabled,
+                                squelchingEnabled,
+                                insertionIsBlocking,
+                                submitWork);
                     case DIRECT, DIRECT_THREADSAFE -> new DirectTaskScheduler<>(
                             model,
                             name,
@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.wiring.model.internal.tracing;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock free histogram of durations in nanoseconds with one bucket per power of two. Recording a value is a couple of
+ * atomic increments, which is cheap enough to do on every sampled task. Percentiles are approximate, they are reported
+ * as the upper bound of the bucket containing the requested rank.
+ */
+public class LatencyHistogram {
+
+    private static final int BUCKET_COUNT = 64;
+
+    /**
+     * Bucket i counts values in the range [2^(i-1), 2^i), bucket 0 counts values that are zero or negative.
+     */
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+
+    /**
+     * Record a duration.
+     *
+     * @param nanos the duration in nanoseconds
+     */
+    public void record(final long nanos) {
+        final int bucket = nanos <= 0 ? 0 : BUCKET_COUNT - Long.numberOfLeadingZeros(nanos);
+        buckets.incrementAndGet(Math.min(bucket, BUCKET_COUNT - 1));
+        count.increment();
+        total.add(Math.max(nanos, 0));
+    }
+
+    /**
+     * Get the number of recorded durations.
+     *
+     * @return the number of recorded durations
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Get the sum of all recorded durations.
+     *
+     * @return the sum of all recorded durations, in nanoseconds
+     */
+    public long getTotal() {
+        return total.sum();
+    }
+
+    /**
+     * Get the mean of all recorded durations.
+     *
+     * @return the mean in nanoseconds, or 0 if nothing has been recorded
+     */
+    public long getMean() {
+        final long n = getCount();
+        return n == 0 ? 0 : getTotal() / n;
+    }
+
+    /**
+     * Get an approximate percentile of the recorded durations.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the upper bound of the bucket containing the percentile in nanoseconds, or 0 if nothing has been
+     * recorded
+     */
+    public long getPercentile(final double percentile) {
+        long n = 0;
+        final long[] snapshot = new long[BUCKET_COUNT];
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            snapshot[bucket] = buckets.get(bucket);
+            n += snapshot[bucket];
+        }
+        if (n == 0) {
+            return 0;
+        }
+
+        final long rank = (long) Math.ceil(n * percentile / 100.0);
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            seen += snapshot[bucket];
+            if (seen >= rank && snapshot[bucket] > 0) {
+                return bucket == 0 ? 0 : 1L << Math.min(bucket, 62);
+            }
+        }
+        return 1L << 62;
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.wiring.model.internal.tracing;
+
+import com.swirlds.base.time.Time;
+import com.swirlds.common.metrics.RunningAverageMetric;
+import com.swirlds.metrics.api.Metrics;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+/**
+ * Latency measurements for a single input wire. A sample of the tasks inserted into the wire are timestamped when they
+ * are inserted, when their handler starts, and when their handler finishes. The time between insertion and start is
+ * the time the task spent waiting in the scheduler's queue, the time between start and finish is the time spent
+ * handling it. A measured task that is handled as part of a batch waits until the batch starts, and its handle time is
+ * its share of the time spent handling the batch.
+ */
+public class WireTrace {
+
+    private static final double NANOSECONDS_PER_MICROSECOND = 1_000.0;
+
+    private final String schedulerName;
+    private final String wireName;
+    private final Time time;
+    private final int samplePeriod;
+
+    private final LatencyHistogram queueTime = new LatencyHistogram();
+    private final LatencyHistogram handleTime = new LatencyHistogram();
+
+    private final RunningAverageMetric queueTimeMetric;
+    private final RunningAverageMetric handleTimeMetric;
+
+    /**
+     * Constructor.
+     *
+     * @param metrics       the metrics system
+     * @param time          provides wall clock time
+     * @param schedulerName the name of the scheduler the wire belongs to
+     * @param wireName      the name of the wire
+     * @param samplePeriod  on average, one out of this many tasks is measured
+     */
+    public WireTrace(
+            @NonNull final Metrics metrics,
+            @NonNull final Time time,
+            @NonNull final String schedulerName,
+            @NonNull final String wireName,
+            final int samplePeriod) {
+        this.schedulerName = Objects.requireNonNull(schedulerName);
+        this.wireName = Objects.requireNonNull(wireName);
+        this.time = Objects.requireNonNull(time);
+        this.samplePeriod = Math.max(1, samplePeriod);
+
+        final String metricPrefix = schedulerName + "_" + wireName.replaceAll("[^a-zA-Z0-9_]", "_");
+        final RunningAverageMetric.Config queueTimeConfig = new RunningAverageMetric.Config(
+                        "platform", metricPrefix + "_queue_time")
+                .withDescription("average time a task spends waiting in the queue of the input wire " + wireName
+                        + " of the scheduler " + schedulerName + ", in microseconds")
+                .withUnit("us");
+        queueTimeMetric = metrics.getOrCreate(queueTimeConfig);
+        final RunningAverageMetric.Config handleTimeConfig = new RunningAverageMetric.Config(
+                        "platform", metricPrefix + "_handle_time")
+                .withDescription("average time spent handling a task from the input wire " + wireName
+                        + " of the scheduler " + schedulerName + ", in microseconds")
+                .withUnit("us");
+        handleTimeMetric = metrics.getOrCreate(handleTimeConfig);
+    }
+
+    /**
+     * Decide whether to measure a task that is about to be inserted into the wire.
+     *
+     * @param handler the handler of the wire
+     * @return the handler if this task is not measured, otherwise a handler that measures the task before passing it
+     * on to the wire's handler
+     */
+    @NonNull
+    public Consumer<Object> sample(@NonNull final Consumer<Object> handler) {
+        if (samplePeriod > 1 && ThreadLocalRandom.current().nextInt(samplePeriod) != 0) {
+            return handler;
+        }
+        return new TracedHandler(handler, time.nanoTime());
+    }
+
+    /**
+     * Handle a batch of tasks from this wire, some of which were chosen to be measured when they were inserted.
+     *
+     * @param sampled      the handlers of the measured tasks in the batch
+     * @param batchSize    the number of tasks in the batch
+     * @param batchHandler handles the batch
+     */
+    public void handleBatch(
+            @NonNull final List<TracedHandler> sampled, final int batchSize, @NonNull final Runnable batchHandler) {
+        final long startTime = time.nanoTime();
+        try {
+            batchHandler.run();
+        } finally {
+            final long handleTime = (time.nanoTime() - startTime) / batchSize;
+            for (final TracedHandler tracedHandler : sampled) {
+                record(startTime - tracedHandler.enqueueTime, handleTime);
+            }
+        }
+    }
+
+    /**
+     * Record the measurements of a task.
+     *
+     * @param taskQueueTime  the time the task spent waiting in the queue, in nanoseconds
+     * @param taskHandleTime the time spent handling the task, in nanoseconds
+     */
+    private void record(final long taskQueueTime, final long taskHandleTime) {
+        queueTime.record(taskQueueTime);
+        handleTime.record(taskHandleTime);
+        queueTimeMetric.update(taskQueueTime / NANOSECONDS_PER_MICROSECOND);
+        handleTimeMetric.update(taskHandleTime / NANOSECONDS_PER_MICROSECOND);
+    }
+
+    /**
+     * Get the name of the scheduler the wire belongs to.
+     *
+     * @return the name of the scheduler
+     */
+    @NonNull
+    public String getSchedulerName() {
+        return schedulerName;
+    }
+
+    /**
+     * Get the name of the wire.
+     *
+     * @return the name of the wire
+     */
+    @NonNull
+    public String getWireName() {
+        return wireName;
+    }
+
+    /**
+     * Get the distribution of the time measured tasks spent waiting in the queue.
+     *
+     * @return the queue time distribution
+     */
+    @NonNull
+    public LatencyHistogram getQueueTime() {
+        return queueTime;
+    }
+
+    /**
+     * Get the distribution of the time spent handling measured tasks.
+     *
+     * @return the handle time distribution
+     */
+    @NonNull
+    public LatencyHistogram getHandleTime() {
+        return handleTime;
+    }
+
+    /**
+     * Wraps the handler of a wire for a single measured task. Schedulers that handle tasks in batches look through the
+     * wrapper to find the batch handler, see {@link #handleBatch(List, int, Runnable)}.
+     */
+    public final class TracedHandler implements Consumer<Object> {
+
+        private final Consumer<Object> handler;
+        private final long enqueueTime;
+
+        private TracedHandler(@NonNull final Consumer<Object> handler, final long enqueueTime) {
+            this.handler = handler;
+            this.enqueueTime = enqueueTime;
+        }
+
+        /**
+         * Get the handler of the wire.
+         *
+         * @return the wrapped handler
+         */
+        @NonNull
+        public Consumer<Object> getHandler() {
+            return handler;
+        }
+
+        /**
+         * Get the object that measures the wire the task was inserted into.
+         *
+         * @return the wire's trace
+         */
+        @NonNull
+        public WireTrace getTrace() {
+            return WireTrace.this;
+        }
+
+        @Override
+        public void accept(final Object data) {
+            final long startTime = time.nanoTime();
+            try {
+                handler.accept(data);
+            } finally {
+                record(startTime - enqueueTime, time.nanoTime() - startTime);
+            }
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.wiring.model.internal.tracing;
+
+import com.swirlds.common.context.PlatformContext;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Measures how long tasks wait in the queue of each input wire and how long they take to handle. Only a sample of
+ * tasks are measured, so the overhead on wires that are not sampled is a single random number per task.
+ */
+public class WiringTracer {
+
+    private static final long NANOSECONDS_PER_MICROSECOND = 1_000;
+
+    private final PlatformContext platformContext;
+    private final int samplePeriod;
+
+    private final List<WireTrace> traces = new CopyOnWriteArrayList<>();
+
+    /**
+     * Constructor.
+     *
+     * @param platformContext the platform context
+     * @param samplePeriod    on average, one out of this many tasks inserted into each wire is measured
+     */
+    public WiringTracer(@NonNull final PlatformContext platformContext, final int samplePeriod) {
+        this.platformContext = Objects.requireNonNull(platformContext);
+        this.samplePeriod = samplePeriod;
+    }
+
+    /**
+     * Start measuring an input wire.
+     *
+     * @param schedulerName the name of the scheduler the wire belongs to
+     * @param wireName      the name of the wire
+     * @return the object that measures the wire
+     */
+    @NonNull
+    public WireTrace traceWire(@NonNull final String schedulerName, @NonNull final String wireName) {
+        final WireTrace trace = new WireTrace(
+                platformContext.getMetrics(), platformContext.getTime(), schedulerName, wireName, samplePeriod);
+        traces.add(trace);
+        return trace;
+    }
+
+    /**
+     * Generate a human readable report of the latency of each wire, with the wires where tasks spend the most time
+     * first. The report ends with the same measurements in the folded stack format read by flame graph tools, where
+     * the weight of each frame is the estimated total number of microseconds spent in the queue or in the handler.
+     *
+     * @return the report
+     */
+    @NonNull
+    public String generateReport() {
+        final List<WireTrace> sorted = new ArrayList<>(traces);
+        sorted.sort(Comparator.comparingLong(WiringTracer::totalTime).reversed());
+
+        final StringBuilder sb = new StringBuilder();
+        sb.append("Wire latency, 1 in ")
+                .append(samplePeriod)
+                .append(" tasks sampled, times in microseconds\n");
+        sb.append(String.format(
+                "%-60s %10s %10s %10s %10s %10s %10s %10s%n",
+                "scheduler / wire",
+                "samples",
+                "queue avg",
+                "queue p50",
+                "queue p99",
+                "handle avg",
+                "handle p50",
+                "handle p99"));
+        for (final WireTrace trace : sorted) {
+            final LatencyHistogram queue = trace.getQueueTime();
+            final LatencyHistogram handle = trace.getHandleTime();
+            if (handle.getCount() == 0) {
+                continue;
+            }
+            sb.append(String.format(
+                    "%-60s %10d %10d %10d %10d %10d %10d %10d%n",
+                    trace.getSchedulerName() + " / " + trace.getWireName(),
+                    handle.getCount(),
+                    micros(queue.getMean()),
+                    micros(queue.getPercentile(50)),
+                    micros(queue.getPercentile(99)),
+                    micros(handle.getMean()),
+                    micros(handle.getPercentile(50)),
+                    micros(handle.getPercentile(99))));
+        }
+
+        sb.append("\nFolded stacks:\n");
+        for (final WireTrace trace : sorted) {
+            if (trace.getHandleTime().getCount() == 0) {
+                continue;
+            }
+            final String frame = trace.getSchedulerName() + ";" + trace.getWireName().replace(';', '_');
+            sb.append(frame)
+                    .append(";queue ")
+                    .append(micros(trace.getQueueTime().getTotal() * samplePeriod))
+                    .append('\n');
+            sb.append(frame)
+                    .append(";handle ")
+                    .append(micros(trace.getHandleTime().getTotal() * samplePeriod))
+                    .append('\n');
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * Summarize the measurements of each scheduler, for display in the wiring diagram. The measurements of all input
+     * wires of a scheduler are averaged together.
+     *
+     * @return a map from scheduler name to its average queue and handle time, contains only schedulers with at least
+     * one measured task
+     */
+    @NonNull
+    public Map<String, String> generateSchedulerSummaries() {
+        // for each scheduler: measured task count, total queue time, total handle time
+        final Map<String, long[]> totals = new HashMap<>();
+        for (final WireTrace trace : traces) {
+            final long[] schedulerTotals = totals.computeIfAbsent(trace.getSchedulerName(), name -> new long[3]);
+            schedulerTotals[0] += trace.getHandleTime().getCount();
+            schedulerTotals[1] += trace.getQueueTime().getTotal();
+            schedulerTotals[2] += trace.getHandleTime().getTotal();
+        }
+
+        final Map<String, String> summaries = new HashMap<>();
+        totals.forEach((schedulerName, schedulerTotals) -> {
+            final long count = schedulerTotals[0];
+            if (count > 0) {
+                summaries.put(
+                        schedulerName,
+                        "queue " + micros(schedulerTotals[1] / count) + "us, handle "
+                                + micros(schedulerTotals[2] / count) + "us");
+            }
+        });
+        return summaries;
+    }
+
+    /**
+     * The total time measured for a wire, used to order the report.
+     *
+     * @param trace the wire's measurements
+     * @return the sum of the measured queue and handle times, in nanoseconds
+     */
+    private static long totalTime(@NonNull final WireTrace trace) {
+        return trace.getQueueTime().getTotal() + trace.getHandleTime().getTotal();
+    }
+
+    /**
+     * Convert nanoseconds to whole microseconds.
+     *
+     * @param nanos a number of nanoseconds
+     * @return the number of whole microseconds
+     */
+    private static long micros(final long nanos) {
+        return nanos / NANOSECONDS_PER_MICROSECOND;
+    }
+}
@@ -126,6 +126,17 @@ public interface TaskSchedulerBuilder<OUT> {
     @NonNull
     TaskSchedulerBuilder<OUT> withSleepDuration(@NonNull Duration backpressureSleepDuration);
 
+    /**
+     * Set the way the scheduler's thread waits for work. Only used by
+     * {@link TaskSchedulerType#SEQUENTIAL_RING_BUFFER SEQUENTIAL_RING_BUFFER} schedulers. Default
+     * {@link TaskSchedulerWaitStrategy#PARK}.
+     *
+     * @param waitStrategy the wait strategy
+     * @return this
+     */
+    @NonNull
+    TaskSchedulerBuilder<OUT> withWaitStrategy(@NonNull TaskSchedulerWaitStrategy waitStrategy);
+
     /**
      * Set whether the unhandled task count metric should be enabled. Default false.
      *
@@ -18,7 +18,8 @@ package com.swirlds.common.wiring.schedulers.builders;
 
 /**
  * Various configuration options for a task scheduler. Note that the task scheduler type uses values from
- * {@link TaskSchedulerType}, and that the unhandled task capacity is represented as an integer value.
+ * {@link TaskSchedulerType}, that the unhandled task capacity is represented as an integer value, and that the wait
+ * strategy uses values from {@link TaskSchedulerWaitStrategy}.
  */
 public enum TaskSchedulerConfigOption {
     /**
@@ -43,4 +44,10 @@ public enum TaskSchedulerConfigOption {
      * use a string in the form "CAPACITY(1234)" where 1234 is the desired capacity.
      */
     public static final String CAPACITY = "CAPACITY";
+
+    /**
+     * This is not defined as an enum constant because it is used in a special way. To specify the wait strategy, use a
+     * string in the form "WAIT(YIELD)" where YIELD is a value from {@link TaskSchedulerWaitStrategy}.
+     */
+    public static final String WAIT_STRATEGY = "WAIT";
 }
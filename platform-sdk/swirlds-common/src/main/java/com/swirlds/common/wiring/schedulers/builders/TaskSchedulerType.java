@@ -32,6 +32,15 @@ public enum TaskSchedulerType {
      * the implementation and performance characteristics are not identical.
      */
     SEQUENTIAL_THREAD,
+    /**
+     * Tasks are executed on a dedicated thread one at a time in the order they were enqueued. There is a happens before
+     * relationship between each task. This scheduler type has the same semantics as {@link #SEQUENTIAL_THREAD}, but
+     * tasks are handed to the thread through a preallocated ring buffer instead of a linked queue, so enqueuing a task
+     * does not allocate. How the thread waits for work is controlled by the {@link TaskSchedulerWaitStrategy}.
+     * <p>
+     * Schedulers of this type must have a bounded unhandled task capacity, since the ring buffer is sized from it.
+     */
+    SEQUENTIAL_RING_BUFFER,
     /**
      * Tasks are executed on a fork join pool. Tasks may be executed in parallel with each other. Ordering is not
      * guaranteed.
@@ -42,22 +51,23 @@ public enum TaskSchedulerType {
      * or otherwise). Useful for scenarios where tasks are extremely small and not worth the scheduling overhead.
      * <p>
      * Only a single logical thread of execution is permitted to send data to a direct task scheduler.
-     * {@link #SEQUENTIAL} and {@link #SEQUENTIAL_THREAD} schedulers are permitted to send data to a direct task
-     * scheduler, but it is illegal for more than one of these schedulers to send data to the same direct task
-     * scheduler. {@link #CONCURRENT} task schedulers are forbidden from sending data to a direct task scheduler. It is
-     * legal for operations that are executed on the calling thread (e.g. filters, transformers, stateless/stateful
-     * direct schedulers) to call into a direct scheduler as long as the calling thread is not in a concurrent scheduler
-     * or originating from more than one sequential scheduler.
+     * {@link #SEQUENTIAL}, {@link #SEQUENTIAL_THREAD} and {@link #SEQUENTIAL_RING_BUFFER} schedulers are permitted to
+     * send data to a direct task scheduler, but it is illegal for more than one of these schedulers to send data to
+     * the same direct task scheduler. {@link #CONCURRENT} task schedulers are forbidden from sending data to a direct
+     * task scheduler. It is legal for operations that are executed on the calling thread (e.g. filters, transformers,
+     * stateless/stateful direct schedulers) to call into a direct scheduler as long as the calling thread is not in a
+     * concurrent scheduler or originating from more than one sequential scheduler.
      * <p>
      * To decide if a direct scheduler is wired in a legal way, the following algorithm is used:
      * <ul>
      * <li>Create a directed graph where vertices are schedulers and edges are wires between schedulers</li>
      * <li>Starting from each vertex, walk over the graph in depth first order. Follow edges that lead to
      * DIRECT or DIRECT_THREADSAFE vertices, but do not follow edges that lead into SEQUENTIAL, SEQUENTIAL_THREAD,
-     * or CONCURRENT vertices.</li>
+     * SEQUENTIAL_RING_BUFFER or CONCURRENT vertices.</li>
      * <li>If a DIRECT vertex is reachable starting from a CONCURRENT vertex, the wiring is illegal.</li>
-     * <li>For each vertex with type DIRECT, count the number of unique SEQUENTIAL or SEQUENTIAL_THREAD vertexes that
-     * it can be reached by. If that number exceeds 1, then the wiring is illegal.</li>
+     * <li>For each vertex with type DIRECT, count the number of unique SEQUENTIAL, SEQUENTIAL_THREAD or
+     * SEQUENTIAL_RING_BUFFER vertexes that it can be reached by. If that number exceeds 1, then the wiring is
+     * illegal.</li>
      * </ul>
      *
      * <p>
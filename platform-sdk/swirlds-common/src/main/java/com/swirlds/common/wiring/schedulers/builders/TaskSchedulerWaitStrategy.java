@@ -0,0 +1,41 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.wiring.schedulers.builders;
+
+/**
+ * How the thread of a {@link TaskSchedulerType#SEQUENTIAL_RING_BUFFER SEQUENTIAL_RING_BUFFER} task scheduler waits when
+ * there is no work. Threads inserting into such a scheduler never wait for it. Pass one of these to
+ * {@link TaskSchedulerBuilder#withWaitStrategy(TaskSchedulerWaitStrategy)}. If unspecified, the default is
+ * {@link #PARK}.
+ */
+public enum TaskSchedulerWaitStrategy {
+    /**
+     * Busy spin. Gives the lowest hand-off latency at the cost of a fully occupied core, even when idle. Only suitable
+     * for a small number of the hottest schedulers on machines with cores to spare.
+     */
+    SPIN,
+    /**
+     * Yield the processor between checks. Lower latency than {@link #PARK}, but the thread still shows up as busy to
+     * the operating system.
+     */
+    YIELD,
+    /**
+     * Park the thread until it is woken up by new work, or until the scheduler's sleep duration elapses. Uses no CPU
+     * while idle, but waking up a parked thread costs several microseconds.
+     */
+    PARK
+}
@@ -32,6 +32,7 @@ import com.swirlds.common.wiring.schedulers.TaskScheduler;
 import com.swirlds.common.wiring.schedulers.builders.TaskSchedulerBuilder;
 import com.swirlds.common.wiring.schedulers.builders.TaskSchedulerConfiguration;
 import com.swirlds.common.wiring.schedulers.builders.TaskSchedulerType;
+import com.swirlds.common.wiring.schedulers.builders.TaskSchedulerWaitStrategy;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.lang.Thread.UncaughtExceptionHandler;
@@ -69,6 +70,7 @@ public abstract class AbstractTaskSchedulerBuilder<OUT> implements TaskScheduler
     protected boolean busyFractionMetricEnabled = false;
 
     protected Duration sleepDuration = Duration.ofNanos(100);
+    protected TaskSchedulerWaitStrategy waitStrategy = TaskSchedulerWaitStrategy.PARK;
 
     protected final PlatformContext platformContext;
 
@@ -127,6 +129,9 @@ public abstract class AbstractTaskSchedulerBuilder<OUT> implements TaskScheduler
         if (configuration.squelchingEnabled() != null) {
             withSquelchingEnabled(configuration.squelchingEnabled());
         }
+        if (configuration.waitStrategy() != null) {
+            withWaitStrategy(configuration.waitStrategy());
+        }
         return this;
     }
 
@@ -213,6 +218,16 @@ public abstract class AbstractTaskSchedulerBuilder<OUT> implements TaskScheduler
         return this;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @NonNull
+    public AbstractTaskSchedulerBuilder<OUT> withWaitStrategy(@NonNull final TaskSchedulerWaitStrategy waitStrategy) {
+        this.waitStrategy = Objects.requireNonNull(waitStrategy);
+        return this;
+    }
+
     /**
      * {@inheritDoc}
      */
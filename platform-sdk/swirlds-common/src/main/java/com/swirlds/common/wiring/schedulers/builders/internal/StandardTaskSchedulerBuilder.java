@@ -31,6 +31,7 @@ import com.swirlds.common.wiring.schedulers.builders.TaskSchedulerType;
 import com.swirlds.common.wiring.schedulers.internal.ConcurrentTaskScheduler;
 import com.swirlds.common.wiring.schedulers.internal.DirectTaskScheduler;
 import com.swirlds.common.wiring.schedulers.internal.NoOpTaskScheduler;
+import com.swirlds.common.wiring.schedulers.internal.SequentialRingBufferTaskScheduler;
 import com.swirlds.common.wiring.schedulers.internal.SequentialTaskScheduler;
 import com.swirlds.common.wiring.schedulers.internal.SequentialThreadTaskScheduler;
 import edu.umd.cs.findbugs.annotations.NonNull;
@@ -119,6 +120,10 @@ public class StandardTaskSchedulerBuilder<OUT> extends AbstractTaskSchedulerBuil
     @Override
     @NonNull
     public TaskScheduler<OUT> build() {
+        if (type == TaskSchedulerType.SEQUENTIAL_RING_BUFFER && unhandledTaskCapacity == UNLIMITED_CAPACITY) {
+            throw new IllegalStateException("Ring buffer task scheduler " + name + " requires a bounded capacity");
+        }
+
         final Counters counters = buildCounters();
         final FractionalTimer busyFractionTimer = buildBusyTimer();
 
@@ -164,6 +169,19 @@ public class StandardTaskSchedulerBuilder<OUT> extends AbstractTaskSchedulerBuil
                             flushingEnabled,
                             squelchingEnabled,
                             insertionIsBlocking);
+                    case SEQUENTIAL_RING_BUFFER -> new SequentialRingBufferTaskScheduler<>(
+                            model,
+                            name,
+                            buildUncaughtExceptionHandler(),
+                            counters.onRamp(),
+                            counters.offRamp(),
+                            busyFractionTimer,
+                            waitStrategy,
+                            sleepDuration,
+                            unhandledTaskCapacity,
+                            flushingEnabled,
+                            squelchingEnabled,
+                            insertionIsBlocking);
                     case DIRECT, DIRECT_THREADSAFE -> new DirectTaskScheduler<>(
                             model,
                             name,
@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.wiring.schedulers.internal;
+
+import com.swirlds.common.wiring.model.internal.tracing.WireTrace;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * The handler of an input wire that is bound to a batch handler. Schedulers with a queue they can drain,
+ * {@link SequentialThreadTaskScheduler} and {@link SequentialRingBufferTaskScheduler}, gather consecutive tasks that
+ * share the same batch handler into a single list and call {@link #acceptBatch(List, List)} once. Tasks for other
+ * wires are never reordered around the batch, and every task in the batch still counts against the scheduler's
+ * capacity until the batch has been handled. Other schedulers handle each task as a batch of one.
+ *
+ * <p>If the wire is traced then the tasks chosen to be measured carry a {@link WireTrace.TracedHandler} wrapping the
+ * batch handler. Those tasks are batched like any other, and the batch is measured as a whole.
+ */
+public final class BatchHandler implements Consumer<Object> {
+
+    private final Consumer<List<Object>> handler;
+    private final int maxBatchSize;
+    private final long maxBatchDelayNanos;
+
+    /**
+     * Constructor.
+     *
+     * @param handler       the handler that is passed each batch
+     * @param maxBatchSize  the maximum number of tasks in a batch
+     * @param maxBatchDelay the maximum amount of time a scheduler may wait for more tasks to arrive before handling a
+     *                      batch that is not full, zero to only batch tasks that are already queued
+     */
+    public BatchHandler(
+            @NonNull final Consumer<List<Object>> handler,
+            final int maxBatchSize,
+            @NonNull final Duration maxBatchDelay) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Max batch size must be at least 1, got " + maxBatchSize);
+        }
+        if (maxBatchDelay.isNegative()) {
+            throw new IllegalArgumentException("Max batch delay must not be negative, got " + maxBatchDelay);
+        }
+        this.handler = Objects.requireNonNull(handler);
+        this.maxBatchSize = maxBatchSize;
+        this.maxBatchDelayNanos = maxBatchDelay.toNanos();
+    }
+
+    /**
+     * Get the maximum number of tasks in a batch.
+     *
+     * @return the maximum batch size
+     */
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * Get the maximum amount of time to wait for more tasks before handling a batch that is not full.
+     *
+     * @return the maximum batch delay, in nanoseconds
+     */
+    public long getMaxBatchDelayNanos() {
+        return maxBatchDelayNanos;
+    }
+
+    /**
+     * Get the batch handler of a task, looking through the wrapper of a task that is measured by tracing.
+     *
+     * @param handler the handler the task was inserted with
+     * @return the batch handler, or null if the task is not for a batch wire
+     */
+    @Nullable
+    public static BatchHandler of(@NonNull final Consumer<Object> handler) {
+        if (handler instanceof final BatchHandler batchHandler) {
+            return batchHandler;
+        }
+        if (handler instanceof final WireTrace.TracedHandler tracedHandler
+                && tracedHandler.getHandler() instanceof final BatchHandler batchHandler) {
+            return batchHandler;
+        }
+        return null;
+    }
+
+    /**
+     * Check whether a task belongs in a batch handled by this handler, and remember the task if it is measured.
+     *
+     * @param handler the handler the task was inserted with
+     * @param sampled the handlers of the measured tasks in the batch so far, a measured task is added to it
+     * @return true if the task belongs in the batch
+     */
+    public boolean collect(
+            @NonNull final Consumer<Object> handler, @NonNull final List<WireTrace.TracedHandler> sampled) {
+        if (handler == this) {
+            return true;
+        }
+        if (handler instanceof final WireTrace.TracedHandler tracedHandler && tracedHandler.getHandler() == this) {
+            sampled.add(tracedHandler);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Handle a batch of tasks.
+     *
+     * @param batch   the data of each task, in the order the tasks were inserted
+     * @param sampled the handlers of the tasks in the batch that are measured, as collected by
+     *                {@link #collect(Consumer, List)}
+     */
+    public void acceptBatch(@NonNull final List<Object> batch, @NonNull final List<WireTrace.TracedHandler> sampled) {
+        if (sampled.isEmpty()) {
+            handler.accept(batch);
+        } else {
+            sampled.get(0).getTrace().handleBatch(sampled, batch.size(), () -> handler.accept(batch));
+        }
+    }
+
+    /**
+     * Handle a single task as a batch of one.
+     *
+     * @param data the data of the task
+     */
+    @Override
+    public void accept(@NonNull final Object data) {
+        handler.accept(List.of(data));
+    }
+}
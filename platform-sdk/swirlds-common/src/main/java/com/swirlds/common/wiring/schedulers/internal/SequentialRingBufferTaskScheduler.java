@@ -0,0 +1,489 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.wiring.schedulers.internal;
+
+import com.swirlds.base.state.Startable;
+import com.swirlds.base.state.Stoppable;
+import com.swirlds.common.metrics.extensions.FractionalTimer;
+import com.swirlds.common.wiring.counters.ObjectCounter;
+import com.swirlds.common.wiring.model.TraceableWiringModel;
+import com.swirlds.common.wiring.model.internal.tracing.WireTrace;
+import com.swirlds.common.wiring.schedulers.TaskScheduler;
+import com.swirlds.common.wiring.schedulers.builders.TaskSchedulerType;
+import com.swirlds.common.wiring.schedulers.builders.TaskSchedulerWaitStrategy;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.lang.Thread.UncaughtExceptionHandler;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * A scheduler that performs work sequentially on a dedicated thread, like {@link SequentialThreadTaskScheduler}, but
+ * that hands tasks to the thread through a preallocated ring buffer. Inserting a task claims the next slot in the
+ * buffer and writes the handler and data into it, so no objects are allocated per task.
+ * <p>
+ * Every slot carries a sequence number that tells producers when the slot is free and tells the consumer when the slot
+ * has been filled. Tasks are handled in the order their slots were claimed. The buffer holds twice the scheduler's
+ * capacity, leaving room for tasks that are injected past the capacity.
+ * <p>
+ * Inserting a task never waits for the scheduler's thread. If the buffer is completely full, which can happen when
+ * tasks are injected or when backpressure is disabled, then the task is added to an unbounded overflow queue instead.
+ * While the overflow queue is not empty all new tasks are added to it as well, and the scheduler's thread only takes
+ * tasks from it once every claimed slot of the buffer has been handled, so tasks are still handled in the order they
+ * were inserted.
+ * <p>
+ * Consecutive tasks for a wire bound to a batch handler are handed to that handler together, see
+ * {@link BatchHandler}.
+ *
+ * @param <OUT> the type of the primary output wire
+ */
+public class SequentialRingBufferTaskScheduler<OUT> extends TaskScheduler<OUT> implements Startable, Stoppable {
+
+    private final UncaughtExceptionHandler uncaughtExceptionHandler;
+    private final ObjectCounter onRamp;
+    private final ObjectCounter offRamp;
+    private final FractionalTimer busyTimer;
+    private final TaskSchedulerWaitStrategy waitStrategy;
+    private final long sleepNanos;
+    private final long capacity;
+
+    /**
+     * The number of slots in the buffer, always a power of two.
+     */
+    private final int bufferSize;
+
+    /**
+     * Used to convert a sequence number into a slot index.
+     */
+    private final int mask;
+
+    /**
+     * The handler of the task in each slot.
+     */
+    private final Consumer<Object>[] handlers;
+
+    /**
+     * The data of the task in each slot.
+     */
+    private final Object[] data;
+
+    /**
+     * For each slot, equal to the sequence number that may next be written into the slot when the slot is free, or to
+     * that sequence number plus one when the slot has been filled and not yet handled.
+     */
+    private final AtomicLongArray sequences;
+
+    /**
+     * The next sequence number to be claimed by a producer.
+     */
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * The next sequence number to be handled. Only accessed by the scheduler's thread.
+     */
+    private long head = 0;
+
+    /**
+     * Tasks that were inserted while the buffer was full.
+     */
+    private final Queue<OverflowTask> overflow = new ConcurrentLinkedQueue<>();
+
+    /**
+     * True while the scheduler's thread is parked waiting for work, producers must wake it up.
+     */
+    private volatile boolean parked = false;
+
+    private final AtomicBoolean alive = new AtomicBoolean(true);
+
+    private final Thread thread;
+
+    /**
+     * A task that did not fit into the buffer.
+     *
+     * @param handler the handler to call
+     * @param data    the data to pass to the handler
+     */
+    private record OverflowTask(@NonNull Consumer<Object> handler, @NonNull Object data) {}
+
+    /**
+     * Constructor.
+     *
+     * @param model                    the wiring model containing this task scheduler
+     * @param name                     the name of the task scheduler
+     * @param uncaughtExceptionHandler the handler to call when an exception is thrown by a task
+     * @param onRamp                   the counter to increment when a task is added to the queue
+     * @param offRamp                  the counter to decrement when a task is removed from the queue
+     * @param busyTimer                the timer to activate when a task is being handled
+     * @param waitStrategy             how to wait when there is no work
+     * @param sleepDuration            the duration to park when waiting with {@link TaskSchedulerWaitStrategy#PARK}
+     * @param capacity                 the maximum desired capacity for this task scheduler, must not be unlimited
+     * @param flushEnabled             if true, then {@link #flush()} will be enabled, otherwise it will throw.
+     * @param squelchingEnabled        if true, then squelching will be enabled, otherwise trying to squelch will throw
+     * @param insertionIsBlocking      when data is inserted into this task scheduler, will it block until capacity is
+     *                                 available?
+     */
+    @SuppressWarnings("unchecked")
+    public SequentialRingBufferTaskScheduler(
+            @NonNull final TraceableWiringModel model,
+            @NonNull final String name,
+            @NonNull final UncaughtExceptionHandler uncaughtExceptionHandler,
+            @NonNull final ObjectCounter onRamp,
+            @NonNull final ObjectCounter offRamp,
+            @NonNull final FractionalTimer busyTimer,
+            @NonNull final TaskSchedulerWaitStrategy waitStrategy,
+            @NonNull final Duration sleepDuration,
+            final long capacity,
+            final boolean flushEnabled,
+            final boolean squelchingEnabled,
+            final boolean insertionIsBlocking) {
+        super(
+                model,
+                name,
+                TaskSchedulerType.SEQUENTIAL_RING_BUFFER,
+                flushEnabled,
+                squelchingEnabled,
+                insertionIsBlocking);
+
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Ring buffer task scheduler " + name + " requires a bounded capacity");
+        }
+
+        this.uncaughtExceptionHandler = Objects.requireNonNull(uncaughtExceptionHandler);
+        this.onRamp = Objects.requireNonNull(onRamp);
+        this.offRamp = Objects.requireNonNull(offRamp);
+        this.busyTimer = Objects.requireNonNull(busyTimer);
+        this.waitStrategy = Objects.requireNonNull(waitStrategy);
+        this.sleepNanos = sleepDuration.toNanos();
+        this.capacity = capacity;
+
+        bufferSize = computeBufferSize(capacity);
+        mask = bufferSize - 1;
+        handlers = new Consumer[bufferSize];
+        data = new Object[bufferSize];
+        sequences = new AtomicLongArray(bufferSize);
+        for (int index = 0; index < bufferSize; index++) {
+            sequences.set(index, index);
+        }
+
+        thread = new Thread(this::run, "<scheduler " + name + ">");
+    }
+
+    /**
+     * Compute the number of slots in the buffer, the smallest power of two that is at least twice the capacity.
+     *
+     * @param capacity the capacity of the scheduler
+     * @return the number of slots
+     */
+    static int computeBufferSize(final long capacity) {
+        final long desired = Math.max(2, Math.min(capacity * 2, 1 << 30));
+        return (int) Long.highestOneBit(desired - 1) << 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getUnprocessedTaskCount() {
+        return onRamp.getCount();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void flush() {
+        throwIfFlushDisabled();
+        onRamp.waitUntilEmpty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void put(@NonNull final Consumer<Object> handler, @NonNull final Object data) {
+        onRamp.onRamp();
+        enqueue(handler, data);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean offer(@NonNull final Consumer<Object> handler, @NonNull final Object data) {
+        final boolean accepted = onRamp.attemptOnRamp();
+        if (!accepted) {
+            return false;
+        }
+
+        enqueue(handler, data);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void inject(@NonNull final Consumer<Object> handler, @NonNull final Object data) {
+        onRamp.forceOnRamp();
+        enqueue(handler, data);
+    }
+
+    /**
+     * Write a task into the next slot of the buffer, or into the overflow queue if the buffer is full or if earlier
+     * tasks are still waiting in the overflow queue. Never waits.
+     *
+     * @param handler the handler to call
+     * @param data    the data to pass to the handler
+     */
+    private void enqueue(@NonNull final Consumer<Object> handler, @NonNull final Object data) {
+        if (overflow.isEmpty()) {
+            long sequence = tail.get();
+            while (true) {
+                final int index = (int) sequence & mask;
+                final long slotSequence = sequences.getAcquire(index);
+                if (slotSequence == sequence) {
+                    if (tail.compareAndSet(sequence, sequence + 1)) {
+                        handlers[index] = handler;
+                        this.data[index] = data;
+                        sequences.set(index, sequence + 1);
+                        wakeUp();
+                        return;
+                    }
+                } else if (slotSequence < sequence) {
+                    // The buffer is full, the consumer has not yet handled the task that last used this slot.
+                    break;
+                }
+                // Another producer claimed this slot first, try the next one.
+                sequence = tail.get();
+            }
+        }
+
+        overflow.add(new OverflowTask(handler, data));
+        wakeUp();
+    }
+
+    /**
+     * Wake up the scheduler's thread if it is parked waiting for work.
+     */
+    private void wakeUp() {
+        if (parked) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * Wait a little while according to the wait strategy.
+     */
+    private void pause() {
+        switch (waitStrategy) {
+            case SPIN -> Thread.onSpinWait();
+            case YIELD -> Thread.yield();
+            case PARK -> LockSupport.parkNanos(sleepNanos);
+        }
+    }
+
+    /**
+     * Wait for the slot at the given index to be filled, or for a little while, whichever comes first.
+     *
+     * @param index the index of the slot that will hold the next task
+     * @param nanos the maximum amount of time to park if the wait strategy parks, in nanoseconds
+     */
+    private void waitForWork(final int index, final long nanos) {
+        if (waitStrategy != TaskSchedulerWaitStrategy.PARK) {
+            pause();
+            return;
+        }
+
+        parked = true;
+        // Check again after announcing that we are parked, a producer that filled the slot or added to the overflow
+        // queue before seeing the flag will not wake us up.
+        if (sequences.get(index) != head + 1 && overflow.isEmpty()) {
+            LockSupport.parkNanos(nanos);
+        }
+        parked = false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void start() {
+        thread.start();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void stop() {
+        alive.set(false);
+        LockSupport.unpark(thread);
+    }
+
+    /**
+     * Take work out of the buffer and handle it.
+     */
+    private void run() {
+        while (alive.get()) {
+            int index = (int) head & mask;
+            if (sequences.getAcquire(index) != head + 1) {
+                if (!handleOverflow()) {
+                    waitForWork(index, sleepNanos);
+                }
+                continue;
+            }
+
+            busyTimer.activate();
+            do {
+                final Consumer<Object> handler = handlers[index];
+                final Object taskData = take(index);
+
+                final BatchHandler batchHandler = BatchHandler.of(handler);
+                if (batchHandler != null) {
+                    handleBatch(batchHandler, handler, taskData);
+                } else {
+                    try {
+                        handler.accept(taskData);
+                    } catch (final Throwable t) {
+                        uncaughtExceptionHandler.uncaughtException(thread, t);
+                    } finally {
+                        offRamp.offRamp();
+                    }
+                }
+
+                index = (int) head & mask;
+            } while (sequences.getAcquire(index) == head + 1);
+            busyTimer.deactivate();
+        }
+    }
+
+    /**
+     * Handle the tasks in the overflow queue, as long as no slot of the buffer has been claimed. A claimed slot holds a
+     * task that was inserted before the overflow queue was used, or concurrently with the last task in it.
+     *
+     * @return true if at least one task was handled
+     */
+    private boolean handleOverflow() {
+        boolean handled = false;
+        OverflowTask task;
+        // The buffer must be checked after the task is seen in the overflow queue. Otherwise tasks could fill the
+        // buffer and then overflow between the check and taking the task, and that task would be handled first.
+        while ((task = overflow.peek()) != null && tail.get() == head) {
+            overflow.poll();
+            if (!handled) {
+                busyTimer.activate();
+                handled = true;
+            }
+            final BatchHandler batchHandler = BatchHandler.of(task.handler());
+            if (batchHandler != null) {
+                handleBatch(batchHandler, task.handler(), task.data());
+            } else {
+                try {
+                    task.handler().accept(task.data());
+                } catch (final Throwable t) {
+                    uncaughtExceptionHandler.uncaughtException(thread, t);
+                } finally {
+                    offRamp.offRamp();
+                }
+            }
+        }
+        if (handled) {
+            busyTimer.deactivate();
+        }
+        return handled;
+    }
+
+    /**
+     * Take the task at the head of the buffer out of its slot.
+     *
+     * @param index the index of the slot at the head of the buffer, must already be filled
+     * @return the data of the task
+     */
+    private Object take(final int index) {
+        final Object taskData = data[index];
+        handlers[index] = null;
+        data[index] = null;
+
+        // Release the slot before handling the task so that producers are not held up by a slow handler.
+        sequences.setRelease(index, head + bufferSize);
+        head++;
+        return taskData;
+    }
+
+    /**
+     * Handle a batch made of the task that was just taken and the tasks that directly follow it in the buffer with the
+     * same batch handler. If the batch is not full then wait up to the batch handler's maximum delay for more tasks,
+     * unless tasks are waiting in the overflow queue.
+     *
+     * @param batchHandler the batch handler of the task that was just taken
+     * @param firstHandler the handler the task that was just taken was inserted with
+     * @param first        the data of the task that was just taken
+     */
+    private void handleBatch(
+            @NonNull final BatchHandler batchHandler,
+            @NonNull final Consumer<Object> firstHandler,
+            @NonNull final Object first) {
+        final int maxBatchSize = batchHandler.getMaxBatchSize();
+        final long deadline = System.nanoTime() + batchHandler.getMaxBatchDelayNanos();
+        final List<Object> batch = new ArrayList<>(Math.min(maxBatchSize, bufferSize));
+        final List<WireTrace.TracedHandler> sampled = new ArrayList<>();
+        batchHandler.collect(firstHandler, sampled);
+        batch.add(first);
+
+        while (batch.size() < maxBatchSize) {
+            final int index = (int) head & mask;
+            if (sequences.getAcquire(index) != head + 1) {
+                final long remaining = deadline - System.nanoTime();
+                if (remaining <= 0 || !alive.get() || !overflow.isEmpty()) {
+                    break;
+                }
+                waitForWork(index, Math.min(remaining, sleepNanos));
+                continue;
+            }
+            if (!batchHandler.collect(handlers[index], sampled)) {
+                break;
+            }
+            batch.add(take(index));
+        }
+
+        try {
+            batchHandler.acceptBatch(batch, sampled);
+        } catch (final Throwable t) {
+            uncaughtExceptionHandler.uncaughtException(thread, t);
+        } finally {
+            for (int i = 0; i < batch.size(); i++) {
+                offRamp.offRamp();
+            }
+        }
+    }
+}
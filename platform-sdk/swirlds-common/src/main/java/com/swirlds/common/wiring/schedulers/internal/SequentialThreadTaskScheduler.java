@@ -23,6 +23,7 @@ import com.swirlds.base.state.Stoppable;
 import com.swirlds.common.metrics.extensions.FractionalTimer;
 import com.swirlds.common.wiring.counters.ObjectCounter;
 import com.swirlds.common.wiring.model.TraceableWiringModel;
+import com.swirlds.common.wiring.model.internal.tracing.WireTrace;
 import com.swirlds.common.wiring.schedulers.TaskScheduler;
 import com.swirlds.common.wiring.schedulers.builders.TaskSchedulerType;
 import edu.umd.cs.findbugs.annotations.NonNull;
@@ -39,6 +40,9 @@ import java.util.function.Consumer;
 /**
  * A scheduler that performs work sequentially on a dedicated thread. This class has very similar semantics to
  * {@link DirectTaskScheduler}, except that work is done on a thread instead of on a fork join pool.
+ * <p>
+ * Consecutive tasks for a wire bound to a batch handler are handed to that handler together, see
+ * {@link BatchHandler}.
  *
  * @param <OUT> the type of the primary output wire
  */
@@ -198,7 +202,15 @@ public class SequentialThreadTaskScheduler<OUT> extends TaskScheduler<OUT> imple
             }
 
             busyTimer.activate();
-            for (final SequentialThreadTask task : buffer) {
+            int index = 0;
+            while (index < buffer.size()) {
+                final SequentialThreadTask task = buffer.get(index);
+                final BatchHandler batchHandler = BatchHandler.of(task.handler());
+                if (batchHandler != null) {
+                    index = handleBatch(buffer, index, batchHandler);
+                    continue;
+                }
+
                 try {
                     task.handle();
                 } catch (final Throwable t) {
@@ -206,10 +218,81 @@ public class SequentialThreadTaskScheduler<OUT> extends TaskScheduler<OUT> imple
                 } finally {
                     offRamp.offRamp();
                 }
+                index++;
             }
             busyTimer.deactivate();
 
             buffer.clear();
         }
     }
+
+    /**
+     * Handle the run of consecutive tasks in the buffer that share a batch handler, starting at the given index. If the
+     * run reaches the end of the buffer before the batch is full then wait up to the batch handler's maximum delay for
+     * more tasks to arrive. Tasks that arrive while waiting are appended to the buffer, so a task for a different
+     * handler ends the batch and is handled next.
+     *
+     * @param buffer       the tasks taken off of the queue
+     * @param start        the index of the first task in the batch
+     * @param batchHandler the handler shared by the tasks in the batch
+     * @return the index of the first task after the batch
+     */
+    private int handleBatch(
+            @NonNull final List<SequentialThreadTask> buffer,
+            final int start,
+            @NonNull final BatchHandler batchHandler) {
+
+        final int maxBatchSize = batchHandler.getMaxBatchSize();
+        final long deadline = System.nanoTime() + batchHandler.getMaxBatchDelayNanos();
+        final List<Object> batch = new ArrayList<>(Math.min(maxBatchSize, BUFFER_SIZE));
+        final List<WireTrace.TracedHandler> sampled = new ArrayList<>();
+
+        int index = start;
+        while (batch.size() < maxBatchSize) {
+            if (index == buffer.size()) {
+                final long remaining = deadline - System.nanoTime();
+                if (remaining <= 0 || !pollUntil(buffer, remaining)) {
+                    break;
+                }
+            }
+            final SequentialThreadTask task = buffer.get(index);
+            if (!batchHandler.collect(task.handler(), sampled)) {
+                break;
+            }
+            batch.add(task.data());
+            index++;
+        }
+
+        try {
+            batchHandler.acceptBatch(batch, sampled);
+        } catch (final Throwable t) {
+            uncaughtExceptionHandler.uncaughtException(thread, t);
+        } finally {
+            for (int i = 0; i < batch.size(); i++) {
+                offRamp.offRamp();
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Wait for the next task to be added to the queue and append it to the buffer.
+     *
+     * @param buffer the buffer to append the task to
+     * @param nanos  the maximum amount of time to wait, in nanoseconds
+     * @return true if a task was appended, false if the time elapsed or the thread was interrupted
+     */
+    private boolean pollUntil(@NonNull final List<SequentialThreadTask> buffer, final long nanos) {
+        try {
+            final SequentialThreadTask task = tasks.poll(nanos, NANOSECONDS);
+            if (task == null) {
+                return false;
+            }
+            buffer.add(task);
+            return true;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
 }
@@ -17,6 +17,8 @@
 package com.swirlds.common.wiring.wires.input;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.time.Duration;
+import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -45,4 +47,33 @@ public interface Bindable<IN, OUT> {
      * @throws IllegalStateException if a handler is already bound and this method is called a second time
      */
     void bind(@NonNull final Function<IN, OUT> handler);
+
+    /**
+     * Bind this object to a handler that accepts batches of data. For things that don't send data to the output wire.
+     * <p>
+     * Schedulers that queue tasks on a dedicated thread ({@code SEQUENTIAL_THREAD} and {@code SEQUENTIAL_RING_BUFFER})
+     * gather consecutive data from this wire into a single batch, other schedulers pass each piece of data as a batch
+     * of one. Data is always passed in the order it was inserted, and is never reordered relative to data on other
+     * input wires of the same scheduler.
+     *
+     * @param handler       the handler to bind to this input wire, the list is only valid for the duration of the call
+     * @param maxBatchSize  the maximum number of items passed to the handler at once
+     * @param maxBatchDelay the maximum amount of time the scheduler may wait for more data before passing a batch that
+     *                      is not full, zero to only batch data that is already queued
+     * @throws IllegalStateException if a handler is already bound and this method is called a second time
+     */
+    void bindBatchConsumer(@NonNull Consumer<List<IN>> handler, int maxBatchSize, @NonNull Duration maxBatchDelay);
+
+    /**
+     * Bind this object to a handler that accepts batches of data. Batching follows the same rules as
+     * {@link #bindBatchConsumer(Consumer, int, Duration)}.
+     *
+     * @param handler       the handler to bind to this input wire, values returned are passed to the primary output
+     *                      wire of the associated scheduler, once per batch
+     * @param maxBatchSize  the maximum number of items passed to the handler at once
+     * @param maxBatchDelay the maximum amount of time the scheduler may wait for more data before passing a batch that
+     *                      is not full, zero to only batch data that is already queued
+     * @throws IllegalStateException if a handler is already bound and this method is called a second time
+     */
+    void bindBatch(@NonNull Function<List<IN>, OUT> handler, int maxBatchSize, @NonNull Duration maxBatchDelay);
 }
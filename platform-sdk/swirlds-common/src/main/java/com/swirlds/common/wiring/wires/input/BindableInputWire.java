@@ -19,8 +19,12 @@ package com.swirlds.common.wiring.wires.input;
 import static com.swirlds.common.wiring.schedulers.builders.TaskSchedulerType.NO_OP;
 
 import com.swirlds.common.wiring.model.TraceableWiringModel;
+import com.swirlds.common.wiring.model.internal.tracing.WiringTracer;
 import com.swirlds.common.wiring.schedulers.TaskScheduler;
+import com.swirlds.common.wiring.schedulers.internal.BatchHandler;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.time.Duration;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -92,6 +96,7 @@ public class BindableInputWire<IN, OUT> extends InputWire<IN> implements Bindabl
             handler.accept((IN) i);
         });
         model.registerInputWireBinding(taskSchedulerName, getName());
+        startTracing();
     }
 
     /**
@@ -114,5 +119,71 @@ public class BindableInputWire<IN, OUT> extends InputWire<IN> implements Bindabl
             }
         });
         model.registerInputWireBinding(taskSchedulerName, getName());
+        startTracing();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("unchecked")
+    public void bindBatchConsumer(
+            @NonNull final Consumer<List<IN>> handler, final int maxBatchSize, @NonNull final Duration maxBatchDelay) {
+        Objects.requireNonNull(handler);
+        Objects.requireNonNull(maxBatchDelay);
+        if (noOp) {
+            return;
+        }
+        setHandler(new BatchHandler(
+                batch -> {
+                    if (currentlySquelching.get()) {
+                        return;
+                    }
+
+                    handler.accept((List<IN>) (List<?>) batch);
+                },
+                maxBatchSize,
+                maxBatchDelay));
+        model.registerInputWireBinding(taskSchedulerName, getName());
+        startTracing();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("unchecked")
+    public void bindBatch(
+            @NonNull final Function<List<IN>, OUT> handler,
+            final int maxBatchSize,
+            @NonNull final Duration maxBatchDelay) {
+        Objects.requireNonNull(handler);
+        Objects.requireNonNull(maxBatchDelay);
+        if (noOp) {
+            return;
+        }
+        setHandler(new BatchHandler(
+                batch -> {
+                    if (currentlySquelching.get()) {
+                        return;
+                    }
+
+                    final OUT output = handler.apply((List<IN>) (List<?>) batch);
+                    if (output != null) {
+                        taskSchedulerInput.forward(output);
+                    }
+                },
+                maxBatchSize,
+                maxBatchDelay));
+        model.registerInputWireBinding(taskSchedulerName, getName());
+        startTracing();
+    }
+
+    /**
+     * Start measuring the latency of this wire if tracing is enabled in the model.
+     */
+    private void startTracing() {
+        final WiringTracer tracer = model.getTracer();
+        if (tracer != null) {
+            setTrace(tracer.traceWire(taskSchedulerName, getName()));
+        }
     }
 }
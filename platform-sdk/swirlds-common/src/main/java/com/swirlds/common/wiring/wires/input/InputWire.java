@@ -16,9 +16,11 @@
 
 package com.swirlds.common.wiring.wires.input;
 
+import com.swirlds.common.wiring.model.internal.tracing.WireTrace;
 import com.swirlds.common.wiring.schedulers.TaskScheduler;
 import com.swirlds.common.wiring.schedulers.builders.TaskSchedulerType;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.util.Objects;
 import java.util.function.Consumer;
 
@@ -35,6 +37,11 @@ public abstract class InputWire<IN> {
     private final String taskSchedulerName;
     private final TaskSchedulerType taskSchedulerType;
 
+    /**
+     * Measures the latency of this wire, or null if this wire is not traced.
+     */
+    private WireTrace trace;
+
     /**
      * Constructor.
      *
@@ -84,7 +91,7 @@ public abstract class InputWire<IN> {
      * @param data the data to be processed by the task scheduler
      */
     public void put(@NonNull final IN data) {
-        taskSchedulerInput.put(handler, data);
+        taskSchedulerInput.put(getHandler(), data);
     }
 
     /**
@@ -95,7 +102,7 @@ public abstract class InputWire<IN> {
      * @return true if the data was accepted, false otherwise
      */
     public boolean offer(@NonNull final IN data) {
-        return taskSchedulerInput.offer(handler, data);
+        return taskSchedulerInput.offer(getHandler(), data);
     }
 
     /**
@@ -106,7 +113,26 @@ public abstract class InputWire<IN> {
      * @param data the data to be processed by the task scheduler
      */
     public void inject(@NonNull final IN data) {
-        taskSchedulerInput.inject(handler, data);
+        taskSchedulerInput.inject(getHandler(), data);
+    }
+
+    /**
+     * Get the handler for the next task inserted into this wire. If this wire is traced then some tasks are given a
+     * handler that measures them.
+     *
+     * @return the handler
+     */
+    private Consumer<Object> getHandler() {
+        return trace == null ? handler : trace.sample(handler);
+    }
+
+    /**
+     * Start measuring the latency of tasks inserted into this wire.
+     *
+     * @param trace the object that records the measurements
+     */
+    protected void setTrace(@Nullable final WireTrace trace) {
+        this.trace = trace;
     }
 
     /**
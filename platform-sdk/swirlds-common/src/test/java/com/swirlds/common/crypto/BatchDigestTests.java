@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.crypto;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Random;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class BatchDigestTests {
+
+    /**
+     * Message lengths around the block boundaries of SHA-384, where the padding needs one or two blocks.
+     */
+    private static final int[] MESSAGE_LENGTHS = {0, 1, 48, 96, 111, 112, 127, 128, 239, 240, 1000};
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void batchMatchesSingleDigests(final boolean multiBufferDigest) throws NoSuchAlgorithmException {
+        final Cryptography cryptography = CryptographyFactory.create(multiBufferDigest);
+        final Random random = new Random(42);
+        for (final int length : MESSAGE_LENGTHS) {
+            // an odd number of messages, so one message does not have a partner in the multi buffer implementation
+            final byte[][] messages = new byte[5][length];
+            for (final byte[] message : messages) {
+                random.nextBytes(message);
+            }
+
+            final byte[][] digests = cryptography.digestBatchSync(messages, DigestType.SHA_384);
+
+            assertEquals(messages.length, digests.length, "there should be one digest per message");
+            for (int i = 0; i < messages.length; i++) {
+                final byte[] expected = MessageDigest.getInstance(DigestType.SHA_384.algorithmName())
+                        .digest(messages[i]);
+                assertArrayEquals(expected, digests[i], "digest of message " + i + " of length " + length);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void batchOfOtherDigestType(final boolean multiBufferDigest) throws NoSuchAlgorithmException {
+        final Cryptography cryptography = CryptographyFactory.create(multiBufferDigest);
+        final byte[][] messages = {new byte[] {1, 2, 3}, new byte[] {4, 5, 6}};
+
+        final byte[][] digests = cryptography.digestBatchSync(messages, DigestType.SHA_512);
+
+        for (int i = 0; i < messages.length; i++) {
+            final byte[] expected = MessageDigest.getInstance(DigestType.SHA_512.algorithmName())
+                    .digest(messages[i]);
+            assertArrayEquals(expected, digests[i], "digest of message " + i);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void messagesOfDifferentLengthsAreRejected(final boolean multiBufferDigest) {
+        final Cryptography cryptography = CryptographyFactory.create(multiBufferDigest);
+        final byte[][] messages = {new byte[48], new byte[47]};
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> cryptography.digestBatchSync(messages, DigestType.SHA_384),
+                "a batch must consist of messages of the same length");
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.metrics.platform;
+
+import static com.swirlds.common.metrics.platform.PlatformHistogramMetric.bucketIndex;
+import static com.swirlds.common.metrics.platform.PlatformHistogramMetric.highestEquivalentValue;
+import static com.swirlds.metrics.api.Metric.DataType.FLOAT;
+import static com.swirlds.metrics.api.Metric.ValueType.MAX;
+import static com.swirlds.metrics.api.Metric.ValueType.P50;
+import static com.swirlds.metrics.api.Metric.ValueType.P90;
+import static com.swirlds.metrics.api.Metric.ValueType.P99;
+import static com.swirlds.metrics.api.Metric.ValueType.P999;
+import static com.swirlds.metrics.api.Metric.ValueType.VALUE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.data.Offset.offset;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.swirlds.common.metrics.HistogramMetric;
+import com.swirlds.metrics.api.snapshot.Snapshot.SnapshotEntry;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PlatformHistogramMetricTest {
+
+    private static final String CATEGORY = "CaTeGoRy";
+    private static final String NAME = "NaMe";
+    private static final String DESCRIPTION = "DeScRiPtIoN";
+    private static final String UNIT = "UnIt";
+
+    private static final double EPSILON = 1e-6;
+
+    /**
+     * The maximum relative error of a reported value.
+     */
+    private static final double PRECISION = 1.0 / 16;
+
+    @Test
+    @DisplayName("Constructor should store values")
+    void testConstructor() {
+        // when
+        final HistogramMetric metric = new PlatformHistogramMetric(
+                new HistogramMetric.Config(CATEGORY, NAME).withDescription(DESCRIPTION).withUnit(UNIT));
+
+        // then
+        assertEquals(CATEGORY, metric.getCategory(), "The category was not set correctly in the constructor");
+        assertEquals(NAME, metric.getName(), "The name was not set correctly in the constructor");
+        assertEquals(DESCRIPTION, metric.getDescription(), "The description was not set correctly in the constructor");
+        assertEquals(UNIT, metric.getUnit(), "The unit was not set correctly in the constructor");
+        assertEquals(FLOAT, metric.getDataType(), "The data type was not set correctly in the constructor");
+        assertThat(metric.getValueTypes()).containsExactly(VALUE, MAX, P50, P90, P99, P999);
+        assertEquals(0, metric.getCount(), "A new histogram should be empty");
+        assertEquals(0.0, metric.get(P99), EPSILON, "An empty histogram should report 0");
+    }
+
+    @Test
+    @DisplayName("Every value should map to a bucket whose highest equivalent value is within the precision")
+    void testBuckets() {
+        final Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            final long value = (random.nextLong() >>> 1) >>> random.nextInt(63);
+            final long highest = highestEquivalentValue(bucketIndex(value));
+            assertThat(highest).isGreaterThanOrEqualTo(value);
+            assertThat((double) (highest - value)).isLessThanOrEqualTo(value * PRECISION);
+        }
+        for (long value = 0; value < 16; value++) {
+            assertEquals(value, highestEquivalentValue(bucketIndex(value)), "Small values should be exact");
+        }
+        assertEquals(
+                Long.MAX_VALUE, highestEquivalentValue(bucketIndex(Long.MAX_VALUE)), "The range should be covered");
+    }
+
+    @Test
+    @DisplayName("Percentiles should be reported within the precision of the histogram")
+    void testPercentiles() {
+        // given
+        final PlatformHistogramMetric metric = new PlatformHistogramMetric(new HistogramMetric.Config(CATEGORY, NAME));
+
+        // when
+        for (long value = 1; value <= 10_000; value++) {
+            metric.update(value);
+        }
+
+        // then
+        assertEquals(10_000, metric.getCount(), "All values should be counted");
+        assertEquals(50_005_000, metric.getSum(), "All values should be summed up");
+        assertEquals(5000.5, metric.get(VALUE), EPSILON, "The mean should be exact");
+        assertThat(metric.get(P50)).isCloseTo(5_000.0, offset(5_000.0 * PRECISION));
+        assertThat(metric.get(P90)).isCloseTo(9_000.0, offset(9_000.0 * PRECISION));
+        assertThat(metric.get(P99)).isCloseTo(9_900.0, offset(9_900.0 * PRECISION));
+        assertThat(metric.get(P999)).isCloseTo(9_990.0, offset(9_990.0 * PRECISION));
+        assertThat(metric.get(MAX)).isCloseTo(10_000.0, offset(10_000.0 * PRECISION));
+        assertThat(metric.getPercentile(0.0)).isEqualTo(1.0);
+        assertThrows(IllegalArgumentException.class, () -> metric.getPercentile(100.1));
+    }
+
+    @Test
+    @DisplayName("Negative values should be recorded as 0")
+    void testNegativeValues() {
+        // given
+        final PlatformHistogramMetric metric = new PlatformHistogramMetric(new HistogramMetric.Config(CATEGORY, NAME));
+
+        // when
+        metric.update(-42);
+
+        // then
+        assertEquals(1, metric.getCount(), "The value should be counted");
+        assertEquals(0, metric.getSum(), "The value should be recorded as 0");
+        assertEquals(0.0, metric.get(MAX), EPSILON, "The value should be recorded as 0");
+    }
+
+    @Test
+    @DisplayName("Snapshots should only report the values of the last interval")
+    void testSnapshot() {
+        // given
+        final PlatformHistogramMetric metric = new PlatformHistogramMetric(new HistogramMetric.Config(CATEGORY, NAME));
+        metric.update(1_000);
+
+        // when
+        final List<SnapshotEntry> first = metric.takeSnapshot();
+        metric.update(10);
+        metric.update(10);
+        final List<SnapshotEntry> second = metric.takeSnapshot();
+        final List<SnapshotEntry> third = metric.takeSnapshot();
+
+        // then
+        assertThat(first).extracting(SnapshotEntry::valueType).containsExactly(VALUE, MAX, P50, P90, P99, P999);
+        assertThat((double) first.get(0).value()).isEqualTo(1_000.0);
+        assertThat((double) second.get(0).value()).isEqualTo(10.0);
+        assertThat((double) second.get(1).value()).isEqualTo(10.0);
+        assertThat(third).extracting(SnapshotEntry::value).containsOnly(0.0);
+        assertEquals(3, metric.getCount(), "The count should be cumulative");
+        assertEquals(1_020, metric.getSum(), "The sum should be cumulative");
+    }
+
+    @Test
+    @DisplayName("Reset should start a new interval")
+    void testReset() {
+        // given
+        final PlatformHistogramMetric metric = new PlatformHistogramMetric(new HistogramMetric.Config(CATEGORY, NAME));
+        metric.update(1_000);
+
+        // when
+        metric.reset();
+        metric.update(10);
+
+        // then
+        assertEquals(10.0, metric.get(MAX), EPSILON, "Only values after the reset should be reported");
+        assertEquals(10.0, metric.getPercentile(50.0), EPSILON, "Only values after the reset should be reported");
+    }
+
+    @Test
+    @DisplayName("Concurrent updates should all be counted")
+    void testConcurrentUpdates() throws InterruptedException {
+        // given
+        final PlatformHistogramMetric metric = new PlatformHistogramMetric(new HistogramMetric.Config(CATEGORY, NAME));
+        final Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 10_000; j++) {
+                    metric.update(j);
+                }
+            });
+        }
+
+        // when
+        for (final Thread thread : threads) {
+            thread.start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        // then
+        assertEquals(40_000, metric.getCount(), "All values should be counted");
+        assertEquals(4L * 49_995_000, metric.getSum(), "All values should be summed up");
+        assertThat(metric.get(MAX)).isCloseTo(9_999.0, offset(9_999.0 * PRECISION));
+    }
+}
@@ -130,6 +130,30 @@ class PlatformRunningAverageMetricTest {
         }
     }
 
+    @Test
+    void testAccumulatedUpdates() {
+        // given
+        final FakeTime time = new FakeTime();
+        final RunningAverageMetric.Config config = new RunningAverageMetric.Config(CATEGORY, NAME);
+        final RunningAverageMetric immediate = new PlatformRunningAverageMetric(config, time, Duration.ZERO);
+        final RunningAverageMetric accumulated = new PlatformRunningAverageMetric(config, time, Duration.ofMillis(1));
+
+        for (int i = 0; i < 1000; i++) {
+            // when
+            time.set(Duration.ofSeconds(i).plusMillis(500));
+            for (int j = 0; j < 10; j++) {
+                final double value = i % 2 == 0 ? Math.PI + j : Math.E - j;
+                immediate.update(value);
+                accumulated.update(value);
+            }
+            time.set(Duration.ofSeconds(i + 1));
+
+            // then
+            assertEquals(
+                    immediate.get(), accumulated.get(), EPSILON, "Accumulating updates should not change the mean");
+        }
+    }
+
     @Test
     void testDistributionForRegularUpdates() {
         // given
@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.metrics.platform;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.swirlds.base.test.fixtures.time.FakeTime;
+import com.swirlds.base.time.Time;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class StripedAccumulatorTest {
+
+    private record Fold(double sum, long count, long nanoTime) {}
+
+    @Test
+    @DisplayName("Without an accumulation period every update should be folded immediately")
+    void testNoAccumulation() {
+        // given
+        final FakeTime time = new FakeTime();
+        final List<Fold> folds = new ArrayList<>();
+        final StripedAccumulator accumulator =
+                new StripedAccumulator(time, 0, (sum, count, nanoTime) -> folds.add(new Fold(sum, count, nanoTime)));
+
+        // when
+        time.tick(Duration.ofMillis(1));
+        accumulator.add(1.0);
+        time.tick(Duration.ofMillis(1));
+        accumulator.add(2.0);
+
+        // then
+        assertThat(folds)
+                .containsExactly(
+                        new Fold(1.0, 1, Duration.ofMillis(1).toNanos()),
+                        new Fold(2.0, 1, Duration.ofMillis(2).toNanos()));
+    }
+
+    @Test
+    @DisplayName("Updates within the accumulation period should be folded together at the time of the first update")
+    void testAccumulation() {
+        // given
+        final FakeTime time = new FakeTime();
+        final List<Fold> folds = new ArrayList<>();
+        final long period = Duration.ofMillis(10).toNanos();
+        final StripedAccumulator accumulator = new StripedAccumulator(
+                time, period, (sum, count, nanoTime) -> folds.add(new Fold(sum, count, nanoTime)));
+
+        // when
+        time.tick(Duration.ofMillis(1));
+        accumulator.add(1.0);
+        time.tick(Duration.ofMillis(5));
+        accumulator.add(2.0);
+
+        // then
+        assertThat(folds).isEmpty();
+
+        // when
+        time.tick(Duration.ofMillis(5));
+        accumulator.add(3.0);
+
+        // then
+        assertThat(folds).containsExactly(new Fold(3.0, 2, Duration.ofMillis(1).toNanos()));
+
+        // when
+        accumulator.fold();
+        accumulator.fold();
+
+        // then
+        assertThat(folds)
+                .containsExactly(
+                        new Fold(3.0, 2, Duration.ofMillis(1).toNanos()),
+                        new Fold(3.0, 1, Duration.ofMillis(11).toNanos()));
+    }
+
+    @Test
+    @DisplayName("Updates from many threads should never be lost")
+    void testConcurrentUpdates() throws InterruptedException {
+        // given
+        final int threadCount = 8;
+        final int updatesPerThread = 100_000;
+        final double[] sum = new double[1];
+        final long[] count = new long[1];
+        final StripedAccumulator accumulator =
+                new StripedAccumulator(Time.getCurrent(), Duration.ofMillis(1).toNanos(), (s, c, nanoTime) -> {
+                    sum[0] += s;
+                    count[0] += c;
+                });
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            final Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int j = 0; j < updatesPerThread; j++) {
+                    accumulator.add(1.0);
+                    if (j % 1000 == 0) {
+                        accumulator.fold();
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        // when
+        start.countDown();
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        accumulator.fold();
+
+        // then
+        final long expected = (long) threadCount * updatesPerThread;
+        synchronized (accumulator) {
+            assertEquals(expected, count[0], "Every update should be counted once");
+            assertEquals(expected, sum[0], 0.0, "Every value should be added once");
+        }
+    }
+
+    @Test
+    @DisplayName("A negative accumulation period should be rejected")
+    void testNegativePeriod() {
+        final Time time = new FakeTime();
+        assertThrows(
+                IllegalArgumentException.class, () -> new StripedAccumulator(time, -1, (sum, count, nanoTime) -> {}));
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.metrics.platform.prometheus;
+
+import static com.swirlds.common.metrics.platform.prometheus.PrometheusEndpoint.AdapterType.GLOBAL;
+import static com.swirlds.common.metrics.platform.prometheus.PrometheusEndpoint.AdapterType.PLATFORM;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.data.Offset.offset;
+
+import com.swirlds.common.metrics.HistogramMetric;
+import com.swirlds.common.metrics.platform.PlatformHistogramMetric;
+import com.swirlds.common.platform.NodeId;
+import com.swirlds.metrics.api.Metric;
+import com.swirlds.metrics.api.snapshot.Snapshot;
+import io.prometheus.client.Collector;
+import io.prometheus.client.CollectorRegistry;
+import org.junit.jupiter.api.Test;
+
+class HistogramAdapterTest {
+
+    private static final String CATEGORY = "CaTeGoRy";
+    private static final String NAME = "NaMe";
+    private static final String MAPPING_NAME = "CaTeGoRy_NaMe";
+    private static final String DESCRIPTION = "DeScRiPtIoN";
+    private static final String UNIT = "UnIt";
+
+    private static final String[] GLOBAL_LABEL = new String[] {"quantile"};
+    private static final String[] NODE_LABEL = new String[] {"node", "quantile"};
+
+    private static final double EPSILON = 1e-6;
+
+    @Test
+    void testCreateGlobalMetric() {
+        // given
+        final CollectorRegistry registry = new CollectorRegistry();
+        final Metric metric = new PlatformHistogramMetric(
+                new HistogramMetric.Config(CATEGORY, NAME).withDescription(DESCRIPTION).withUnit(UNIT));
+
+        // when
+        new HistogramAdapter(registry, metric, GLOBAL);
+
+        // then
+        final Collector.MetricFamilySamples mapping =
+                registry.metricFamilySamples().nextElement();
+        assertThat(mapping.type).isEqualTo(Collector.Type.SUMMARY);
+        assertThat(mapping.name).isEqualTo(MAPPING_NAME + "_" + UNIT);
+        assertThat(mapping.help).isEqualTo(DESCRIPTION);
+        assertThat(mapping.unit).isEqualTo(UNIT);
+    }
+
+    @Test
+    void testConstructorWithNullParameters() {
+        // given
+        final CollectorRegistry registry = new CollectorRegistry();
+        final Metric metric = new PlatformHistogramMetric(
+                new HistogramMetric.Config(CATEGORY, NAME).withDescription(DESCRIPTION));
+
+        // then
+        assertThatThrownBy(() -> new HistogramAdapter(null, metric, GLOBAL)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new HistogramAdapter(registry, null, GLOBAL))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new HistogramAdapter(registry, metric, null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void testUpdateGlobalMetric() {
+        // given
+        final CollectorRegistry registry = new CollectorRegistry();
+        final PlatformHistogramMetric metric = new PlatformHistogramMetric(new HistogramMetric.Config(CATEGORY, NAME));
+        for (long value = 1; value <= 10; value++) {
+            metric.update(value);
+        }
+        final HistogramAdapter adapter = new HistogramAdapter(registry, metric, GLOBAL);
+
+        // when
+        adapter.update(Snapshot.of(metric), null);
+
+        // then
+        assertThat(registry.getSampleValue(MAPPING_NAME, GLOBAL_LABEL, new String[] {"0.5"}))
+                .isCloseTo(5.0, offset(EPSILON));
+        assertThat(registry.getSampleValue(MAPPING_NAME, GLOBAL_LABEL, new String[] {"0.9"}))
+                .isCloseTo(9.0, offset(EPSILON));
+        assertThat(registry.getSampleValue(MAPPING_NAME, GLOBAL_LABEL, new String[] {"0.99"}))
+                .isCloseTo(10.0, offset(EPSILON));
+        assertThat(registry.getSampleValue(MAPPING_NAME + "_count")).isCloseTo(10.0, offset(EPSILON));
+        assertThat(registry.getSampleValue(MAPPING_NAME + "_sum")).isCloseTo(55.0, offset(EPSILON));
+    }
+
+    @Test
+    void testUpdatePlatformMetric() {
+        // given
+        final CollectorRegistry registry = new CollectorRegistry();
+        final PlatformHistogramMetric metric = new PlatformHistogramMetric(new HistogramMetric.Config(CATEGORY, NAME));
+        metric.update(7);
+        final HistogramAdapter adapter = new HistogramAdapter(registry, metric, PLATFORM);
+
+        // when
+        adapter.update(Snapshot.of(metric), new NodeId(1L));
+        metric.update(3);
+        adapter.update(Snapshot.of(metric), new NodeId(1L));
+
+        // then
+        assertThat(registry.getSampleValue(MAPPING_NAME, NODE_LABEL, new String[] {"1", "0.999"}))
+                .isCloseTo(3.0, offset(EPSILON));
+        assertThat(registry.getSampleValue(MAPPING_NAME + "_count", new String[] {"node"}, new String[] {"1"}))
+                .isCloseTo(2.0, offset(EPSILON));
+        assertThat(registry.getSampleValue(MAPPING_NAME + "_sum", new String[] {"node"}, new String[] {"1"}))
+                .isCloseTo(10.0, offset(EPSILON));
+    }
+
+    @Test
+    void testUpdateIgnoresValuesRecordedAfterSnapshot() {
+        // given
+        final CollectorRegistry registry = new CollectorRegistry();
+        final PlatformHistogramMetric metric = new PlatformHistogramMetric(new HistogramMetric.Config(CATEGORY, NAME));
+        for (long value = 1; value <= 10; value++) {
+            metric.update(value);
+        }
+        final HistogramAdapter adapter = new HistogramAdapter(registry, metric, GLOBAL);
+        final Snapshot snapshot = Snapshot.of(metric);
+        metric.update(1000);
+
+        // when
+        adapter.update(snapshot, null);
+
+        // then
+        assertThat(registry.getSampleValue(MAPPING_NAME, GLOBAL_LABEL, new String[] {"0.999"}))
+                .isCloseTo(10.0, offset(EPSILON));
+        assertThat(registry.getSampleValue(MAPPING_NAME + "_count")).isCloseTo(10.0, offset(EPSILON));
+        assertThat(registry.getSampleValue(MAPPING_NAME + "_sum")).isCloseTo(55.0, offset(EPSILON));
+    }
+
+    @Test
+    void testUnregister() {
+        // given
+        final CollectorRegistry registry = new CollectorRegistry();
+        final PlatformHistogramMetric metric = new PlatformHistogramMetric(new HistogramMetric.Config(CATEGORY, NAME));
+        final HistogramAdapter adapter = new HistogramAdapter(registry, metric, GLOBAL);
+
+        // when
+        adapter.unregister(registry);
+
+        // then
+        assertThat(registry.metricFamilySamples().hasMoreElements()).isFalse();
+    }
+
+    @Test
+    void testUpdateWithNullParameters() {
+        // given
+        final CollectorRegistry registry = new CollectorRegistry();
+        final PlatformHistogramMetric metric = new PlatformHistogramMetric(new HistogramMetric.Config(CATEGORY, NAME));
+        final HistogramAdapter adapter = new HistogramAdapter(registry, metric, PLATFORM);
+        final NodeId nodeId = new NodeId(1L);
+
+        // then
+        assertThatThrownBy(() -> adapter.update(null, null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> adapter.update(null, nodeId)).isInstanceOf(NullPointerException.class);
+    }
+}
@@ -23,6 +23,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.swirlds.common.wiring.schedulers.builders.TaskSchedulerConfiguration;
 import com.swirlds.common.wiring.schedulers.builders.TaskSchedulerType;
+import com.swirlds.common.wiring.schedulers.builders.TaskSchedulerWaitStrategy;
 import java.util.Random;
 import org.junit.jupiter.api.Test;
 
@@ -39,6 +40,7 @@ class TaskSchedulerConfigurationTests {
         assertNull(config.busyFractionMetricEnabled());
         assertNull(config.flushingEnabled());
         assertNull(config.squelchingEnabled());
+        assertNull(config.waitStrategy());
     }
 
     @Test
@@ -102,6 +104,15 @@ class TaskSchedulerConfigurationTests {
                 expectedSquelchingEnabled = null;
             }
 
+            final TaskSchedulerWaitStrategy expectedWaitStrategy;
+            if (random.nextBoolean()) {
+                expectedWaitStrategy = TaskSchedulerWaitStrategy.values()[
+                        random.nextInt(TaskSchedulerWaitStrategy.values().length)];
+                configStringBuilder.append("WAIT(").append(expectedWaitStrategy).append(") ");
+            } else {
+                expectedWaitStrategy = null;
+            }
+
             final String configString = configStringBuilder.toString();
 
             final TaskSchedulerConfiguration config = TaskSchedulerConfiguration.parse(configString);
@@ -112,6 +123,7 @@ class TaskSchedulerConfigurationTests {
             assertEquals(expectedBusyFractionMetricEnabled, config.busyFractionMetricEnabled());
             assertEquals(expectedFlushingEnabled, config.flushingEnabled());
             assertEquals(expectedSquelchingEnabled, config.squelchingEnabled());
+            assertEquals(expectedWaitStrategy, config.waitStrategy());
         }
     }
 
@@ -145,11 +157,13 @@ class TaskSchedulerConfigurationTests {
         assertThrows(
                 IllegalArgumentException.class, () -> TaskSchedulerConfiguration.parse("SQUELCHABLE !SQUELCHABLE"));
         assertThrows(IllegalArgumentException.class, () -> TaskSchedulerConfiguration.parse("SQUELCHABLE SQUELCHABLE"));
+        assertThrows(IllegalArgumentException.class, () -> TaskSchedulerConfiguration.parse("WAIT(SPIN) WAIT(PARK)"));
     }
 
     @Test
     void unmatchedFieldTest() {
         assertThrows(
                 IllegalArgumentException.class, () -> TaskSchedulerConfiguration.parse("DIRECT CAPACITY(100) QWERTY"));
+        assertThrows(IllegalArgumentException.class, () -> TaskSchedulerConfiguration.parse("WAIT(SLEEP)"));
     }
 }
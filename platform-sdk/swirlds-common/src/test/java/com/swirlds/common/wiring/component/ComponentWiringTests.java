@@ -28,6 +28,7 @@ import com.swirlds.common.wiring.schedulers.builders.TaskSchedulerConfiguration;
 import com.swirlds.common.wiring.wires.input.InputWire;
 import com.swirlds.common.wiring.wires.output.OutputWire;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicLong;
@@ -144,6 +145,25 @@ public class ComponentWiringTests {
         }
     }
 
+    private interface BatchComponent {
+        @InputWireLabel("values")
+        @NonNull
+        Long handleValues(@NonNull List<Integer> values);
+    }
+
+    private static class BatchComponentImpl implements BatchComponent {
+        private long sum = 0;
+
+        @Override
+        @NonNull
+        public Long handleValues(@NonNull final List<Integer> values) {
+            for (final Integer value : values) {
+                sum += value;
+            }
+            return sum;
+        }
+    }
+
     /**
      * The framework should not permit methods that aren't on the component to be wired.
      */
@@ -534,4 +554,43 @@ public class ComponentWiringTests {
 
         assertEquals(expectedOutputData, outputData);
     }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1})
+    void batchInputWireTest(final int bindLocation) {
+        final PlatformContext platformContext =
+                TestPlatformContextBuilder.create().build();
+
+        final WiringModel wiringModel =
+                WiringModelBuilder.create(platformContext).build();
+
+        final TaskSchedulerConfiguration schedulerConfiguration = TaskSchedulerConfiguration.parse("DIRECT");
+
+        final ComponentWiring<BatchComponent, Long> componentWiring =
+                new ComponentWiring<>(wiringModel, BatchComponent.class, schedulerConfiguration);
+
+        if (bindLocation == 0) {
+            componentWiring.bind(new BatchComponentImpl());
+        }
+
+        final InputWire<Integer> valuesInput =
+                componentWiring.getBatchInputWire(BatchComponent::handleValues, 10, Duration.ZERO);
+        assertEquals("values", valuesInput.getName());
+        assertSame(valuesInput, componentWiring.getBatchInputWire(BatchComponent::handleValues, 10, Duration.ZERO));
+
+        final AtomicLong outputValue = new AtomicLong();
+        componentWiring.getOutputWire().solderTo("outputHandler", "output", outputValue::set);
+
+        if (bindLocation == 1) {
+            componentWiring.bind(new BatchComponentImpl());
+        }
+
+        long expectedSum = 0;
+        for (int i = 0; i < 100; i++) {
+            expectedSum += i;
+            // a direct scheduler passes each value as a batch of one
+            valuesInput.put(i);
+            assertEquals(expectedSum, outputValue.get());
+        }
+    }
 }
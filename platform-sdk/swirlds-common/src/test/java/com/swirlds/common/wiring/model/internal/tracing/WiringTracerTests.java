@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.wiring.model.internal.tracing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.swirlds.base.test.fixtures.time.FakeTime;
+import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
+import com.swirlds.common.wiring.model.WiringModel;
+import com.swirlds.common.wiring.model.WiringModelBuilder;
+import com.swirlds.common.wiring.schedulers.TaskScheduler;
+import com.swirlds.common.wiring.schedulers.builders.TaskSchedulerType;
+import com.swirlds.common.wiring.wires.input.BindableInputWire;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class WiringTracerTests {
+
+    @Test
+    void histogramTest() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMean());
+        assertEquals(0, histogram.getPercentile(50));
+
+        for (int i = 0; i < 99; i++) {
+            histogram.record(1_000);
+        }
+        histogram.record(1_000_000);
+
+        assertEquals(100, histogram.getCount());
+        assertEquals(99 * 1_000 + 1_000_000, histogram.getTotal());
+        assertEquals((99 * 1_000 + 1_000_000) / 100, histogram.getMean());
+
+        // percentiles are the upper bound of the power of two bucket that contains them
+        assertEquals(1024, histogram.getPercentile(50));
+        assertEquals(1024, histogram.getPercentile(99));
+        assertEquals(1 << 20, histogram.getPercentile(100));
+    }
+
+    @Test
+    void tracedWireTest() {
+        final FakeTime time = new FakeTime();
+        final PlatformContext platformContext =
+                TestPlatformContextBuilder.create().withTime(time).build();
+        final WiringModel model = WiringModelBuilder.create(platformContext)
+                .withTracingEnabled(true)
+                .withTracingSamplePeriod(1)
+                .withTracingReportPeriod(Duration.ZERO)
+                .build();
+
+        final TaskScheduler<Void> scheduler = model.<Void>schedulerBuilder("tracedScheduler")
+                .withType(TaskSchedulerType.DIRECT)
+                .build();
+        final BindableInputWire<Integer, Void> inputWire = scheduler.buildInputWire("traced input");
+        inputWire.bindConsumer(x -> time.tick(Duration.ofMillis(5)));
+
+        for (int i = 0; i < 10; i++) {
+            inputWire.put(i);
+        }
+
+        final String report = model.generateTraceReport();
+        assertTrue(report.contains("tracedScheduler / traced input"), report);
+        assertTrue(report.contains("tracedScheduler;traced input;handle 50000"), report);
+        assertTrue(report.contains("tracedScheduler;traced input;queue 0"), report);
+    }
+
+    @Test
+    void wiringDiagramTest() {
+        final FakeTime time = new FakeTime();
+        final PlatformContext platformContext =
+                TestPlatformContextBuilder.create().withTime(time).build();
+        final WiringModel model = WiringModelBuilder.create(platformContext)
+                .withTracingEnabled(true)
+                .withTracingSamplePeriod(1)
+                .withTracingReportPeriod(Duration.ZERO)
+                .build();
+
+        final TaskScheduler<Void> scheduler = model.<Void>schedulerBuilder("tracedScheduler")
+                .withType(TaskSchedulerType.DIRECT)
+                .build();
+        final BindableInputWire<Integer, Void> inputWire = scheduler.buildInputWire("traced input");
+        inputWire.bindConsumer(x -> time.tick(Duration.ofMillis(5)));
+        final TaskScheduler<Void> idleScheduler = model.<Void>schedulerBuilder("idleScheduler")
+                .withType(TaskSchedulerType.DIRECT)
+                .build();
+        idleScheduler.buildInputWire("idle input").bindConsumer(x -> {});
+
+        for (int i = 0; i < 10; i++) {
+            inputWire.put(i);
+        }
+
+        final String diagram = model.generateWiringDiagram(List.of(), List.of(), List.of(), false);
+        assertTrue(diagram.contains("tracedScheduler<br />queue 0us, handle 5000us"), diagram);
+        assertFalse(diagram.contains("idleScheduler<br />"), diagram);
+    }
+
+    @Test
+    void tracingDisabledTest() {
+        final WiringModel model = WiringModelBuilder.create(
+                        TestPlatformContextBuilder.create().build())
+                .build();
+        assertEquals("Wire tracing is not enabled", model.generateTraceReport());
+    }
+}
@@ -25,11 +25,13 @@ import static com.swirlds.common.utility.NonCryptographicHashing.hash32;
 import static com.swirlds.common.wiring.schedulers.builders.TaskSchedulerBuilder.UNLIMITED_CAPACITY;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.swirlds.base.test.fixtures.time.FakeTime;
 import com.swirlds.common.TestWiringModelBuilder;
 import com.swirlds.common.context.PlatformContext;
 import com.swirlds.common.test.fixtures.RandomUtils;
@@ -40,14 +42,18 @@ import com.swirlds.common.wiring.counters.ObjectCounter;
 import com.swirlds.common.wiring.model.WiringModel;
 import com.swirlds.common.wiring.model.WiringModelBuilder;
 import com.swirlds.common.wiring.schedulers.builders.TaskSchedulerType;
+import com.swirlds.common.wiring.schedulers.builders.TaskSchedulerWaitStrategy;
 import com.swirlds.common.wiring.wires.SolderType;
 import com.swirlds.common.wiring.wires.input.BindableInputWire;
 import com.swirlds.common.wiring.wires.output.StandardOutputWire;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -56,6 +62,7 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
 class SequentialTaskSchedulerTests {
@@ -456,7 +463,7 @@ class SequentialTaskSchedulerTests {
      * Make sure backpressure works.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_RING_BUFFER"})
     void backpressureTest(final String typeString) throws InterruptedException {
 
         final PlatformContext platformContext =
@@ -879,7 +886,7 @@ class SequentialTaskSchedulerTests {
      * Make sure backpressure works when there are multiple channels.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_RING_BUFFER"})
     void multipleChannelBackpressureTest(final String typeString) throws InterruptedException {
         final PlatformContext platformContext =
                 TestPlatformContextBuilder.create().build();
@@ -1110,7 +1117,7 @@ class SequentialTaskSchedulerTests {
      * Validate the behavior of the flush() method.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_RING_BUFFER"})
     void flushTest(final String typeString) throws InterruptedException {
         final PlatformContext platformContext =
                 TestPlatformContextBuilder.create().build();
@@ -1440,7 +1447,7 @@ class SequentialTaskSchedulerTests {
      * Solder together a simple sequence of wires.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_RING_BUFFER"})
     void simpleSolderingTest(final String typeString) {
         final WiringModel model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -1509,7 +1516,7 @@ class SequentialTaskSchedulerTests {
      * Test soldering to a lambda function.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_RING_BUFFER"})
     void lambdaSolderingTest(final String typeString) {
         final WiringModel model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -2005,7 +2012,7 @@ class SequentialTaskSchedulerTests {
     }
 
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_RING_BUFFER"})
     void multipleOutputChannelsTest(final String typeString) {
         final WiringModel model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -2424,7 +2431,7 @@ class SequentialTaskSchedulerTests {
     }
 
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_RING_BUFFER"})
     void squelching(final String typeString) {
         final WiringModel model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -2496,4 +2503,333 @@ class SequentialTaskSchedulerTests {
 
         model.stop();
     }
+
+    @Test
+    void ringBufferRequiresCapacityTest() {
+        final WiringModel model = TestWiringModelBuilder.create();
+
+        assertThrows(IllegalStateException.class, () -> model.schedulerBuilder("test")
+                .withType(TaskSchedulerType.SEQUENTIAL_RING_BUFFER)
+                .withUnhandledTaskCapacity(UNLIMITED_CAPACITY)
+                .build());
+    }
+
+    /**
+     * Several threads put values into a ring buffer scheduler with a small capacity, so that the buffer wraps around
+     * many times. Values from each thread must be handled in the order that thread put them.
+     */
+    @ParameterizedTest
+    @EnumSource(TaskSchedulerWaitStrategy.class)
+    void ringBufferMultipleProducersTest(final TaskSchedulerWaitStrategy waitStrategy) throws InterruptedException {
+        final PlatformContext platformContext =
+                TestPlatformContextBuilder.create().build();
+        final WiringModel model = WiringModelBuilder.create(platformContext)
+                .withHardBackpressureEnabled(true)
+                .build();
+
+        final int producerCount = 4;
+        final int valuesPerProducer = 10_000;
+
+        final int[] nextExpected = new int[producerCount];
+        final AtomicBoolean outOfOrder = new AtomicBoolean(false);
+        final AtomicInteger handled = new AtomicInteger();
+        final Consumer<Integer> handler = x -> {
+            final int producer = x / valuesPerProducer;
+            if (x % valuesPerProducer != nextExpected[producer]) {
+                outOfOrder.set(true);
+            }
+            nextExpected[producer]++;
+            handled.incrementAndGet();
+        };
+
+        final TaskScheduler<Void> taskScheduler = model.schedulerBuilder("test")
+                .withType(TaskSchedulerType.SEQUENTIAL_RING_BUFFER)
+                .withWaitStrategy(waitStrategy)
+                .withUnhandledTaskCapacity(4)
+                .withFlushingEnabled(true)
+                .build()
+                .cast();
+        final BindableInputWire<Integer, Void> channel = taskScheduler.buildInputWire("channel");
+        channel.bindConsumer(handler);
+
+        model.start();
+
+        final CountDownLatch done = new CountDownLatch(producerCount);
+        for (int producer = 0; producer < producerCount; producer++) {
+            final int base = producer * valuesPerProducer;
+            new ThreadConfiguration(getStaticThreadManager())
+                    .setRunnable(() -> {
+                        for (int i = 0; i < valuesPerProducer; i++) {
+                            // mix the insertion methods, injection may go past the capacity
+                            if (i % 10 == 0) {
+                                channel.inject(base + i);
+                            } else {
+                                channel.put(base + i);
+                            }
+                        }
+                        done.countDown();
+                    })
+                    .build(true);
+        }
+
+        assertTrue(done.await(10, SECONDS), "producers did not finish");
+        taskScheduler.flush();
+
+        assertEquals(producerCount * valuesPerProducer, handled.get());
+        assertFalse(outOfOrder.get(), "values from a producer were handled out of order");
+
+        model.stop();
+    }
+
+    /**
+     * Without backpressure, putting into a ring buffer scheduler whose handler is stuck must not block, even long after
+     * the buffer is full. Values must still be handled in the order they were put once the handler is unstuck.
+     */
+    @ParameterizedTest
+    @EnumSource(TaskSchedulerWaitStrategy.class)
+    void ringBufferOverflowTest(final TaskSchedulerWaitStrategy waitStrategy) throws InterruptedException {
+        final PlatformContext platformContext =
+                TestPlatformContextBuilder.create().build();
+        final WiringModel model = WiringModelBuilder.create(platformContext)
+                .withHardBackpressureEnabled(false)
+                .build();
+
+        final CountDownLatch latch = new CountDownLatch(1);
+        final List<Integer> handledValues = new ArrayList<>();
+        final Consumer<Integer> handler = x -> {
+            try {
+                if (x == 0) {
+                    latch.await();
+                }
+            } catch (final InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            handledValues.add(x);
+        };
+
+        final TaskScheduler<Void> taskScheduler = model.schedulerBuilder("test")
+                .withType(TaskSchedulerType.SEQUENTIAL_RING_BUFFER)
+                .withWaitStrategy(waitStrategy)
+                .withUnhandledTaskCapacity(4)
+                .withFlushingEnabled(true)
+                .build()
+                .cast();
+        final BindableInputWire<Integer, Void> channel = taskScheduler.buildInputWire("channel");
+        channel.bindConsumer(handler);
+
+        model.start();
+
+        // the buffer has 8 slots, everything after that must go to the overflow queue
+        final int count = 1_000;
+        completeBeforeTimeout(
+                () -> {
+                    for (int i = 0; i < count; i++) {
+                        if (i % 3 == 0) {
+                            channel.inject(i);
+                        } else {
+                            channel.put(i);
+                        }
+                    }
+                },
+                Duration.ofSeconds(10),
+                "inserting into a full ring buffer should not block");
+        assertEquals(count, taskScheduler.getUnprocessedTaskCount());
+
+        latch.countDown();
+        taskScheduler.flush();
+
+        // values put after the overflow queue has been drained go back into the buffer
+        for (int i = count; i < 2 * count; i++) {
+            channel.put(i);
+        }
+        taskScheduler.flush();
+
+        assertEquals(2 * count, handledValues.size());
+        for (int i = 0; i < 2 * count; i++) {
+            assertEquals(i, handledValues.get(i), "values were handled out of order");
+        }
+
+        model.stop();
+    }
+
+    /**
+     * Consecutive values on a batch wire should be handed to the handler together by schedulers that can drain their
+     * queue, without being reordered relative to values on other wires.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_RING_BUFFER"})
+    void batchInputWireTest(final String typeString) throws InterruptedException {
+        final WiringModel model = TestWiringModelBuilder.create();
+        final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
+
+        final TaskScheduler<Void> taskScheduler = model.schedulerBuilder("test")
+                .withType(type)
+                .withUnhandledTaskCapacity(100)
+                .withFlushingEnabled(true)
+                .build()
+                .cast();
+
+        final List<Integer> handledValues = new CopyOnWriteArrayList<>();
+        final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+        final CountDownLatch gateEntered = new CountDownLatch(1);
+        final CountDownLatch gateReleased = new CountDownLatch(1);
+        final BindableInputWire<Integer, Void> gate = taskScheduler.buildInputWire("gate");
+        gate.bindConsumer(x -> {
+            gateEntered.countDown();
+            try {
+                gateReleased.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        final BindableInputWire<Integer, Void> batchChannel = taskScheduler.buildInputWire("batch");
+        batchChannel.bindBatchConsumer(
+                batch -> {
+                    batchSizes.add(batch.size());
+                    handledValues.addAll(batch);
+                },
+                10,
+                Duration.ZERO);
+
+        final BindableInputWire<Integer, Void> otherChannel = taskScheduler.buildInputWire("other");
+        otherChannel.bindConsumer(handledValues::add);
+
+        model.start();
+
+        // Block the scheduler so that everything below is queued before any of it is handled
+        gate.put(0);
+        assertTrue(gateEntered.await(10, SECONDS), "gate was not handled");
+
+        final List<Integer> expectedValues = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            batchChannel.put(i);
+            expectedValues.add(i);
+        }
+        otherChannel.put(1000);
+        expectedValues.add(1000);
+        for (int i = 25; i < 30; i++) {
+            batchChannel.put(i);
+            expectedValues.add(i);
+        }
+
+        assertEquals(32, taskScheduler.getUnprocessedTaskCount());
+        gateReleased.countDown();
+        taskScheduler.flush();
+
+        assertEquals(expectedValues, handledValues);
+        assertEquals(0, taskScheduler.getUnprocessedTaskCount());
+        if (type == TaskSchedulerType.SEQUENTIAL) {
+            assertEquals(30, batchSizes.size());
+            assertTrue(batchSizes.stream().allMatch(size -> size == 1));
+        } else {
+            assertEquals(List.of(10, 10, 5, 5), batchSizes);
+        }
+
+        model.stop();
+    }
+
+    /**
+     * A batch that is not full should wait for more values until the maximum batch delay has passed.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"SEQUENTIAL_THREAD", "SEQUENTIAL_RING_BUFFER"})
+    void batchInputWireDelayTest(final String typeString) throws InterruptedException {
+        final WiringModel model = TestWiringModelBuilder.create();
+        final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
+
+        final TaskScheduler<Void> taskScheduler = model.schedulerBuilder("test")
+                .withType(type)
+                .withUnhandledTaskCapacity(100)
+                .withFlushingEnabled(true)
+                .build()
+                .cast();
+
+        final List<List<Integer>> batches = new CopyOnWriteArrayList<>();
+        final BindableInputWire<Integer, Void> channel = taskScheduler.buildInputWire("channel");
+        channel.bindBatchConsumer(batch -> batches.add(List.copyOf(batch)), 5, Duration.ofSeconds(10));
+
+        model.start();
+
+        // Values trickle in, but the batch is held open until it is full
+        for (int i = 0; i < 5; i++) {
+            channel.put(i);
+            MILLISECONDS.sleep(10);
+        }
+        taskScheduler.flush();
+
+        assertEquals(List.of(List.of(0, 1, 2, 3, 4)), batches);
+
+        model.stop();
+    }
+
+    /**
+     * Tasks chosen to be measured by tracing should be batched like any other task, and the measurements should
+     * describe the batches they were handled in.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"SEQUENTIAL_THREAD", "SEQUENTIAL_RING_BUFFER"})
+    void tracedBatchInputWireTest(final String typeString) throws InterruptedException {
+        final FakeTime time = new FakeTime();
+        final PlatformContext platformContext =
+                TestPlatformContextBuilder.create().withTime(time).build();
+        final WiringModel model = WiringModelBuilder.create(platformContext)
+                .withTracingEnabled(true)
+                .withTracingSamplePeriod(1)
+                .withTracingReportPeriod(Duration.ZERO)
+                .build();
+        final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
+
+        final TaskScheduler<Void> taskScheduler = model.schedulerBuilder("test")
+                .withType(type)
+                .withUnhandledTaskCapacity(100)
+                .withFlushingEnabled(true)
+                .build()
+                .cast();
+
+        final CountDownLatch gateEntered = new CountDownLatch(1);
+        final CountDownLatch gateReleased = new CountDownLatch(1);
+        final BindableInputWire<Integer, Void> gate = taskScheduler.buildInputWire("gate");
+        gate.bindConsumer(x -> {
+            gateEntered.countDown();
+            try {
+                gateReleased.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        final BindableInputWire<Integer, Void> batchChannel = taskScheduler.buildInputWire("batch");
+        batchChannel.bindBatchConsumer(
+                batch -> {
+                    batchSizes.add(batch.size());
+                    time.tick(Duration.ofMillis(10));
+                },
+                10,
+                Duration.ZERO);
+
+        model.start();
+
+        // Block the scheduler so that every task is queued before any of it is handled
+        gate.put(0);
+        assertTrue(gateEntered.await(10, SECONDS), "gate was not handled");
+        for (int i = 0; i < 30; i++) {
+            batchChannel.put(i);
+        }
+        gateReleased.countDown();
+        taskScheduler.flush();
+
+        // Every task was measured, and none of them split a batch
+        assertEquals(List.of(10, 10, 10), batchSizes);
+
+        // Each task waited for the batches before its own, 0, 10 or 20 milliseconds, and is charged with a tenth of
+        // the 10 milliseconds its batch took to handle
+        final String report = model.generateTraceReport();
+        assertTrue(report.contains("test;batch;queue 300000"), report);
+        assertTrue(report.contains("test;batch;handle 30000"), report);
+
+        model.stop();
+    }
 }
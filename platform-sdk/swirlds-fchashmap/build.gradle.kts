@@ -25,4 +25,5 @@ testModuleInfo {
     requires("com.swirlds.base")
     requires("com.swirlds.common.test.fixtures")
     requires("org.junit.jupiter.api")
+    requires("org.junit.jupiter.params")
 }
@@ -22,7 +22,9 @@ import com.swirlds.common.FastCopyable;
 import com.swirlds.common.exceptions.ReferenceCountException;
 import com.swirlds.fchashmap.internal.FCHashMapEntrySet;
 import com.swirlds.fchashmap.internal.FCHashMapFamily;
+import com.swirlds.fchashmap.internal.FCHashMapStatistics;
 import com.swirlds.fchashmap.internal.Mutation;
+import com.swirlds.metrics.api.Metrics;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.util.AbstractMap;
 import java.util.Set;
@@ -58,6 +60,13 @@ import java.util.concurrent.atomic.AtomicInteger;
  *     <li>calling {@link #release()} concurrently with read or write operations</li>
  * </ul>
  *
+ * <p>
+ * Reads never lock, no matter how many copies exist. A read takes longer the more mutations of its key have not yet
+ * been purged, so copies that are kept alive for a long time slow down reads of keys that are modified frequently.
+ * Maps created with background purging release copies cheaply and purge them incrementally on a background thread,
+ * see {@link #FCHashMap(int, boolean)}.
+ * </p>
+ *
  * @param <K> the type of the key
  * @param <V> the type of the value
  */
@@ -114,8 +123,20 @@ public class FCHashMap<K, V> extends AbstractMap<K, V> implements FastCopyable {
      * @param capacity the initial capacity of the map
      */
     public FCHashMap(final int capacity) {
+        this(capacity, false);
+    }
+
+    /**
+     * Create a new FCHashMap.
+     *
+     * @param capacity          the initial capacity of the map
+     * @param backgroundPurging if true then mutations that are no longer needed after a copy is released are purged
+     *                          on a background thread in small steps, otherwise they are purged by
+     *                          {@link #release()}
+     */
+    public FCHashMap(final int capacity, final boolean backgroundPurging) {
 
-        family = new FCHashMapFamily<>(capacity);
+        family = new FCHashMapFamily<>(capacity, backgroundPurging);
         version = 0;
 
         immutable = false;
@@ -157,6 +178,17 @@ public class FCHashMap<K, V> extends AbstractMap<K, V> implements FastCopyable {
         }
     }
 
+    /**
+     * Register metrics for the family of this map: the distribution of the lengths of the mutation chains, the number
+     * of purged mutations and the number of purging events waiting for the background purger.
+     *
+     * @param metrics the metrics system
+     * @param label   the label of the map, used in the names of the metrics
+     */
+    public void registerMetrics(@NonNull final Metrics metrics, @NonNull final String label) {
+        family.setStatistics(new FCHashMapStatistics(metrics, label));
+    }
+
     /**
      * {@inheritDoc}
      */
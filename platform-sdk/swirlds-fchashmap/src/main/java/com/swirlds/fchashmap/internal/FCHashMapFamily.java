@@ -16,9 +16,12 @@
 
 package com.swirlds.fchashmap.internal;
 
+import static com.swirlds.common.threading.manager.AdHocThreadManager.getStaticThreadManager;
+import static com.swirlds.logging.legacy.LogMarker.EXCEPTION;
 import static java.util.Objects.requireNonNull;
 
 import com.swirlds.common.FastCopyable;
+import com.swirlds.common.threading.framework.config.ThreadConfiguration;
 import com.swirlds.common.threading.locks.AutoClosableLock;
 import com.swirlds.common.threading.locks.Locks;
 import com.swirlds.common.threading.locks.locked.Locked;
@@ -26,17 +29,31 @@ import com.swirlds.common.utility.UnmodifiableIterator;
 import com.swirlds.common.utility.ValueReference;
 import com.swirlds.fchashmap.FCHashMap;
 import com.swirlds.fchashmap.ModifiableValue;
+import java.util.ArrayDeque;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 /**
  * A family of {@link FCHashMap}s. Each map in the family is a descendant-copy or an ancestor-copy of all other
  * maps in the family. The newest map in the family is always mutable, and any older maps in the family are always
  * immutable.
+ * <p>
+ * Reads never lock and never wait: a read walks the mutation chain of its key from the newest mutation backwards,
+ * which takes as many steps as there are un-purged mutations of that key newer than the version being read. Purging
+ * keeps these chains short. By default the mutations that a released copy no longer needs are purged by the thread
+ * that releases the copy. With background purging, releasing a copy only unlinks it from the family, and its
+ * mutations are purged on a shared background thread in steps of at most {@link #PURGE_STEP_SIZE} mutations, so
+ * releasing a copy never stalls behind a large purge.
  *
  * @param <K>
  * 		the type of the keys in this family of maps
@@ -48,6 +65,36 @@ public class FCHashMapFamily<K, V> {
     private static final float LOAD_FACTOR = 0.75F;
     private static final int CONCURRENCY_LEVEL = 1024;
 
+    private static final Logger logger = LogManager.getLogger(FCHashMapFamily.class);
+
+    /**
+     * The maximum number of purging events the background purger handles while holding the deletion lock.
+     */
+    public static final int PURGE_STEP_SIZE = 1024;
+
+    /**
+     * The length of the mutation chain is recorded for one in this many purged keys. Walking a long chain touches a
+     * lot of memory, so doing it for every key would slow down purging noticeably.
+     */
+    private static final int CHAIN_LENGTH_SAMPLING_INTERVAL = 64;
+
+    /**
+     * The thread that purges released copies of all families that use background purging.
+     */
+    private static Executor purgingPool = null;
+
+    private static synchronized Executor getPurgingPool() {
+        if (purgingPool == null) {
+            purgingPool = Executors.newSingleThreadExecutor(new ThreadConfiguration(getStaticThreadManager())
+                    .setComponent("fchashmap")
+                    .setThreadName("purger")
+                    .setExceptionHandler((t, ex) ->
+                            logger.error(EXCEPTION.getMarker(), "Failed to purge released FCHashMap copies", ex))
+                    .buildFactory());
+        }
+        return purgingPool;
+    }
+
     /**
      * Contains the data of all copies that have not been purged.
      */
@@ -75,6 +122,45 @@ public class FCHashMapFamily<K, V> {
      */
     private final AutoClosableLock deletionLock = Locks.createAutoLock();
 
+    /**
+     * If true then released copies are purged on the background purging thread, otherwise they are purged
+     * by the thread that releases them.
+     */
+    private final boolean backgroundPurging;
+
+    /**
+     * Released maps whose purging events have not yet been handled. Only accessed while holding the deletion lock.
+     */
+    private final Queue<UnPurgedMap<K, V>> pendingPurging = new ArrayDeque<>();
+
+    /**
+     * The purging events of the head of {@link #pendingPurging} that have not yet been handled, or null if
+     * handling the head has not started yet. Only accessed while holding the deletion lock.
+     */
+    private Iterator<PurgingEvent<K, V>> pendingPurgingEvents;
+
+    /**
+     * The number of purging events in {@link #pendingPurging} that have not yet been handled. Only accessed
+     * while holding the deletion lock.
+     */
+    private long pendingPurgingEventCount;
+
+    /**
+     * True while a purging step for this family is queued on, or running on, the background purging thread.
+     */
+    private final AtomicBoolean purgingScheduled = new AtomicBoolean(false);
+
+    /**
+     * Statistics of this family, or null if no metrics have been registered.
+     */
+    private volatile FCHashMapStatistics statistics;
+
+    /**
+     * The number of purging events handled so far, used to sample mutation chain lengths. Only accessed while holding
+     * the deletion lock.
+     */
+    private long purgingEventsHandled;
+
     /**
      * Initiate a family of {@link FCHashMap}s.
      *
@@ -82,6 +168,19 @@ public class FCHashMapFamily<K, V> {
      * 		the initial capacity of the map
      */
     public FCHashMapFamily(final int capacity) {
+        this(capacity, false);
+    }
+
+    /**
+     * Initiate a family of {@link FCHashMap}s.
+     *
+     * @param capacity
+     * 		the initial capacity of the map
+     * @param backgroundPurging
+     * 		if true then released copies are purged on a background thread
+     */
+    public FCHashMapFamily(final int capacity, final boolean backgroundPurging) {
+        this.backgroundPurging = backgroundPurging;
         data = new ConcurrentHashMap<>(capacity, LOAD_FACTOR, CONCURRENCY_LEVEL);
         mutableMap = new UnPurgedMap<>(0L);
         oldestMap = mutableMap;
@@ -102,6 +201,16 @@ public class FCHashMapFamily<K, V> {
         return data;
     }
 
+    /**
+     * Start recording statistics for this family.
+     *
+     * @param statistics
+     * 		the statistics to record
+     */
+    public void setStatistics(final FCHashMapStatistics statistics) {
+        this.statistics = requireNonNull(statistics, "statistics must not be null");
+    }
+
     /**
      * This must be called every time a new {@link FCHashMap} copy is created.
      *
@@ -394,6 +503,10 @@ public class FCHashMapFamily<K, V> {
      * 		around to purging their data yet.
      * @param currentMapVersion
      * 		the version of the map that is being purged
+     * @param statistics
+     * 		the statistics of the family, or null if no statistics are recorded
+     * @param recordChainLength
+     * 		if true then the length of the mutation chain of the key is recorded in the statistics
      * @param <K>
      * 		the type of the key
      * @param <V>
@@ -403,7 +516,9 @@ public class FCHashMapFamily<K, V> {
             Mutation<V> target,
             long nextUndeletedVersion,
             Map<Long, UnPurgedMap<K, V>> mapsNeedingPurging,
-            long currentMapVersion)
+            long currentMapVersion,
+            FCHashMapStatistics statistics,
+            boolean recordChainLength)
             implements BiFunction<K, Mutation<V>, Mutation<V>> {
 
         /**
@@ -432,6 +547,9 @@ public class FCHashMapFamily<K, V> {
                 if (target.getPrevious() != null) {
                     target.getPrevious().setNext(next);
                 }
+                if (statistics != null) {
+                    statistics.countPurgedMutation();
+                }
 
             } else {
                 // This mutation is currently visible to an undeleted map.
@@ -445,6 +563,14 @@ public class FCHashMapFamily<K, V> {
                 }
             }
 
+            if (recordChainLength) {
+                int length = 0;
+                for (Mutation<V> mutation = mutationHead; mutation != null; mutation = mutation.getPrevious()) {
+                    length++;
+                }
+                statistics.recordMutationChainLength(length);
+            }
+
             if (mutationHead.getValue() == null && mutationHead.getPrevious() == null) {
                 // If the last remaining mutation is a deletion record then it's safe to remove this key entirely.
                 return null;
@@ -477,9 +603,19 @@ public class FCHashMapFamily<K, V> {
         final long nextUndeletedVersion =
                 nextUndeletedVersionMap.getOrDefault(target.getVersion(), oldestMap.getVersion());
 
+        final FCHashMapStatistics currentStatistics = statistics;
+        final boolean recordChainLength =
+                currentStatistics != null && purgingEventsHandled++ % CHAIN_LENGTH_SAMPLING_INTERVAL == 0;
+
         data.compute(
                 purgingEvent.key(),
-                new PurgeMutationHandler<>(target, nextUndeletedVersion, mapsNeedingPurging, currentMapVersion));
+                new PurgeMutationHandler<>(
+                        target,
+                        nextUndeletedVersion,
+                        mapsNeedingPurging,
+                        currentMapVersion,
+                        currentStatistics,
+                        recordChainLength));
     }
 
     /**
@@ -495,6 +631,7 @@ public class FCHashMapFamily<K, V> {
                 // Once the mutable copy has been released there is no point in doing any additional work.
                 // Once the maps are no longer referenced by anything the JVM garbage collector will clean things up.
                 mutableMap = null;
+                clearPendingPurging();
                 return;
             }
 
@@ -521,10 +658,126 @@ public class FCHashMapFamily<K, V> {
                 oldestMap = oldestMap.getNext();
             }
 
+            if (backgroundPurging) {
+                pendingPurging.add(mapToDelete);
+                pendingPurgingEventCount += mapToDelete.getPurgingEventCount();
+                updatePendingPurgingStatistics();
+            } else {
+                final Map<Long, Long> nextUndeletedVersionMap = buildNextUndeletedVersionMap();
+                for (final PurgingEvent<K, V> event : mapToDelete) {
+                    purgeMutation(mapVersion, event, nextUndeletedVersionMap);
+                }
+                return;
+            }
+        }
+        schedulePurgingStep();
+    }
+
+    /**
+     * Handle purging events of released maps that have not been handled yet. Only does work if background purging
+     * is enabled, the background purging thread calls this method in steps of {@link #PURGE_STEP_SIZE}.
+     *
+     * <p>
+     * Each step builds its view of the undeleted maps from scratch, so it does not matter how many copies were
+     * created or released since the purging events were queued. Purging is only ever blocked by, and only ever
+     * blocks, the release of other copies in the same family.
+     * </p>
+     *
+     * @param maxEvents
+     * 		the maximum number of purging events to handle
+     * @return true if there are purging events left to handle
+     */
+    public boolean purge(final int maxEvents) {
+        try (final Locked locked = deletionLock.lock()) {
+            if (mutableMap == null) {
+                clearPendingPurging();
+                return false;
+            }
+            if (pendingPurging.isEmpty()) {
+                return false;
+            }
+
             final Map<Long, Long> nextUndeletedVersionMap = buildNextUndeletedVersionMap();
-            for (final PurgingEvent<K, V> event : mapToDelete) {
-                purgeMutation(mapVersion, event, nextUndeletedVersionMap);
+            int handled = 0;
+            while (handled < maxEvents && !pendingPurging.isEmpty()) {
+                final UnPurgedMap<K, V> map = pendingPurging.peek();
+                if (pendingPurgingEvents == null) {
+                    pendingPurgingEvents = map.iterator();
+                }
+                while (handled < maxEvents && pendingPurgingEvents.hasNext()) {
+                    purgeMutation(map.getVersion(), pendingPurgingEvents.next(), nextUndeletedVersionMap);
+                    handled++;
+                }
+                if (!pendingPurgingEvents.hasNext()) {
+                    pendingPurging.remove();
+                    pendingPurgingEvents = null;
+                }
+            }
+            pendingPurgingEventCount -= handled;
+            updatePendingPurgingStatistics();
+
+            return !pendingPurging.isEmpty();
+        }
+    }
+
+    /**
+     * Queue a purging step on the background purging thread, unless one is already queued.
+     */
+    private void schedulePurgingStep() {
+        if (purgingScheduled.compareAndSet(false, true)) {
+            getPurgingPool().execute(this::purgingStep);
+        }
+    }
+
+    /**
+     * Handle one step of purging events. If events remain then another step is queued behind the steps of other
+     * families, so that a single family with a large backlog does not starve the others.
+     */
+    private void purgingStep() {
+        try {
+            if (purge(PURGE_STEP_SIZE)) {
+                getPurgingPool().execute(this::purgingStep);
+                return;
             }
+        } catch (final RuntimeException e) {
+            purgingScheduled.set(false);
+            throw e;
+        }
+        purgingScheduled.set(false);
+        if (hasPendingPurging()) {
+            // A map was released after the last step found nothing left to purge, but before we cleared the flag
+            schedulePurgingStep();
+        }
+    }
+
+    /**
+     * Check if there are released maps whose purging events have not yet been handled.
+     *
+     * @return true if there is purging work pending
+     */
+    private boolean hasPendingPurging() {
+        try (final Locked locked = deletionLock.lock()) {
+            return mutableMap != null && !pendingPurging.isEmpty();
+        }
+    }
+
+    /**
+     * Drop all pending purging work. Must be called while holding the deletion lock.
+     */
+    private void clearPendingPurging() {
+        pendingPurging.clear();
+        pendingPurgingEvents = null;
+        pendingPurgingEventCount = 0;
+        updatePendingPurgingStatistics();
+    }
+
+    /**
+     * Publish the number of pending purging events. Must be called while holding the deletion lock.
+     */
+    private void updatePendingPurgingStatistics() {
+        final FCHashMapStatistics currentStatistics = statistics;
+        if (currentStatistics != null) {
+            currentStatistics.setPendingPurgingEvents(pendingPurgingEventCount);
         }
     }
 }
@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.fchashmap.internal;
+
+import com.swirlds.common.metrics.HistogramMetric;
+import com.swirlds.metrics.api.Counter;
+import com.swirlds.metrics.api.LongGauge;
+import com.swirlds.metrics.api.Metrics;
+import java.util.Objects;
+
+/**
+ * Encapsulates statistics for a family of {@link com.swirlds.fchashmap.FCHashMap}s.
+ */
+public class FCHashMapStatistics {
+
+    public static final String STAT_CATEGORY = "fchashmap";
+
+    /** Metric name prefix for all FCHashMap metric names */
+    private static final String FCHM_PREFIX = "fchm_";
+
+    /** Lengths of the mutation chains of the keys that have been visited by the purger */
+    private final HistogramMetric mutationChainLength;
+    /** Number of purging events that are waiting for the purger */
+    private final LongGauge pendingPurgingEvents;
+    /** Number of mutations removed by the purger */
+    private final Counter purgedMutations;
+
+    /**
+     * Register all statistics with a registry.
+     *
+     * @param metrics
+     * 		reference to the metrics system
+     * @param label
+     * 		the label for the family of maps
+     * @throws NullPointerException in case {@code metrics} or {@code label} parameter is {@code null}
+     */
+    public FCHashMapStatistics(final Metrics metrics, final String label) {
+        Objects.requireNonNull(metrics, "metrics must not be null");
+        Objects.requireNonNull(label, "label must not be null");
+        // "." may not appear in metric names
+        final String suffix = "_" + label.replace('.', '_');
+
+        mutationChainLength = metrics.getOrCreate(
+                new HistogramMetric.Config(STAT_CATEGORY, FCHM_PREFIX + "mutationChainLength" + suffix)
+                        .withDescription("Number of mutations of a key when it is visited by the purger, " + label));
+        pendingPurgingEvents = metrics.getOrCreate(
+                new LongGauge.Config(STAT_CATEGORY, FCHM_PREFIX + "pendingPurgingEvents" + suffix)
+                        .withDescription("Purging events waiting for the background purger, " + label));
+        purgedMutations = metrics.getOrCreate(
+                new Counter.Config(STAT_CATEGORY, FCHM_PREFIX + "purgedMutations" + suffix)
+                        .withDescription("Mutations removed by the purger, " + label));
+    }
+
+    /**
+     * Record the length of a mutation chain.
+     *
+     * @param length
+     * 		the number of mutations in the chain
+     */
+    public void recordMutationChainLength(final int length) {
+        mutationChainLength.update(length);
+    }
+
+    /**
+     * Set the number of purging events that are waiting for the background purger.
+     *
+     * @param count
+     * 		the number of pending purging events
+     */
+    public void setPendingPurgingEvents(final long count) {
+        pendingPurgingEvents.set(count);
+    }
+
+    /**
+     * Count a mutation that has been removed by the purger.
+     */
+    public void countPurgedMutation() {
+        purgedMutations.increment();
+    }
+}
@@ -145,6 +145,13 @@ public class UnPurgedMap<K, V> implements Iterable<PurgingEvent<K, V>> {
         purged = true;
     }
 
+    /**
+     * Get the number of keys that require garbage collection work when this copy is purged.
+     */
+    public synchronized int getPurgingEventCount() {
+        return purgingEvents.size();
+    }
+
     /**
      * Get an iterator over the garbage collection events.
      */
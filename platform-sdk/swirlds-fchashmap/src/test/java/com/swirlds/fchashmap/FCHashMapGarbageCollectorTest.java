@@ -29,7 +29,8 @@ import java.util.Map;
 import java.util.Random;
 import java.util.Set;
 import org.junit.jupiter.api.DisplayName;
-import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 @DisplayName("FCHashMap Garbage Collector Test")
 class FCHashMapGarbageCollectorTest {
@@ -38,6 +39,9 @@ class FCHashMapGarbageCollectorTest {
      * Check all mutations in all copies, verify that each mutation is required to exist.
      */
     private void assertValidity(final FCHashMapSeries<Integer, FCInt> copies) {
+        // Finish the work of the background purger, if any, so that only reachable mutations remain
+        copies.getLatest().getFamily().purge(Integer.MAX_VALUE);
+
         final Map<Integer, Mutation<FCInt>> data =
                 copies.getLatest().getFamily().getData();
 
@@ -76,9 +80,10 @@ class FCHashMapGarbageCollectorTest {
         assertTrue(mutations.isEmpty(), "all mutations should have been reachable");
     }
 
-    @Test
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
     @DisplayName("Leak Detection Test")
-    void leakDetectionTest() {
+    void leakDetectionTest(final boolean backgroundPurging) {
 
         final int maxKey = 10_000;
         final int iterations = 1_000_000;
@@ -86,7 +91,7 @@ class FCHashMapGarbageCollectorTest {
         final int copiesToKeep = 10;
         final int operationsPerValidation = 100_000;
 
-        final FCHashMapSeries<Integer, FCInt> copies = new FCHashMapSeries<>();
+        final FCHashMapSeries<Integer, FCInt> copies = new FCHashMapSeries<>(backgroundPurging);
         final Random random = getRandomPrintSeed();
 
         for (int iteration = 0; iteration < iterations; iteration++) {
@@ -38,8 +38,18 @@ public class FCHashMapSeries<K, V extends FastCopyable> implements Iterable<FCHa
      * Create a new series of FCHashMaps with a single mutable copy.
      */
     public FCHashMapSeries() {
+        this(false);
+    }
+
+    /**
+     * Create a new series of FCHashMaps with a single mutable copy.
+     *
+     * @param backgroundPurging
+     * 		if true then released copies are purged on a background thread
+     */
+    public FCHashMapSeries(final boolean backgroundPurging) {
         copies = new HashMap<>();
-        final FCHashMap<K, V> map = new FCHashMap<>();
+        final FCHashMap<K, V> map = new FCHashMap<>(0, backgroundPurging);
         latestVersion = map.getVersion();
         copies.put(map.getVersion(), map);
 
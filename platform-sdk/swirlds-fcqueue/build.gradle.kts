@@ -17,6 +17,7 @@
 plugins {
     id("com.hedera.gradle.platform")
     id("com.hedera.gradle.platform-publish")
+    id("com.hedera.gradle.feature.benchmark")
 }
 
 testModuleInfo {
@@ -28,3 +29,9 @@ testModuleInfo {
     requires("org.junit.jupiter.api")
     requires("org.junit.jupiter.params")
 }
+
+jmhModuleInfo {
+    requires("com.swirlds.common")
+    requires("com.swirlds.common.test.fixtures")
+    requires("jmh.core")
+}
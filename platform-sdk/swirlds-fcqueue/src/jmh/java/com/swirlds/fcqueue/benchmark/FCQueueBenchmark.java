@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.fcqueue.benchmark;
+
+import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.test.fixtures.fcqueue.FCInt;
+import com.swirlds.fcqueue.FCQueue;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures appending a batch of elements to an {@link FCQueue} and hashing the queue afterwards, as is done for the
+ * record and receipt queues once per round, element by element and with a single bulk append.
+ */
+@State(Scope.Thread)
+@Fork(value = 1)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FCQueueBenchmark {
+
+    @Param({"10000"})
+    public int batchSize;
+
+    /** The number of elements in the queue before the batch is appended */
+    @Param({"10000"})
+    public int queueSize;
+
+    private FCQueue<FCInt> queue;
+    private List<FCInt> batch;
+
+    @Setup(Level.Trial)
+    public void setupBatch() {
+        final Random random = new Random(42);
+        batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            batch.add(new FCInt(random.nextInt()));
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setupQueue() {
+        final FCQueue<FCInt> original = new FCQueue<>();
+        for (int i = 0; i < queueSize; i++) {
+            original.add(new FCInt(i));
+        }
+        original.getHash();
+        queue = original.copy();
+    }
+
+    @Benchmark
+    public Hash addOneByOne() {
+        for (final FCInt element : batch) {
+            queue.add(element);
+        }
+        return queue.getHash();
+    }
+
+    @Benchmark
+    public Hash addAll() {
+        queue.addAll(batch);
+        return queue.getHash();
+    }
+}
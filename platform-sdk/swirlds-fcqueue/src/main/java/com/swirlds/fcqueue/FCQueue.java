@@ -36,10 +36,12 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Queue;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
 
 /**
  * A threadsafe fast-copyable queue, each of whose elements is fast-copyable. Elements must always be inserted at the
@@ -93,6 +95,9 @@ public class FCQueue<E extends FastCopyable & SerializableHashable> extends Part
     /** A hash value representing a null element or a destroyed queue */
     private static final ImmutableHash NULL_HASH = new ImmutableHash(NULL_HASH_BYTES);
 
+    /** {@link #addAll(Collection)} hashes the elements of batches at least this large on multiple threads */
+    private static final int PARALLEL_HASH_THRESHOLD = 64;
+
     /** the number of elements in this queue */
     private int size;
 
@@ -195,33 +200,52 @@ public class FCQueue<E extends FastCopyable & SerializableHashable> extends Part
      * threads.</p>
      */
     private ImmutableHash computeHash() {
-        // Ensure we have tail's running hash
+        computeTailRunningHash();
+
+        // Compute the queue hash as a weighted difference of running hashes of head and tail
+        final long[] headHash = head.runningHash;
+        final long[] tailHash = tail.runningHash;
+        final long exponent = power(size);
+        final byte[] result = new byte[headHash.length * Long.BYTES];
+        for (int i = 0; i < headHash.length; ++i) {
+            longToByteArray(tailHash[i] - headHash[i] * exponent, result, i * Long.BYTES);
+        }
+        return new ImmutableHash(result);
+    }
+
+    /**
+     * Ensures the running hash of the tail node is known, computing the running hashes of all nodes from the first
+     * unhashed node of the queue group up to the tail.
+     */
+    private void computeTailRunningHash() {
         if (tail.runningHash == null) {
             Node<E> node = unhashed.get();
             while (tail.runningHash == null) {
                 final Node<E> next = node.next;
                 if (next.runningHash == null) {
-                    final byte[] elementHash = getHash(node.element);
-                    final long[] runningHash = node.runningHash.clone();
-                    for (int i = 0; i < runningHash.length; ++i) {
-                        runningHash[i] = runningHash[i] * HASH_RADIX + byteArrayToLong(elementHash, i * Long.BYTES);
-                    }
-                    next.runningHash = runningHash;
+                    next.runningHash = nextRunningHash(node.runningHash, getHash(node.element));
                 }
                 node = next;
             }
             unhashed.set(node); // it's OK to advance unhashed non-deterministically between multiple threads
         }
+    }
 
-        // Compute the queue hash as a weighted difference of running hashes of head and tail
-        final long[] headHash = head.runningHash;
-        final long[] tailHash = tail.runningHash;
-        final long exponent = power(size);
-        final byte[] result = new byte[headHash.length * Long.BYTES];
-        for (int i = 0; i < headHash.length; ++i) {
-            longToByteArray(tailHash[i] - headHash[i] * exponent, result, i * Long.BYTES);
+    /**
+     * Computes the running hash of the node that follows a node, see {@link #computeHash()}.
+     *
+     * @param runningHash
+     * 		the running hash of the node
+     * @param elementHash
+     * 		the hash of the element of the node
+     * @return the running hash of the next node
+     */
+    private static long[] nextRunningHash(final long[] runningHash, final byte[] elementHash) {
+        final long[] result = runningHash.clone();
+        for (int i = 0; i < result.length; ++i) {
+            result[i] = result[i] * HASH_RADIX + byteArrayToLong(elementHash, i * Long.BYTES);
         }
-        return new ImmutableHash(result);
+        return result;
     }
 
     /**
@@ -675,14 +699,106 @@ public class FCQueue<E extends FastCopyable & SerializableHashable> extends Part
         return true;
     }
 
-    /** {@inheritDoc} */
+    /**
+     * Inserts all elements of the specified collection into this queue, in the order they are returned by the
+     * collection's iterator.
+     * <p>
+     * Unlike calling {@link #add(Object)} for each element, the elements are hashed right away, on multiple threads
+     * for large batches, and the running hashes of the new nodes are computed before the nodes are linked to the
+     * queue. The elements are appended all at once: a reader or an iterator sees either none or all of them, and if
+     * an element can't be added then none of them are.
+     *
+     * @param c
+     * 		the elements to add
+     * @return {@code true} if this queue changed as a result of the call
+     * @throws IllegalStateException
+     * 		if this queue is immutable, or if adding the elements would exceed {@link #MAX_ELEMENTS}
+     * @throws NullPointerException
+     * 		if the collection or one of its elements is null
+     */
     @Override
-    public synchronized boolean addAll(final Collection<? extends E> c) {
-        for (final E e : c) {
-            add(e);
+    public boolean addAll(final Collection<? extends E> c) {
+        final Object[] elements = c.toArray();
+        if (elements.length == 0) {
+            return false;
+        }
+        if (isImmutable()) {
+            throw new IllegalStateException("tried to modify an immutable FCQueue");
+        }
+        for (final Object element : elements) {
+            if (element == null) {
+                throw new NullPointerException("tried to add a null element into an FCQueue");
+            }
         }
 
-        return false;
+        // Element hashes don't depend on the queue, so they are computed without holding the lock
+        final byte[][] elementHashes = hashElements(elements);
+
+        synchronized (this) {
+            if (isImmutable()) {
+                throw new IllegalStateException("tried to modify an immutable FCQueue");
+            }
+
+            if (size() > MAX_ELEMENTS - elements.length) {
+                throw new IllegalStateException(String.format(
+                        "tried to add %d elements to an FCQueue of size %d, which would exceed MAX_ELEMENTS: %d",
+                        elements.length, size(), MAX_ELEMENTS));
+            }
+
+            computeTailRunningHash();
+
+            // Build the new nodes off to the side, so they are published all at once. The first element goes into
+            // the current tail node, exactly like add() does, and the last new node becomes the new tail.
+            Node<E> first = null;
+            Node<E> last = null;
+            long[] runningHash = tail.runningHash;
+            for (int i = 0; i < elements.length; i++) {
+                final Node<E> node = new Node<>();
+                runningHash = nextRunningHash(runningHash, elementHashes[i]);
+                node.runningHash = runningHash;
+                if (i + 1 < elements.length) {
+                    node.element = castElement(elements[i + 1]);
+                }
+                if (last == null) {
+                    first = node;
+                } else {
+                    last.next = node;
+                }
+                last = node;
+            }
+
+            tail.element = castElement(elements[0]);
+            tail.next = first;
+            tail = last;
+            unhashed.set(last);
+
+            size += elements.length;
+        }
+
+        return true;
+    }
+
+    /**
+     * Casts an element of the array returned by {@link Collection#toArray()} to the element type.
+     */
+    @SuppressWarnings("unchecked")
+    private E castElement(final Object element) {
+        return (E) element;
+    }
+
+    /**
+     * Computes the hashes of elements that are about to be added, see {@link #getHash(FastCopyable)}.
+     *
+     * @param elements
+     * 		the elements to hash
+     * @return the 48-byte hashes of the elements, in the same order
+     */
+    private byte[][] hashElements(final Object[] elements) {
+        final byte[][] elementHashes = new byte[elements.length][];
+        final IntStream indices = IntStream.range(0, elements.length);
+        (elements.length >= PARALLEL_HASH_THRESHOLD ? indices.parallel() : indices)
+                .forEach(i -> elementHashes[i] = getHash(castElement(elements[i])));
+        return elementHashes;
     }
 
     /**
@@ -764,8 +880,16 @@ public class FCQueue<E extends FastCopyable & SerializableHashable> extends Part
      * 		if there are problems during serialization
      */
     @Override
-    public synchronized void serialize(final SerializableDataOutputStream dos) throws IOException {
-        dos.writeSerializableIterableWithSize(iterator(), size(), true, false);
+    public void serialize(final SerializableDataOutputStream dos) throws IOException {
+        // The elements are written straight from a snapshot of the nodes, without copying them into a collection.
+        // The snapshot can't change, so the lock is only needed while taking it, not while writing.
+        final Iterator<E> snapshot;
+        final int snapshotSize;
+        synchronized (this) {
+            snapshot = iterator();
+            snapshotSize = size;
+        }
+        dos.writeSerializableIterableWithSize(snapshot, snapshotSize, true, false);
     }
 
     @Override
@@ -790,7 +914,9 @@ public class FCQueue<E extends FastCopyable & SerializableHashable> extends Part
     }
 
     private void deserializeV3(final SerializableDataInputStream dis) throws IOException {
-        dis.readSerializableIterableWithSize(MAX_ELEMENTS, this::add);
+        final List<E> elements = new ArrayList<>();
+        dis.<E>readSerializableIterableWithSize(MAX_ELEMENTS, elements::add);
+        addAll(elements);
     }
 
     /**
@@ -1093,4 +1093,64 @@ class FCQueueTest {
         }
         assertFalse(iterator.hasNext(), "iterator should be depleted");
     }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 10_000})
+    @Tag(TestComponentTags.FCQUEUE)
+    @DisplayName("Bulk append matches appending one element at a time")
+    void addAllMatchesAdd(final int batchSize) {
+        final FCQueue<FCInt> single = new FCQueue<>();
+        final FCQueue<FCInt> bulk = new FCQueue<>();
+        // some elements that are not hashed yet when the batch is appended
+        for (int index = 0; index < 5; index++) {
+            single.add(new FCInt(index));
+            bulk.add(new FCInt(index));
+        }
+        single.remove();
+        bulk.remove();
+
+        final List<FCInt> batch = new ArrayList<>();
+        for (int index = 0; index < batchSize; index++) {
+            batch.add(new FCInt(rnd.nextInt(NEXT_INT_BOUNDS)));
+        }
+        final Iterator<FCInt> iterator = bulk.iterator();
+        for (final FCInt element : batch) {
+            single.add(element);
+        }
+        assertTrue(bulk.addAll(batch), "the queue should have changed");
+
+        assertEquals(single.size(), bulk.size(), "sizes should match");
+        assertTrue(elementsEquals(bulk, new LinkedList<>(single)), "elements should match");
+        assertEquals(single.getHash(), bulk.getHash(), "hashes should match");
+        int count = 0;
+        while (iterator.hasNext()) {
+            iterator.next();
+            count++;
+        }
+        assertEquals(4, count, "an iterator created before the append should not see the batch");
+
+        // copies made after the bulk append keep hashing correctly
+        final FCQueue<FCInt> singleCopy = single.copy();
+        final FCQueue<FCInt> bulkCopy = bulk.copy();
+        singleCopy.remove();
+        bulkCopy.remove();
+        singleCopy.add(new FCInt(42));
+        bulkCopy.addAll(List.of(new FCInt(42)));
+        assertEquals(single.getHash(), bulk.getHash(), "hashes of the immutable copies should match");
+        assertEquals(singleCopy.getHash(), bulkCopy.getHash(), "hashes of the mutable copies should match");
+    }
+
+    @Test
+    @Tag(TestComponentTags.FCQUEUE)
+    @DisplayName("Bulk append with a null element adds nothing")
+    void addAllWithNullElement() {
+        final FCQueue<FCInt> fcqueue = new FCQueue<>();
+        fcqueue.add(new FCInt(100));
+        final List<FCInt> batch = new ArrayList<>();
+        batch.add(new FCInt(200));
+        batch.add(null);
+
+        assertThrows(NullPointerException.class, () -> fcqueue.addAll(batch));
+        assertEquals(1, fcqueue.size(), "no element of the batch should have been added");
+    }
 }
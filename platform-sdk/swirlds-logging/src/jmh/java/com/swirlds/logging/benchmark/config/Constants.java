@@ -48,6 +48,7 @@ public class Constants {
     public static final String USER_3 = UUID.randomUUID().toString();
     public static final String MODE_NOT_ROLLING = "NOT_ROLLING";
     public static final String MODE_ROLLING = "ROLLING";
+    public static final String MODE_ASYNC = "ASYNC";
 
     private Constants() {}
 }
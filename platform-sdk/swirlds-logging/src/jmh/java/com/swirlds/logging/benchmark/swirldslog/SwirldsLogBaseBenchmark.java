@@ -19,6 +19,7 @@ package com.swirlds.logging.benchmark.swirldslog;
 import static com.swirlds.logging.benchmark.config.Constants.CONSOLE_AND_FILE_TYPE;
 import static com.swirlds.logging.benchmark.config.Constants.CONSOLE_TYPE;
 import static com.swirlds.logging.benchmark.config.Constants.FILE_TYPE;
+import static com.swirlds.logging.benchmark.config.Constants.MODE_ASYNC;
 import static com.swirlds.logging.benchmark.config.Constants.MODE_NOT_ROLLING;
 import static com.swirlds.logging.benchmark.config.Constants.MODE_ROLLING;
 
@@ -43,7 +44,7 @@ public class SwirldsLogBaseBenchmark {
     @Param({CONSOLE_TYPE, FILE_TYPE, CONSOLE_AND_FILE_TYPE})
     public String loggingType;
 
-    @Param({MODE_NOT_ROLLING, MODE_ROLLING})
+    @Param({MODE_NOT_ROLLING, MODE_ROLLING, MODE_ASYNC})
     public String mode;
 
     private static final String LOGGER_NAME = Constants.SWIRLDS + "Benchmark";
@@ -54,7 +55,11 @@ public class SwirldsLogBaseBenchmark {
 
     @Setup(Level.Trial)
     public void init() {
-        config = Objects.equals(mode, MODE_NOT_ROLLING) ? new SwirldsLogConfig() : new RollingSwirldsLogConfig();
+        if (Objects.equals(mode, MODE_ROLLING)) {
+            config = new RollingSwirldsLogConfig();
+        } else {
+            config = new SwirldsLogConfig(Objects.equals(mode, MODE_ASYNC));
+        }
 
         if (Objects.equals(loggingType, FILE_TYPE)) {
             loggingSystem = config.configureFileLogging(LogFiles.provideLogFilePath(Constants.LOG4J2, FILE_TYPE, mode));
@@ -30,6 +30,24 @@ import edu.umd.cs.findbugs.annotations.NonNull;
  */
 public class SwirldsLogConfig implements LoggingBenchmarkConfig<LoggingSystem> {
 
+    private final boolean async;
+
+    /**
+     * Creates a config that writes files on the logging thread.
+     */
+    public SwirldsLogConfig() {
+        this(false);
+    }
+
+    /**
+     * Creates a config.
+     *
+     * @param async if true, files are written asynchronously on a dedicated thread
+     */
+    public SwirldsLogConfig(final boolean async) {
+        this.async = async;
+    }
+
     /**
      * {@inheritDoc}
      * @param logFile
@@ -44,6 +62,7 @@ public class SwirldsLogConfig implements LoggingBenchmarkConfig<LoggingSystem> {
                 .withValue("logging.handler.file.formatTimestamp", ConfigManagement.formatTimestamp() + "")
                 .withValue("logging.handler.file.level", "trace")
                 .withValue("logging.handler.file.file", logFile)
+                .withValue("logging.handler.file.async-writing.enabled", async + "")
                 .build();
 
         return configure(configuration);
@@ -80,6 +99,7 @@ public class SwirldsLogConfig implements LoggingBenchmarkConfig<LoggingSystem> {
                 .withValue("logging.handler.file.formatTimestamp", ConfigManagement.formatTimestamp() + "")
                 .withValue("logging.handler.file.level", "trace")
                 .withValue("logging.handler.file.file", logFile)
+                .withValue("logging.handler.file.async-writing.enabled", async + "")
                 .withValue("logging.handler.console.type", "console")
                 .withValue("logging.handler.console.enabled", "true")
                 .withValue("logging.handler.console.formatTimestamp", ConfigManagement.formatTimestamp() + "")
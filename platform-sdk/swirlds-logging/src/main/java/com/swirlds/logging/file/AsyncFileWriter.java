@@ -0,0 +1,356 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.logging.file;
+
+import com.swirlds.logging.api.Level;
+import com.swirlds.logging.api.extensions.emergency.EmergencyLogger;
+import com.swirlds.logging.api.extensions.emergency.EmergencyLoggerProvider;
+import com.swirlds.logging.api.extensions.event.LogEvent;
+import com.swirlds.logging.api.internal.event.MutableLogEvent;
+import com.swirlds.logging.api.internal.format.FormattedLinePrinter;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Writes log events to a channel on a dedicated thread.
+ * <p>
+ * Logging threads copy their events into a preallocated ring of {@link MutableLogEvent} slots and return
+ * immediately. The writer thread formats the events into a reusable {@link StringBuilder}, encodes them as UTF-8
+ * straight into a reusable direct {@link ByteBuffer} and writes the buffer to the channel whenever it is full or the
+ * ring has been drained. The slots, the builder and the buffer are all reused; the only object created per event is
+ * the read-only view of the event's context that {@link MutableLogEvent#update} wraps around it.
+ * <p>
+ * If the ring is full a logging thread either waits for the writer thread to free a slot or drops the event,
+ * depending on the {@link OverflowPolicy}. Dropped events are counted, see {@link #getDroppedEventCount()}.
+ */
+class AsyncFileWriter {
+
+    private static final EmergencyLogger EMERGENCY_LOGGER = EmergencyLoggerProvider.getEmergencyLogger();
+
+    /**
+     * What to do with an event if the ring is full.
+     */
+    enum OverflowPolicy {
+        /**
+         * Wait until the writer thread has freed a slot.
+         */
+        BLOCK,
+        /**
+         * Drop the event and count it.
+         */
+        DROP
+    }
+
+    private static final int EVENT_LOG_PRINTER_SIZE = 4 * 1024;
+    private static final int BUFFER_CAPACITY = 8192 * 8;
+    private static final int MAX_BYTES_PER_CHAR = 3;
+    private static final int MAX_BYTES_PER_CODE_POINT = 4;
+    private static final long WRITER_PARK_NANOS = 100_000_000L;
+    private static final long PRODUCER_PARK_NANOS = 1_000L;
+
+    private final FormattedLinePrinter format;
+    private final WritableByteChannel channel;
+    private final OverflowPolicy overflowPolicy;
+
+    private final MutableLogEvent[] slots;
+    /**
+     * For every slot the sequence number of the event it holds plus one, once that event is ready to be written.
+     */
+    private final AtomicLongArray published;
+
+    private final int mask;
+
+    /**
+     * The sequence number the next event will be stored with.
+     */
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * The sequence number of the next event the writer thread will write. Only updated by the writer thread.
+     */
+    private volatile long head;
+
+    /**
+     * All events with a lower sequence number have been written to the channel. Only updated by the writer thread.
+     */
+    private volatile long written;
+
+    private volatile boolean running = true;
+    private volatile boolean writerWaiting;
+
+    private final LongAdder dropped = new LongAdder();
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_CAPACITY);
+    private final Thread thread;
+
+    /**
+     * Creates a new writer and starts its thread.
+     *
+     * @param name           the name of the handler the writer belongs to
+     * @param format         the printer used to format the events
+     * @param channel        the channel to write the events to
+     * @param capacity       the number of events the ring can hold, rounded up to the next power of two
+     * @param overflowPolicy what to do with an event if the ring is full
+     */
+    AsyncFileWriter(
+            @NonNull final String name,
+            @NonNull final FormattedLinePrinter format,
+            @NonNull final WritableByteChannel channel,
+            final int capacity,
+            @NonNull final OverflowPolicy overflowPolicy) {
+        Objects.requireNonNull(name, "name must not be null");
+        this.format = Objects.requireNonNull(format, "format must not be null");
+        this.channel = Objects.requireNonNull(channel, "channel must not be null");
+        this.overflowPolicy = Objects.requireNonNull(overflowPolicy, "overflowPolicy must not be null");
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("capacity must be between 1 and 2^30, was " + capacity);
+        }
+
+        final int size = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+        this.mask = size - 1;
+        this.slots = new MutableLogEvent[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = new MutableLogEvent();
+        }
+        this.published = new AtomicLongArray(size);
+
+        this.thread = new Thread(this::run, "<async-file-writer " + name + ">");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stores a copy of the event in the ring, to be written by the writer thread.
+     *
+     * @param event the event
+     * @return false if the writer has been stopped and the event was not written, true otherwise (even if the event
+     * was dropped because the ring was full)
+     */
+    boolean enqueue(@NonNull final LogEvent event) {
+        long sequence;
+        while (true) {
+            if (!running) {
+                return false;
+            }
+            sequence = tail.get();
+            if (sequence - head > mask) {
+                if (overflowPolicy == OverflowPolicy.DROP) {
+                    dropped.increment();
+                    return true;
+                }
+                LockSupport.unpark(thread);
+                LockSupport.parkNanos(PRODUCER_PARK_NANOS);
+            } else if (tail.compareAndSet(sequence, sequence + 1)) {
+                break;
+            }
+        }
+
+        final int index = (int) (sequence & mask);
+        slots[index].update(
+                event.level(),
+                event.loggerName(),
+                event.threadName(),
+                event.timestamp(),
+                event.message(),
+                event.throwable(),
+                event.marker(),
+                event.context());
+        published.set(index, sequence + 1);
+
+        if (writerWaiting) {
+            LockSupport.unpark(thread);
+        }
+        if (!running) {
+            // the writer may have been stopped after the check above, and have found the ring empty before the slot
+            // was claimed, in which case it never writes this event
+            while (thread.isAlive() && head <= sequence) {
+                LockSupport.unpark(thread);
+                LockSupport.parkNanos(PRODUCER_PARK_NANOS);
+            }
+            return head > sequence;
+        }
+        return true;
+    }
+
+    /**
+     * Waits until all events that have been accepted before this call have been written to the channel.
+     */
+    void flush() {
+        final long target = tail.get();
+        while (written < target && thread.isAlive()) {
+            LockSupport.unpark(thread);
+            LockSupport.parkNanos(PRODUCER_PARK_NANOS);
+        }
+    }
+
+    /**
+     * Stops accepting events, writes all events that have already been accepted and stops the writer thread. The
+     * channel is not closed.
+     */
+    void stop() {
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        final long droppedEvents = dropped.sum();
+        if (droppedEvents > 0) {
+            EMERGENCY_LOGGER.log(
+                    Level.WARN, droppedEvents + " log events were dropped because the asynchronous queue was full");
+        }
+    }
+
+    /**
+     * Returns the number of events that have been dropped because the ring was full.
+     *
+     * @return the number of dropped events
+     */
+    long getDroppedEventCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * The loop of the writer thread.
+     */
+    private void run() {
+        final StringBuilder line = new StringBuilder(EVENT_LOG_PRINTER_SIZE);
+        while (true) {
+            if (writeAvailableEvents(line)) {
+                continue;
+            }
+            if (!running && head == tail.get()) {
+                return;
+            }
+            writerWaiting = true;
+            if (!isPublished(head)) {
+                LockSupport.parkNanos(WRITER_PARK_NANOS);
+            }
+            writerWaiting = false;
+        }
+    }
+
+    /**
+     * Formats and writes the events that are ready, at most one ring full at a time.
+     *
+     * @param line the builder to format the events into
+     * @return true if any event was written
+     */
+    private boolean writeAvailableEvents(@NonNull final StringBuilder line) {
+        final long start = head;
+        final long end = start + slots.length;
+        long next = start;
+        while (next < end && isPublished(next)) {
+            final MutableLogEvent event = slots[(int) (next & mask)];
+            line.setLength(0);
+            format.print(line, event);
+            try {
+                if (buffer.remaining() < line.length() * MAX_BYTES_PER_CHAR) {
+                    writeBuffer();
+                }
+                encode(line);
+            } catch (final IOException exception) {
+                buffer.clear();
+                EMERGENCY_LOGGER.log(Level.ERROR, "Failed to write to file channel", exception);
+                // FORWARDING the event to the emergency logger
+                EMERGENCY_LOGGER.log(event);
+            }
+            next++;
+            head = next;
+        }
+        if (next == start) {
+            return false;
+        }
+
+        try {
+            writeBuffer();
+        } catch (final IOException exception) {
+            buffer.clear();
+            EMERGENCY_LOGGER.log(Level.ERROR, "Failed to write to file channel", exception);
+        }
+        written = next;
+        return true;
+    }
+
+    /**
+     * Checks if the event with the given sequence number is ready to be written.
+     *
+     * @param sequence the sequence number
+     * @return true if the event is ready
+     */
+    private boolean isPublished(final long sequence) {
+        return published.get((int) (sequence & mask)) == sequence + 1;
+    }
+
+    /**
+     * Encodes the characters as UTF-8 into the buffer, writing the buffer to the channel whenever it is full.
+     * Unpaired surrogates are replaced by {@code '?'}, like {@link String#getBytes(java.nio.charset.Charset)} does.
+     *
+     * @param chars the characters to encode
+     * @throws IOException if the buffer could not be written to the channel
+     */
+    private void encode(@NonNull final CharSequence chars) throws IOException {
+        final int length = chars.length();
+        for (int i = 0; i < length; i++) {
+            if (buffer.remaining() < MAX_BYTES_PER_CODE_POINT) {
+                writeBuffer();
+            }
+            final char c = chars.charAt(i);
+            if (c < 0x80) {
+                buffer.put((byte) c);
+            } else if (c < 0x800) {
+                buffer.put((byte) (0xC0 | (c >> 6)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c)
+                    && i + 1 < length
+                    && Character.isLowSurrogate(chars.charAt(i + 1))) {
+                final int codePoint = Character.toCodePoint(c, chars.charAt(++i));
+                buffer.put((byte) (0xF0 | (codePoint >> 18)));
+                buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+            } else if (Character.isSurrogate(c)) {
+                buffer.put((byte) '?');
+            } else {
+                buffer.put((byte) (0xE0 | (c >> 12)));
+                buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+    }
+
+    /**
+     * Writes the content of the buffer to the channel and clears the buffer.
+     *
+     * @throws IOException if the buffer could not be written
+     */
+    private void writeBuffer() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
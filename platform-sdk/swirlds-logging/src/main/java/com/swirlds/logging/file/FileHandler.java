@@ -21,12 +21,18 @@ import com.swirlds.logging.api.Level;
 import com.swirlds.logging.api.extensions.event.LogEvent;
 import com.swirlds.logging.api.extensions.handler.AbstractLogHandler;
 import com.swirlds.logging.api.internal.format.FormattedLinePrinter;
+import com.swirlds.logging.file.AsyncFileWriter.OverflowPolicy;
 import com.swirlds.logging.io.OutputStreamFactory;
+import com.swirlds.logging.utils.ConfigUtils;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.Locale;
 
 /**
  * A {@link com.swirlds.logging.api.extensions.handler.LogHandler} that writes log events to a file with optional rolling based on size.
@@ -42,6 +48,10 @@ import java.nio.file.Path;
  * <p>
  * The handler can be optionally buffered for improved performance.
  * <p>
+ * The handler can also write asynchronously. In that case log events are copied into a preallocated ring buffer and
+ * formatted and written to the file by a dedicated thread, so logging threads do not wait for the file system. If the
+ * ring buffer is full, events are either dropped or the logging thread waits, depending on the configured policy.
+ * <p>
  * The handler can be configured with the following properties:
  * <ul>
  *     <li>{@code file} - The {@link Path} of the log file.</li>
@@ -49,20 +59,33 @@ import java.nio.file.Path;
  *     <li>{@code formatTimestamp} - If set to true, epoch values are formatted as human-readable strings.</li>
  *     <li>{@code file-rolling.maxFileSize} - Maximum size of the file for size-based rolling.</li>
  *     <li>{@code file-rolling.maxFiles} - Maximum number of files used for rolling.</li>
+ *     <li>{@code async-writing.enabled} - If set to true, events are written to the file on a dedicated thread.</li>
+ *     <li>{@code async-writing.capacity} - Number of events the ring buffer of the asynchronous mode can hold.</li>
+ *     <li>{@code async-writing.overflowPolicy} - {@code BLOCK} to wait for space in the ring buffer of the
+ *     asynchronous mode, {@code DROP} to drop events if it is full.</li>
  * </ul>
  */
 public class FileHandler extends AbstractLogHandler {
 
     private static final int EVENT_LOG_PRINTER_SIZE = 4 * 1024;
+    private static final String ASYNC_ENABLED_PROPERTY = ".async-writing.enabled";
+    private static final String ASYNC_CAPACITY_PROPERTY = ".async-writing.capacity";
+    private static final String ASYNC_OVERFLOW_POLICY_PROPERTY = ".async-writing.overflowPolicy";
+    private static final int DEFAULT_ASYNC_CAPACITY = 8192;
     private final OutputStream outputStream;
     private final FormattedLinePrinter format;
+    /**
+     * The writer used in asynchronous mode, {@code null} if events are written by the logging thread.
+     */
+    private final AsyncFileWriter asyncWriter;
 
     /**
      * Creates a new file handler.
      *
      * @param handlerName   the unique handler name
      * @param configuration the configuration
-     * @param buffered      if true a buffer is used in between the file writing
+     * @param buffered      if true a buffer is used in between the file writing, ignored in asynchronous mode which
+     *                      always buffers
      */
     public FileHandler(
             @NonNull final String handlerName, @NonNull final Configuration configuration, final boolean buffered)
@@ -70,13 +93,50 @@ public class FileHandler extends AbstractLogHandler {
         super(handlerName, configuration);
 
         this.format = FormattedLinePrinter.createForHandler(handlerName, configuration);
+        final String propertyPrefix = PROPERTY_HANDLER.formatted(handlerName);
+        final boolean async = ConfigUtils.configValueOrElse(
+                configuration, propertyPrefix + ASYNC_ENABLED_PROPERTY, Boolean.class, false);
         try {
-            this.outputStream = buffered
+            this.outputStream = buffered && !async
                     ? OutputStreamFactory.getInstance().bufferedOutputStream(configuration, handlerName)
                     : OutputStreamFactory.getInstance().outputStream(configuration, handlerName);
         } catch (IOException e) {
             throw new IOException("Could not create FileHandler", e);
         }
+
+        if (async) {
+            final int capacity = ConfigUtils.configValueOrElse(
+                    configuration, propertyPrefix + ASYNC_CAPACITY_PROPERTY, Integer.class, DEFAULT_ASYNC_CAPACITY);
+            final OverflowPolicy overflowPolicy = readOverflowPolicy(configuration, propertyPrefix);
+            // a plain file is written through its file channel, a rolling file keeps going through its stream so
+            // that it can roll over
+            final WritableByteChannel channel = outputStream instanceof final FileOutputStream fileOutputStream
+                    ? fileOutputStream.getChannel()
+                    : Channels.newChannel(outputStream);
+            this.asyncWriter = new AsyncFileWriter(handlerName, format, channel, capacity, overflowPolicy);
+        } else {
+            this.asyncWriter = null;
+        }
+    }
+
+    /**
+     * Reads the overflow policy of the asynchronous mode, falling back to {@link OverflowPolicy#BLOCK} if the
+     * configured value is unknown.
+     */
+    @NonNull
+    private static OverflowPolicy readOverflowPolicy(
+            @NonNull final Configuration configuration, @NonNull final String propertyPrefix) {
+        final String value = ConfigUtils.configValueOrElse(
+                configuration,
+                propertyPrefix + ASYNC_OVERFLOW_POLICY_PROPERTY,
+                String.class,
+                OverflowPolicy.BLOCK.name());
+        try {
+            return OverflowPolicy.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (final IllegalArgumentException e) {
+            EMERGENCY_LOGGER.log(Level.ERROR, "Invalid overflow policy '" + value + "', using BLOCK", e);
+            return OverflowPolicy.BLOCK;
+        }
     }
 
     /**
@@ -86,6 +146,13 @@ public class FileHandler extends AbstractLogHandler {
      */
     @Override
     public void handle(@NonNull final LogEvent event) {
+        if (asyncWriter != null) {
+            if (!asyncWriter.enqueue(event)) {
+                // FORWARDING the event to the emergency logger
+                EMERGENCY_LOGGER.log(event);
+            }
+            return;
+        }
         final StringBuilder writer = new StringBuilder(EVENT_LOG_PRINTER_SIZE);
         format.print(writer, event);
         try {
@@ -102,6 +169,9 @@ public class FileHandler extends AbstractLogHandler {
      */
     @Override
     public void flush() {
+        if (asyncWriter != null) {
+            asyncWriter.flush();
+        }
         try {
             this.outputStream.flush();
         } catch (IOException e) {
@@ -115,10 +185,23 @@ public class FileHandler extends AbstractLogHandler {
     @Override
     public void stopAndFinalize() {
         super.stopAndFinalize();
+        if (asyncWriter != null) {
+            asyncWriter.stop();
+        }
         try {
             outputStream.close();
         } catch (final Exception exception) {
             EMERGENCY_LOGGER.log(Level.ERROR, "Failed to close file output stream", exception);
         }
     }
+
+    /**
+     * Returns the number of log events that have been dropped because the ring buffer of the asynchronous mode was
+     * full.
+     *
+     * @return the number of dropped events, always 0 if the handler does not write asynchronously
+     */
+    public long getDroppedEventCount() {
+        return asyncWriter == null ? 0 : asyncWriter.getDroppedEventCount();
+    }
 }
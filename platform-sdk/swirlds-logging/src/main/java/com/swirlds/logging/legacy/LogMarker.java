@@ -173,6 +173,11 @@ public enum LogMarker {
     /** logs related to network protocol negotiation */
     PROTOCOL_NEGOTIATION(LogMarkerType.INFO),
 
+    /**
+     * periodic reports of the latency of each wire in the wiring model, only logged when wire tracing is enabled
+     */
+    WIRING_TRACE(LogMarkerType.INFO),
+
     /**
      * detailed logs related to consensus voting, very verbose, should be used only for debugging
      */
@@ -936,6 +936,50 @@ public class LoggingSystemTest {
         }
     }
 
+    @Test
+    void testAsyncFileHandlerLogging(@TempDir final Path tempDir) throws IOException {
+
+        // given
+        final String logFile = tempDir.resolve(LOG_FILE).toString();
+        final String fileHandlerName = "file";
+        final Configuration configuration = LoggingTestUtils.getConfigBuilder()
+                .withValue("logging.level", "trace")
+                .withValue("logging.handler.%s.type".formatted(fileHandlerName), "file")
+                .withValue("logging.handler.%s.enabled".formatted(fileHandlerName), "true")
+                .withValue("logging.handler.%s.formatTimestamp".formatted(fileHandlerName), "false")
+                .withValue("logging.handler.%s.level".formatted(fileHandlerName), "trace")
+                .withValue("logging.handler.%s.file".formatted(fileHandlerName), logFile)
+                .withValue("logging.handler.%s.async-writing.enabled".formatted(fileHandlerName), "true")
+                .withValue("logging.handler.%s.async-writing.capacity".formatted(fileHandlerName), "16")
+                .getOrCreateConfig();
+        final LoggingMirrorImpl mirror = new LoggingMirrorImpl();
+        final LoggingSystem loggingSystem = LoggingTestUtils.loggingSystemWithHandlers(configuration, mirror);
+        // A random log name, so it's easier to combine lines after
+        final String loggerName = UUID.randomUUID().toString();
+        final Logger logger = loggingSystem.getLogger(loggerName);
+
+        // when
+        LoggingTestUtils.loggExtensively(logger);
+        loggingSystem.stopAndFinalize();
+
+        try {
+            final List<String> statementsInMirror = LoggingTestUtils.mirrorToStatements(mirror);
+            final List<String> logLines = getLines(logFile);
+            final List<String> statementsInFile = linesToStatements(logLines);
+
+            // then
+            // the default overflow policy blocks, so no statement may be lost even with a tiny ring buffer
+            org.assertj.core.api.Assertions.assertThat(statementsInFile.size()).isEqualTo(EXPECTED_STATEMENTS);
+            final int expectedLineCountInFile = countLinesInStatements(statementsInMirror);
+            org.assertj.core.api.Assertions.assertThat((long) logLines.size()).isEqualTo(expectedLineCountInFile);
+            org.assertj.core.api.Assertions.assertThat(statementsInFile).isSubsetOf(statementsInMirror);
+
+        } finally {
+            loggingSystem.stopAndFinalize();
+            Files.deleteIfExists(Path.of(logFile));
+        }
+    }
+
     @Test
     void testSimpleConfigUpdate() {
         // given
@@ -23,6 +23,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -314,6 +315,114 @@ class MerkleHashTests {
         assertThrows(ExecutionException.class, future::get, "expected hashing to fail");
     }
 
+    /**
+     * Build a tree that is a chain of internal nodes, each of which also has a leaf child.
+     *
+     * @param depth the number of internal nodes in the chain
+     * @return the root of the chain
+     */
+    private static DummyMerkleInternal buildChain(final int depth) {
+        final DummyMerkleInternal root = new DummyMerkleInternal("chain 0");
+        DummyMerkleInternal node = root;
+        for (int i = 1; i < depth; i++) {
+            final DummyMerkleInternal child = new DummyMerkleInternal("chain " + i);
+            node.setChild(0, new DummyMerkleLeaf("leaf " + i));
+            node.setChild(1, child);
+            node = child;
+        }
+        return root;
+    }
+
+    /**
+     * Build a tree with a deep chain on one side, and wide subtrees of leaves and self hashing leaves on the other.
+     */
+    private static DummyMerkleInternal buildUnbalancedTree() {
+        final DummyMerkleInternal root = new DummyMerkleInternal("root");
+        root.setChild(0, buildChain(200));
+        for (int childIndex = 1; childIndex < 8; childIndex++) {
+            final DummyMerkleInternal wide = new DummyMerkleInternal("wide " + childIndex);
+            for (int leafIndex = 0; leafIndex < MerkleInternal.MAX_CHILD_COUNT_UBOUND; leafIndex++) {
+                wide.setChild(
+                        leafIndex,
+                        leafIndex % 16 == 0
+                                ? new SelfHashingDummyMerkleLeaf("self " + childIndex + " " + leafIndex)
+                                : new DummyMerkleLeaf("leaf " + childIndex + " " + leafIndex));
+            }
+            root.setChild(childIndex, wide);
+        }
+        root.setChild(8, new SelfHashingDummyMerkleLeaf("self"));
+        return root;
+    }
+
+    @Test
+    @Tag(TestComponentTags.MERKLE)
+    @DisplayName("Asynchronous Hashing Of A Deep Tree")
+    void asynchronousHashingOfDeepTree() throws InterruptedException, ExecutionException {
+        final MerkleNode tree1 = buildChain(1_000);
+        final MerkleNode tree2 = buildChain(1_000);
+
+        assertEquals(cryptography.digestTreeSync(tree1), cryptography.digestTreeAsync(tree2).get());
+        tree2.forEachNode((node) -> assertNotNull(node.getHash(), "all nodes should be hashed"));
+    }
+
+    @Test
+    @Tag(TestComponentTags.MERKLE)
+    @DisplayName("Asynchronous Hashing Of An Unbalanced Tree With Self Hashing Leaves")
+    void asynchronousHashingOfUnbalancedTree() throws InterruptedException, ExecutionException {
+        final MerkleNode tree1 = buildUnbalancedTree();
+        final MerkleNode tree2 = buildUnbalancedTree();
+
+        assertEquals(cryptography.digestTreeSync(tree1), cryptography.digestTreeAsync(tree2).get());
+        tree2.forEachNode((node) -> assertNotNull(node.getHash(), "all nodes should be hashed"));
+    }
+
+    @Test
+    @Tag(TestComponentTags.MERKLE)
+    @DisplayName("Asynchronous Hashing Of A Self Hashing Root")
+    void asynchronousHashingOfSelfHashingRoot() throws InterruptedException, ExecutionException {
+        final SelfHashingDummyMerkleLeaf root = new SelfHashingDummyMerkleLeaf("root");
+        assertEquals(root.getHash(), cryptography.digestTreeAsync(root).get());
+    }
+
+    @Test
+    @Tag(TestComponentTags.MERKLE)
+    @DisplayName("Exception In A Subtree Task Is Rethrown")
+    void exceptionInSubtreeTaskIsRethrown() throws InterruptedException, ExecutionException {
+        // the failing leaf is deep in the tree, so it is hashed by a task forked from the root's task
+        final DummyMerkleInternal tree = buildUnbalancedTree();
+        MerkleInternal node = tree.getChild(0).asInternal();
+        for (int i = 0; i < 50; i++) {
+            node = node.getChild(1).asInternal();
+        }
+        ((DummyMerkleLeaf) node.getChild(0)).setThrowWhenHashed(true);
+
+        assertThrows(
+                ExecutionException.class,
+                () -> cryptography.digestTreeAsync(tree).get(),
+                "expected hashing to fail");
+        assertNull(tree.getHash(), "the root can not be hashed if a descendant fails");
+
+        // a failed task should not affect the hashing of other trees
+        final MerkleNode tree1 = buildUnbalancedTree();
+        final MerkleNode tree2 = buildUnbalancedTree();
+        assertEquals(cryptography.digestTreeSync(tree1), cryptography.digestTreeAsync(tree2).get());
+    }
+
+    @Test
+    @Tag(TestComponentTags.MERKLE)
+    @DisplayName("Exception In A Self Hashing Task Is Rethrown")
+    void exceptionInSelfHashingTaskIsRethrown() {
+        final DummyMerkleInternal tree = buildUnbalancedTree();
+        final SelfHashingDummyMerkleLeaf leaf = tree.getChild(1).asInternal().getChild(16);
+        leaf.setReturnNullForHash(true);
+
+        assertThrows(
+                ExecutionException.class,
+                () -> cryptography.digestTreeAsync(tree).get(),
+                "if a self hashing node returns null then we should fail");
+        assertNull(tree.getHash(), "the root can not be hashed if a descendant fails");
+    }
+
     /**
      * This internal node implementation is marked with an annotation that prevents the debug hash string method
      * from iterating to its children.
@@ -37,6 +37,11 @@ public enum MetricType {
      */
     GAUGE,
 
+    /**
+     * A histogram is a metric that records the distribution of a value, so that percentiles can be reported.
+     */
+    HISTOGRAM,
+
     /**
      * A running average is a metric that calculates trends over short periods of time using a set of data.
      */
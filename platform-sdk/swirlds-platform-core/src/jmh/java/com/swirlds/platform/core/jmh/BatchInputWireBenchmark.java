@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.core.jmh;
+
+import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
+import com.swirlds.common.wiring.model.WiringModel;
+import com.swirlds.common.wiring.model.WiringModelBuilder;
+import com.swirlds.common.wiring.schedulers.TaskScheduler;
+import com.swirlds.common.wiring.schedulers.builders.TaskSchedulerType;
+import com.swirlds.common.wiring.wires.input.BindableInputWire;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the throughput of a component whose handler has a fixed cost per call, such as a flush or a lock
+ * acquisition, in addition to a small cost per item. With a batch size of 1 the wire is bound to an ordinary handler,
+ * otherwise the scheduler hands the component up to that many queued items at once, so the per call cost is amortized.
+ * The score is the number of items inserted per second, which is limited by the handler through backpressure.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 1, time = 5)
+@Measurement(iterations = 3, time = 10)
+public class BatchInputWireBenchmark {
+
+    @Param({"SEQUENTIAL_THREAD", "SEQUENTIAL_RING_BUFFER"})
+    public TaskSchedulerType type;
+
+    @Param({"1", "16", "128"})
+    public int batchSize;
+
+    /** The cost of each call to the handler, in {@link Blackhole#consumeCPU(long)} tokens */
+    @Param({"1000"})
+    public long callCost;
+
+    /** The cost of each item passed to the handler, in {@link Blackhole#consumeCPU(long)} tokens */
+    @Param({"10"})
+    public long itemCost;
+
+    @Param({"500"})
+    public long capacity;
+
+    private WiringModel model;
+    private TaskScheduler<Void> scheduler;
+    private BindableInputWire<Long, Void> input;
+
+    private long nextValue;
+
+    @Setup
+    public void setup() {
+        final PlatformContext platformContext = TestPlatformContextBuilder.create().build();
+        model = WiringModelBuilder.create(platformContext)
+                .withHardBackpressureEnabled(true)
+                .build();
+
+        scheduler = model.<Void>schedulerBuilder("component")
+                .withType(type)
+                .withUnhandledTaskCapacity(capacity)
+                .withFlushingEnabled(true)
+                .build();
+        input = scheduler.buildInputWire("in");
+
+        if (batchSize == 1) {
+            input.bindConsumer(value -> {
+                Blackhole.consumeCPU(callCost);
+                Blackhole.consumeCPU(itemCost);
+            });
+        } else {
+            input.bindBatchConsumer(
+                    values -> {
+                        Blackhole.consumeCPU(callCost);
+                        Blackhole.consumeCPU(itemCost * values.size());
+                    },
+                    batchSize,
+                    Duration.ZERO);
+        }
+
+        model.start();
+    }
+
+    @TearDown
+    public void tearDown() {
+        scheduler.flush();
+        model.stop();
+    }
+
+    /**
+     * Insert one item, blocking if the component has fallen behind.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void insert() {
+        input.put(nextValue++);
+    }
+}
@@ -49,7 +49,7 @@ import org.openjdk.jmh.infra.Blackhole;
 @Warmup(iterations = 1, time = 1)
 @Measurement(iterations = 3, time = 10)
 public class ConsensusBenchmark {
-    @Param({"39"})
+    @Param({"39", "100", "150"})
     public int numNodes;
 
     @Param({"100000"})
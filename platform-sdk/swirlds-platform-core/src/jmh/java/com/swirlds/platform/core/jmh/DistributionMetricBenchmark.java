@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.core.jmh;
+
+import com.swirlds.common.metrics.RunningAverageMetric;
+import com.swirlds.common.metrics.SpeedometerMetric;
+import com.swirlds.common.metrics.platform.PlatformRunningAverageMetric;
+import com.swirlds.common.metrics.platform.PlatformSpeedometerMetric;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures updates of a speedometer and a running average from many threads at once, as happens for metrics updated on
+ * hot paths. An accumulation period of {@code 0} adds every update to the statistics while holding a lock, any other
+ * period accumulates updates in striped adders first.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Threads(8)
+@Warmup(iterations = 1, time = 1)
+@Measurement(iterations = 3, time = 5)
+public class DistributionMetricBenchmark {
+
+    @Param({"0", "1"})
+    public long accumulationPeriodMillis;
+
+    private SpeedometerMetric speedometer;
+    private RunningAverageMetric runningAverage;
+
+    @Setup
+    public void setup() {
+        final Duration accumulationPeriod = Duration.ofMillis(accumulationPeriodMillis);
+        speedometer = new PlatformSpeedometerMetric(
+                new SpeedometerMetric.Config("benchmark", "speedometer").withHalfLife(10), accumulationPeriod);
+        runningAverage = new PlatformRunningAverageMetric(
+                new RunningAverageMetric.Config("benchmark", "runningAverage").withHalfLife(10), accumulationPeriod);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void speedometerCycle() {
+        speedometer.cycle();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void runningAverageUpdate() {
+        runningAverage.update(42.0);
+    }
+}
@@ -60,7 +60,7 @@ public class EventBenchmarks {
     @Param({"10"})
     public int numSys;
 
-    @Param({"PBJ_STREAM_DIGEST"})
+    @Param({"PBJ_STREAM_DIGEST", "PBJ_STREAM_DIGEST_PER_EVENT", "PBJ_STREAM_DIGEST_THREAD_LOCAL"})
     public HasherType hasherType;
 
     private PlatformEvent event;
@@ -116,11 +116,19 @@ public class EventBenchmarks {
     }
 
     public enum HasherType {
-        PBJ_STREAM_DIGEST;
+        /** a single hasher reused for every event */
+        PBJ_STREAM_DIGEST,
+        /** a new hasher, with new digests and streams, for every event */
+        PBJ_STREAM_DIGEST_PER_EVENT,
+        /** the calling thread's pooled hasher, as used by the default event hasher */
+        PBJ_STREAM_DIGEST_THREAD_LOCAL;
 
         public EventHasher newHasher() {
             return switch (this) {
                 case PBJ_STREAM_DIGEST -> new PbjStreamHasher();
+                case PBJ_STREAM_DIGEST_PER_EVENT -> event -> new PbjStreamHasher().hashEvent(event);
+                case PBJ_STREAM_DIGEST_THREAD_LOCAL -> event -> PbjStreamHasher.getThreadLocalInstance()
+                        .hashEvent(event);
             };
         }
     }
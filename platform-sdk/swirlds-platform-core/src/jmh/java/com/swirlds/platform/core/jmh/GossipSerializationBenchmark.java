@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.core.jmh;
+
+import com.swirlds.common.constructable.ConstructableRegistry;
+import com.swirlds.common.constructable.ConstructableRegistryException;
+import com.swirlds.common.io.streams.SerializableDataOutputStream;
+import com.swirlds.platform.event.EventSerializationUtils;
+import com.swirlds.platform.event.PlatformEvent;
+import com.swirlds.platform.system.BasicSoftwareVersion;
+import com.swirlds.platform.system.StaticSoftwareVersion;
+import com.swirlds.platform.test.fixtures.event.TestingEventBuilder;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of sending a batch of new events to every peer in a network, as a node does over the course of
+ * syncing with each of its peers. With {@code cached} set, events are written using their cached serialized bytes, so
+ * each event is serialized once no matter how many peers it is sent to. Without it, each event is serialized for each
+ * peer. Run with {@code -prof gc} to see the allocation per batch.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 1, time = 1)
+@Measurement(iterations = 3, time = 10)
+public class GossipSerializationBenchmark {
+
+    @Param({"0"})
+    public long seed;
+
+    @Param({"40"})
+    public int nodeCount;
+
+    @Param({"100"})
+    public int eventCount;
+
+    @Param({"false", "true"})
+    public boolean cached;
+
+    private List<PlatformEvent> originals;
+    private List<PlatformEvent> events;
+    private List<SerializableDataOutputStream> peerStreams;
+
+    @Setup
+    public void setup() throws ConstructableRegistryException {
+        final Random random = new Random(seed);
+        originals = new ArrayList<>(eventCount);
+        for (int i = 0; i < eventCount; i++) {
+            originals.add(new TestingEventBuilder(random)
+                    .setAppTransactionCount(20)
+                    .setSystemTransactionCount(10)
+                    .setSelfParent(new TestingEventBuilder(random).build())
+                    .setOtherParent(new TestingEventBuilder(random).build())
+                    .build());
+        }
+
+        peerStreams = new ArrayList<>(nodeCount - 1);
+        for (int i = 0; i < nodeCount - 1; i++) {
+            peerStreams.add(new SerializableDataOutputStream(new BufferedOutputStream(OutputStream.nullOutputStream())));
+        }
+
+        StaticSoftwareVersion.setSoftwareVersion(
+                new BasicSoftwareVersion(originals.getFirst().getSoftwareVersion().major()));
+        ConstructableRegistry.getInstance().registerConstructables("com.swirlds.platform.system");
+    }
+
+    /**
+     * Copy the events before each batch so that no serialized bytes are cached from a previous batch.
+     */
+    @Setup(Level.Invocation)
+    public void copyEvents() {
+        events = new ArrayList<>(eventCount);
+        for (final PlatformEvent original : originals) {
+            events.add(original.copyGossipedData());
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void sendToAllPeers() throws IOException {
+        for (final SerializableDataOutputStream peerStream : peerStreams) {
+            for (final PlatformEvent event : events) {
+                if (cached) {
+                    event.getSerializedBytes().writeTo(peerStream);
+                } else {
+                    EventSerializationUtils.serializePlatformEvent(peerStream, event, true);
+                }
+            }
+            peerStream.flush();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.core.jmh;
+
+import static com.swirlds.common.merkle.utility.MerkleConstants.MERKLE_DIGEST_TYPE;
+import static com.swirlds.platform.test.fixtures.state.FakeMerkleStateLifecycles.FAKE_MERKLE_STATE_LIFECYCLES;
+
+import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.merkle.crypto.MerkleCryptoFactory;
+import com.swirlds.common.merkle.crypto.MerkleCryptography;
+import com.swirlds.common.merkle.utility.MerkleUtils;
+import com.swirlds.common.test.fixtures.merkle.dummy.DummyMerkleInternal;
+import com.swirlds.common.test.fixtures.merkle.dummy.DummyMerkleLeaf;
+import com.swirlds.platform.state.MerkleStateRoot;
+import com.swirlds.platform.system.BasicSoftwareVersion;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures hashing a {@link MerkleStateRoot} with many services, each service being a subtree of internal nodes and
+ * leaves, on the caller's thread and on the fork/join pool of the merkle hash builder.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 1, time = 1)
+@Measurement(iterations = 3, time = 5)
+public class MerkleHashBenchmark {
+
+    @Param({"10", "100"})
+    public int serviceCount;
+
+    @Param({"1000", "10000"})
+    public int leavesPerService;
+
+    /**
+     * The number of leaves below each internal node of a service subtree.
+     */
+    private static final int LEAVES_PER_INTERNAL = 64;
+
+    private MerkleCryptography cryptography;
+    private MerkleStateRoot root;
+
+    @Setup
+    public void setup() {
+        cryptography = MerkleCryptoFactory.getInstance();
+        root = new MerkleStateRoot(
+                FAKE_MERKLE_STATE_LIFECYCLES, version -> new BasicSoftwareVersion(version.major()));
+        for (int service = 0; service < serviceCount; service++) {
+            final DummyMerkleInternal serviceRoot = new DummyMerkleInternal("service" + service);
+            int childIndex = 0;
+            DummyMerkleInternal parent = null;
+            for (int leaf = 0; leaf < leavesPerService; leaf++) {
+                if (leaf % LEAVES_PER_INTERNAL == 0) {
+                    parent = new DummyMerkleInternal();
+                    serviceRoot.setChild(childIndex++, parent);
+                }
+                parent.setChild(leaf % LEAVES_PER_INTERNAL, new DummyMerkleLeaf("leaf" + leaf, true));
+            }
+            root.setChild(service, serviceRoot);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void invalidate() {
+        MerkleUtils.invalidateTree(root);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Hash digestTreeSync() {
+        return cryptography.digestTreeSync(root, MERKLE_DIGEST_TYPE);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Hash digestTreeAsync() throws ExecutionException, InterruptedException {
+        return cryptography.digestTreeAsync(root, MERKLE_DIGEST_TYPE).get();
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.core.jmh;
+
+import com.swirlds.common.concurrent.ExecutorFactory;
+import com.swirlds.common.io.IOIterator;
+import com.swirlds.common.io.utility.FileUtils;
+import com.swirlds.platform.event.AncientMode;
+import com.swirlds.platform.event.PlatformEvent;
+import com.swirlds.platform.event.hashing.PbjStreamHasher;
+import com.swirlds.platform.event.preconsensus.PcesFile;
+import com.swirlds.platform.event.preconsensus.PcesMultiFileIterator;
+import com.swirlds.platform.event.preconsensus.PcesMutableFile;
+import com.swirlds.platform.event.preconsensus.PcesReplayPipeline;
+import com.swirlds.platform.test.fixtures.event.TestingEventBuilder;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures how fast events can be read back and hashed from a synthetic preconsensus event stream directory, as is
+ * done when replaying the stream at startup. A {@code hashPoolSize} of 0 reads and hashes events on the calling thread,
+ * any other value reads through a {@link PcesReplayPipeline} with that many hashing threads. The score is in events
+ * per second.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 1, time = 1)
+@Measurement(iterations = 3, time = 10)
+public class PcesReplayBenchmark {
+    private static final int EVENT_COUNT = 100_000;
+    private static final int EVENTS_PER_FILE = 10_000;
+
+    @Param({"0"})
+    public long seed;
+
+    @Param({"0", "1", "4", "8"})
+    public int hashPoolSize;
+
+    @Param({"1024"})
+    public int queueSize;
+
+    private Path directory;
+    private List<PcesFile> files;
+    private ExecutorFactory executorFactory;
+
+    @Setup
+    public void setup() throws IOException {
+        final Random random = new Random(seed);
+        final PlatformEvent selfParent = new TestingEventBuilder(random).build();
+        final PlatformEvent otherParent = new TestingEventBuilder(random).build();
+
+        directory = Files.createTempDirectory("pces-replay-benchmark");
+        files = new ArrayList<>();
+        for (int fileIndex = 0; fileIndex < EVENT_COUNT / EVENTS_PER_FILE; fileIndex++) {
+            final PcesFile file = PcesFile.of(
+                    AncientMode.GENERATION_THRESHOLD, Instant.now(), fileIndex, 0, Long.MAX_VALUE, 0, directory);
+            final PcesMutableFile mutableFile = file.getMutableFile();
+            for (int i = 0; i < EVENTS_PER_FILE; i++) {
+                mutableFile.writeEvent(new TestingEventBuilder(random)
+                        .setAppTransactionCount(20)
+                        .setSystemTransactionCount(10)
+                        .setSelfParent(selfParent)
+                        .setOtherParent(otherParent)
+                        .build());
+            }
+            mutableFile.close();
+            files.add(file);
+        }
+
+        executorFactory = ExecutorFactory.create("pces-replay-benchmark", (t, e) -> e.printStackTrace());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(directory);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(EVENT_COUNT)
+    public void replay(final Blackhole bh) throws IOException {
+        final IOIterator<PlatformEvent> fileIterator =
+                new PcesMultiFileIterator(0, files.iterator(), AncientMode.GENERATION_THRESHOLD);
+
+        if (hashPoolSize == 0) {
+            final PbjStreamHasher hasher = new PbjStreamHasher();
+            while (fileIterator.hasNext()) {
+                bh.consume(hasher.hashEvent(fileIterator.next()));
+            }
+            return;
+        }
+
+        try (final PcesReplayPipeline pipeline =
+                new PcesReplayPipeline(executorFactory, fileIterator, queueSize, hashPoolSize)) {
+            while (pipeline.hasNext()) {
+                bh.consume(pipeline.next());
+            }
+        }
+    }
+}
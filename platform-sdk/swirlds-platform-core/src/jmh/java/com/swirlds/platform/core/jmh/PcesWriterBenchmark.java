@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.core.jmh;
+
+import com.swirlds.common.io.utility.FileUtils;
+import com.swirlds.platform.event.AncientMode;
+import com.swirlds.platform.event.PlatformEvent;
+import com.swirlds.platform.event.preconsensus.PcesFile;
+import com.swirlds.platform.event.preconsensus.PcesMutableFile;
+import com.swirlds.platform.test.fixtures.event.TestingEventBuilder;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how fast events can be written to a preconsensus event file when the file is flushed after every
+ * {@code eventsPerFlush} events, with and without forcing the data to disk. Each operation writes one group of events
+ * and flushes it, so the score (groups per second) multiplied by {@code eventsPerFlush} is the event throughput, and
+ * its inverse is the durability lag of the last event in a group.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 1, time = 1)
+@Measurement(iterations = 3, time = 10)
+public class PcesWriterBenchmark {
+    /** Files are rolled over once they reach this size, to keep the benchmark from filling the disk */
+    private static final long MAX_FILE_SIZE = 64L * 1024 * 1024;
+
+    @Param({"0"})
+    public long seed;
+
+    @Param({"1", "10", "100"})
+    public int eventsPerFlush;
+
+    @Param({"false", "true"})
+    public boolean syncOnFlush;
+
+    @Param({"1048576"})
+    public int bufferSize;
+
+    private PlatformEvent event;
+    private Path directory;
+    private PcesMutableFile mutableFile;
+    private long fileSequenceNumber;
+
+    @Setup
+    public void setup() throws IOException {
+        final Random random = new Random(seed);
+        event = new TestingEventBuilder(random)
+                .setAppTransactionCount(20)
+                .setSystemTransactionCount(10)
+                .setSelfParent(new TestingEventBuilder(random).build())
+                .setOtherParent(new TestingEventBuilder(random).build())
+                .build();
+        directory = Files.createTempDirectory("pces-writer-benchmark");
+    }
+
+    @Setup(Level.Iteration)
+    public void openFile() throws IOException {
+        mutableFile = PcesFile.of(
+                        AncientMode.GENERATION_THRESHOLD,
+                        Instant.now(),
+                        fileSequenceNumber++,
+                        0,
+                        Long.MAX_VALUE,
+                        0,
+                        directory)
+                .getMutableFile(syncOnFlush, bufferSize);
+    }
+
+    @TearDown(Level.Iteration)
+    public void closeFile() throws IOException {
+        mutableFile.close();
+        FileUtils.deleteDirectory(directory);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void writeAndFlush() throws IOException {
+        for (int i = 0; i < eventsPerFlush; i++) {
+            mutableFile.writeEvent(event);
+        }
+        mutableFile.flush();
+
+        if (mutableFile.fileSize() > MAX_FILE_SIZE) {
+            closeFile();
+            openFile();
+        }
+    }
+}
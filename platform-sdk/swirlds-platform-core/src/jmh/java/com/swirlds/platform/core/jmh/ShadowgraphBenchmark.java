@@ -0,0 +1,162 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.core.jmh;
+
+import static com.swirlds.platform.event.AncientMode.GENERATION_THRESHOLD;
+
+import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.test.fixtures.WeightGenerators;
+import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
+import com.swirlds.platform.consensus.EventWindow;
+import com.swirlds.platform.event.PlatformEvent;
+import com.swirlds.platform.gossip.NoOpIntakeEventCounter;
+import com.swirlds.platform.gossip.shadowgraph.ReservedEventWindow;
+import com.swirlds.platform.gossip.shadowgraph.ShadowEvent;
+import com.swirlds.platform.gossip.shadowgraph.Shadowgraph;
+import com.swirlds.platform.gossip.shadowgraph.ShadowgraphInsertionException;
+import com.swirlds.platform.internal.EventImpl;
+import com.swirlds.platform.system.address.AddressBook;
+import com.swirlds.platform.test.event.emitter.StandardEventEmitter;
+import com.swirlds.platform.test.event.source.EventSourceFactory;
+import com.swirlds.platform.test.fixtures.event.generator.StandardGraphGenerator;
+import com.swirlds.platform.test.fixtures.event.source.EventSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the shadowgraph under the access pattern of a node that is syncing with many peers at once. Sixteen threads
+ * each repeatedly run the shadowgraph part of a sync session (reserve, read the tips, look up the peer's tips and walk
+ * the ancestors of our tips), while one thread inserts new events and periodically expires old ones, as the intake
+ * pipeline does.
+ */
+@State(Scope.Group)
+@Fork(value = 1)
+@Warmup(iterations = 1, time = 1)
+@Measurement(iterations = 3, time = 10)
+public class ShadowgraphBenchmark {
+    /** The number of generations kept in the shadowgraph before they are expired */
+    private static final int GENERATIONS_TO_KEEP = 20;
+
+    @Param({"40"})
+    public int numNodes;
+
+    @Param({"20000"})
+    public int numEvents;
+
+    @Param({"0"})
+    public long seed;
+
+    private PlatformContext platformContext;
+    private AddressBook addressBook;
+    private List<PlatformEvent> events;
+    private volatile Shadowgraph shadowgraph;
+    private volatile int nextEvent;
+
+    @Setup
+    public void setup() {
+        final List<EventSource<?>> eventSources =
+                EventSourceFactory.newStandardEventSources(WeightGenerators.balancedNodeWeights(numNodes));
+
+        platformContext = TestPlatformContextBuilder.create().build();
+        final StandardGraphGenerator generator = new StandardGraphGenerator(platformContext, seed, eventSources);
+        final StandardEventEmitter emitter = new StandardEventEmitter(generator);
+        events = new ArrayList<>(numEvents);
+        for (final EventImpl event : emitter.emitEvents(numEvents)) {
+            events.add(event.getBaseEvent());
+        }
+
+        addressBook = emitter.getGraphGenerator().getAddressBook();
+        shadowgraph = newShadowgraph();
+    }
+
+    private Shadowgraph newShadowgraph() {
+        final Shadowgraph graph = new Shadowgraph(platformContext, addressBook, new NoOpIntakeEventCounter());
+        graph.updateEventWindow(EventWindow.getGenesisEventWindow(GENERATION_THRESHOLD));
+        return graph;
+    }
+
+    /**
+     * The intake side: insert the next event, expiring old generations as the graph advances. Once all events have
+     * been inserted they are inserted again into a new shadowgraph.
+     */
+    @Benchmark
+    @Group("sync")
+    @GroupThreads(1)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void insert() throws ShadowgraphInsertionException {
+        Shadowgraph graph = shadowgraph;
+        if (nextEvent == events.size()) {
+            graph = newShadowgraph();
+            shadowgraph = graph;
+            nextEvent = 0;
+        }
+
+        final PlatformEvent event = events.get(nextEvent);
+        graph.addEvent(event);
+        nextEvent++;
+
+        final long expiredThreshold = event.getGeneration() - GENERATIONS_TO_KEEP;
+        if (nextEvent % numNodes == 0 && expiredThreshold > graph.getEventWindow().getExpiredThreshold()) {
+            graph.updateEventWindow(new EventWindow(0, expiredThreshold, expiredThreshold, GENERATION_THRESHOLD));
+        }
+    }
+
+    /**
+     * The sync side: the shadowgraph operations performed by a single sync session.
+     */
+    @Benchmark
+    @Group("sync")
+    @GroupThreads(16)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void syncSession(final Blackhole bh) {
+        final Shadowgraph graph = shadowgraph;
+        try (final ReservedEventWindow reservation = graph.reserve()) {
+            final List<ShadowEvent> tips = graph.getTips();
+
+            // pretend the peer's tips are a handful of recently inserted events
+            final int inserted = nextEvent;
+            final List<Hash> theirTips = new ArrayList<>(numNodes);
+            for (int i = 0; i < numNodes && inserted > 0; i++) {
+                theirTips.add(events.get(ThreadLocalRandom.current().nextInt(Math.max(0, inserted - numNodes), inserted))
+                        .getHash());
+            }
+            bh.consume(graph.shadows(theirTips));
+
+            final long ancientThreshold = reservation.getEventWindow().getAncientThreshold();
+            bh.consume(graph.findAncestors(tips, e -> e.getEvent().getGeneration() >= ancientThreshold));
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.core.jmh;
+
+import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
+import com.swirlds.common.wiring.model.WiringModel;
+import com.swirlds.common.wiring.model.WiringModelBuilder;
+import com.swirlds.common.wiring.schedulers.TaskScheduler;
+import com.swirlds.common.wiring.schedulers.builders.TaskSchedulerType;
+import com.swirlds.common.wiring.schedulers.builders.TaskSchedulerWaitStrategy;
+import com.swirlds.common.wiring.wires.input.BindableInputWire;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the latency of passing data through a chain of task schedulers, as data passes through the platform's
+ * pipeline of event intake, hashing, consensus and so on. Each invocation sends one value into the first scheduler and
+ * waits for it to come out of the last one, so the score divided by {@link #hops} is the latency of a single hop.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 1, time = 5)
+@Measurement(iterations = 3, time = 10)
+public class TaskSchedulerBenchmark {
+
+    @Param({"SEQUENTIAL", "SEQUENTIAL_THREAD", "SEQUENTIAL_RING_BUFFER"})
+    public TaskSchedulerType type;
+
+    /** Only used by {@link TaskSchedulerType#SEQUENTIAL_RING_BUFFER} schedulers */
+    @Param({"PARK"})
+    public TaskSchedulerWaitStrategy waitStrategy;
+
+    @Param({"4"})
+    public int hops;
+
+    @Param({"500"})
+    public long capacity;
+
+    private WiringModel model;
+    private BindableInputWire<Long, Long> input;
+
+    /** The last value to come out of the chain */
+    private volatile long received;
+
+    private long nextValue;
+
+    @Setup
+    public void setup() {
+        final PlatformContext platformContext = TestPlatformContextBuilder.create().build();
+        model = WiringModelBuilder.create(platformContext)
+                .withHardBackpressureEnabled(true)
+                .build();
+
+        TaskScheduler<Long> previous = null;
+        for (int i = 0; i < hops; i++) {
+            final TaskScheduler<Long> scheduler = model.<Long>schedulerBuilder("hop" + i)
+                    .withType(type)
+                    .withWaitStrategy(waitStrategy)
+                    .withUnhandledTaskCapacity(capacity)
+                    .build();
+            final BindableInputWire<Long, Long> wire = scheduler.buildInputWire("in");
+            if (previous == null) {
+                input = wire;
+            } else {
+                previous.getOutputWire().solderTo(wire);
+            }
+            if (i == hops - 1) {
+                wire.bindConsumer(value -> received = value);
+            } else {
+                wire.bind(value -> value);
+            }
+            previous = scheduler;
+        }
+
+        model.start();
+    }
+
+    @TearDown
+    public void tearDown() {
+        model.stop();
+    }
+
+    /**
+     * Send one value through the chain and wait for it to arrive at the end.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long roundTrip() {
+        final long value = ++nextValue;
+        input.put(value);
+        while (received != value) {
+            Thread.onSpinWait();
+        }
+        return value;
+    }
+}
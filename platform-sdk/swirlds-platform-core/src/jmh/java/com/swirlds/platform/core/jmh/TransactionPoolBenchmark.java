@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.core.jmh;
+
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
+import com.swirlds.platform.pool.TransactionPoolNexus;
+import com.swirlds.platform.system.status.PlatformStatus;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the transaction pool under the access pattern of a busy node. Eight threads submit application
+ * transactions, as the gRPC handlers do, while one thread repeatedly takes transactions for a new event, as the event
+ * creator does.
+ */
+@State(Scope.Group)
+@Fork(value = 1)
+@Warmup(iterations = 1, time = 1)
+@Measurement(iterations = 3, time = 10)
+public class TransactionPoolBenchmark {
+
+    @Param({"100"})
+    public int transactionSize;
+
+    @Param({"0"})
+    public long seed;
+
+    private TransactionPoolNexus transactionPool;
+    private Bytes transaction;
+
+    @Setup
+    public void setup() {
+        transactionPool = new TransactionPoolNexus(TestPlatformContextBuilder.create().build());
+        transactionPool.updatePlatformStatus(PlatformStatus.ACTIVE);
+
+        final byte[] bytes = new byte[transactionSize];
+        new Random(seed).nextBytes(bytes);
+        transaction = Bytes.wrap(bytes);
+    }
+
+    /**
+     * The submitting side. Transactions rejected because the pool is full are counted like accepted ones, since
+     * the cost of the rejection is part of what is being measured.
+     */
+    @Benchmark
+    @Group("pool")
+    @GroupThreads(8)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public boolean submit() {
+        return transactionPool.submitApplicationTransaction(transaction);
+    }
+
+    /**
+     * The event creation side: take as many transactions as fit in one event.
+     */
+    @Benchmark
+    @Group("pool")
+    @GroupThreads(1)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void createEvent(final Blackhole bh) {
+        bh.consume(transactionPool.getTransactions());
+    }
+}
@@ -38,6 +38,7 @@ import com.swirlds.platform.consensus.ConsensusUtils;
 import com.swirlds.platform.consensus.CountingVote;
 import com.swirlds.platform.consensus.EventWindow;
 import com.swirlds.platform.consensus.InitJudges;
+import com.swirlds.platform.consensus.LastSeeStore;
 import com.swirlds.platform.consensus.RoundElections;
 import com.swirlds.platform.consensus.ThreadSafeConsensusInfo;
 import com.swirlds.platform.event.AncientMode;
@@ -54,8 +55,11 @@ import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
@@ -171,6 +175,16 @@ public class ConsensusImpl extends ThreadSafeConsensusInfo implements Consensus
      * list.
      */
     private final List<EventImpl> recentEvents = new LinkedList<>();
+    /**
+     * arrays that are reused while computing stronglySeeP, so that a new array only needs to be allocated when the
+     * result differs from the result of both parents. a stack, since computing stronglySeeP for one event may require
+     * computing it for one of its ancestors.
+     */
+    private final Deque<EventImpl[]> stronglySeePArrays = new ArrayDeque<>();
+    /** the memoized lastSee answers of all events */
+    private final LastSeeStore lastSeeStore;
+    /** the stack used to visit ancestors in {@link #memoizeLastSeeOfAncestors(EventImpl)}, reused between calls */
+    private final Deque<EventImpl> lastSeeStack = new ArrayDeque<>();
     /** stores all round information */
     private final ConsensusRounds rounds;
     /**
@@ -239,6 +253,7 @@ public class ConsensusImpl extends ThreadSafeConsensusInfo implements Consensus
         this.addressBook = addressBook;
 
         this.rounds = new ConsensusRounds(config, getStorage(), addressBook);
+        this.lastSeeStore = new LastSeeStore(addressBook.getSize());
         this.ancientMode = platformContext
                 .getConfiguration()
                 .getConfigData(EventConfig.class)
@@ -265,6 +280,8 @@ public class ConsensusImpl extends ThreadSafeConsensusInfo implements Consensus
     /** Reset this instance to a state of a newly created instance */
     private void reset() {
         recentEvents.clear();
+        lastSeeStore.clear();
+        lastSeeStack.clear();
         rounds.reset();
         numConsensus = 0;
         lastConsensusTime = null;
@@ -969,11 +986,14 @@ public class ConsensusImpl extends ThreadSafeConsensusInfo implements Consensus
      * has aggressive memoization: the first time it is called with a given x, it immediately
      * calculates and stores results for all m. This result is memoized.
      *
+     * <p>It's package-private for testing purposes.
+     *
      * @param x the event being queried
      * @param m the member ID of the creator
      * @return the last event created by m that is an ancestor of x, or null if none
      */
-    private @Nullable EventImpl lastSee(@Nullable final EventImpl x, final long m) {
+    @Nullable
+    EventImpl lastSee(@Nullable final EventImpl x, final long m) {
         final int numMembers;
         final EventImpl sp;
         final EventImpl op;
@@ -984,34 +1004,79 @@ public class ConsensusImpl extends ThreadSafeConsensusInfo implements Consensus
         if (notRelevantForConsensus(x)) {
             return null;
         }
-        if (x.sizeLastSee() != 0) { // return memoized answer, if available
-            return x.getLastSee((int) m);
+        if (lastSeeStore.contains(x)) { // return memoized answer, if available
+            return lastSeeStore.get(x, (int) m);
         }
+        // make sure all ancestors have their answers memoized, so that computing the answers for x does not recurse
+        memoizeLastSeeOfAncestors(x);
+
         // memoize answers for all choices of m, then return answer for just this m
         numMembers = addressBook.getSize();
-        x.initLastSee(numMembers);
+        lastSeeStore.allocate(x);
 
         op = otherParent(x);
         sp = selfParent(x);
 
         for (int mm = 0; mm < numMembers; mm++) {
             if (creatorIndexEquals(x, mm)) {
-                x.setLastSee(mm, x);
+                lastSeeStore.set(x, mm, x);
             } else if (sp == null && op == null) {
-                x.setLastSee(mm, null);
+                lastSeeStore.set(x, mm, null);
             } else {
                 final EventImpl lsop = lastSee(op, mm);
                 final EventImpl lssp = lastSee(sp, mm);
                 final long lsopGen = lsop == null ? 0 : lsop.getGeneration();
                 final long lsspGen = lssp == null ? 0 : lssp.getGeneration();
                 if ((round(lsop) > round(lssp)) || ((lsopGen > lsspGen) && (firstSee(op, mm) == firstSee(sp, mm)))) {
-                    x.setLastSee(mm, lsop);
+                    lastSeeStore.set(x, mm, lsop);
                 } else {
-                    x.setLastSee(mm, lssp);
+                    lastSeeStore.set(x, mm, lssp);
                 }
             }
         }
-        return x.getLastSee((int) m);
+        return lastSeeStore.get(x, (int) m);
+    }
+
+    /**
+     * Memoize lastSee for every ancestor of x that does not have it memoized yet, oldest first. Ancestors are visited
+     * with an explicit stack rather than by recursion, so that a long chain of events without memoized answers (for
+     * example after the metadata of recent events has been cleared) does not lead to deep recursion.
+     *
+     * @param x the event whose ancestors should have lastSee memoized
+     */
+    private void memoizeLastSeeOfAncestors(@NonNull final EventImpl x) {
+        // computing lastSee can lead to this method being called again for other events, so the stack is shared by
+        // all calls that are in progress, and each call only handles the events it pushed
+        final Deque<EventImpl> stack = lastSeeStack;
+        final int base = stack.size();
+        pushIfLastSeeMissing(stack, selfParent(x));
+        pushIfLastSeeMissing(stack, otherParent(x));
+        while (stack.size() > base) {
+            final EventImpl e = stack.peek();
+            if (!lastSeeMissing(e)) {
+                // already memoized, this event was reachable through more than one path
+                stack.pop();
+                continue;
+            }
+            final int sizeBefore = stack.size();
+            pushIfLastSeeMissing(stack, selfParent(e));
+            pushIfLastSeeMissing(stack, otherParent(e));
+            if (stack.size() == sizeBefore) {
+                // both parents are memoized, so this does not recurse into lastSee of the parents
+                stack.pop();
+                lastSee(e, 0);
+            }
+        }
+    }
+
+    private void pushIfLastSeeMissing(@NonNull final Deque<EventImpl> stack, @Nullable final EventImpl e) {
+        if (lastSeeMissing(e)) {
+            stack.push(e);
+        }
+    }
+
+    private boolean lastSeeMissing(@Nullable final EventImpl e) {
+        return e != null && !notRelevantForConsensus(e) && !lastSeeStore.contains(e);
     }
 
     /**
@@ -1045,11 +1110,14 @@ public class ConsensusImpl extends ThreadSafeConsensusInfo implements Consensus
      * can be thought of as a kind of generalized dot product (not a literal dot product). So it is
      * timed and it updates the statistic for that.
      *
+     * <p>It's package-private for testing purposes.
+     *
      * @param x the event being queried
      * @param m the member ID of the creator
      * @return witness created by m in the parent round of x that x strongly sees, or null if none
      */
-    private @Nullable EventImpl stronglySeeP(@Nullable final EventImpl x, final long m) {
+    @Nullable
+    EventImpl stronglySeeP(@Nullable final EventImpl x, final long m) {
         if (x == null) { // if there is no event, then it can't see anything
             return null;
         }
@@ -1069,36 +1137,92 @@ public class ConsensusImpl extends ThreadSafeConsensusInfo implements Consensus
         final long prsp = parentRound(sp); // parent round of self parent of x
         final long prop = parentRound(op); // parent round of other parent of x
 
-        x.initStronglySeeP(numMembers);
-        for (int mm = 0; mm < numMembers; mm++) {
-            if (stronglySeeP(sp, mm) != null && prx == prsp) {
-                x.setStronglySeeP(mm, stronglySeeP(sp, mm));
-            } else if (stronglySeeP(op, mm) != null && prx == prop) {
-                x.setStronglySeeP(mm, stronglySeeP(op, mm));
-            } else {
-                // the canonical witness by mm that is seen by x thru someone else
-                final EventImpl st = seeThru(x, mm, mm);
-                if (round(st) != prx) { // ignore if the canonical is in the wrong round, or doesn't exist
-                    x.setStronglySeeP(mm, null);
+        // compute the answers in a reusable array, and only keep a new array if the answers differ from a parent's
+        final EventImpl[] result = borrowStronglySeePArray(numMembers);
+        try {
+            for (int mm = 0; mm < numMembers; mm++) {
+                if (stronglySeeP(sp, mm) != null && prx == prsp) {
+                    result[mm] = stronglySeeP(sp, mm);
+                } else if (stronglySeeP(op, mm) != null && prx == prop) {
+                    result[mm] = stronglySeeP(op, mm);
                 } else {
-                    long weight = 0;
-                    for (int m3 = 0; m3 < numMembers; m3++) {
-                        if (seeThru(x, mm, m3) == st) { // only count intermediates that see the canonical witness
-                            weight += getWeight(m3);
-                        }
-                    }
-                    if (Threshold.SUPER_MAJORITY.isSatisfiedBy(weight, totalWeight)) { // strongly see supermajority of
-                        // intermediates
-                        x.setStronglySeeP(mm, st);
+                    // the canonical witness by mm that is seen by x thru someone else
+                    final EventImpl st = seeThru(x, mm, mm);
+                    if (round(st) != prx) { // ignore if the canonical is in the wrong round, or doesn't exist
+                        result[mm] = null;
                     } else {
-                        x.setStronglySeeP(mm, null);
+                        long weight = 0;
+                        for (int m3 = 0; m3 < numMembers; m3++) {
+                            if (seeThru(x, mm, m3) == st) { // only count intermediates that see the canonical witness
+                                weight += getWeight(m3);
+                            }
+                        }
+                        if (Threshold.SUPER_MAJORITY.isSatisfiedBy(weight, totalWeight)) { // strongly see supermajority
+                            // of intermediates
+                            result[mm] = st;
+                        } else {
+                            result[mm] = null;
+                        }
                     }
                 }
             }
+            x.setStronglySeeP(shareStronglySeeP(result, sp, op));
+        } finally {
+            returnStronglySeePArray(result);
         }
         return x.getStronglySeeP((int) m);
     }
 
+    /**
+     * Get an array to compute stronglySeeP into. The array must be returned with
+     * {@link #returnStronglySeePArray(EventImpl[])} once the answers have been memoized.
+     *
+     * @param numMembers the number of members
+     * @return an array of size numMembers
+     */
+    private @NonNull EventImpl[] borrowStronglySeePArray(final int numMembers) {
+        final EventImpl[] array = stronglySeePArrays.poll();
+        return array != null && array.length == numMembers ? array : new EventImpl[numMembers];
+    }
+
+    private void returnStronglySeePArray(@NonNull final EventImpl[] array) {
+        Arrays.fill(array, null);
+        stronglySeePArrays.push(array);
+    }
+
+    /**
+     * Find an array to memoize the computed stronglySeeP answers. Memoized arrays are never modified, so if the
+     * answers are the same as those of a parent, the parent's array is shared. Otherwise a copy of the computed
+     * answers is returned.
+     *
+     * @param computed the computed answers, in a reusable array
+     * @param sp       the self parent, or null
+     * @param op       the other parent, or null
+     * @return an array holding the answers that may be memoized
+     */
+    private static @NonNull EventImpl[] shareStronglySeeP(
+            @NonNull final EventImpl[] computed, @Nullable final EventImpl sp, @Nullable final EventImpl op) {
+        if (sp != null && sameEvents(computed, sp.getStronglySeeP())) {
+            return sp.getStronglySeeP();
+        }
+        if (op != null && sameEvents(computed, op.getStronglySeeP())) {
+            return op.getStronglySeeP();
+        }
+        return computed.clone();
+    }
+
+    private static boolean sameEvents(@NonNull final EventImpl[] a, @Nullable final EventImpl[] b) {
+        if (b == null || a.length != b.length) {
+            return false;
+        }
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] != b[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * The round-created for event x (first round is 1), or 0 if x is null (function from
      * SWIRLDS-TR-2020-01). It also stores the round number with x.setRoundCreated(). This result is
@@ -437,6 +437,9 @@ public final class PlatformBuilder {
                     .withHealthMonitorPeriod(wiringConfig.healthMonitorHeartbeatPeriod())
                     .withHealthLogThreshold(wiringConfig.healthLogThreshold())
                     .withHealthLogPeriod(wiringConfig.healthLogPeriod())
+                    .withTracingEnabled(wiringConfig.tracingEnabled())
+                    .withTracingSamplePeriod(wiringConfig.tracingSamplePeriod())
+                    .withTracingReportPeriod(wiringConfig.tracingReportPeriod())
                     .build();
         }
 
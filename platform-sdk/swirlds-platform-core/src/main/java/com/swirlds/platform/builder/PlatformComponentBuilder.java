@@ -257,7 +257,7 @@ public class PlatformComponentBuilder {
     @NonNull
     public EventHasher buildEventHasher() {
         if (eventHasher == null) {
-            eventHasher = new DefaultEventHasher();
+            eventHasher = new DefaultEventHasher(blocks.platformContext());
         }
         return eventHasher;
     }
@@ -0,0 +1,201 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.consensus;
+
+import com.swirlds.platform.internal.EventImpl;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.Arrays;
+
+/**
+ * Stores the memoized lastSee answers (function from Swirlds-TR-2020-01) of all events in a single flat table, instead
+ * of an array per event. Each event that has its answers stored is assigned a dense slot, recorded in
+ * {@link EventImpl#getLastSeeIndex()}, and the answer for member m is at {@code slot * numMembers + m}.
+ * <p>
+ * Slots are handed out in a ring. Consensus recalculates the metadata of recent events roughly in the order the events
+ * were added, so the oldest slots are usually the first to be released. A slot is released when its event no longer
+ * refers to it, which happens when the event's metadata is cleared. Released slots at the head of the ring are
+ * reclaimed before a new slot is allocated. If the ring is full because the head is pinned by an event that still
+ * holds its slot, the slots still in use are compacted into a larger table.
+ * <p>
+ * This class is not thread safe.
+ */
+public class LastSeeStore {
+    /** the default number of slots */
+    private static final int DEFAULT_CAPACITY = 1024;
+    /** the number of members, which is the number of answers stored per event */
+    private final int numMembers;
+    /** the answers, {@code numMembers} for each slot */
+    private EventImpl[] answers;
+    /** the event each slot was allocated to, used to tell whether an event's slot is still its own */
+    private EventImpl[] owners;
+    /** the oldest slot that has not been reclaimed */
+    private int head;
+    /** the next slot to allocate */
+    private int tail;
+    /** the number of slots between head and tail */
+    private int size;
+
+    /**
+     * @param numMembers      the number of members in the address book
+     * @param initialCapacity the initial number of slots, will be automatically adjusted if exceeded
+     */
+    public LastSeeStore(final int numMembers, final int initialCapacity) {
+        if (numMembers <= 0 || initialCapacity <= 0) {
+            throw new IllegalArgumentException(
+                    "numMembers and initialCapacity must be positive, got " + numMembers + " and " + initialCapacity);
+        }
+        this.numMembers = numMembers;
+        this.answers = new EventImpl[initialCapacity * numMembers];
+        this.owners = new EventImpl[initialCapacity];
+    }
+
+    /**
+     * @param numMembers the number of members in the address book
+     */
+    public LastSeeStore(final int numMembers) {
+        this(numMembers, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Check if the answers for an event are stored.
+     *
+     * @param event the event to check
+     * @return true if the answers for this event are stored
+     */
+    public boolean contains(@NonNull final EventImpl event) {
+        final int slot = event.getLastSeeIndex();
+        return slot >= 0 && slot < owners.length && owners[slot] == event;
+    }
+
+    /**
+     * Allocate a slot for an event. All answers for the event are null until they are set.
+     *
+     * @param event the event to store answers for
+     */
+    public void allocate(@NonNull final EventImpl event) {
+        reclaim();
+        if (size == owners.length) {
+            compact();
+        }
+        final int slot = tail;
+        owners[slot] = event;
+        event.setLastSeeIndex(slot);
+        tail = next(tail);
+        size++;
+    }
+
+    /**
+     * Get an answer for an event. The event must have a slot allocated.
+     *
+     * @param event the event to get the answer for
+     * @param m     the member index
+     * @return the last ancestor of the event created by m
+     */
+    public @Nullable EventImpl get(@NonNull final EventImpl event, final int m) {
+        return answers[offset(event, m)];
+    }
+
+    /**
+     * Set an answer for an event. The event must have a slot allocated.
+     *
+     * @param event  the event to set the answer for
+     * @param m      the member index
+     * @param answer the last ancestor of the event created by m
+     */
+    public void set(@NonNull final EventImpl event, final int m, @Nullable final EventImpl answer) {
+        answers[offset(event, m)] = answer;
+    }
+
+    /**
+     * Release all slots. Events that still hold a slot index will no longer be considered stored.
+     */
+    public void clear() {
+        Arrays.fill(answers, null);
+        Arrays.fill(owners, null);
+        head = 0;
+        tail = 0;
+        size = 0;
+    }
+
+    /**
+     * @return the number of slots the store can hold before it needs to be enlarged
+     */
+    public int capacity() {
+        return owners.length;
+    }
+
+    /**
+     * @return the number of slots between the oldest slot not yet reclaimed and the newest slot
+     */
+    public int size() {
+        return size;
+    }
+
+    private int offset(@NonNull final EventImpl event, final int m) {
+        if (!contains(event)) {
+            throw new IllegalStateException("No lastSee answers are stored for event " + event.getBaseHash());
+        }
+        return event.getLastSeeIndex() * numMembers + m;
+    }
+
+    private boolean isLive(final int slot) {
+        final EventImpl owner = owners[slot];
+        return owner != null && owner.getLastSeeIndex() == slot;
+    }
+
+    private int next(final int slot) {
+        return slot + 1 == owners.length ? 0 : slot + 1;
+    }
+
+    /** Reclaim released slots at the head of the ring */
+    private void reclaim() {
+        while (size > 0 && !isLive(head)) {
+            owners[head] = null;
+            Arrays.fill(answers, head * numMembers, (head + 1) * numMembers, null);
+            head = next(head);
+            size--;
+        }
+    }
+
+    /** Move all slots still in use to the start of a new table, at least twice as large as the number of those slots */
+    private void compact() {
+        // find the slots in use before any index is changed, an event may still own released slots
+        final int[] liveSlots = new int[size];
+        int live = 0;
+        for (int i = 0, slot = head; i < size; i++, slot = next(slot)) {
+            if (isLive(slot)) {
+                liveSlots[live++] = slot;
+            }
+        }
+        final int capacity = Math.max(owners.length, 2 * live);
+        final EventImpl[] newAnswers = new EventImpl[capacity * numMembers];
+        final EventImpl[] newOwners = new EventImpl[capacity];
+        for (int newSlot = 0; newSlot < live; newSlot++) {
+            final int slot = liveSlots[newSlot];
+            final EventImpl owner = owners[slot];
+            newOwners[newSlot] = owner;
+            System.arraycopy(answers, slot * numMembers, newAnswers, newSlot * numMembers, numMembers);
+            owner.setLastSeeIndex(newSlot);
+        }
+        answers = newAnswers;
+        owners = newOwners;
+        head = 0;
+        tail = live;
+        size = live;
+    }
+}
@@ -37,6 +37,7 @@ import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
@@ -168,6 +169,26 @@ public final class EventSerializationUtils {
         event.getSignature().writeTo(out);
     }
 
+    /**
+     * Serialize the given {@link PlatformEvent}, including the event version number, to a byte array. The bytes are the
+     * same as those written by {@link #serializePlatformEvent(SerializableDataOutputStream, PlatformEvent, boolean)}
+     * when {@code writeVersion} is true.
+     *
+     * @param event the event to serialize
+     * @return the serialized event
+     */
+    @NonNull
+    public static Bytes serializePlatformEvent(@NonNull final PlatformEvent event) {
+        try (final ByteArrayOutputStream io = new ByteArrayOutputStream()) {
+            final SerializableDataOutputStream out = new SerializableDataOutputStream(io);
+            serializePlatformEvent(out, event, true);
+            out.flush();
+            return Bytes.wrap(io.toByteArray());
+        } catch (final IOException e) {
+            throw new UncheckedIOException("unable to serialize event", e);
+        }
+    }
+
     /**
      * Deserialize the event as {@link UnsignedEvent}.
      *
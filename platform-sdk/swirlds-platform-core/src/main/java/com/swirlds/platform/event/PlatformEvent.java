@@ -96,6 +96,13 @@ public class PlatformEvent implements ConsensusEvent, Hashable {
      */
     private long birthRound;
 
+    /**
+     * The serialized form of this event, as sent through gossip and written to the preconsensus event stream. Computed
+     * the first time it is needed so that an event is serialized once no matter how many peers it is sent to. Two
+     * threads may race to compute it, in which case both compute the same bytes.
+     */
+    private volatile Bytes serializedBytes;
+
     /**
      * @param unsignedEvent   the unsigned event
      * @param signature the signature for the event
@@ -183,6 +190,22 @@ public class PlatformEvent implements ConsensusEvent, Hashable {
         return gossipEvent.signature();
     }
 
+    /**
+     * Get the serialized form of this event, including the event version number. The bytes are computed the first
+     * time this method is called and reused after that.
+     *
+     * @return the serialized event
+     */
+    @NonNull
+    public Bytes getSerializedBytes() {
+        Bytes bytes = serializedBytes;
+        if (bytes == null) {
+            bytes = EventSerializationUtils.serializePlatformEvent(this);
+            serializedBytes = bytes;
+        }
+        return bytes;
+    }
+
     /**
      * @return the descriptor for the event
      */
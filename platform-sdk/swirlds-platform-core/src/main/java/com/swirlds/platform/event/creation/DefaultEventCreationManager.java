@@ -26,6 +26,7 @@ import com.swirlds.common.metrics.extensions.PhaseTimer;
 import com.swirlds.common.metrics.extensions.PhaseTimerBuilder;
 import com.swirlds.platform.consensus.EventWindow;
 import com.swirlds.platform.event.PlatformEvent;
+import com.swirlds.platform.event.creation.rules.AdaptiveRateRule;
 import com.swirlds.platform.event.creation.rules.AggregateEventCreationRules;
 import com.swirlds.platform.event.creation.rules.BackpressureRule;
 import com.swirlds.platform.event.creation.rules.EventCreationRule;
@@ -58,6 +59,12 @@ public class DefaultEventCreationManager implements EventCreationManager {
      */
     private final EventCreationRule eventCreationRules;
 
+    /**
+     * Adapts the creation rate to demand and load, null if the creation rate is not adaptive.
+     */
+    @Nullable
+    private final AdaptiveRateRule adaptiveRateRule;
+
     /**
      * Tracks the current phase of event creation.
      */
@@ -93,7 +100,17 @@ public class DefaultEventCreationManager implements EventCreationManager {
         final boolean useLegacyBackpressure = config.useLegacyBackpressure();
 
         final List<EventCreationRule> rules = new ArrayList<>();
-        rules.add(new MaximumRateRule(platformContext));
+        if (config.adaptiveCreationRate()) {
+            adaptiveRateRule = new AdaptiveRateRule(
+                    platformContext,
+                    transactionPoolNexus::getTransactionCount,
+                    eventIntakeQueueSize,
+                    this::getUnhealthyDuration);
+            rules.add(adaptiveRateRule);
+        } else {
+            adaptiveRateRule = null;
+            rules.add(new MaximumRateRule(platformContext));
+        }
         rules.add(new PlatformStatusRule(this::getPlatformStatus, transactionPoolNexus));
         if (useLegacyBackpressure) {
             rules.add(new BackpressureRule(platformContext, eventIntakeQueueSize));
@@ -152,6 +169,9 @@ public class DefaultEventCreationManager implements EventCreationManager {
     @Override
     public void setEventWindow(@NonNull final EventWindow eventWindow) {
         creator.setEventWindow(eventWindow);
+        if (adaptiveRateRule != null) {
+            adaptiveRateRule.setEventWindow(eventWindow);
+        }
     }
 
     /**
@@ -160,6 +180,9 @@ public class DefaultEventCreationManager implements EventCreationManager {
     @Override
     public void clear() {
         creator.clear();
+        if (adaptiveRateRule != null) {
+            adaptiveRateRule.clear();
+        }
         phase.activatePhase(IDLE);
     }
 
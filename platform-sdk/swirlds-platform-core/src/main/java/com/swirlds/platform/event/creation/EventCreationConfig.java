@@ -46,6 +46,20 @@ import java.time.Duration;
  *                                            the first queue in intake)
  * @param maximumPermissibleUnhealthyDuration the maximum amount of time that the system can be unhealthy before event
  *                                            creation stops
+ * @param adaptiveCreationRate                if true, the creation rate is adjusted between
+ *                                            {@link #minCreationRate} and {@link #maxCreationRate} according to the
+ *                                            number of waiting transactions, the estimated consensus latency and the
+ *                                            load on event intake, instead of always being capped at
+ *                                            {@link #maxCreationRate}
+ * @param minCreationRate                     ignored unless {@link #adaptiveCreationRate} is true. The rate (in hz)
+ *                                            that event creation falls back to when there is no demand for events, or
+ *                                            when event intake is saturated
+ * @param targetConsensusLatency              ignored unless {@link #adaptiveCreationRate} is true. The consensus
+ *                                            latency that the adaptive rate aims for. While the estimated latency is
+ *                                            above this value, events are created faster.
+ * @param deepTransactionPoolSize             ignored unless {@link #adaptiveCreationRate} is true. The number of
+ *                                            transactions waiting in the transaction pool at which the adaptive rate
+ *                                            reaches {@link #maxCreationRate}
  */
 @ConfigData("event.creation")
 public record EventCreationConfig(
@@ -55,4 +69,8 @@ public record EventCreationConfig(
         @ConfigProperty(defaultValue = "10") int tipsetSnapshotHistorySize,
         @ConfigProperty(defaultValue = "1024") int eventIntakeThrottle,
         @ConfigProperty(defaultValue = "false") boolean useLegacyBackpressure,
-        @ConfigProperty(defaultValue = "1s") Duration maximumPermissibleUnhealthyDuration) {}
+        @ConfigProperty(defaultValue = "1s") Duration maximumPermissibleUnhealthyDuration,
+        @ConfigProperty(defaultValue = "false") boolean adaptiveCreationRate,
+        @ConfigProperty(defaultValue = "2") double minCreationRate,
+        @ConfigProperty(defaultValue = "3s") Duration targetConsensusLatency,
+        @ConfigProperty(defaultValue = "1000") int deepTransactionPoolSize) {}
@@ -0,0 +1,248 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.event.creation.rules;
+
+import static com.swirlds.platform.event.creation.EventCreationStatus.RATE_LIMITED;
+
+import com.swirlds.base.time.Time;
+import com.swirlds.common.context.PlatformContext;
+import com.swirlds.platform.consensus.EventWindow;
+import com.swirlds.platform.event.creation.EventCreationConfig;
+import com.swirlds.platform.event.creation.EventCreationStatus;
+import com.swirlds.platform.event.creation.tipset.TipsetMetrics;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Throttles event creation to a rate that adapts to demand and load. The rate is chosen between
+ * {@link EventCreationConfig#minCreationRate()} and {@link EventCreationConfig#maxCreationRate()}:
+ * <ul>
+ *     <li>demand for events pushes the rate up. Demand grows with the number of transactions waiting in the
+ *     transaction pool, and with the amount by which the estimated consensus latency exceeds
+ *     {@link EventCreationConfig#targetConsensusLatency()}</li>
+ *     <li>pressure on event intake pushes the rate down. Pressure grows with the size of the intake queue and with
+ *     the length of time the system has been unhealthy</li>
+ * </ul>
+ * <p>
+ * Consensus latency is estimated from the event window: a self event is considered to have reached consensus once
+ * the round that was pending when it was created has reached consensus.
+ */
+public class AdaptiveRateRule implements EventCreationRule {
+
+    /**
+     * The weight given to each new latency sample when updating the latency estimate.
+     */
+    private static final double LATENCY_SAMPLE_WEIGHT = 0.1;
+
+    /**
+     * The maximum number of self events tracked while waiting for consensus. If consensus stalls, new events are not
+     * tracked, the oldest tracked event is enough to notice the stall.
+     */
+    private static final int MAX_PENDING_SELF_EVENTS = 1024;
+
+    private final Time time;
+    private final TipsetMetrics metrics;
+
+    private final double minRate;
+    private final double maxRate;
+    private final long targetLatencyNanos;
+    private final int deepTransactionPoolSize;
+    private final int eventIntakeThrottle;
+    private final long maximumPermissibleUnhealthyNanos;
+
+    private final LongSupplier transactionPoolDepth;
+    private final LongSupplier eventIntakeQueueSize;
+    private final Supplier<Duration> unhealthyDuration;
+
+    /**
+     * The time when the last event was created, or null if no event has been created yet.
+     */
+    @Nullable
+    private Long lastCreationNanos;
+
+    /**
+     * The most recent event window, or null if none has been received yet.
+     */
+    @Nullable
+    private EventWindow eventWindow;
+
+    /**
+     * Self events that have not yet reached consensus, oldest first. Each entry holds the round that was pending when
+     * the event was created, and the time it was created.
+     */
+    private final Deque<long[]> pendingSelfEvents = new ArrayDeque<>();
+
+    /**
+     * A smoothed estimate of the consensus latency of self events, in nanoseconds, or -1 if there are no samples.
+     */
+    private double latencyEstimateNanos = -1;
+
+    /**
+     * Constructor.
+     *
+     * @param platformContext      the platform context for this node
+     * @param transactionPoolDepth supplies the number of transactions waiting to be put into events
+     * @param eventIntakeQueueSize supplies the size of the event intake queue
+     * @param unhealthyDuration    supplies the duration that the system has been unhealthy
+     */
+    public AdaptiveRateRule(
+            @NonNull final PlatformContext platformContext,
+            @NonNull final LongSupplier transactionPoolDepth,
+            @NonNull final LongSupplier eventIntakeQueueSize,
+            @NonNull final Supplier<Duration> unhealthyDuration) {
+
+        final EventCreationConfig config =
+                platformContext.getConfiguration().getConfigData(EventCreationConfig.class);
+
+        this.time = platformContext.getTime();
+        this.metrics = new TipsetMetrics(platformContext);
+
+        // a max creation rate of 0 means "unlimited", in which case creation is bounded by the attempt rate
+        this.maxRate = config.maxCreationRate() > 0 ? config.maxCreationRate() : config.creationAttemptRate();
+        this.minRate = Math.min(config.minCreationRate(), maxRate);
+        if (minRate <= 0) {
+            throw new IllegalArgumentException("minimum creation rate must be positive, got " + minRate);
+        }
+        this.targetLatencyNanos = config.targetConsensusLatency().toNanos();
+        this.deepTransactionPoolSize = Math.max(1, config.deepTransactionPoolSize());
+        this.eventIntakeThrottle = Math.max(1, config.eventIntakeThrottle());
+        this.maximumPermissibleUnhealthyNanos =
+                Math.max(1, config.maximumPermissibleUnhealthyDuration().toNanos());
+
+        this.transactionPoolDepth = Objects.requireNonNull(transactionPoolDepth);
+        this.eventIntakeQueueSize = Objects.requireNonNull(eventIntakeQueueSize);
+        this.unhealthyDuration = Objects.requireNonNull(unhealthyDuration);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEventCreationPermitted() {
+        final long now = time.nanoTime();
+        final double rate = computeTargetRate(now);
+        if (lastCreationNanos == null) {
+            return true;
+        }
+        return now - lastCreationNanos >= (long) (1_000_000_000 / rate);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void eventWasCreated() {
+        final long now = time.nanoTime();
+        lastCreationNanos = now;
+        if (eventWindow != null && pendingSelfEvents.size() < MAX_PENDING_SELF_EVENTS) {
+            pendingSelfEvents.addLast(new long[] {eventWindow.getPendingConsensusRound(), now});
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    public EventCreationStatus getEventCreationStatus() {
+        return RATE_LIMITED;
+    }
+
+    /**
+     * Update the event window. Self events created while a round that has now reached consensus was pending are used
+     * as latency samples.
+     *
+     * @param eventWindow the new event window
+     */
+    public void setEventWindow(@NonNull final EventWindow eventWindow) {
+        this.eventWindow = Objects.requireNonNull(eventWindow);
+        final long now = time.nanoTime();
+        while (!pendingSelfEvents.isEmpty()
+                && pendingSelfEvents.peekFirst()[0] <= eventWindow.getLatestConsensusRound()) {
+            final long sample = now - pendingSelfEvents.removeFirst()[1];
+            latencyEstimateNanos = latencyEstimateNanos < 0
+                    ? sample
+                    : latencyEstimateNanos + LATENCY_SAMPLE_WEIGHT * (sample - latencyEstimateNanos);
+        }
+    }
+
+    /**
+     * Forget all state, e.g. after a reconnect.
+     */
+    public void clear() {
+        lastCreationNanos = null;
+        eventWindow = null;
+        pendingSelfEvents.clear();
+        latencyEstimateNanos = -1;
+    }
+
+    /**
+     * Compute the rate at which events should currently be created, and report it and its inputs as metrics.
+     *
+     * @param now the current time, in nanoseconds
+     * @return the target creation rate, in hz
+     */
+    private double computeTargetRate(final long now) {
+        final long poolDepth = transactionPoolDepth.getAsLong();
+        final double latency = getLatencyEstimateNanos(now);
+
+        final double poolDemand = (double) poolDepth / deepTransactionPoolSize;
+        final double latencyDemand = latency < 0 ? 0 : latency / targetLatencyNanos - 1;
+        final double demand = clamp(Math.max(poolDemand, latencyDemand));
+
+        final double queuePressure = (double) eventIntakeQueueSize.getAsLong() / eventIntakeThrottle;
+        final double healthPressure = (double) unhealthyDuration.get().toNanos() / maximumPermissibleUnhealthyNanos;
+        final double pressure = clamp(Math.max(queuePressure, healthPressure));
+
+        final double rate = Math.max(minRate, (minRate + (maxRate - minRate) * demand) * (1 - pressure));
+
+        metrics.getCreationTargetRateMetric().set(rate);
+        metrics.getTransactionPoolDepthMetric().set(poolDepth);
+        metrics.getIntakePressureMetric().set(pressure);
+        metrics.getConsensusLatencyEstimateMetric().set(latency < 0 ? 0 : latency / 1_000_000.0);
+
+        return rate;
+    }
+
+    /**
+     * Get the estimated consensus latency. If the oldest self event still waiting for consensus has been waiting
+     * longer than the smoothed estimate, its wait is used instead, so that a stall is noticed before it ends.
+     *
+     * @param now the current time, in nanoseconds
+     * @return the estimated latency in nanoseconds, or -1 if there is nothing to base an estimate on
+     */
+    private double getLatencyEstimateNanos(final long now) {
+        final long[] oldest = pendingSelfEvents.peekFirst();
+        if (oldest == null) {
+            return latencyEstimateNanos;
+        }
+        return Math.max(latencyEstimateNanos, now - oldest[1]);
+    }
+
+    /**
+     * Clamp a value to the range [0, 1].
+     */
+    private static double clamp(final double value) {
+        return Math.max(0, Math.min(1, value));
+    }
+}
@@ -20,6 +20,8 @@ import com.swirlds.common.context.PlatformContext;
 import com.swirlds.common.metrics.RunningAverageMetric;
 import com.swirlds.common.metrics.SpeedometerMetric;
 import com.swirlds.common.platform.NodeId;
+import com.swirlds.metrics.api.DoubleGauge;
+import com.swirlds.metrics.api.LongGauge;
 import com.swirlds.metrics.api.Metrics;
 import com.swirlds.platform.system.address.Address;
 import com.swirlds.platform.system.address.AddressBook;
@@ -45,6 +47,34 @@ public class TipsetMetrics {
                     + "Selfishness is defined as refusing to use another node's events as other parents.");
     private final RunningAverageMetric selfishnessMetric;
 
+    private static final DoubleGauge.Config CREATION_TARGET_RATE_CONFIG = new DoubleGauge.Config(
+                    "platform", "eventCreationTargetRate")
+            .withDescription("The event creation rate currently chosen by the adaptive creation rate controller.")
+            .withUnit("hz");
+    private final DoubleGauge creationTargetRateMetric;
+
+    private static final LongGauge.Config TRANSACTION_POOL_DEPTH_CONFIG = new LongGauge.Config(
+                    "platform", "eventCreationTransactionPoolDepth")
+            .withDescription("The number of transactions waiting for an event, as last seen by the adaptive "
+                    + "creation rate controller.")
+            .withUnit("count");
+    private final LongGauge transactionPoolDepthMetric;
+
+    private static final DoubleGauge.Config INTAKE_PRESSURE_CONFIG = new DoubleGauge.Config(
+                    "platform", "eventCreationIntakePressure")
+            .withDescription("The load on event intake as seen by the adaptive creation rate controller. A value of "
+                    + "0.0 means intake is idle, while 1.0 means intake is saturated and creation is at its minimum "
+                    + "rate.")
+            .withUnit("fraction");
+    private final DoubleGauge intakePressureMetric;
+
+    private static final DoubleGauge.Config CONSENSUS_LATENCY_ESTIMATE_CONFIG = new DoubleGauge.Config(
+                    "platform", "eventCreationConsensusLatency")
+            .withDescription("The consensus latency of self events as estimated by the adaptive creation rate "
+                    + "controller.")
+            .withUnit("ms");
+    private final DoubleGauge consensusLatencyEstimateMetric;
+
     private final Map<NodeId, SpeedometerMetric> tipsetParentMetrics = new HashMap<>();
     private final Map<NodeId, SpeedometerMetric> pityParentMetrics = new HashMap<>();
 
@@ -54,10 +84,9 @@ public class TipsetMetrics {
      * @param platformContext the platform context
      */
     public TipsetMetrics(@NonNull final PlatformContext platformContext, @NonNull final AddressBook addressBook) {
+        this(platformContext);
 
         final Metrics metrics = platformContext.getMetrics();
-        tipsetAdvancementMetric = metrics.getOrCreate(TIPSET_ADVANCEMENT_CONFIG);
-        selfishnessMetric = metrics.getOrCreate(SELFISHNESS_CONFIG);
 
         for (final Address address : addressBook) {
             final NodeId nodeId = address.getNodeId();
@@ -79,6 +108,22 @@ public class TipsetMetrics {
         }
     }
 
+    /**
+     * Create the metrics that do not depend on the address book. Used by components other than the tipset event
+     * creator itself, such as the event creation rules. Metrics are shared with any other instance.
+     *
+     * @param platformContext the platform context
+     */
+    public TipsetMetrics(@NonNull final PlatformContext platformContext) {
+        final Metrics metrics = platformContext.getMetrics();
+        tipsetAdvancementMetric = metrics.getOrCreate(TIPSET_ADVANCEMENT_CONFIG);
+        selfishnessMetric = metrics.getOrCreate(SELFISHNESS_CONFIG);
+        creationTargetRateMetric = metrics.getOrCreate(CREATION_TARGET_RATE_CONFIG);
+        transactionPoolDepthMetric = metrics.getOrCreate(TRANSACTION_POOL_DEPTH_CONFIG);
+        intakePressureMetric = metrics.getOrCreate(INTAKE_PRESSURE_CONFIG);
+        consensusLatencyEstimateMetric = metrics.getOrCreate(CONSENSUS_LATENCY_ESTIMATE_CONFIG);
+    }
+
     /**
      * Get the metric used to track the tipset score of events created by this node.
      *
@@ -122,4 +167,44 @@ public class TipsetMetrics {
     public SpeedometerMetric getPityParentMetric(@NonNull final NodeId nodeId) {
         return pityParentMetrics.get(nodeId);
     }
+
+    /**
+     * Get the metric used to track the event creation rate chosen by the adaptive creation rate controller.
+     *
+     * @return the creation target rate metric
+     */
+    @NonNull
+    public DoubleGauge getCreationTargetRateMetric() {
+        return creationTargetRateMetric;
+    }
+
+    /**
+     * Get the metric used to track the number of transactions waiting to be put into events.
+     *
+     * @return the transaction pool depth metric
+     */
+    @NonNull
+    public LongGauge getTransactionPoolDepthMetric() {
+        return transactionPoolDepthMetric;
+    }
+
+    /**
+     * Get the metric used to track the load on event intake, as seen by the adaptive creation rate controller.
+     *
+     * @return the intake pressure metric
+     */
+    @NonNull
+    public DoubleGauge getIntakePressureMetric() {
+        return intakePressureMetric;
+    }
+
+    /**
+     * Get the metric used to track the estimated consensus latency of self events.
+     *
+     * @return the consensus latency estimate metric
+     */
+    @NonNull
+    public DoubleGauge getConsensusLatencyEstimateMetric() {
+        return consensusLatencyEstimateMetric;
+    }
 }
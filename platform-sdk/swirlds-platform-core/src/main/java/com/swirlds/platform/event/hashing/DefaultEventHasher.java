@@ -16,19 +16,62 @@
 
 package com.swirlds.platform.event.hashing;
 
+import com.swirlds.base.time.Time;
+import com.swirlds.common.context.PlatformContext;
 import com.swirlds.platform.event.PlatformEvent;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.util.Objects;
 
 /**
- * Default implementation of the {@link EventHasher}.
+ * Default implementation of the {@link EventHasher}. Events that already have a hash, such as events that were hashed
+ * ahead of time while replaying the preconsensus event stream, are passed through without being hashed again.
+ * <p>
+ * Hashing is done with the calling thread's {@link PbjStreamHasher#getThreadLocalInstance() pooled hasher}, so the
+ * digests and streams are reused from one event to the next. This is safe when the hasher is run on a concurrent
+ * scheduler, since each thread only ever uses its own hasher.
  */
 public class DefaultEventHasher implements EventHasher {
+
+    private final Time time;
+
+    /** Null if this hasher does not report metrics. */
+    @Nullable
+    private final EventHasherMetrics metrics;
+
+    /**
+     * Constructor that does not report metrics.
+     */
+    public DefaultEventHasher() {
+        this.time = Time.getCurrent();
+        this.metrics = null;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param platformContext the platform context
+     */
+    public DefaultEventHasher(@NonNull final PlatformContext platformContext) {
+        this.time = platformContext.getTime();
+        this.metrics = new EventHasherMetrics(platformContext);
+    }
+
     @Override
     @NonNull
     public PlatformEvent hashEvent(@NonNull final PlatformEvent event) {
         Objects.requireNonNull(event);
-        new PbjStreamHasher().hashEvent(event);
+        if (event.getHash() != null) {
+            if (metrics != null) {
+                metrics.reportEventAlreadyHashed();
+            }
+            return event;
+        }
+        final long start = time.nanoTime();
+        PbjStreamHasher.getThreadLocalInstance().hashEvent(event);
+        if (metrics != null) {
+            metrics.reportEventHashed(time.nanoTime() - start);
+        }
         return event;
     }
 }
@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.event.hashing;
+
+import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.metrics.RunningAverageMetric;
+import com.swirlds.common.metrics.SpeedometerMetric;
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * Encapsulates metrics for event hashing.
+ */
+public class EventHasherMetrics {
+
+    private static final SpeedometerMetric.Config EVENTS_HASHED_CONFIG = new SpeedometerMetric.Config(
+                    "platform", "eventsHashed")
+            .withDescription("the number of events hashed per second")
+            .withUnit("hz");
+    private final SpeedometerMetric eventsHashed;
+
+    private static final SpeedometerMetric.Config EVENTS_ALREADY_HASHED_CONFIG = new SpeedometerMetric.Config(
+                    "platform", "eventsAlreadyHashed")
+            .withDescription("the number of events per second that reached the hasher with a hash already set")
+            .withUnit("hz");
+    private final SpeedometerMetric eventsAlreadyHashed;
+
+    private static final RunningAverageMetric.Config EVENT_HASH_TIME_CONFIG = new RunningAverageMetric.Config(
+                    "platform", "eventHashTime")
+            .withDescription("the average time spent hashing a single event")
+            .withUnit("microseconds");
+    private final RunningAverageMetric eventHashTime;
+
+    /**
+     * Constructor.
+     *
+     * @param platformContext the platform context
+     */
+    public EventHasherMetrics(@NonNull final PlatformContext platformContext) {
+        eventsHashed = platformContext.getMetrics().getOrCreate(EVENTS_HASHED_CONFIG);
+        eventsAlreadyHashed = platformContext.getMetrics().getOrCreate(EVENTS_ALREADY_HASHED_CONFIG);
+        eventHashTime = platformContext.getMetrics().getOrCreate(EVENT_HASH_TIME_CONFIG);
+    }
+
+    /**
+     * Report that an event was hashed.
+     *
+     * @param nanos the time spent hashing the event, in nanoseconds
+     */
+    public void reportEventHashed(final long nanos) {
+        eventsHashed.cycle();
+        eventHashTime.update(nanos / 1_000.0);
+    }
+
+    /**
+     * Report that an event arrived with a hash already set, and so was not hashed again.
+     */
+    public void reportEventAlreadyHashed() {
+        eventsAlreadyHashed.cycle();
+    }
+}
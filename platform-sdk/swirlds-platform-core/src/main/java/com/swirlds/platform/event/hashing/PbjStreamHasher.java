@@ -39,6 +39,12 @@ import java.util.Objects;
  */
 public class PbjStreamHasher implements EventHasher, UnsignedEventHasher {
 
+    /**
+     * One hasher per thread, so that threads that hash many events do not allocate new digests and streams for each.
+     */
+    private static final ThreadLocal<PbjStreamHasher> THREAD_LOCAL_INSTANCE =
+            ThreadLocal.withInitial(PbjStreamHasher::new);
+
     /** The hashing stream for the event. */
     private final MessageDigest eventDigest = DigestType.SHA_384.buildDigest();
 
@@ -49,6 +55,16 @@ public class PbjStreamHasher implements EventHasher, UnsignedEventHasher {
     final WritableSequentialData transactionStream =
             new WritableStreamingData(new HashingOutputStream(transactionDigest));
 
+    /**
+     * Get the hasher owned by the calling thread. The returned hasher must not be shared with other threads.
+     *
+     * @return the calling thread's hasher
+     */
+    @NonNull
+    public static PbjStreamHasher getThreadLocalInstance() {
+        return THREAD_LOCAL_INSTANCE.get();
+    }
+
     @Override
     @NonNull
     public PlatformEvent hashEvent(@NonNull final PlatformEvent event) {
@@ -86,10 +102,13 @@ public class PbjStreamHasher implements EventHasher, UnsignedEventHasher {
                 transaction.setHash(Bytes.wrap(hash));
                 eventStream.writeBytes(hash);
             }
+            return new Hash(eventDigest.digest(), DigestType.SHA_384);
         } catch (final IOException e) {
             throw new RuntimeException("An exception occurred while trying to hash an event!", e);
+        } finally {
+            // the digests are reused for the next event, they must not keep the input of an event that failed to hash
+            eventDigest.reset();
+            transactionDigest.reset();
         }
-
-        return new Hash(eventDigest.digest(), DigestType.SHA_384);
     }
 }
@@ -18,6 +18,8 @@ package com.swirlds.platform.event.preconsensus;
 
 import static com.swirlds.common.units.DataUnit.UNIT_BYTES;
 import static com.swirlds.common.units.DataUnit.UNIT_MEGABYTES;
+import static com.swirlds.common.units.TimeUnit.UNIT_MILLISECONDS;
+import static com.swirlds.common.units.TimeUnit.UNIT_NANOSECONDS;
 import static com.swirlds.logging.legacy.LogMarker.EXCEPTION;
 
 import com.swirlds.common.context.PlatformContext;
@@ -30,8 +32,10 @@ import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.List;
 import java.util.Objects;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -144,6 +148,22 @@ public class DefaultPcesWriter implements PcesWriter {
      */
     private final Deque<Long> flushRequests = new ArrayDeque<>();
 
+    /**
+     * If true then flushing a file forces its contents to the storage device.
+     */
+    private final boolean syncOnFlush;
+
+    /**
+     * The buffer events are serialized into before being written to a file. Files are written one at a time, so every
+     * file uses this buffer.
+     */
+    private final ByteBuffer writeBuffer;
+
+    /**
+     * Metrics for the preconsensus event stream.
+     */
+    private final PcesMetrics metrics;
+
     /**
      * Constructor
      *
@@ -163,6 +183,9 @@ public class DefaultPcesWriter implements PcesWriter {
         bootstrapSpanOverlapFactor = config.bootstrapSpanOverlapFactor();
         spanOverlapFactor = config.spanOverlapFactor();
         minimumSpan = config.minimumSpan();
+        syncOnFlush = config.syncOnFlush();
+        writeBuffer = PcesMutableFile.allocateBuffer(config.writeBufferSize());
+        metrics = new PcesMetrics(platformContext.getMetrics());
 
         this.fileManager = fileManager;
 
@@ -186,17 +209,20 @@ public class DefaultPcesWriter implements PcesWriter {
     }
 
     /**
-     * Consider outstanding flush requests and perform a flush if needed.
+     * Consider outstanding flush requests and perform a flush if needed. All requests for events that have already
+     * been written are satisfied by a single flush, so that a burst of requests costs only one sync.
      *
      * @return true if a flush was performed, otherwise false
      */
     private boolean processFlushRequests() {
         boolean flushRequired = false;
+        int batchSize = 0;
         while (!flushRequests.isEmpty() && flushRequests.peekFirst() <= lastWrittenEvent) {
             final long flushRequest = flushRequests.removeFirst();
 
             if (flushRequest > lastFlushedEvent) {
                 flushRequired = true;
+                batchSize++;
             }
         }
 
@@ -205,11 +231,15 @@ public class DefaultPcesWriter implements PcesWriter {
                 logger.error(EXCEPTION.getMarker(), "Flush required, but no file is open. This should never happen");
             }
 
+            final long start = System.nanoTime();
             try {
                 currentMutableFile.flush();
             } catch (final IOException e) {
                 throw new UncheckedIOException(e);
             }
+            metrics.getPreconsensusEventSyncLatency()
+                    .update(UNIT_NANOSECONDS.convertTo(System.nanoTime() - start, UNIT_MILLISECONDS));
+            metrics.getPreconsensusEventSyncBatchSize().update(batchSize);
 
             lastFlushedEvent = lastWrittenEvent;
         }
@@ -223,6 +253,34 @@ public class DefaultPcesWriter implements PcesWriter {
     @Override
     @Nullable
     public Long writeEvent(@NonNull final PlatformEvent event) {
+        return writeEvents(List.of(event));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Nullable
+    public Long writeEvents(@NonNull final List<PlatformEvent> events) {
+        boolean durabilityChanged = false;
+        for (final PlatformEvent event : events) {
+            durabilityChanged |= appendEvent(event);
+        }
+
+        if (streamingNewEvents) {
+            durabilityChanged |= processFlushRequests();
+        }
+        return durabilityChanged ? lastFlushedEvent : null;
+    }
+
+    /**
+     * Write an event to the current file without considering flush requests.
+     *
+     * @param event the event to be written
+     * @return true if writing the event changed the sequence number of the last durable event, either because the
+     * event was already durable or because the previous file was closed to make room for it
+     */
+    private boolean appendEvent(@NonNull final PlatformEvent event) {
         if (event.getStreamSequenceNumber() == PlatformEvent.NO_STREAM_SEQUENCE_NUMBER) {
             throw new IllegalStateException("Event must have a valid stream sequence number");
         }
@@ -231,22 +289,21 @@ public class DefaultPcesWriter implements PcesWriter {
         if (!streamingNewEvents) {
             lastWrittenEvent = event.getStreamSequenceNumber();
             lastFlushedEvent = event.getStreamSequenceNumber();
-            return event.getStreamSequenceNumber();
+            return true;
         }
 
         // don't do anything with ancient events
         if (event.getAncientIndicator(fileType) < nonAncientBoundary) {
-            return null;
+            return false;
         }
 
         try {
             final boolean fileClosed = prepareOutputStream(event);
+            final long sizeBeforeEvent = currentMutableFile.fileSize();
             currentMutableFile.writeEvent(event);
+            metrics.getPreconsensusEventWriteRate().update(currentMutableFile.fileSize() - sizeBeforeEvent);
             lastWrittenEvent = event.getStreamSequenceNumber();
-
-            final boolean flushPerformed = processFlushRequests();
-
-            return fileClosed || flushPerformed ? lastFlushedEvent : null;
+            return fileClosed;
         } catch (final IOException e) {
             throw new UncheckedIOException(e);
         }
@@ -402,7 +459,7 @@ public class DefaultPcesWriter implements PcesWriter {
 
             currentMutableFile = fileManager
                     .getNextFileDescriptor(nonAncientBoundary, upperBound)
-                    .getMutableFile();
+                    .getMutableFile(syncOnFlush, writeBuffer);
         }
 
         return fileClosed;
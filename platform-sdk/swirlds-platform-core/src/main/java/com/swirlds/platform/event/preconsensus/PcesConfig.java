@@ -87,6 +87,17 @@ import java.time.Duration;
  *                                             time, pause PCES replay until the system is able to catch up.
  * @param limitReplayFrequency                 if true, then directly limit the replay frequency of preconsensus events
  * @param maxEventReplayFrequency              the maximum number of events that can be replayed per second
+ * @param syncOnFlush                          if true, then flushing the preconsensus event stream forces the data
+ *                                             to the storage device (fsync), making flushed events durable even if
+ *                                             the operating system crashes. Flush requests that are pending at the
+ *                                             same time are coalesced into a single sync.
+ * @param writeBufferSize                      the size of the buffer, in bytes, that events are serialized into
+ *                                             before being written to the current preconsensus event file
+ * @param writeBatchSize                       the maximum number of queued events handed to the preconsensus event
+ *                                             writer at once. Flush requests are considered once per batch.
+ * @param writeBatchDelay                      the maximum amount of time the preconsensus event writer waits for more
+ *                                             events to arrive before writing a batch that is not full. Zero means
+ *                                             that only events already waiting in the queue are batched.
  */
 @ConfigData("event.preconsensus")
 public record PcesConfig(
@@ -109,4 +120,8 @@ public record PcesConfig(
         @ConfigProperty(defaultValue = "1m") Duration suspiciousRoundDurabilityDuration,
         @ConfigProperty(defaultValue = "1ms") Duration replayHealthThreshold,
         @ConfigProperty(defaultValue = "true") boolean limitReplayFrequency,
-        @ConfigProperty(defaultValue = "5000") int maxEventReplayFrequency) {}
+        @ConfigProperty(defaultValue = "5000") int maxEventReplayFrequency,
+        @ConfigProperty(defaultValue = "true") boolean syncOnFlush,
+        @ConfigProperty(defaultValue = "1048576") int writeBufferSize,
+        @Min(1) @ConfigProperty(defaultValue = "100") int writeBatchSize,
+        @ConfigProperty(defaultValue = "0ms") Duration writeBatchDelay) {}
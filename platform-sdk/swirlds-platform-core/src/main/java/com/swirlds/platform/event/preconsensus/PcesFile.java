@@ -27,6 +27,7 @@ import com.swirlds.platform.event.AncientMode;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Instant;
@@ -400,7 +401,35 @@ public final class PcesFile implements Comparable<PcesFile> {
      */
     @NonNull
     public PcesMutableFile getMutableFile() throws IOException {
-        return new PcesMutableFile(this);
+        return getMutableFile(false, PcesMutableFile.DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Get an object that can be used to write events to this file. Throws if there already exists a file on disk with
+     * the same path.
+     *
+     * @param syncOnFlush if true, then flushing the file also forces its contents to the storage device
+     * @param bufferSize  the size of the buffer events are serialized into before being written, in bytes
+     * @return a writer for this file
+     */
+    @NonNull
+    public PcesMutableFile getMutableFile(final boolean syncOnFlush, final int bufferSize) throws IOException {
+        return new PcesMutableFile(this, syncOnFlush, bufferSize);
+    }
+
+    /**
+     * Get an object that can be used to write events to this file, serializing events into the given buffer. Throws if
+     * there already exists a file on disk with the same path. The buffer must not be used by any other file until the
+     * returned file is closed.
+     *
+     * @param syncOnFlush if true, then flushing the file also forces its contents to the storage device
+     * @param buffer      the buffer events are serialized into before being written
+     * @return a writer for this file
+     */
+    @NonNull
+    public PcesMutableFile getMutableFile(final boolean syncOnFlush, @NonNull final ByteBuffer buffer)
+            throws IOException {
+        return new PcesMutableFile(this, syncOnFlush, buffer);
     }
 
     /**
@@ -36,6 +36,12 @@ import java.util.Objects;
  */
 public class PcesFileIterator implements IOIterator<PlatformEvent> {
 
+    /**
+     * The size of the buffer used when reading files. Files are read sequentially from start to end, so a large buffer
+     * lets the file be read with a small number of large reads.
+     */
+    private static final int READ_BUFFER_SIZE = 1024 * 1024;
+
     private final long lowerBound;
     private final AncientMode fileType;
     private final SerializableDataInputStream stream;
@@ -60,8 +66,7 @@ public class PcesFileIterator implements IOIterator<PlatformEvent> {
         this.fileType = Objects.requireNonNull(fileType);
         counter = new CountingStreamExtension();
         stream = new SerializableDataInputStream(new ExtendableInputStream(
-                new BufferedInputStream(
-                        new FileInputStream(fileDescriptor.getPath().toFile())),
+                new BufferedInputStream(new FileInputStream(fileDescriptor.getPath().toFile()), READ_BUFFER_SIZE),
                 counter));
 
         try {
@@ -83,6 +83,32 @@ public class PcesMetrics {
             .withDescription("The age of the oldest preconsensus event file, in seconds.");
     private final LongGauge preconsensusEventFileOldestSeconds;
 
+    private static final RunningAverageMetric.Config PRECONSENSUS_EVENT_SYNC_LATENCY_CONFIG =
+            new RunningAverageMetric.Config(CATEGORY, "preconsensusEventSyncLatency")
+                    .withUnit("milliseconds")
+                    .withDescription("The average time it takes to flush (and, if enabled, sync) the preconsensus "
+                            + "event stream to disk.");
+    private final RunningAverageMetric preconsensusEventSyncLatency;
+
+    private static final RunningAverageMetric.Config PRECONSENSUS_EVENT_SYNC_BATCH_SIZE_CONFIG =
+            new RunningAverageMetric.Config(CATEGORY, "preconsensusEventSyncBatchSize")
+                    .withUnit("count")
+                    .withDescription("The average number of flush requests satisfied by a single flush of the "
+                            + "preconsensus event stream.");
+    private final RunningAverageMetric preconsensusEventSyncBatchSize;
+
+    private static final SpeedometerMetric.Config PRECONSENSUS_EVENT_WRITE_RATE_CONFIG = new SpeedometerMetric.Config(
+                    CATEGORY, "preconsensusEventWriteRate")
+            .withUnit("bytes/second")
+            .withDescription("The number of bytes of preconsensus events written per second.");
+    private final SpeedometerMetric preconsensusEventWriteRate;
+
+    private static final SpeedometerMetric.Config PRECONSENSUS_EVENT_REPLAY_RATE_CONFIG = new SpeedometerMetric.Config(
+                    CATEGORY, "preconsensusEventReplayRate")
+            .withUnit("hertz")
+            .withDescription("The number of preconsensus events replayed per second during startup.");
+    private final SpeedometerMetric preconsensusEventReplayRate;
+
     /**
      * Construct preconsensus event metrics.
      *
@@ -100,6 +126,10 @@ public class PcesMetrics {
         preconsensusEventFileYoungestIdentifier =
                 metrics.getOrCreate(PRECONSENSUS_EVENT_FILE_YOUNGEST_IDENTIFIER_CONFIG);
         preconsensusEventFileOldestSeconds = metrics.getOrCreate(PRECONSENSUS_EVENT_FILE_OLDEST_SECONDS_CONFIG);
+        preconsensusEventSyncLatency = metrics.getOrCreate(PRECONSENSUS_EVENT_SYNC_LATENCY_CONFIG);
+        preconsensusEventSyncBatchSize = metrics.getOrCreate(PRECONSENSUS_EVENT_SYNC_BATCH_SIZE_CONFIG);
+        preconsensusEventWriteRate = metrics.getOrCreate(PRECONSENSUS_EVENT_WRITE_RATE_CONFIG);
+        preconsensusEventReplayRate = metrics.getOrCreate(PRECONSENSUS_EVENT_REPLAY_RATE_CONFIG);
     }
 
     /**
@@ -164,4 +194,32 @@ public class PcesMetrics {
     public LongGauge getPreconsensusEventFileOldestSeconds() {
         return preconsensusEventFileOldestSeconds;
     }
+
+    /**
+     * Get the metric tracking the time it takes to flush (and possibly sync) the preconsensus event stream.
+     */
+    public RunningAverageMetric getPreconsensusEventSyncLatency() {
+        return preconsensusEventSyncLatency;
+    }
+
+    /**
+     * Get the metric tracking the number of flush requests satisfied by each flush.
+     */
+    public RunningAverageMetric getPreconsensusEventSyncBatchSize() {
+        return preconsensusEventSyncBatchSize;
+    }
+
+    /**
+     * Get the metric tracking the rate at which preconsensus event bytes are written.
+     */
+    public SpeedometerMetric getPreconsensusEventWriteRate() {
+        return preconsensusEventWriteRate;
+    }
+
+    /**
+     * Get the metric tracking the rate at which preconsensus events are replayed.
+     */
+    public SpeedometerMetric getPreconsensusEventReplayRate() {
+        return preconsensusEventReplayRate;
+    }
 }
@@ -16,21 +16,25 @@
 
 package com.swirlds.platform.event.preconsensus;
 
-import com.swirlds.common.io.extendable.ExtendableOutputStream;
-import com.swirlds.common.io.extendable.extensions.CountingStreamExtension;
 import com.swirlds.common.io.streams.SerializableDataOutputStream;
-import com.swirlds.platform.event.EventSerializationUtils;
 import com.swirlds.platform.event.PlatformEvent;
 import edu.umd.cs.findbugs.annotations.NonNull;
-import java.io.BufferedOutputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Represents a preconsensus event file that can be written to.
+ * <p>
+ * Events are serialized into a direct buffer, which is written to a {@link FileChannel} when it fills up or when the
+ * file is flushed. The buffer may be supplied by the caller, so that a writer creating many files one after the other
+ * can use the same buffer for all of them. If the file was created with {@code syncOnFlush}, then {@link #flush()}
+ * also forces the written data to the storage device, so that a flush makes every event written so far durable.
  */
 public class PcesMutableFile {
     /** the file version to write at the beginning of the file. atm, this is just a placeholder for future changes */
@@ -42,9 +46,29 @@ public class PcesMutableFile {
     private final PcesFile descriptor;
 
     /**
-     * Counts the bytes written to the file.
+     * The default size of the buffer events are serialized into before being written to the file.
      */
-    private final CountingStreamExtension counter;
+    public static final int DEFAULT_BUFFER_SIZE = 1024 * 1024;
+
+    /**
+     * The channel to the file on disk.
+     */
+    private final FileChannel channel;
+
+    /**
+     * Events are serialized into this buffer before being written to the channel.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * If true, then {@link #flush()} and {@link #close()} force the file contents to the storage device.
+     */
+    private final boolean syncOnFlush;
+
+    /**
+     * The number of bytes written to the file, including bytes still in the buffer.
+     */
+    private long bytesWritten;
 
     /**
      * The highest ancient indicator of all events written to the file.
@@ -57,27 +81,59 @@ public class PcesMutableFile {
     private final SerializableDataOutputStream out;
 
     /**
-     * Create a new preconsensus event file that can be written to.
+     * Create a new preconsensus event file that can be written to, with a buffer of its own.
+     *
+     * @param descriptor  a description of the file
+     * @param syncOnFlush if true, then flushing the file also forces its contents to the storage device
+     * @param bufferSize  the size of the buffer events are serialized into, in bytes
+     */
+    PcesMutableFile(@NonNull final PcesFile descriptor, final boolean syncOnFlush, final int bufferSize)
+            throws IOException {
+        this(descriptor, syncOnFlush, allocateBuffer(bufferSize));
+    }
+
+    /**
+     * Create a new preconsensus event file that can be written to. The buffer is cleared, and must not be used by any
+     * other file until this file is closed.
      *
-     * @param descriptor a description of the file
+     * @param descriptor  a description of the file
+     * @param syncOnFlush if true, then flushing the file also forces its contents to the storage device
+     * @param buffer      the buffer events are serialized into
      */
-    PcesMutableFile(@NonNull final PcesFile descriptor) throws IOException {
+    PcesMutableFile(@NonNull final PcesFile descriptor, final boolean syncOnFlush, @NonNull final ByteBuffer buffer)
+            throws IOException {
         if (Files.exists(descriptor.getPath())) {
             throw new IOException("File " + descriptor.getPath() + " already exists");
         }
+        if (buffer.capacity() <= 0) {
+            throw new IllegalArgumentException("Buffer size must be positive");
+        }
 
         Files.createDirectories(descriptor.getPath().getParent());
 
         this.descriptor = descriptor;
-        counter = new CountingStreamExtension(false);
-        out = new SerializableDataOutputStream(new ExtendableOutputStream(
-                new BufferedOutputStream(
-                        new FileOutputStream(descriptor.getPath().toFile())),
-                counter));
+        this.syncOnFlush = syncOnFlush;
+        channel = FileChannel.open(descriptor.getPath(), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        this.buffer = buffer.clear();
+        out = new SerializableDataOutputStream(new BufferedChannelOutputStream());
         out.writeInt(FILE_VERSION);
         highestAncientIdentifierInFile = descriptor.getLowerBound();
     }
 
+    /**
+     * Allocate a buffer for events to be serialized into before being written to a file.
+     *
+     * @param bufferSize the size of the buffer, in bytes
+     * @return a direct buffer of the requested size
+     */
+    @NonNull
+    static ByteBuffer allocateBuffer(final int bufferSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Buffer size must be positive");
+        }
+        return ByteBuffer.allocateDirect(bufferSize);
+    }
+
     /**
      * Check if this file is eligible to contain an event based on bounds.
      *
@@ -98,7 +154,7 @@ public class PcesMutableFile {
             throw new IllegalStateException("Cannot write event " + event.getHash() + " with ancient indicator "
                     + event.getAncientIndicator(descriptor.getFileType()) + " to file " + descriptor);
         }
-        EventSerializationUtils.serializePlatformEvent(out, event, true);
+        event.getSerializedBytes().writeTo(out);
         highestAncientIdentifierInFile =
                 Math.max(highestAncientIdentifierInFile, event.getAncientIndicator(descriptor.getFileType()));
     }
@@ -130,17 +186,28 @@ public class PcesMutableFile {
     }
 
     /**
-     * Flush the file.
+     * Flush the file. If the file was created with {@code syncOnFlush}, then all events written so far are durable
+     * once this method returns.
      */
     public void flush() throws IOException {
         out.flush();
+        if (syncOnFlush) {
+            channel.force(false);
+        }
     }
 
     /**
      * Close the file.
      */
     public void close() throws IOException {
-        out.close();
+        if (!channel.isOpen()) {
+            return;
+        }
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
     }
 
     /**
@@ -149,7 +216,7 @@ public class PcesMutableFile {
      * @return the size of the file in bytes
      */
     public long fileSize() {
-        return counter.getCount();
+        return bytesWritten;
     }
 
     /**
@@ -175,6 +242,49 @@ public class PcesMutableFile {
         return descriptor.getUpperBound() - descriptor.getLowerBound();
     }
 
+    /**
+     * Writes to {@link #buffer}, draining it to {@link #channel} whenever it fills up or is flushed.
+     */
+    private final class BufferedChannelOutputStream extends OutputStream {
+        @Override
+        public void write(final int b) throws IOException {
+            if (!buffer.hasRemaining()) {
+                drain();
+            }
+            buffer.put((byte) b);
+            bytesWritten++;
+        }
+
+        @Override
+        public void write(@NonNull final byte[] bytes, final int offset, final int length) throws IOException {
+            int position = offset;
+            int remaining = length;
+            while (remaining > 0) {
+                if (!buffer.hasRemaining()) {
+                    drain();
+                }
+                final int chunk = Math.min(remaining, buffer.remaining());
+                buffer.put(bytes, position, chunk);
+                position += chunk;
+                remaining -= chunk;
+            }
+            bytesWritten += length;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            drain();
+        }
+
+        private void drain() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
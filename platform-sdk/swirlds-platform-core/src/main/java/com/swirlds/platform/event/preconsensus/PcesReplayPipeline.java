@@ -0,0 +1,186 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.event.preconsensus;
+
+import com.swirlds.common.concurrent.ExecutorFactory;
+import com.swirlds.common.io.IOIterator;
+import com.swirlds.platform.event.PlatformEvent;
+import com.swirlds.platform.event.hashing.PbjStreamHasher;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Wraps an iterator over preconsensus events and reads ahead of the consumer. A dedicated thread deserializes events
+ * from the underlying iterator while a pool of threads hashes them. Events are returned in the same order as they are
+ * read from the underlying iterator, already hashed.
+ * <p>
+ * The number of events that may be read ahead of the consumer is bounded by the size of the queue, so a slow consumer
+ * applies backpressure to the reading thread.
+ */
+public class PcesReplayPipeline implements IOIterator<PlatformEvent>, AutoCloseable {
+
+    /**
+     * Marks the end of the stream in the queue.
+     */
+    private static final CompletableFuture<PlatformEvent> END_OF_STREAM = CompletableFuture.completedFuture(null);
+
+    private final IOIterator<PlatformEvent> source;
+    private final BlockingQueue<CompletableFuture<PlatformEvent>> queue;
+    private final ExecutorService hashPool;
+    private final ExecutorService reader;
+
+    /**
+     * An exception thrown by the reader thread, reported to the consumer once it reaches the end of the queue.
+     */
+    private volatile Throwable readerException;
+
+    private CompletableFuture<PlatformEvent> next;
+    private boolean endOfStream = false;
+
+    /**
+     * Constructor.
+     *
+     * @param executorFactory used to create the reader thread and the hashing pool
+     * @param source          the iterator to read events from
+     * @param queueSize       the maximum number of events that may be read ahead of the consumer
+     * @param hashPoolSize    the number of threads used to hash events
+     */
+    public PcesReplayPipeline(
+            @NonNull final ExecutorFactory executorFactory,
+            @NonNull final IOIterator<PlatformEvent> source,
+            final int queueSize,
+            final int hashPoolSize) {
+        Objects.requireNonNull(executorFactory);
+        this.source = Objects.requireNonNull(source);
+        if (queueSize <= 0) {
+            throw new IllegalArgumentException("queueSize must be greater than 0");
+        }
+
+        queue = new ArrayBlockingQueue<>(queueSize);
+        hashPool = executorFactory.createExecutorService(hashPoolSize);
+        reader = executorFactory.createExecutorService(1);
+        reader.execute(this::read);
+    }
+
+    /**
+     * Reads events from the source iterator and hands them to the hashing pool. Runs on the reader thread.
+     */
+    private void read() {
+        try {
+            while (source.hasNext()) {
+                final PlatformEvent event = source.next();
+                queue.put(CompletableFuture.supplyAsync(
+                        () -> PbjStreamHasher.getThreadLocalInstance().hashEvent(event), hashPool));
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            readerException = e;
+        } catch (final Throwable t) {
+            readerException = t;
+        } finally {
+            try {
+                queue.put(END_OF_STREAM);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasNext() throws IOException {
+        if (next == null && !endOfStream) {
+            try {
+                next = queue.take();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("interrupted while waiting for the next preconsensus event", e);
+            }
+            if (next == END_OF_STREAM) {
+                next = null;
+                endOfStream = true;
+                rethrowReaderException();
+            }
+        }
+        return next != null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @NonNull
+    public PlatformEvent next() throws IOException {
+        if (!hasNext()) {
+            throw new NoSuchElementException("no more events in the preconsensus stream");
+        }
+        final CompletableFuture<PlatformEvent> future = next;
+        next = null;
+        try {
+            return future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("interrupted while waiting for an event to be hashed", e);
+        } catch (final ExecutionException e) {
+            throw new RuntimeException("unable to hash preconsensus event", e.getCause());
+        }
+    }
+
+    /**
+     * Report an exception encountered by the reader thread, if there was one.
+     */
+    private void rethrowReaderException() throws IOException {
+        final Throwable t = readerException;
+        if (t == null) {
+            return;
+        }
+        if (t instanceof final IOException e) {
+            throw e;
+        }
+        if (t instanceof final UncheckedIOException e) {
+            throw e.getCause();
+        }
+        if (t instanceof final RuntimeException e) {
+            throw e;
+        }
+        if (t instanceof final Error e) {
+            throw e;
+        }
+        throw new RuntimeException("error encountered while reading from the PCES", t);
+    }
+
+    /**
+     * Stop the reader thread and the hashing pool. Events that have been read ahead but not consumed are discarded.
+     */
+    @Override
+    public void close() {
+        reader.shutdownNow();
+        hashPool.shutdownNow();
+        // Drain the queue so that a reader blocked on a full queue is able to observe the interrupt and exit.
+        queue.clear();
+    }
+}
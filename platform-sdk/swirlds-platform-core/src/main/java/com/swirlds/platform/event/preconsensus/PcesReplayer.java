@@ -22,6 +22,7 @@ import static com.swirlds.logging.legacy.LogMarker.STARTUP;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 import com.swirlds.base.time.Time;
+import com.swirlds.common.concurrent.ExecutorFactory;
 import com.swirlds.common.context.PlatformContext;
 import com.swirlds.common.formatting.UnitFormatter;
 import com.swirlds.common.io.IOIterator;
@@ -59,6 +60,9 @@ public class PcesReplayer {
 
     private final PcesConfig config;
 
+    private final ExecutorFactory executorFactory;
+    private final PcesMetrics metrics;
+
     /**
      * Constructor
      *
@@ -86,6 +90,8 @@ public class PcesReplayer {
         this.isSystemHealthy = Objects.requireNonNull(isSystemHealthy);
 
         this.config = context.getConfiguration().getConfigData(PcesConfig.class);
+        this.executorFactory = context.getExecutorFactory();
+        this.metrics = new PcesMetrics(context.getMetrics());
     }
 
     /**
@@ -146,7 +152,9 @@ public class PcesReplayer {
     }
 
     /**
-     * Replays preconsensus events from disk.
+     * Replays preconsensus events from disk. Events are read and hashed ahead of the replay loop by a
+     * {@link PcesReplayPipeline}, so that deserialization and hashing overlap with the processing of previously
+     * replayed events.
      *
      * @param eventIterator an iterator over the events in the preconsensus stream
      * @return a trigger object indicating when the replay is complete
@@ -172,8 +180,9 @@ public class PcesReplayer {
 
         int eventCount = 0;
         int transactionCount = 0;
-        try {
-            while (eventIterator.hasNext()) {
+        try (final PcesReplayPipeline pipeline = new PcesReplayPipeline(
+                executorFactory, eventIterator, config.replayQueueSize(), config.replayHashPoolSize())) {
+            while (pipeline.hasNext()) {
                 // If the system is not keeping up with the rate at which we are replaying PCES, we need to wait
                 // until it catches up before we can continue.
                 waitUntilHealthy();
@@ -182,10 +191,11 @@ public class PcesReplayer {
                     continue;
                 }
 
-                final PlatformEvent event = eventIterator.next();
+                final PlatformEvent event = pipeline.next();
 
                 eventCount++;
                 transactionCount += event.getTransactionCount();
+                metrics.getPreconsensusEventReplayRate().cycle();
 
                 eventOutputWire.forward(event);
             }
@@ -21,6 +21,7 @@ import com.swirlds.platform.consensus.EventWindow;
 import com.swirlds.platform.event.PlatformEvent;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.List;
 
 /**
  * This object is responsible for writing preconsensus events to disk.
@@ -42,10 +43,22 @@ public interface PcesWriter {
      * @return the sequence number of the last event durably written to the stream, or null if this method call didn't
      * result in any additional events being durably written to the stream
      */
-    @InputWireLabel("events to write")
     @Nullable
     Long writeEvent(@NonNull PlatformEvent event);
 
+    /**
+     * Write a batch of events to the stream, in order. Equivalent to calling {@link #writeEvent(PlatformEvent)} for
+     * each event, except that outstanding flush requests are only considered once all events in the batch have been
+     * written, so that a single flush can satisfy all of them.
+     *
+     * @param events the events to be written
+     * @return the sequence number of the last event durably written to the stream, or null if this method call didn't
+     * result in any additional events being durably written to the stream
+     */
+    @InputWireLabel("events to write")
+    @Nullable
+    Long writeEvents(@NonNull List<PlatformEvent> events);
+
     /**
      * Inform the preconsensus event writer that a discontinuity has occurred in the preconsensus event stream.
      *
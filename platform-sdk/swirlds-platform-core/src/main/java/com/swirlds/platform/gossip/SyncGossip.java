@@ -41,6 +41,8 @@ import com.swirlds.platform.consensus.EventWindow;
 import com.swirlds.platform.crypto.KeysAndCerts;
 import com.swirlds.platform.event.PlatformEvent;
 import com.swirlds.platform.eventhandling.EventConfig;
+import com.swirlds.platform.gossip.broadcast.BroadcastMetrics;
+import com.swirlds.platform.gossip.broadcast.EventBroadcaster;
 import com.swirlds.platform.gossip.permits.SyncPermitProvider;
 import com.swirlds.platform.gossip.shadowgraph.Shadowgraph;
 import com.swirlds.platform.gossip.shadowgraph.ShadowgraphSynchronizer;
@@ -61,7 +63,9 @@ import com.swirlds.platform.network.connectivity.ConnectionServer;
 import com.swirlds.platform.network.connectivity.InboundConnectionHandler;
 import com.swirlds.platform.network.connectivity.OutboundConnectionCreator;
 import com.swirlds.platform.network.connectivity.SocketFactory;
+import com.swirlds.platform.network.protocol.BroadcastProtocolFactory;
 import com.swirlds.platform.network.protocol.HeartbeatProtocolFactory;
+import com.swirlds.platform.network.protocol.Protocol;
 import com.swirlds.platform.network.protocol.ProtocolFactory;
 import com.swirlds.platform.network.protocol.ProtocolRunnable;
 import com.swirlds.platform.network.protocol.ReconnectProtocolFactory;
@@ -112,6 +116,13 @@ public class SyncGossip implements ConnectionTracker, Gossip {
     private final SyncConfig syncConfig;
     private final Shadowgraph shadowgraph;
     private final ShadowgraphSynchronizer syncShadowgraphSynchronizer;
+    private final NodeId selfId;
+
+    /**
+     * Pushes self events to peers as soon as they are created, null if broadcast is disabled
+     */
+    private final EventBroadcaster eventBroadcaster;
+    private final BroadcastProtocolFactory broadcastProtocolFactory;
 
     /**
      * Keeps track of the number of events in the intake pipeline from each peer
@@ -182,6 +193,7 @@ public class SyncGossip implements ConnectionTracker, Gossip {
         this.platformContext = Objects.requireNonNull(platformContext);
 
         this.threadManager = Objects.requireNonNull(threadManager);
+        this.selfId = Objects.requireNonNull(selfId);
 
         shadowgraph = new Shadowgraph(platformContext, addressBook, intakeEventCounter);
 
@@ -291,6 +303,24 @@ public class SyncGossip implements ConnectionTracker, Gossip {
                 intakeEventCounter,
                 shadowgraphExecutor);
 
+        if (syncConfig.broadcastEnabled()) {
+            final BroadcastMetrics broadcastMetrics = new BroadcastMetrics(platformContext.getMetrics());
+            eventBroadcaster = new EventBroadcaster(syncConfig.broadcastQueueCapacity(), broadcastMetrics);
+            broadcastProtocolFactory = new BroadcastProtocolFactory(
+                    eventBroadcaster,
+                    shadowgraph,
+                    intakeEventCounter,
+                    event -> receivedEventHandler.accept(event),
+                    gossipHalted::get,
+                    shadowgraphExecutor,
+                    syncConfig.broadcastMaxEventsPerRun(),
+                    broadcastMetrics,
+                    platformContext.getTime());
+        } else {
+            eventBroadcaster = null;
+            broadcastProtocolFactory = null;
+        }
+
         reconnectController = new ReconnectController(reconnectConfig, threadManager, reconnectHelper, this::resume);
 
         final ProtocolConfig protocolConfig = platformContext.getConfiguration().getConfigData(ProtocolConfig.class);
@@ -368,6 +398,16 @@ public class SyncGossip implements ConnectionTracker, Gossip {
                 new VersionCompareHandshake(appVersion, !protocolConfig.tolerateMismatchedVersion());
         final List<ProtocolRunnable> handshakeProtocols = List.of(versionCompareHandshake);
         for (final NodeId otherId : topology.getNeighbors()) {
+            // protocols are identified by their position in this list. Broadcast is optional, so it is last, which
+            // keeps the IDs of the other protocols the same on nodes that have it enabled and nodes that do not. A node
+            // that does not have it enabled rejects it when a peer initiates it.
+            final List<Protocol> protocols = new ArrayList<>();
+            protocols.add(heartbeatProtocolFactory.build(otherId));
+            protocols.add(reconnectProtocolFactory.build(otherId));
+            protocols.add(syncProtocolFactory.build(otherId));
+            if (broadcastProtocolFactory != null) {
+                protocols.add(broadcastProtocolFactory.build(otherId));
+            }
             syncProtocolThreads.add(new StoppableThreadConfiguration<>(threadManager)
                     .setPriority(Thread.NORM_PRIORITY)
                     .setNodeId(selfId)
@@ -379,10 +419,7 @@ public class SyncGossip implements ConnectionTracker, Gossip {
                             connectionManagers.getManager(otherId, topology.shouldConnectTo(otherId)),
                             syncConfig.syncSleepAfterFailedNegotiation(),
                             handshakeProtocols,
-                            new NegotiationProtocols(List.of(
-                                    heartbeatProtocolFactory.build(otherId),
-                                    reconnectProtocolFactory.build(otherId),
-                                    syncProtocolFactory.build(otherId))),
+                            new NegotiationProtocols(protocols),
                             platformContext.getTime()))
                     .build());
         }
@@ -474,6 +511,9 @@ public class SyncGossip implements ConnectionTracker, Gossip {
      */
     private void clear() {
         shadowgraph.clear();
+        if (eventBroadcaster != null) {
+            eventBroadcaster.clear();
+        }
     }
 
     /**
@@ -495,7 +535,7 @@ public class SyncGossip implements ConnectionTracker, Gossip {
         stopInput.bindConsumer(ignored -> stop());
         clearInput.bindConsumer(ignored -> clear());
 
-        eventInput.bindConsumer(shadowgraph::addEvent);
+        eventInput.bindConsumer(this::addEvent);
         eventWindowInput.bindConsumer(shadowgraph::updateEventWindow);
 
         systemHealthInput.bindConsumer(syncPermitProvider::reportUnhealthyDuration);
@@ -531,6 +571,18 @@ public class SyncGossip implements ConnectionTracker, Gossip {
         }
     }
 
+    /**
+     * Add an event to the shadowgraph, and queue it for broadcast if it is a self event.
+     *
+     * @param event the event to add
+     */
+    private void addEvent(@NonNull final PlatformEvent event) {
+        shadowgraph.addEvent(event);
+        if (eventBroadcaster != null && selfId.equals(event.getCreatorId())) {
+            eventBroadcaster.broadcast(event);
+        }
+    }
+
     /**
      * Get the size of the old style intake queue.
      *
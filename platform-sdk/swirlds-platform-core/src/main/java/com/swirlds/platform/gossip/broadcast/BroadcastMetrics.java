@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.gossip.broadcast;
+
+import static com.swirlds.metrics.api.FloatFormats.FORMAT_10_3;
+import static com.swirlds.metrics.api.Metrics.PLATFORM_CATEGORY;
+
+import com.swirlds.common.metrics.RunningAverageMetric;
+import com.swirlds.common.metrics.extensions.CountPerSecond;
+import com.swirlds.metrics.api.Metrics;
+import com.swirlds.platform.stats.AverageStat;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.time.Duration;
+
+/**
+ * Metrics for the event broadcast protocol.
+ */
+public class BroadcastMetrics {
+
+    private static final CountPerSecond.Config EVENTS_SENT_CONFIG = new CountPerSecond.Config(
+                    PLATFORM_CATEGORY, "broadcastEventsSent_per_sec")
+            .withDescription("the number of self events pushed to peers per second")
+            .withUnit("hz");
+    private final CountPerSecond eventsSent;
+
+    private static final CountPerSecond.Config EVENTS_RECEIVED_CONFIG = new CountPerSecond.Config(
+                    PLATFORM_CATEGORY, "broadcastEventsReceived_per_sec")
+            .withDescription("the number of events pushed to this node by peers per second")
+            .withUnit("hz");
+    private final CountPerSecond eventsReceived;
+
+    private static final CountPerSecond.Config EVENTS_DROPPED_CONFIG = new CountPerSecond.Config(
+                    PLATFORM_CATEGORY, "broadcastEventsDropped_per_sec")
+            .withDescription("the number of self events per second not broadcast because a peer's queue was full")
+            .withUnit("hz");
+    private final CountPerSecond eventsDropped;
+
+    private static final RunningAverageMetric.Config TIME_TO_PEER_CONFIG = new RunningAverageMetric.Config(
+                    PLATFORM_CATEGORY, "broadcastTimeToPeer")
+            .withDescription("the average time between an event being created and it being received via broadcast, "
+                    + "measured against the creator's clock")
+            .withUnit("milliseconds");
+    private final RunningAverageMetric timeToPeer;
+
+    private final AverageStat duplicateFraction;
+
+    /**
+     * Constructor.
+     *
+     * @param metrics the metrics system
+     */
+    public BroadcastMetrics(@NonNull final Metrics metrics) {
+        eventsSent = new CountPerSecond(metrics, EVENTS_SENT_CONFIG);
+        eventsReceived = new CountPerSecond(metrics, EVENTS_RECEIVED_CONFIG);
+        eventsDropped = new CountPerSecond(metrics, EVENTS_DROPPED_CONFIG);
+        timeToPeer = metrics.getOrCreate(TIME_TO_PEER_CONFIG);
+        duplicateFraction = new AverageStat(
+                metrics,
+                PLATFORM_CATEGORY,
+                "broadcastDuplicateFraction",
+                "the fraction of events received via broadcast that were already known to this node",
+                FORMAT_10_3,
+                AverageStat.WEIGHT_VOLATILE);
+    }
+
+    /**
+     * Record that events were pushed to a peer.
+     *
+     * @param count the number of events sent
+     */
+    public void eventsSent(final int count) {
+        eventsSent.count(count);
+    }
+
+    /**
+     * Record that a self event could not be queued for broadcast to a peer.
+     */
+    public void eventDropped() {
+        eventsDropped.count();
+    }
+
+    /**
+     * Record the receipt of an event via broadcast.
+     *
+     * @param duplicate  true if the event was already known to this node
+     * @param timeToPeer the time elapsed since the event was created
+     */
+    public void eventReceived(final boolean duplicate, @NonNull final Duration timeToPeer) {
+        eventsReceived.count();
+        duplicateFraction.update(duplicate);
+        this.timeToPeer.update(timeToPeer.toMillis());
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.gossip.broadcast;
+
+import static com.swirlds.common.utility.CompareTo.min;
+
+import com.swirlds.base.time.Time;
+import com.swirlds.common.platform.NodeId;
+import com.swirlds.common.threading.pool.ParallelExecutionException;
+import com.swirlds.common.threading.pool.ParallelExecutor;
+import com.swirlds.platform.Utilities;
+import com.swirlds.platform.event.EventSerializationUtils;
+import com.swirlds.platform.event.PlatformEvent;
+import com.swirlds.platform.event.hashing.PbjStreamHasher;
+import com.swirlds.platform.gossip.IntakeEventCounter;
+import com.swirlds.platform.gossip.shadowgraph.Shadowgraph;
+import com.swirlds.platform.network.Connection;
+import com.swirlds.platform.network.NetworkProtocolException;
+import com.swirlds.platform.network.protocol.Protocol;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * Pushes self events to a single peer as soon as they are created, without waiting for the next sync. Both sides of a
+ * run send the events queued for the other and read the events the other has queued, so a single run drains both
+ * directions. Broadcast is an optimization only: any event it fails to deliver is delivered by sync.
+ */
+public class BroadcastProtocol implements Protocol {
+
+    /**
+     * The maximum number of events that may be sent in a single run by any node. A peer that announces more than this
+     * is misbehaving. This is part of the protocol and must not depend on local configuration, since nodes configured
+     * to send fewer events per run must still accept the larger runs of other nodes.
+     */
+    public static final int MAX_EVENTS_PER_RUN = 1024;
+
+    /**
+     * How long to wait before initiating again after the peer rejected a run. Doubled after each consecutive rejection,
+     * up to {@link #MAX_REJECTION_BACKOFF}, so that a peer that does not have broadcast enabled is rarely asked.
+     */
+    private static final Duration INITIAL_REJECTION_BACKOFF = Duration.ofSeconds(1);
+
+    private static final Duration MAX_REJECTION_BACKOFF = Duration.ofMinutes(1);
+
+    private final NodeId peerId;
+    private final BlockingQueue<PlatformEvent> outgoing;
+    private final Shadowgraph shadowgraph;
+    private final IntakeEventCounter intakeEventCounter;
+    private final Consumer<PlatformEvent> eventHandler;
+    private final BooleanSupplier gossipHalted;
+    private final ParallelExecutor executor;
+    private final int maxEventsPerRun;
+    private final BroadcastMetrics metrics;
+    private final Time time;
+
+    /**
+     * Used to hash received events so that duplicates can be detected. Only the reading task of a single run uses it.
+     */
+    private final PbjStreamHasher hasher = new PbjStreamHasher();
+
+    /** the current backoff after a rejection, zero if the last run was not rejected */
+    private Duration rejectionBackoff = Duration.ZERO;
+
+    /** this protocol is not initiated before this time */
+    private Instant nextInitiation = Instant.MIN;
+
+    /**
+     * Constructor.
+     *
+     * @param peerId             the ID of the peer this protocol talks to
+     * @param outgoing           self events waiting to be sent to the peer
+     * @param shadowgraph        used to detect events that are already known
+     * @param intakeEventCounter keeps track of the number of events in the intake pipeline from each peer
+     * @param eventHandler       the consumer of received events
+     * @param gossipHalted       returns true if gossip is halted
+     * @param executor           runs the reading and writing tasks in parallel
+     * @param maxEventsPerRun    the maximum number of events sent in a single run, at most
+     *                           {@link #MAX_EVENTS_PER_RUN}
+     * @param metrics            broadcast metrics
+     * @param time               the source of time
+     */
+    public BroadcastProtocol(
+            @NonNull final NodeId peerId,
+            @NonNull final BlockingQueue<PlatformEvent> outgoing,
+            @NonNull final Shadowgraph shadowgraph,
+            @NonNull final IntakeEventCounter intakeEventCounter,
+            @NonNull final Consumer<PlatformEvent> eventHandler,
+            @NonNull final BooleanSupplier gossipHalted,
+            @NonNull final ParallelExecutor executor,
+            final int maxEventsPerRun,
+            @NonNull final BroadcastMetrics metrics,
+            @NonNull final Time time) {
+        this.peerId = Objects.requireNonNull(peerId);
+        this.outgoing = Objects.requireNonNull(outgoing);
+        this.shadowgraph = Objects.requireNonNull(shadowgraph);
+        this.intakeEventCounter = Objects.requireNonNull(intakeEventCounter);
+        this.eventHandler = Objects.requireNonNull(eventHandler);
+        this.gossipHalted = Objects.requireNonNull(gossipHalted);
+        this.executor = Objects.requireNonNull(executor);
+        if (maxEventsPerRun <= 0 || maxEventsPerRun > MAX_EVENTS_PER_RUN) {
+            throw new IllegalArgumentException("max events per run must be between 1 and " + MAX_EVENTS_PER_RUN
+                    + ", got " + maxEventsPerRun);
+        }
+        this.maxEventsPerRun = maxEventsPerRun;
+        this.metrics = Objects.requireNonNull(metrics);
+        this.time = Objects.requireNonNull(time);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean shouldInitiate() {
+        return !gossipHalted.getAsBoolean() && !outgoing.isEmpty() && !time.now().isBefore(nextInitiation);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void initiateRejected() {
+        // the peer may not have broadcast enabled, the queued events are left for sync to deliver
+        rejectionBackoff = rejectionBackoff.isZero()
+                ? INITIAL_REJECTION_BACKOFF
+                : min(rejectionBackoff.multipliedBy(2), MAX_REJECTION_BACKOFF);
+        nextInitiation = time.now().plus(rejectionBackoff);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean shouldAccept() {
+        return !gossipHalted.getAsBoolean();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean acceptOnSimultaneousInitiate() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void runProtocol(@NonNull final Connection connection)
+            throws NetworkProtocolException, IOException, InterruptedException {
+        // the peer has broadcast enabled
+        rejectionBackoff = Duration.ZERO;
+        nextInitiation = Instant.MIN;
+        try {
+            executor.doParallel(() -> writeEvents(connection), () -> readEvents(connection), connection::disconnect);
+        } catch (final ParallelExecutionException e) {
+            if (Utilities.isRootCauseSuppliedType(e, IOException.class)) {
+                throw new IOException(e);
+            }
+            throw new NetworkProtocolException(e);
+        }
+    }
+
+    /**
+     * Send the events queued for the peer, preceded by their count.
+     *
+     * @param connection the connection to write to
+     */
+    private void writeEvents(@NonNull final Connection connection) throws IOException {
+        final List<PlatformEvent> events = new ArrayList<>();
+        outgoing.drainTo(events, maxEventsPerRun);
+
+        connection.getDos().writeInt(events.size());
+        for (final PlatformEvent event : events) {
+            event.getSerializedBytes().writeTo(connection.getDos());
+        }
+        connection.getDos().flush();
+        metrics.eventsSent(events.size());
+    }
+
+    /**
+     * Read the events the peer has pushed to us and pass on the ones not already known.
+     *
+     * @param connection the connection to read from
+     */
+    private void readEvents(@NonNull final Connection connection) throws IOException {
+        final int count = connection.getDis().readInt();
+        if (count < 0 || count > MAX_EVENTS_PER_RUN) {
+            throw new IOException("peer " + peerId + " sent an invalid broadcast event count: " + count);
+        }
+        for (int i = 0; i < count; i++) {
+            final PlatformEvent event = EventSerializationUtils.deserializePlatformEvent(connection.getDis(), true);
+            hasher.hashEvent(event);
+
+            final boolean duplicate = shadowgraph.isHashInGraph(event.getHash());
+            metrics.eventReceived(duplicate, Duration.between(event.getTimeCreated(), time.now()));
+            if (duplicate) {
+                continue;
+            }
+
+            event.setSenderId(peerId);
+            intakeEventCounter.eventEnteredIntakePipeline(peerId);
+            eventHandler.accept(event);
+        }
+    }
+}
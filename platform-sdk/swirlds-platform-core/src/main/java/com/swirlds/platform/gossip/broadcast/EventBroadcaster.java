@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.gossip.broadcast;
+
+import com.swirlds.common.platform.NodeId;
+import com.swirlds.platform.event.PlatformEvent;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Fans self events out to a bounded queue per peer, from which the {@link BroadcastProtocol} for that peer pushes them.
+ * Broadcast is best effort: if a peer's queue is full the event is not queued for it, and sync delivers it instead.
+ */
+public class EventBroadcaster {
+
+    private final Map<NodeId, BlockingQueue<PlatformEvent>> queues = new ConcurrentHashMap<>();
+    private final int queueCapacity;
+    private final BroadcastMetrics metrics;
+
+    /**
+     * Constructor.
+     *
+     * @param queueCapacity the maximum number of events waiting to be sent to a single peer
+     * @param metrics       broadcast metrics
+     */
+    public EventBroadcaster(final int queueCapacity, @NonNull final BroadcastMetrics metrics) {
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("queue capacity must be positive, got " + queueCapacity);
+        }
+        this.queueCapacity = queueCapacity;
+        this.metrics = Objects.requireNonNull(metrics);
+    }
+
+    /**
+     * Get the queue of events waiting to be sent to a peer, creating it if needed.
+     *
+     * @param peerId the ID of the peer
+     * @return the queue for the peer
+     */
+    @NonNull
+    public BlockingQueue<PlatformEvent> getQueue(@NonNull final NodeId peerId) {
+        return queues.computeIfAbsent(peerId, id -> new ArrayBlockingQueue<>(queueCapacity));
+    }
+
+    /**
+     * Queue a self event to be pushed to every peer.
+     *
+     * @param event the event to broadcast
+     */
+    public void broadcast(@NonNull final PlatformEvent event) {
+        for (final BlockingQueue<PlatformEvent> queue : queues.values()) {
+            if (!queue.offer(event)) {
+                metrics.eventDropped();
+            }
+        }
+    }
+
+    /**
+     * Discard all events waiting to be broadcast.
+     */
+    public void clear() {
+        queues.values().forEach(BlockingQueue::clear);
+    }
+}
@@ -45,6 +45,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.StampedLock;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
@@ -53,6 +55,11 @@ import org.apache.logging.log4j.Logger;
 /**
  * The primary purpose of the shadowgraph is to unlink events when it is safe to do so. In order to decide when it is
  * safe to unlink an event, it allows for batches of events (by ancient indicator) to be reserved.
+ * <p>
+ * The shadowgraph is read by many concurrent syncs and written by the intake pipeline. Lookups by hash, the tips and the
+ * event window are read without locking: events are indexed in a concurrent map, and an immutable snapshot of the tips
+ * is published each time the tips change. Inserting events, expiring events and taking reservations are serialized by
+ * a write lock.
  */
 public class Shadowgraph implements Clearable {
 
@@ -66,25 +73,31 @@ public class Shadowgraph implements Clearable {
     /**
      * The shadowgraph represented in a map from has to shadow event.
      */
-    private final HashMap<Hash, ShadowEvent> hashToShadowEvent;
+    private final ConcurrentHashMap<Hash, ShadowEvent> hashToShadowEvent;
 
     /**
-     * Map from ancient indicator to all shadow events with that ancient indicator.
+     * Map from ancient indicator to all shadow events with that ancient indicator. Guarded by {@link #lock}.
      */
     private final Map<Long /* ancient indicator */, Set<ShadowEvent>> indicatorToShadowEvent;
 
     /**
-     * The set of all tips for the shadowgraph. A tip is an event with no self child (could have other children)
+     * The set of all tips for the shadowgraph. A tip is an event with no self child (could have other children).
+     * Guarded by {@link #lock}.
      */
     private final HashSet<ShadowEvent> tips;
 
+    /**
+     * An immutable copy of {@link #tips}, replaced every time the tips change.
+     */
+    private volatile List<ShadowEvent> tipSnapshot = List.of();
+
     /**
      * The oldest ancient indicator that has not yet been expired
      */
-    private long oldestUnexpiredIndicator;
+    private volatile long oldestUnexpiredIndicator;
 
     /**
-     * The list of all currently reserved indicators and their number of reservations.
+     * The list of all currently reserved indicators and their number of reservations. Guarded by {@link #lock}.
      */
     private final LinkedList<ShadowgraphReservation> reservationList;
 
@@ -106,7 +119,13 @@ public class Shadowgraph implements Clearable {
     /**
      * The most recent event window we know about.
      */
-    private EventWindow eventWindow;
+    private volatile EventWindow eventWindow;
+
+    /**
+     * Serializes modifications to the shadowgraph. Readers do not take this lock, except for the deprecated
+     * {@link #findByAncientIndicator(long, long, Predicate)}.
+     */
+    private final StampedLock lock = new StampedLock();
 
     /**
      * For each peer, track the number of events in the intake pipeline prior to the shadowgraph.
@@ -134,7 +153,7 @@ public class Shadowgraph implements Clearable {
         this.numberOfNodes = addressBook.getSize();
         this.intakeEventCounter = Objects.requireNonNull(intakeEventCounter);
         tips = new HashSet<>();
-        hashToShadowEvent = new HashMap<>();
+        hashToShadowEvent = new ConcurrentHashMap<>();
         indicatorToShadowEvent = new HashMap<>();
         reservationList = new LinkedList<>();
     }
@@ -156,14 +175,44 @@ public class Shadowgraph implements Clearable {
     /**
      * Reset the shadowgraph manager to its constructed state.
      */
-    public synchronized void clear() {
-        eventWindow = null;
-        oldestUnexpiredIndicator = ancientMode.getGenesisIndicator();
-        disconnectShadowEvents();
-        tips.clear();
-        hashToShadowEvent.clear();
-        indicatorToShadowEvent.clear();
-        reservationList.clear();
+    public void clear() {
+        final long stamp = acquireWriteLock();
+        try {
+            eventWindow = null;
+            oldestUnexpiredIndicator = ancientMode.getGenesisIndicator();
+            disconnectShadowEvents();
+            tips.clear();
+            tipSnapshot = List.of();
+            hashToShadowEvent.clear();
+            indicatorToShadowEvent.clear();
+            reservationList.clear();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Acquire the write lock, recording whether this thread had to wait for it and for how long.
+     *
+     * @return the stamp to pass to {@link StampedLock#unlockWrite(long)}
+     */
+    private long acquireWriteLock() {
+        final long stamp = lock.tryWriteLock();
+        if (stamp != 0) {
+            metrics.updateLockContention(false, 0);
+            return stamp;
+        }
+        final long start = System.nanoTime();
+        final long contendedStamp = lock.writeLock();
+        metrics.updateLockContention(true, System.nanoTime() - start);
+        return contendedStamp;
+    }
+
+    /**
+     * Publish a new snapshot of the tips. Must be called while holding the write lock, after the tips are modified.
+     */
+    private void publishTips() {
+        tipSnapshot = List.copyOf(tips);
     }
 
     /**
@@ -182,7 +231,22 @@ public class Shadowgraph implements Clearable {
      * @return the reservation instance, must be closed when the reservation is no longer needed
      */
     @NonNull
-    public synchronized ReservedEventWindow reserve() {
+    public ReservedEventWindow reserve() {
+        final long stamp = acquireWriteLock();
+        try {
+            return reserveLocked();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Create or reuse a reservation. Must be called while holding the write lock.
+     *
+     * @return the reservation instance
+     */
+    @NonNull
+    private ReservedEventWindow reserveLocked() {
         if (reservationList.isEmpty()) {
             // If we are not currently holding any reservations, we need to create a new one.
             return new ReservedEventWindow(eventWindow, newReservation());
@@ -216,7 +280,7 @@ public class Shadowgraph implements Clearable {
      * Get the latest event window known to the shadowgraph.
      */
     @NonNull
-    public synchronized EventWindow getEventWindow() {
+    public EventWindow getEventWindow() {
         return eventWindow;
     }
 
@@ -228,8 +292,8 @@ public class Shadowgraph implements Clearable {
      * @deprecated still used by tests, planned for removal. Do not add new uses.
      */
     @Deprecated(forRemoval = true)
-    public synchronized boolean isHashInGraph(final Hash hash) {
-        return hashToShadowEvent.containsKey(hash);
+    public boolean isHashInGraph(final Hash hash) {
+        return hash != null && hashToShadowEvent.containsKey(hash);
     }
 
     /**
@@ -243,9 +307,9 @@ public class Shadowgraph implements Clearable {
      *     <li>adding events to the the graph does not affect ancestors</li>
      *     <li>checks for expired parent events are atomic</li>
      * </ol>
-     * <p>Note: This method is always accessed after a call to a synchronized {@link Shadowgraph} method, like
-     * {@link #getTips()}, which acts as a memory gate and causes the calling thread to read the latest values for all
-     * variables from memory, including {@link ShadowEvent} links.</p>
+     * <p>Note: This method is always accessed after a call to a {@link Shadowgraph} method that reads a volatile
+     * field, like {@link #getTips()}, which acts as a memory gate and causes the calling thread to read the latest
+     * values for all variables from memory, including {@link ShadowEvent} links.</p>
      *
      * @param events    the event to find ancestors of
      * @param predicate determines whether or not to add the ancestor to the return list
@@ -326,17 +390,22 @@ public class Shadowgraph implements Clearable {
      */
     @Deprecated(forRemoval = true)
     @NonNull
-    public synchronized Collection<PlatformEvent> findByAncientIndicator(
+    public Collection<PlatformEvent> findByAncientIndicator(
             final long lowerBound, final long upperBound, @NonNull final Predicate<PlatformEvent> predicate) {
         final List<PlatformEvent> result = new ArrayList<>();
         if (lowerBound >= upperBound) {
             return result;
         }
-        for (long indicator = lowerBound; indicator < upperBound; indicator++) {
-            indicatorToShadowEvent.getOrDefault(indicator, Collections.emptySet()).stream()
-                    .map(ShadowEvent::getEvent)
-                    .filter(predicate)
-                    .forEach(result::add);
+        final long stamp = lock.readLock();
+        try {
+            for (long indicator = lowerBound; indicator < upperBound; indicator++) {
+                indicatorToShadowEvent.getOrDefault(indicator, Collections.emptySet()).stream()
+                        .map(ShadowEvent::getEvent)
+                        .filter(predicate)
+                        .forEach(result::add);
+            }
+        } finally {
+            lock.unlockRead(stamp);
         }
         return result;
     }
@@ -354,7 +423,21 @@ public class Shadowgraph implements Clearable {
      *
      * @param eventWindow describes the current window of non-expired events
      */
-    public synchronized void updateEventWindow(@NonNull final EventWindow eventWindow) {
+    public void updateEventWindow(@NonNull final EventWindow eventWindow) {
+        final long stamp = acquireWriteLock();
+        try {
+            updateEventWindowLocked(eventWindow);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Update the event window and expire events. Must be called while holding the write lock.
+     *
+     * @param eventWindow describes the current window of non-expired events
+     */
+    private void updateEventWindowLocked(@NonNull final EventWindow eventWindow) {
         if (this.eventWindow == null) {
             startWithEventWindow(eventWindow);
             return;
@@ -391,6 +474,7 @@ public class Shadowgraph implements Clearable {
 
         final long minimumIndicatorToKeep = Math.min(eventWindow.getExpiredThreshold(), oldestReservedIndicator);
 
+        final int tipCountBefore = tips.size();
         while (oldestUnexpiredIndicator < minimumIndicatorToKeep) {
             final Set<ShadowEvent> shadowsToExpire = indicatorToShadowEvent.remove(oldestUnexpiredIndicator);
             // shadowsToExpire should never be null, but check just in case.
@@ -404,6 +488,9 @@ public class Shadowgraph implements Clearable {
             }
             oldestUnexpiredIndicator++;
         }
+        if (tips.size() != tipCountBefore) {
+            publishTips();
+        }
     }
 
     /**
@@ -459,7 +546,7 @@ public class Shadowgraph implements Clearable {
      * @throws IllegalArgumentException if {@code otherParentsDescriptors} contains more than one event descriptor
      */
     @Nullable
-    private synchronized ShadowEvent shadow(@NonNull final List<EventDescriptorWrapper> otherParentsDescriptors) {
+    private ShadowEvent shadow(@NonNull final List<EventDescriptorWrapper> otherParentsDescriptors) {
         if (otherParentsDescriptors.isEmpty()) {
             return null;
         }
@@ -478,7 +565,7 @@ public class Shadowgraph implements Clearable {
      * @return the shadow event that references an event, or null is {@code e} is null
      */
     @Nullable
-    public synchronized ShadowEvent shadow(@Nullable final EventDescriptorWrapper e) {
+    public ShadowEvent shadow(@Nullable final EventDescriptorWrapper e) {
         if (e == null) {
             return null;
         }
@@ -492,7 +579,7 @@ public class Shadowgraph implements Clearable {
      * @param hashes The event hashes to get shadow events for
      * @return the shadow events that reference the events with the given hashes
      */
-    public synchronized List<ShadowEvent> shadows(final List<Hash> hashes) {
+    public List<ShadowEvent> shadows(final List<Hash> hashes) {
         Objects.requireNonNull(hashes);
         final List<ShadowEvent> shadows = new ArrayList<>(hashes.size());
         for (final Hash hash : hashes) {
@@ -508,7 +595,7 @@ public class Shadowgraph implements Clearable {
      * @return the hashgraph event, if there is one in {@code this} shadowgraph, else `null`
      */
     @Nullable
-    public synchronized PlatformEvent hashgraphEvent(@Nullable final Hash h) {
+    public PlatformEvent hashgraphEvent(@Nullable final Hash h) {
         final ShadowEvent shadow = shadow(h);
         if (shadow == null) {
             return null;
@@ -524,8 +611,8 @@ public class Shadowgraph implements Clearable {
      * @return an unmodifiable copy of the tips
      */
     @NonNull
-    public synchronized List<ShadowEvent> getTips() {
-        return new ArrayList<>(tips);
+    public List<ShadowEvent> getTips() {
+        return tipSnapshot;
     }
 
     /**
@@ -535,11 +622,12 @@ public class Shadowgraph implements Clearable {
      * @return {@code true} if the event was added, {@code false} otherwise
      * @throws ShadowgraphInsertionException if the event was unable to be added to the shadowgraph
      */
-    public synchronized boolean addEvent(@NonNull final PlatformEvent event) throws ShadowgraphInsertionException {
+    public boolean addEvent(@NonNull final PlatformEvent event) throws ShadowgraphInsertionException {
         if (eventWindow == null) {
             throw new IllegalStateException("Initial event window not set");
         }
         Objects.requireNonNull(event);
+        final long stamp = acquireWriteLock();
         try {
             final InsertableStatus status = insertable(event);
 
@@ -548,6 +636,7 @@ public class Shadowgraph implements Clearable {
                 final ShadowEvent s = insert(event);
                 tips.add(s);
                 tips.remove(s.getSelfParent());
+                publishTips();
 
                 if (numberOfNodes > 0 && tips.size() > numberOfNodes && tips.size() > tipsBefore) {
                     // It is possible that we have more tips than nodes even if there is no fork.
@@ -590,6 +679,7 @@ public class Shadowgraph implements Clearable {
                 }
             }
         } finally {
+            lock.unlockWrite(stamp);
             intakeEventCounter.eventExitedIntakePipeline(event.getSenderId());
         }
     }
@@ -601,7 +691,7 @@ public class Shadowgraph implements Clearable {
     }
 
     private ShadowEvent shadow(final Hash h) {
-        return hashToShadowEvent.get(h);
+        return h == null ? null : hashToShadowEvent.get(h);
     }
 
     /**
@@ -609,7 +699,10 @@ public class Shadowgraph implements Clearable {
      * @return the event that has the hash provided, or null if none exists
      */
     @Nullable
-    public synchronized PlatformEvent getEvent(@Nullable final Hash hash) {
+    public PlatformEvent getEvent(@Nullable final Hash hash) {
+        if (hash == null) {
+            return null;
+        }
         final ShadowEvent shadowEvent = hashToShadowEvent.get(hash);
         return shadowEvent == null ? null : shadowEvent.getEvent();
     }
@@ -29,6 +29,8 @@ import edu.umd.cs.findbugs.annotations.NonNull;
 public class ShadowgraphMetrics {
 
     private final AverageStat indicatorsWaitingForExpiry;
+    private final AverageStat lockContention;
+    private final AverageStat lockWaitMicros;
 
     /**
      * Constructor
@@ -43,6 +45,20 @@ public class ShadowgraphMetrics {
                 "the average number of indicators waiting to be expired by the shadowgraph",
                 FORMAT_5_3,
                 AverageStat.WEIGHT_VOLATILE);
+        lockContention = new AverageStat(
+                platformContext.getMetrics(),
+                PLATFORM_CATEGORY,
+                "shadowgraphLockContention",
+                "the fraction of shadowgraph modifications that had to wait for another modification to finish",
+                FORMAT_5_3,
+                AverageStat.WEIGHT_SMOOTH);
+        lockWaitMicros = new AverageStat(
+                platformContext.getMetrics(),
+                PLATFORM_CATEGORY,
+                "shadowgraphLockWaitMicros",
+                "the average time in microseconds a shadowgraph modification waited for the lock, when it had to wait",
+                FORMAT_5_3,
+                AverageStat.WEIGHT_VOLATILE);
     }
 
     /**
@@ -54,4 +70,17 @@ public class ShadowgraphMetrics {
     public void updateIndicatorsWaitingForExpiry(final long numGenerations) {
         indicatorsWaitingForExpiry.update(numGenerations);
     }
+
+    /**
+     * Called by {@link Shadowgraph} each time it acquires its write lock.
+     *
+     * @param contended true if the lock was held by another thread and this thread had to wait for it
+     * @param waitNanos the time spent waiting for the lock, in nanoseconds
+     */
+    public void updateLockContention(final boolean contended, final long waitNanos) {
+        lockContention.update(contended);
+        if (contended) {
+            lockWaitMicros.update(waitNanos / 1_000);
+        }
+    }
 }
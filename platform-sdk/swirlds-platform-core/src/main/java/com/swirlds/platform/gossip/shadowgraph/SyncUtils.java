@@ -206,7 +206,9 @@ public final class SyncUtils {
                     events.size());
             for (final PlatformEvent event : events) {
                 connection.getDos().writeByte(ByteConstants.COMM_EVENT_NEXT);
-                EventSerializationUtils.serializePlatformEvent(connection.getDos(), event, true);
+                // the serialized form is cached on the event, so it is only computed once no matter how many peers
+                // the event is sent to
+                event.getSerializedBytes().writeTo(connection.getDos());
             }
             if (writeAborted.get()) {
                 logger.info(SYNC_INFO.getMarker(), "{} writing events aborted", connection.getDescription());
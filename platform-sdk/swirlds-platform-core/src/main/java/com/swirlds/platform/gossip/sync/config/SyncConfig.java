@@ -50,6 +50,14 @@ import java.time.Duration;
  * @param minimumHealthyUnrevokedPermitCount the minimum number of permits that must be unrevoked when the system is in
  *                                           a healthy state. If non-zero, this means that this number of permits is
  *                                           immediately returned as soon as the system becomes healthy.
+ * @param broadcastEnabled                   if true, self events are pushed to peers as soon as they are created, in
+ *                                           addition to being gossiped via sync. May differ between nodes, events are
+ *                                           only broadcast between two nodes that both have it enabled.
+ * @param broadcastQueueCapacity             the maximum number of self events waiting to be broadcast to a single
+ *                                           peer. Events that do not fit are left for sync to deliver.
+ * @param broadcastMaxEventsPerRun           the maximum number of events sent to a peer in a single run of the
+ *                                           broadcast protocol. May differ between nodes, but must not exceed
+ *                                           the protocol limit of 1024 events that every node accepts.
  */
 @ConfigData("sync")
 public record SyncConfig(
@@ -66,4 +74,7 @@ public record SyncConfig(
         @ConfigProperty(defaultValue = "1s") Duration unhealthyGracePeriod,
         @ConfigProperty(defaultValue = "5") double permitsRevokedPerSecond,
         @ConfigProperty(defaultValue = "0.1") double permitsReturnedPerSecond,
-        @ConfigProperty(defaultValue = "1") int minimumHealthyUnrevokedPermitCount) {}
+        @ConfigProperty(defaultValue = "1") int minimumHealthyUnrevokedPermitCount,
+        @ConfigProperty(defaultValue = "false") boolean broadcastEnabled,
+        @ConfigProperty(defaultValue = "1024") int broadcastQueueCapacity,
+        @ConfigProperty(defaultValue = "64") int broadcastMaxEventsPerRun) {}
@@ -61,8 +61,11 @@ public class EventImpl implements Clearable {
      * calculation, this field may or may not store the final consensus time.
      */
     private Instant preliminaryConsensusTimestamp;
-    /** lastSee[m] is the last ancestor created by m (memoizes function from Swirlds-TR-2020-01) */
-    private EventImpl[] lastSee;
+    /**
+     * the slot holding the memoized lastSee answers of this event (function from Swirlds-TR-2020-01) in the consensus
+     * {@link com.swirlds.platform.consensus.LastSeeStore}, or -1 if none
+     */
+    private int lastSeeIndex = -1;
     /**
      * stronglySeeP[m] is strongly-seen witness in parent round by m (memoizes function from Swirlds-TR-2020-01)
      */
@@ -236,40 +239,19 @@ public class EventImpl implements Clearable {
     }
 
     /**
-     * @param m the member ID
-     * @return last ancestor created by m (memoizes lastSee function from Swirlds-TR-2020-01)
-     */
-    public @Nullable EventImpl getLastSee(final int m) {
-        return lastSee[m];
-    }
-
-    /**
-     * remember event, the last ancestor created by m (memoizes lastSee function from
-     * Swirlds-TR-2020-01)
-     *
-     * @param m the member ID
-     * @param event the last seen {@link EventImpl} object created by m
-     */
-    public void setLastSee(final int m, @Nullable final EventImpl event) {
-        lastSee[m] = event;
-    }
-
-    /**
-     * Initialize the lastSee array to hold n elements (for n &ge; 0) (memoizes lastSee function
-     * from Swirlds-TR-2020-01)
-     *
-     * @param n number of members in the initial address book
+     * @return the slot holding the memoized lastSee answers of this event (function from Swirlds-TR-2020-01) in the
+     *     consensus {@link com.swirlds.platform.consensus.LastSeeStore}, or -1 if none
      */
-    public void initLastSee(final int n) {
-        lastSee = n == 0 ? null : new EventImpl[n];
+    public int getLastSeeIndex() {
+        return lastSeeIndex;
     }
 
     /**
-     * @return the number of elements lastSee holds (memoizes lastSee function from
-     *     Swirlds-TR-2020-01)
+     * @param lastSeeIndex the slot holding the memoized lastSee answers of this event in the consensus
+     *     {@link com.swirlds.platform.consensus.LastSeeStore}, or -1 if none
      */
-    public int sizeLastSee() {
-        return lastSee == null ? 0 : lastSee.length;
+    public void setLastSeeIndex(final int lastSeeIndex) {
+        this.lastSeeIndex = lastSeeIndex;
     }
 
     /**
@@ -283,31 +265,20 @@ public class EventImpl implements Clearable {
 
     /**
      * @return strongly-seen witness in parent round (memoizes stronglySeeP function from
-     *     Swirlds-TR-2020-01)
+     *     Swirlds-TR-2020-01). The array may be shared with other events and must not be modified.
      */
     public EventImpl[] getStronglySeeP() {
         return stronglySeeP;
     }
 
     /**
-     * remember event, the strongly-seen witness in parent round by m (memoizes stronglySeeP
-     * function from Swirlds-TR-2020-01)
-     *
-     * @param m the member ID
-     * @param event the strongly-seen witness in parent round created by m
-     */
-    public void setStronglySeeP(final int m, @Nullable final EventImpl event) {
-        stronglySeeP[m] = event;
-    }
-
-    /**
-     * Initialize the stronglySeeP array to hold n elements (for n &ge; 0) (memoizes stronglySeeP
-     * function from Swirlds-TR-2020-01)
+     * remember the strongly-seen witnesses in parent round by every member (memoizes stronglySeeP function from
+     * Swirlds-TR-2020-01). The array may be shared with other events, so it must not be modified afterwards.
      *
-     * @param n number of members in AddressBook
+     * @param stronglySeeP the strongly-seen witness in parent round by each member, or null to clear
      */
-    public void initStronglySeeP(final int n) {
-        stronglySeeP = n == 0 ? null : new EventImpl[n];
+    public void setStronglySeeP(@Nullable final EventImpl[] stronglySeeP) {
+        this.stronglySeeP = stronglySeeP;
     }
 
     /**
@@ -459,8 +430,8 @@ public class EventImpl implements Clearable {
     }
 
     private void clearNonJudgeMetadata() {
-        initLastSee(0);
-        initStronglySeeP(0);
+        setLastSeeIndex(-1);
+        setStronglySeeP(null);
         setFirstSelfWitnessS(null);
         setFirstWitnessS(null);
         setRecTimes(null);
@@ -70,6 +70,31 @@ public class NegotiationProtocols {
         return ret;
     }
 
+    /**
+     * Check if a protocol ID refers to a protocol that this node supports. Protocols that are optional, and that may
+     * be enabled on a peer but not on this node, are at the end of the list, so the IDs of all other protocols are the
+     * same on every node.
+     *
+     * @param id
+     * 		the ID of the protocol
+     * @return true if this node supports the protocol
+     */
+    public boolean isSupported(final int id) {
+        return id >= 0 && id < allProtocols.length;
+    }
+
+    /**
+     * The protocol initiated was rejected by the peer
+     *
+     * @throws IllegalStateException
+     * 		if no protocol was previously initiated
+     */
+    public void initiateRejected() {
+        throwIfNoneInitiated();
+        initiatedProtocol.initiateRejected();
+        initiatedProtocol = null;
+    }
+
     /**
      * The protocol initated has not been accepted
      *
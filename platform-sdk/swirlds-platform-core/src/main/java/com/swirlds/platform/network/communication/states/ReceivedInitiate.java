@@ -75,6 +75,14 @@ public class ReceivedInitiate extends NegotiationStateWithDescription {
     @Override
     public NegotiationState transition()
             throws NegotiationException, NetworkProtocolException, InterruptedException, IOException {
+        if (!protocols.isSupported(protocolInitiated)) {
+            // an optional protocol that is enabled on the peer, but not on this node
+            byteOutput.write(NegotiatorBytes.REJECT);
+            byteOutput.flush();
+            setDescription("rejected protocol not supported by this node - " + protocolInitiated);
+            protocolInitiated = NegotiatorBytes.UNINITIALIZED;
+            return sleep;
+        }
         final Protocol protocol = protocols.getProtocol(protocolInitiated);
         if (protocol.shouldAccept()) {
             try {
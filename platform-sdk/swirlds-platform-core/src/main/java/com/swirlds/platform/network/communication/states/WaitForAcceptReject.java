@@ -69,7 +69,7 @@ public class WaitForAcceptReject extends NegotiationStateWithDescription {
             }
             case NegotiatorBytes.REJECT -> {
                 // peer declined, so initiate failed
-                protocols.initiateFailed();
+                protocols.initiateRejected();
                 setDescription("received reject, sleeping");
                 yield sleep;
             }
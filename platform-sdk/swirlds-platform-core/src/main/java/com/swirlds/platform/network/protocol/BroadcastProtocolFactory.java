@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.network.protocol;
+
+import com.swirlds.base.time.Time;
+import com.swirlds.common.platform.NodeId;
+import com.swirlds.common.threading.pool.ParallelExecutor;
+import com.swirlds.platform.event.PlatformEvent;
+import com.swirlds.platform.gossip.IntakeEventCounter;
+import com.swirlds.platform.gossip.broadcast.BroadcastMetrics;
+import com.swirlds.platform.gossip.broadcast.BroadcastProtocol;
+import com.swirlds.platform.gossip.broadcast.EventBroadcaster;
+import com.swirlds.platform.gossip.shadowgraph.Shadowgraph;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Objects;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * Implementation of a factory for the event broadcast protocol
+ */
+public class BroadcastProtocolFactory implements ProtocolFactory {
+
+    private final EventBroadcaster broadcaster;
+    private final Shadowgraph shadowgraph;
+    private final IntakeEventCounter intakeEventCounter;
+    private final Consumer<PlatformEvent> eventHandler;
+    private final BooleanSupplier gossipHalted;
+    private final ParallelExecutor executor;
+    private final int maxEventsPerRun;
+    private final BroadcastMetrics metrics;
+    private final Time time;
+
+    /**
+     * Constructor.
+     *
+     * @param broadcaster        holds the per peer queues of self events waiting to be broadcast
+     * @param shadowgraph        used to detect events that are already known
+     * @param intakeEventCounter keeps track of the number of events in the intake pipeline from each peer
+     * @param eventHandler       the consumer of received events
+     * @param gossipHalted       returns true if gossip is halted
+     * @param executor           runs the reading and writing tasks in parallel
+     * @param maxEventsPerRun    the maximum number of events sent in a single run
+     * @param metrics            broadcast metrics
+     * @param time               the source of time
+     */
+    public BroadcastProtocolFactory(
+            @NonNull final EventBroadcaster broadcaster,
+            @NonNull final Shadowgraph shadowgraph,
+            @NonNull final IntakeEventCounter intakeEventCounter,
+            @NonNull final Consumer<PlatformEvent> eventHandler,
+            @NonNull final BooleanSupplier gossipHalted,
+            @NonNull final ParallelExecutor executor,
+            final int maxEventsPerRun,
+            @NonNull final BroadcastMetrics metrics,
+            @NonNull final Time time) {
+        this.broadcaster = Objects.requireNonNull(broadcaster);
+        this.shadowgraph = Objects.requireNonNull(shadowgraph);
+        this.intakeEventCounter = Objects.requireNonNull(intakeEventCounter);
+        this.eventHandler = Objects.requireNonNull(eventHandler);
+        this.gossipHalted = Objects.requireNonNull(gossipHalted);
+        this.executor = Objects.requireNonNull(executor);
+        this.maxEventsPerRun = maxEventsPerRun;
+        this.metrics = Objects.requireNonNull(metrics);
+        this.time = Objects.requireNonNull(time);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @NonNull
+    public BroadcastProtocol build(@NonNull final NodeId peerId) {
+        Objects.requireNonNull(peerId);
+        return new BroadcastProtocol(
+                peerId,
+                broadcaster.getQueue(peerId),
+                shadowgraph,
+                intakeEventCounter,
+                eventHandler,
+                gossipHalted,
+                executor,
+                maxEventsPerRun,
+                metrics,
+                time);
+    }
+}
@@ -45,6 +45,15 @@ public interface Protocol extends ProtocolRunnable {
         // Override if needed
     }
 
+    /**
+     * If this protocol returns true for {@link #shouldInitiate()} and the peer replies with a reject, this method is
+     * invoked instead of {@link #initiateFailed()}. A peer rejects a protocol it does not want to run at the moment, or
+     * one that it does not support at all.
+     */
+    default void initiateRejected() {
+        initiateFailed();
+    }
+
     /**
      * Our peer initiated this protocol, should we accept? If this method returns true, one of two things will
      * always subsequently happen:
@@ -33,19 +33,24 @@ import com.swirlds.platform.eventhandling.TransactionPoolMetrics;
 import com.swirlds.platform.system.status.PlatformStatus;
 import com.swirlds.platform.util.TransactionUtils;
 import edu.umd.cs.findbugs.annotations.NonNull;
-import edu.umd.cs.findbugs.annotations.Nullable;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 /**
  * Store a list of transactions created by self, both system and non-system, for wrapping in the next event to be
  * created.
+ * <p>
+ * Transactions may be submitted by any number of threads concurrently without locking. Removing transactions (by
+ * {@link #getTransactions()} or {@link #clear()}) is synchronized on the pool, so that only one thread at a time
+ * inspects and removes the heads of the queues. Submitting threads never take this lock.
  */
 public class TransactionPoolNexus implements TransactionSupplier {
 
@@ -54,19 +59,35 @@ public class TransactionPoolNexus implements TransactionSupplier {
 
     /**
      * A list of transactions created by this node waiting to be put into a self-event.
+     * <p>
+     * The queues themselves are unbounded. Application transactions are bounded by
+     * {@link #throttleTransactionQueueSize}, which is enforced on {@link #transactionCount} before a transaction is
+     * added, while system transactions must always be accepted, so a queue with a fixed capacity could not hold them.
      */
-    private final Queue<EventTransaction> bufferedTransactions = new LinkedList<>();
+    private final Queue<EventTransaction> bufferedTransactions = new ConcurrentLinkedQueue<>();
 
     /**
      * A list of high-priority transactions created by this node waiting to be put into a self-event. Transactions in
      * this queue are always inserted into an event before transactions waiting in {@link #bufferedTransactions}.
      */
-    private final Queue<EventTransaction> priorityBufferedTransactions = new LinkedList<>();
+    private final Queue<EventTransaction> priorityBufferedTransactions = new ConcurrentLinkedQueue<>();
+
+    /**
+     * The number of transactions in both queues. Kept separately because the size of a concurrent queue is expensive
+     * to compute. Incremented before a transaction is added to a queue and decremented after it is removed, so it is
+     * never less than the true number of waiting transactions.
+     */
+    private final AtomicInteger transactionCount = new AtomicInteger();
+
+    /**
+     * The number of transactions in {@link #priorityBufferedTransactions}.
+     */
+    private final AtomicInteger priorityTransactionCount = new AtomicInteger();
 
     /**
      * The number of buffered signature transactions waiting to be put into events.
      */
-    private int bufferedSignatureTransactionCount = 0;
+    private final AtomicInteger bufferedSignatureTransactionCount = new AtomicInteger();
 
     /**
      * The maximum number of bytes of transactions that can be put in an event.
@@ -92,7 +113,7 @@ public class TransactionPoolNexus implements TransactionSupplier {
     /**
      * The current status of the platform.
      */
-    private PlatformStatus platformStatus = PlatformStatus.STARTING_UP;
+    private volatile PlatformStatus platformStatus = PlatformStatus.STARTING_UP;
 
     /**
      * The maximum amount of time the platform may be in an unhealthy state before we start rejecting transactions.
@@ -102,7 +123,7 @@ public class TransactionPoolNexus implements TransactionSupplier {
     /**
      * Whether the platform is currently in a healthy state.
      */
-    private boolean healthy = true;
+    private volatile boolean healthy = true;
 
     /**
      * Creates a new transaction pool for transactions waiting to be put in an event.
@@ -140,7 +161,7 @@ public class TransactionPoolNexus implements TransactionSupplier {
      * @param appTransaction the transaction to submit
      * @return true if the transaction passed all validity checks and was accepted by the consumer
      */
-    public synchronized boolean submitApplicationTransaction(@NonNull final Bytes appTransaction) {
+    public boolean submitApplicationTransaction(@NonNull final Bytes appTransaction) {
         if (!healthy || platformStatus != PlatformStatus.ACTIVE) {
             return false;
         }
@@ -174,27 +195,26 @@ public class TransactionPoolNexus implements TransactionSupplier {
      *                    functionalities.
      * @return true if successful
      */
-    public synchronized boolean submitTransaction(@NonNull final EventTransaction transaction, final boolean priority) {
+    public boolean submitTransaction(@NonNull final EventTransaction transaction, final boolean priority) {
 
         Objects.requireNonNull(transaction);
         final boolean isSystem = TransactionUtils.isSystemTransaction(transaction);
 
         // Always submit system transactions. If it's not a system transaction, then only submit it if we
         // don't violate queue size capacity restrictions.
-        if (!isSystem
-                && (bufferedTransactions.size() + priorityBufferedTransactions.size()) > throttleTransactionQueueSize) {
-            transactionPoolMetrics.recordRejectedAppTransaction();
-            return false;
-        }
-
         if (isSystem) {
-            bufferedSignatureTransactionCount++;
+            transactionCount.incrementAndGet();
+            bufferedSignatureTransactionCount.incrementAndGet();
             transactionPoolMetrics.recordSubmittedPlatformTransaction();
-        } else {
+        } else if (reserveAppTransactionSlot()) {
             transactionPoolMetrics.recordAcceptedAppTransaction();
+        } else {
+            transactionPoolMetrics.recordRejectedAppTransaction();
+            return false;
         }
 
         if (priority) {
+            priorityTransactionCount.incrementAndGet();
             priorityBufferedTransactions.add(transaction);
         } else {
             bufferedTransactions.add(transaction);
@@ -203,12 +223,29 @@ public class TransactionPoolNexus implements TransactionSupplier {
         return true;
     }
 
+    /**
+     * Count a new application transaction as waiting, unless the queues are already over the throttle size.
+     *
+     * @return true if the transaction may be added, false if it must be rejected
+     */
+    private boolean reserveAppTransactionSlot() {
+        while (true) {
+            final int count = transactionCount.get();
+            if (count > throttleTransactionQueueSize) {
+                return false;
+            }
+            if (transactionCount.compareAndSet(count, count + 1)) {
+                return true;
+            }
+        }
+    }
+
     /**
      * Update the platform status.
      *
      * @param platformStatus the new platform status
      */
-    public synchronized void updatePlatformStatus(@NonNull final PlatformStatus platformStatus) {
+    public void updatePlatformStatus(@NonNull final PlatformStatus platformStatus) {
         this.platformStatus = platformStatus;
     }
 
@@ -218,31 +255,33 @@ public class TransactionPoolNexus implements TransactionSupplier {
      *
      * @param duration the amount of time that the system has been in an unhealthy state
      */
-    public synchronized void reportUnhealthyDuration(@NonNull final Duration duration) {
+    public void reportUnhealthyDuration(@NonNull final Duration duration) {
         healthy = isLessThan(duration, maximumPermissibleUnhealthyDuration);
     }
 
     /**
-     * Get the next transaction that should be inserted into an event, or null if there is no available transaction.
+     * Removes the head of a queue if it fits in the remaining space of the event being constructed. Must only be called
+     * while holding the lock of the pool, since the head is inspected before it is removed.
      *
-     * @param currentEventSize the current size in bytes of the event being constructed
-     * @return the next transaction, or null if no transaction is available
+     * @param queue          the queue to take from
+     * @param remainingBytes the number of bytes left in the event being constructed
+     * @param selected       the list of transactions selected for the event
+     * @return the size of the transaction taken and added to {@code selected}, or -1 if none was taken
      */
-    @Nullable
-    private EventTransaction getNextTransaction(final int currentEventSize) {
-        final int maxSize = maxTransactionBytesPerEvent - currentEventSize;
-
-        if (!priorityBufferedTransactions.isEmpty()
-                && TransactionUtils.getLegacyTransactionSize(priorityBufferedTransactions.peek()) <= maxSize) {
-            return priorityBufferedTransactions.poll();
+    private static int takeIfFits(
+            @NonNull final Queue<EventTransaction> queue,
+            final int remainingBytes,
+            @NonNull final List<EventTransaction> selected) {
+        final EventTransaction head = queue.peek();
+        if (head == null) {
+            return -1;
         }
-
-        if (!bufferedTransactions.isEmpty()
-                && TransactionUtils.getLegacyTransactionSize(bufferedTransactions.peek()) <= maxSize) {
-            return bufferedTransactions.poll();
+        final int size = TransactionUtils.getLegacyTransactionSize(head);
+        if (size > remainingBytes) {
+            return -1;
         }
-
-        return null;
+        selected.add(queue.poll());
+        return size;
     }
 
     /**
@@ -254,28 +293,38 @@ public class TransactionPoolNexus implements TransactionSupplier {
     @Override
     public synchronized List<EventTransaction> getTransactions() {
         // Early return due to no transactions waiting
-        if (bufferedTransactions.isEmpty() && priorityBufferedTransactions.isEmpty()) {
+        if (transactionCount.get() == 0) {
             return Collections.emptyList();
         }
 
-        final List<EventTransaction> selectedTrans = new LinkedList<>();
-        int currEventSize = 0;
+        final List<EventTransaction> selectedTrans = new ArrayList<>();
+        int remainingBytes = maxTransactionBytesPerEvent;
+        int priorityTaken = 0;
 
         while (true) {
-            final EventTransaction transaction = getNextTransaction(currEventSize);
-
-            if (transaction == null) {
+            // priority transactions are always taken before other transactions
+            int size = takeIfFits(priorityBufferedTransactions, remainingBytes, selectedTrans);
+            if (size >= 0) {
+                priorityTaken++;
+            } else {
+                size = takeIfFits(bufferedTransactions, remainingBytes, selectedTrans);
+            }
+            if (size < 0) {
                 // No transaction of suitable size is available
                 break;
             }
+            remainingBytes -= size;
+        }
 
-            currEventSize += TransactionUtils.getLegacyTransactionSize(transaction);
-            selectedTrans.add(transaction);
-
+        int signaturesTaken = 0;
+        for (final EventTransaction transaction : selectedTrans) {
             if (STATE_SIGNATURE_TRANSACTION.equals(transaction.transaction().kind())) {
-                bufferedSignatureTransactionCount--;
+                signaturesTaken++;
             }
         }
+        transactionCount.addAndGet(-selectedTrans.size());
+        priorityTransactionCount.addAndGet(-priorityTaken);
+        bufferedSignatureTransactionCount.addAndGet(-signaturesTaken);
 
         return selectedTrans;
     }
@@ -285,8 +334,17 @@ public class TransactionPoolNexus implements TransactionSupplier {
      *
      * @return true if there are any buffered signature transactions
      */
-    public synchronized boolean hasBufferedSignatureTransactions() {
-        return bufferedSignatureTransactionCount > 0;
+    public boolean hasBufferedSignatureTransactions() {
+        return bufferedSignatureTransactionCount.get() > 0;
+    }
+
+    /**
+     * Get the number of transactions waiting to be put into events, including priority transactions.
+     *
+     * @return the number of waiting transactions
+     */
+    public int getTransactionCount() {
+        return transactionCount.get();
     }
 
     /**
@@ -294,8 +352,8 @@ public class TransactionPoolNexus implements TransactionSupplier {
      *
      * @return the number of transactions
      */
-    private synchronized int getBufferedTransactionCount() {
-        return bufferedTransactions.size();
+    private int getBufferedTransactionCount() {
+        return transactionCount.get() - priorityTransactionCount.get();
     }
 
     /**
@@ -303,16 +361,34 @@ public class TransactionPoolNexus implements TransactionSupplier {
      *
      * @return the number of transactions
      */
-    private synchronized int getPriorityBufferedTransactionCount() {
-        return priorityBufferedTransactions.size();
+    private int getPriorityBufferedTransactionCount() {
+        return priorityTransactionCount.get();
     }
 
     /**
      * Clear all the transactions
      */
     synchronized void clear() {
-        bufferedTransactions.clear();
-        priorityBufferedTransactions.clear();
-        bufferedSignatureTransactionCount = 0;
+        int removed = 0;
+        int priorityRemoved = 0;
+        int signaturesRemoved = 0;
+        EventTransaction transaction;
+        while ((transaction = priorityBufferedTransactions.poll()) != null) {
+            priorityRemoved++;
+            if (STATE_SIGNATURE_TRANSACTION.equals(transaction.transaction().kind())) {
+                signaturesRemoved++;
+            }
+        }
+        removed += priorityRemoved;
+        while ((transaction = bufferedTransactions.poll()) != null) {
+            removed++;
+            if (STATE_SIGNATURE_TRANSACTION.equals(transaction.transaction().kind())) {
+                signaturesRemoved++;
+            }
+        }
+        // transactions submitted concurrently with the clear are not lost from the counts
+        transactionCount.addAndGet(-removed);
+        priorityTransactionCount.addAndGet(-priorityRemoved);
+        bufferedSignatureTransactionCount.addAndGet(-signaturesRemoved);
     }
 }
@@ -19,24 +19,55 @@ package com.swirlds.platform.state.hasher;
 import static com.swirlds.logging.legacy.LogMarker.EXCEPTION;
 
 import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.merkle.MerkleInternal;
+import com.swirlds.common.merkle.MerkleNode;
 import com.swirlds.common.merkle.crypto.MerkleCryptoFactory;
+import com.swirlds.common.merkle.crypto.MerkleCryptography;
+import com.swirlds.common.merkle.hash.FutureMerkleHash;
+import com.swirlds.common.utility.Labeled;
 import com.swirlds.platform.wiring.components.StateAndRound;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 /**
  * Hashes signed states after all modifications for a round have been completed.
+ * <p>
+ * Only the subtrees that were modified since the previous state was hashed have a null hash, and only those are
+ * hashed. Each modified child of the state root (one per service state) is handed to the merkle hashing pool on its
+ * own, so that self hashing children such as virtual maps do not wait on each other, and the time spent hashing each
+ * service is reported. Self hashing children always have to be asked for their hash, but they only count as modified
+ * if their hash differs from the one they had when the previous state was hashed. The root is hashed last, once all
+ * of its children have hashes.
+ * <p>
+ * This class is not thread safe, states are expected to be hashed one at a time.
  */
 public class DefaultStateHasher implements StateHasher {
 
     private static final Logger logger = LogManager.getLogger(DefaultStateHasher.class);
+
+    /**
+     * The name used in metrics for children of the state root that are not labeled with a service name.
+     */
+    private static final String UNLABELED_SERVICE = "unlabeled";
+
     private final StateHasherMetrics metrics;
 
+    /**
+     * The hash each self hashing child of the state root had when the previous state was hashed, by child index.
+     */
+    private final Map<Integer, Hash> previousSelfHashingChildHashes = new HashMap<>();
+
     /**
      * Constructs a SignedStateHasher to hash SignedStates.  If the signedStateMetrics object is not null, the time
      * spent hashing is recorded. Any fatal errors that occur are passed to the provided FatalErrorConsumer. The hash is
@@ -45,7 +76,6 @@ public class DefaultStateHasher implements StateHasher {
      * @param platformContext the platform context
      */
     public DefaultStateHasher(@NonNull final PlatformContext platformContext) {
-
         metrics = new StateHasherMetrics(platformContext.getMetrics());
     }
 
@@ -57,9 +87,13 @@ public class DefaultStateHasher implements StateHasher {
     public StateAndRound hashState(@NonNull final StateAndRound stateAndRound) {
         final Instant start = Instant.now();
         try {
-            MerkleCryptoFactory.getInstance()
-                    .digestTreeAsync(stateAndRound.reservedSignedState().get().getState())
-                    .get();
+            final MerkleCryptography cryptography = MerkleCryptoFactory.getInstance();
+            final MerkleNode state = stateAndRound.reservedSignedState().get().getState();
+
+            if (state != null && !state.isLeaf()) {
+                hashModifiedChildren(cryptography, state.asInternal());
+            }
+            cryptography.digestTreeAsync(state).get();
 
             metrics.reportHashingTime(Duration.between(start, Instant.now()));
 
@@ -72,4 +106,74 @@ public class DefaultStateHasher implements StateHasher {
         }
         return null;
     }
+
+    /**
+     * Hash, in parallel, each child of the root that may have been modified since it was last hashed, and report the
+     * number of modified children and the time spent on each service.
+     * <p>
+     * The time reported for a service is the sum of the time spent hashing each of its modified subtrees, as measured
+     * by the task that hashed the subtree. It does not depend on the order in which the subtrees are waited on, nor on
+     * how long a subtree waited for a hashing thread.
+     *
+     * @param cryptography the merkle cryptography used to hash subtrees
+     * @param root         the root of the state
+     */
+    private void hashModifiedChildren(
+            @NonNull final MerkleCryptography cryptography, @NonNull final MerkleInternal root)
+            throws ExecutionException, InterruptedException {
+
+        final List<Integer> childIndices = new ArrayList<>();
+        final List<Future<Hash>> futures = new ArrayList<>();
+        for (int childIndex = 0; childIndex < root.getNumberOfChildren(); childIndex++) {
+            final MerkleNode child = root.getChild(childIndex);
+            // self hashing children compute their hash when it is requested, so that must happen off this thread
+            if (child == null || (!child.isSelfHashing() && child.getHash() != null)) {
+                // this subtree was not modified since it was last hashed
+                continue;
+            }
+            childIndices.add(childIndex);
+            futures.add(cryptography.digestTreeAsync(child));
+        }
+
+        int modifiedCount = 0;
+        final Map<String, Long> serviceHashingTimes = new HashMap<>();
+        for (int i = 0; i < futures.size(); i++) {
+            final Future<Hash> future = futures.get(i);
+            final Hash hash = future.get();
+
+            final int childIndex = childIndices.get(i);
+            final MerkleNode child = root.getChild(childIndex);
+            if (child.isSelfHashing()
+                    && hash != null
+                    && hash.equals(previousSelfHashingChildHashes.put(childIndex, hash))) {
+                // a self hashing child that was not modified since the previous state was hashed
+                continue;
+            }
+            modifiedCount++;
+            // a subtree that already had a hash is not returned as a FutureMerkleHash, and took no time to hash
+            final long hashingTime =
+                    future instanceof final FutureMerkleHash timed ? timed.getHashingTime().toNanos() : 0;
+            serviceHashingTimes.merge(getServiceName(child), hashingTime, Long::sum);
+        }
+
+        metrics.reportModifiedSubtreeCount(modifiedCount);
+        serviceHashingTimes.forEach(metrics::reportServiceHashingTime);
+    }
+
+    /**
+     * Get the name of the service that owns a child of the state root. Service state nodes are labeled
+     * {@code ServiceName.StateKey}.
+     *
+     * @param child the child of the state root
+     * @return the name of the service
+     */
+    @NonNull
+    private static String getServiceName(@NonNull final MerkleNode child) {
+        if (!(child instanceof final Labeled labeled) || labeled.getLabel() == null) {
+            return UNLABELED_SERVICE;
+        }
+        final String label = labeled.getLabel();
+        final int separator = label.indexOf('.');
+        return separator < 0 ? label : label.substring(0, separator);
+    }
 }
@@ -20,6 +20,8 @@ import com.swirlds.common.metrics.RunningAverageMetric;
 import com.swirlds.metrics.api.Metrics;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Encapsulates metrics for state hashing.
@@ -32,13 +34,28 @@ public class StateHasherMetrics {
             .withUnit("ms");
     private final RunningAverageMetric stateHashingTime;
 
+    private static final RunningAverageMetric.Config MODIFIED_SUBTREES_CONFIG = new RunningAverageMetric.Config(
+                    "platform", "sigStateHashModifiedSubtrees")
+            .withDescription("average number of children of the state root that were modified and had to be hashed")
+            .withUnit("count");
+    private final RunningAverageMetric modifiedSubtrees;
+
+    /**
+     * The time until the modified state of each service is hashed, created the first time each service is hashed.
+     */
+    private final Map<String, RunningAverageMetric> serviceHashingTimes = new ConcurrentHashMap<>();
+
+    private final Metrics metrics;
+
     /**
      * Constructor.
      *
      * @param metrics the metrics object
      */
     public StateHasherMetrics(@NonNull final Metrics metrics) {
+        this.metrics = metrics;
         stateHashingTime = metrics.getOrCreate(STATE_HASHING_TIME_CONFIG);
+        modifiedSubtrees = metrics.getOrCreate(MODIFIED_SUBTREES_CONFIG);
     }
     /**
      * Report the time taken to hash a state.
@@ -48,4 +65,29 @@ public class StateHasherMetrics {
     public void reportHashingTime(@NonNull final Duration hashingTime) {
         stateHashingTime.update(hashingTime.toMillis());
     }
+
+    /**
+     * Report the number of children of the state root that were hashed because they had been modified.
+     *
+     * @param count the number of modified children
+     */
+    public void reportModifiedSubtreeCount(final int count) {
+        modifiedSubtrees.update(count);
+    }
+
+    /**
+     * Report the time taken to hash all modified subtrees belonging to a service, in a single state.
+     *
+     * @param serviceName the name of the service that owns the subtrees
+     * @param nanos       the total time spent hashing the modified subtrees of the service, in nanoseconds
+     */
+    public void reportServiceHashingTime(@NonNull final String serviceName, final long nanos) {
+        serviceHashingTimes
+                .computeIfAbsent(serviceName, name -> metrics.getOrCreate(new RunningAverageMetric.Config(
+                                "platform", "sigStateHash_" + name)
+                        .withDescription("average time it takes to hash the modified state of the " + name
+                                + " service (in milliseconds)")
+                        .withUnit("ms")))
+                .update(nanos / 1_000_000.0);
+    }
 }
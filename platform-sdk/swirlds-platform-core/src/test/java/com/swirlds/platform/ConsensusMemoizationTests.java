@@ -0,0 +1,275 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform;
+
+import static com.swirlds.common.test.fixtures.RandomUtils.getRandomPrintSeed;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.platform.NodeId;
+import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
+import com.swirlds.common.utility.Threshold;
+import com.swirlds.config.api.Configuration;
+import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
+import com.swirlds.platform.consensus.ConsensusConfig_;
+import com.swirlds.platform.consensus.ConsensusConstants;
+import com.swirlds.platform.event.PlatformEvent;
+import com.swirlds.platform.event.linking.ConsensusLinker;
+import com.swirlds.platform.event.linking.InOrderLinker;
+import com.swirlds.platform.internal.ConsensusRound;
+import com.swirlds.platform.internal.EventImpl;
+import com.swirlds.platform.metrics.NoOpConsensusMetrics;
+import com.swirlds.platform.system.address.AddressBook;
+import com.swirlds.platform.test.fixtures.event.generator.StandardGraphGenerator;
+import com.swirlds.platform.test.fixtures.event.source.StandardEventSource;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Compares the lastSee and stronglySeeP answers memoized by {@link ConsensusImpl}, which are kept in a shared store
+ * and in arrays shared between events, with answers computed from scratch for every event by the recursive definitions
+ * from Swirlds-TR-2020-01.
+ */
+class ConsensusMemoizationTests {
+
+    @ParameterizedTest
+    @ValueSource(ints = {4, 7})
+    @DisplayName("Memoized answers match the recursive definitions")
+    void memoizedAnswersMatchDefinitions(final int numNodes) {
+        final Random random = getRandomPrintSeed();
+
+        // few non-ancient rounds, so that many events expire and have their slots released during the test
+        final Configuration configuration = new TestConfigBuilder()
+                .withValue(ConsensusConfig_.ROUNDS_NON_ANCIENT, 3)
+                .withValue(ConsensusConfig_.ROUNDS_EXPIRED, 3)
+                .getOrCreateConfig();
+        final PlatformContext platformContext = TestPlatformContextBuilder.create()
+                .withConfiguration(configuration)
+                .build();
+
+        final List<StandardEventSource> sources = new ArrayList<>();
+        for (int i = 0; i < numNodes; i++) {
+            sources.add(new StandardEventSource());
+        }
+        final StandardGraphGenerator generator = new StandardGraphGenerator(
+                platformContext, random.nextLong(), sources.toArray(new StandardEventSource[0]));
+        final AddressBook addressBook = generator.getAddressBook();
+
+        final ConsensusImpl consensus = new ConsensusImpl(platformContext, new NoOpConsensusMetrics(), addressBook);
+        final InOrderLinker linker = new ConsensusLinker(platformContext, new NodeId(0));
+
+        final List<EventImpl> relevantEvents = new ArrayList<>();
+        long roundsDecided = 0;
+        int eventsExpired = 0;
+        for (int i = 0; i < 2_000; i++) {
+            final PlatformEvent event = generator.generateEvent().getBaseEvent();
+            final EventImpl linkedEvent = linker.linkEvent(event);
+            if (linkedEvent == null) {
+                continue;
+            }
+            relevantEvents.add(linkedEvent);
+
+            final List<ConsensusRound> rounds = consensus.addEvent(linkedEvent);
+            if (!rounds.isEmpty()) {
+                roundsDecided += rounds.size();
+                linker.setEventWindow(rounds.getLast().getEventWindow());
+            }
+
+            // events that have reached consensus or became ancient are never relevant again
+            for (final Iterator<EventImpl> iterator = relevantEvents.iterator(); iterator.hasNext(); ) {
+                if (iterator.next().getRoundCreated() == ConsensusConstants.ROUND_NEGATIVE_INFINITY) {
+                    iterator.remove();
+                    eventsExpired++;
+                }
+            }
+
+            final ReferenceMetadata reference = new ReferenceMetadata(consensus, addressBook);
+            for (final EventImpl x : relevantEvents) {
+                if (x.isJudge()) {
+                    // the judges of the last decided round keep the answers computed before the round was decided
+                    continue;
+                }
+                for (int m = 0; m < numNodes; m++) {
+                    assertSame(reference.lastSee(x, m), consensus.lastSee(x, m), "lastSee differs for member " + m);
+                    assertSame(
+                            reference.stronglySeeP(x, m),
+                            consensus.stronglySeeP(x, m),
+                            "stronglySeeP differs for member " + m);
+                }
+            }
+        }
+
+        assertTrue(roundsDecided > 3, "rounds should have been decided, and become ancient");
+        assertTrue(eventsExpired > 0, "events should have stopped being relevant for consensus");
+    }
+
+    /**
+     * Computes lastSee and stronglySeeP for the current state of consensus, the way they were computed before the
+     * answers were shared between events. Answers are only memoized for a single state of consensus.
+     */
+    private static class ReferenceMetadata {
+        private final ConsensusImpl consensus;
+        private final AddressBook addressBook;
+        private final int numMembers;
+        private final Map<EventImpl, EventImpl[]> lastSee = new IdentityHashMap<>();
+        private final Map<EventImpl, EventImpl[]> stronglySeeP = new IdentityHashMap<>();
+
+        ReferenceMetadata(@NonNull final ConsensusImpl consensus, @NonNull final AddressBook addressBook) {
+            this.consensus = consensus;
+            this.addressBook = addressBook;
+            this.numMembers = addressBook.getSize();
+        }
+
+        private static boolean notRelevant(@NonNull final EventImpl x) {
+            return x.getRoundCreated() == ConsensusConstants.ROUND_NEGATIVE_INFINITY;
+        }
+
+        private boolean ancient(@Nullable final EventImpl x) {
+            return x == null || x.getGeneration() < consensus.getMinGenerationNonAncient();
+        }
+
+        private @Nullable EventImpl selfParent(@NonNull final EventImpl x) {
+            return ancient(x.getSelfParent()) ? null : x.getSelfParent();
+        }
+
+        private @Nullable EventImpl otherParent(@NonNull final EventImpl x) {
+            return ancient(x.getOtherParent()) ? null : x.getOtherParent();
+        }
+
+        private static long round(@Nullable final EventImpl x) {
+            return x == null ? ConsensusConstants.ROUND_NEGATIVE_INFINITY : x.getRoundCreated();
+        }
+
+        private long parentRound(@Nullable final EventImpl x) {
+            if (x == null) {
+                return ConsensusConstants.ROUND_NEGATIVE_INFINITY;
+            }
+            return Math.max(round(selfParent(x)), round(otherParent(x)));
+        }
+
+        private boolean creatorIndexEquals(@NonNull final EventImpl x, final int index) {
+            return addressBook.contains(x.getCreatorId()) && addressBook.getIndexOfNodeId(x.getCreatorId()) == index;
+        }
+
+        private long weight(final int index) {
+            return addressBook.getAddress(addressBook.getNodeId(index)).getWeight();
+        }
+
+        private @Nullable EventImpl firstSelfWitnessS(@Nullable final EventImpl x) {
+            if (x == null || notRelevant(x)) {
+                return null;
+            }
+            return round(x) > round(selfParent(x)) ? x : firstSelfWitnessS(selfParent(x));
+        }
+
+        private @Nullable EventImpl firstSee(@Nullable final EventImpl x, final int m) {
+            return firstSelfWitnessS(lastSee(x, m));
+        }
+
+        private @Nullable EventImpl seeThru(@NonNull final EventImpl x, final int m, final int m2) {
+            if (m == m2 && creatorIndexEquals(x, m2)) {
+                return firstSelfWitnessS(selfParent(x));
+            }
+            return firstSee(lastSee(x, m2), m);
+        }
+
+        @Nullable
+        EventImpl lastSee(@Nullable final EventImpl x, final int m) {
+            if (x == null || notRelevant(x)) {
+                return null;
+            }
+            if (x.isJudge()) {
+                return consensus.lastSee(x, m);
+            }
+            final EventImpl[] memo = lastSee.get(x);
+            if (memo != null) {
+                return memo[m];
+            }
+            final EventImpl sp = selfParent(x);
+            final EventImpl op = otherParent(x);
+            final EventImpl[] answers = new EventImpl[numMembers];
+            for (int mm = 0; mm < numMembers; mm++) {
+                if (creatorIndexEquals(x, mm)) {
+                    answers[mm] = x;
+                } else if (sp != null || op != null) {
+                    final EventImpl lsop = lastSee(op, mm);
+                    final EventImpl lssp = lastSee(sp, mm);
+                    final long lsopGen = lsop == null ? 0 : lsop.getGeneration();
+                    final long lsspGen = lssp == null ? 0 : lssp.getGeneration();
+                    if ((round(lsop) > round(lssp))
+                            || ((lsopGen > lsspGen) && (firstSee(op, mm) == firstSee(sp, mm)))) {
+                        answers[mm] = lsop;
+                    } else {
+                        answers[mm] = lssp;
+                    }
+                }
+            }
+            lastSee.put(x, answers);
+            return answers[m];
+        }
+
+        @Nullable
+        EventImpl stronglySeeP(@Nullable final EventImpl x, final int m) {
+            if (x == null || notRelevant(x)) {
+                return null;
+            }
+            if (x.isJudge()) {
+                return consensus.stronglySeeP(x, m);
+            }
+            final EventImpl[] memo = stronglySeeP.get(x);
+            if (memo != null) {
+                return memo[m];
+            }
+            final EventImpl sp = selfParent(x);
+            final EventImpl op = otherParent(x);
+            final long prx = parentRound(x);
+            final EventImpl[] answers = new EventImpl[numMembers];
+            for (int mm = 0; mm < numMembers; mm++) {
+                if (stronglySeeP(sp, mm) != null && prx == parentRound(sp)) {
+                    answers[mm] = stronglySeeP(sp, mm);
+                } else if (stronglySeeP(op, mm) != null && prx == parentRound(op)) {
+                    answers[mm] = stronglySeeP(op, mm);
+                } else {
+                    final EventImpl st = seeThru(x, mm, mm);
+                    if (round(st) == prx) {
+                        long weight = 0;
+                        for (int m3 = 0; m3 < numMembers; m3++) {
+                            if (seeThru(x, mm, m3) == st) {
+                                weight += weight(m3);
+                            }
+                        }
+                        if (Threshold.SUPER_MAJORITY.isSatisfiedBy(weight, addressBook.getTotalWeight())) {
+                            answers[mm] = st;
+                        }
+                    }
+                }
+            }
+            stronglySeeP.put(x, answers);
+            return answers[m];
+        }
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.consensus;
+
+import static com.swirlds.common.test.fixtures.RandomUtils.getRandomPrintSeed;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.swirlds.platform.internal.EventImpl;
+import com.swirlds.platform.test.fixtures.event.TestingEventBuilder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LastSeeStoreTests {
+    private static final int NUM_MEMBERS = 3;
+
+    private Random random;
+
+    @BeforeEach
+    void setUp() {
+        random = getRandomPrintSeed();
+    }
+
+    private EventImpl newEvent() {
+        return new EventImpl(new TestingEventBuilder(random).build(), null, null);
+    }
+
+    /** Allocate a slot for the event and fill it with answers that identify the event */
+    private static void store(final LastSeeStore store, final EventImpl event, final List<EventImpl> answers) {
+        store.allocate(event);
+        for (int m = 0; m < NUM_MEMBERS; m++) {
+            store.set(event, m, answers.get(m));
+        }
+    }
+
+    private List<EventImpl> newAnswers() {
+        final List<EventImpl> answers = new ArrayList<>();
+        for (int m = 0; m < NUM_MEMBERS; m++) {
+            answers.add(m == 1 ? null : newEvent());
+        }
+        return answers;
+    }
+
+    private static void assertAnswers(final LastSeeStore store, final EventImpl event, final List<EventImpl> answers) {
+        assertTrue(store.contains(event), "the answers for the event should be stored");
+        for (int m = 0; m < NUM_MEMBERS; m++) {
+            assertSame(answers.get(m), store.get(event, m), "unexpected answer for member " + m);
+        }
+    }
+
+    @Test
+    void allocateAndGet() {
+        final LastSeeStore store = new LastSeeStore(NUM_MEMBERS, 4);
+        final EventImpl event = newEvent();
+        assertFalse(store.contains(event), "a new event should not have answers stored");
+        assertThrows(IllegalStateException.class, () -> store.get(event, 0));
+
+        store.allocate(event);
+        assertTrue(store.contains(event), "an allocated event should be stored");
+        for (int m = 0; m < NUM_MEMBERS; m++) {
+            assertNull(store.get(event, m), "answers should be null until they are set");
+        }
+
+        final List<EventImpl> answers = newAnswers();
+        for (int m = 0; m < NUM_MEMBERS; m++) {
+            store.set(event, m, answers.get(m));
+        }
+        assertAnswers(store, event, answers);
+    }
+
+    @Test
+    void releasedSlotsAreReused() {
+        final int capacity = 4;
+        final LastSeeStore store = new LastSeeStore(NUM_MEMBERS, capacity);
+
+        // allocate and release many more events than the capacity, oldest first, the way consensus does
+        final List<EventImpl> events = new ArrayList<>();
+        final List<List<EventImpl>> answers = new ArrayList<>();
+        for (int i = 0; i < 10 * capacity; i++) {
+            if (events.size() == capacity - 1) {
+                final EventImpl oldest = events.remove(0);
+                answers.remove(0);
+                oldest.clearMetadata();
+                assertFalse(store.contains(oldest), "an event should not be stored once its metadata is cleared");
+            }
+            final EventImpl event = newEvent();
+            final List<EventImpl> eventAnswers = newAnswers();
+            store(store, event, eventAnswers);
+            events.add(event);
+            answers.add(eventAnswers);
+
+            for (int j = 0; j < events.size(); j++) {
+                assertAnswers(store, events.get(j), answers.get(j));
+            }
+        }
+        assertEquals(capacity, store.capacity(), "the store should not grow if slots are released in order");
+    }
+
+    @Test
+    void pinnedHeadGrowsStore() {
+        final int capacity = 4;
+        final LastSeeStore store = new LastSeeStore(NUM_MEMBERS, capacity);
+
+        // this event is never released, so it pins the head of the ring
+        final EventImpl pinned = newEvent();
+        final List<EventImpl> pinnedAnswers = newAnswers();
+        store(store, pinned, pinnedAnswers);
+
+        final List<EventImpl> events = new ArrayList<>();
+        final List<List<EventImpl>> answers = new ArrayList<>();
+        for (int i = 0; i < 10 * capacity; i++) {
+            final EventImpl event = newEvent();
+            final List<EventImpl> eventAnswers = newAnswers();
+            store(store, event, eventAnswers);
+            events.add(event);
+            answers.add(eventAnswers);
+            // release every other event, so that some released slots are behind the pinned head
+            if (i % 2 == 0) {
+                event.clearMetadata();
+            }
+        }
+
+        assertAnswers(store, pinned, pinnedAnswers);
+        for (int i = 0; i < events.size(); i++) {
+            if (i % 2 == 0) {
+                assertFalse(store.contains(events.get(i)), "released events should not be stored");
+            } else {
+                assertAnswers(store, events.get(i), answers.get(i));
+            }
+        }
+        assertTrue(store.capacity() > capacity, "the store should grow when the head is pinned");
+        assertTrue(
+                store.capacity() <= 4 * (events.size() / 2 + 1),
+                "the store should only grow to hold the slots that are in use");
+    }
+
+    @Test
+    void reallocatedEventLeavesStaleSlot() {
+        final int capacity = 4;
+        final LastSeeStore store = new LastSeeStore(NUM_MEMBERS, capacity);
+
+        // an event that is recalculated is allocated a new slot, while its old slot is still in the ring
+        final EventImpl event = newEvent();
+        store(store, event, newAnswers());
+        event.clearMetadata();
+        final List<EventImpl> answers = newAnswers();
+        store(store, event, answers);
+
+        // fill the ring, so that the stale slot is reclaimed or compacted
+        final EventImpl pinned = newEvent();
+        store(store, pinned, newAnswers());
+        for (int i = 0; i < 2 * capacity; i++) {
+            store(store, newEvent(), newAnswers());
+        }
+        assertAnswers(store, event, answers);
+    }
+
+    @Test
+    void clearReleasesAllSlots() {
+        final LastSeeStore store = new LastSeeStore(NUM_MEMBERS, 4);
+        final EventImpl stale = newEvent();
+        store(store, stale, newAnswers());
+        store.clear();
+        assertFalse(store.contains(stale), "no event should be stored after clear");
+        assertEquals(0, store.size(), "no slots should be in use after clear");
+
+        // the slot of the stale event is given to a new event, the stale event must not see its answers
+        final EventImpl event = newEvent();
+        final List<EventImpl> answers = newAnswers();
+        store(store, event, answers);
+        assertEquals(stale.getLastSeeIndex(), event.getLastSeeIndex(), "the slot should be reused");
+        assertFalse(store.contains(stale), "a stale slot index should not be considered stored");
+        assertAnswers(store, event, answers);
+    }
+
+    @Test
+    void invalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new LastSeeStore(0));
+        assertThrows(IllegalArgumentException.class, () -> new LastSeeStore(NUM_MEMBERS, 0));
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.event.hashing;
+
+import static com.swirlds.common.test.fixtures.RandomUtils.getRandomPrintSeed;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
+import com.swirlds.platform.event.PlatformEvent;
+import com.swirlds.platform.system.transaction.TransactionWrapper;
+import com.swirlds.platform.test.fixtures.event.TestingEventBuilder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Test;
+
+class DefaultEventHasherTests {
+
+    @Test
+    void pooledHasherMatchesNewHasher() {
+        final Random random = getRandomPrintSeed();
+        final EventHasher hasher = new DefaultEventHasher(TestPlatformContextBuilder.create().build());
+
+        final List<PlatformEvent> events = new ArrayList<>();
+        final List<Hash> expectedHashes = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            final PlatformEvent event = new TestingEventBuilder(random)
+                    .setAppTransactionCount(random.nextInt(10))
+                    .build();
+            events.add(event.copyGossipedData());
+            expectedHashes.add(new PbjStreamHasher().hashEvent(event).getHash());
+        }
+
+        // hash from several threads at once, each of which reuses its own hasher for many events
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<CompletableFuture<PlatformEvent>> futures = new ArrayList<>();
+            for (final PlatformEvent event : events) {
+                futures.add(CompletableFuture.supplyAsync(() -> hasher.hashEvent(event), executor));
+            }
+            for (int i = 0; i < events.size(); i++) {
+                assertEquals(expectedHashes.get(i), futures.get(i).join().getHash());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void threadLocalInstanceIsPerThread() throws Exception {
+        final PbjStreamHasher hasher = PbjStreamHasher.getThreadLocalInstance();
+        assertSame(hasher, PbjStreamHasher.getThreadLocalInstance());
+        assertNotSame(hasher, CompletableFuture.supplyAsync(PbjStreamHasher::getThreadLocalInstance).get());
+    }
+
+    @Test
+    void alreadyHashedEventIsNotRehashed() {
+        final PlatformEvent event = new TestingEventBuilder(getRandomPrintSeed()).build();
+        new PbjStreamHasher().hashEvent(event);
+        final Hash hash = event.getHash();
+
+        new DefaultEventHasher().hashEvent(event);
+        assertSame(hash, event.getHash());
+    }
+
+    @Test
+    void failedHashDoesNotAffectNextHash() {
+        final Random random = getRandomPrintSeed();
+        final PlatformEvent event = new TestingEventBuilder(random).setAppTransactionCount(3).build();
+        final Hash expectedHash = new PbjStreamHasher().hashEvent(event.copyGossipedData()).getHash();
+
+        // the event core and some transactions are written to the digests before the hasher fails
+        final TransactionWrapper badTransaction = mock(TransactionWrapper.class);
+        when(badTransaction.getTransaction()).thenThrow(new IllegalStateException("intentional failure"));
+        final List<TransactionWrapper> transactions = new ArrayList<>(event.getTransactions());
+        transactions.add(badTransaction);
+        final PlatformEvent badEvent = mock(PlatformEvent.class);
+        when(badEvent.getEventCore()).thenReturn(event.getEventCore());
+        when(badEvent.getTransactions()).thenReturn(transactions);
+
+        final PbjStreamHasher hasher = new PbjStreamHasher();
+        assertThrows(IllegalStateException.class, () -> hasher.hashEvent(badEvent));
+        assertEquals(expectedHash, hasher.hashEvent(event).getHash());
+    }
+}
@@ -16,7 +16,10 @@
 
 package com.swirlds.platform.pool;
 
+import static com.hedera.hapi.platform.event.EventTransaction.TransactionOneOfType.STATE_SIGNATURE_TRANSACTION;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -27,14 +30,29 @@ import static org.mockito.Mockito.when;
 
 import com.hedera.hapi.platform.event.EventTransaction;
 import com.hedera.hapi.platform.event.StateSignatureTransaction;
+import com.hedera.pbj.runtime.OneOf;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
+import com.swirlds.platform.system.status.PlatformStatus;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
 
 class TransactionPoolTests {
 
+    /**
+     * How long the concurrent tests wait for their threads before failing.
+     */
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
     @Test
     void addTransactionTest() {
         final List<EventTransaction> transactionList = new ArrayList<>();
@@ -76,4 +94,141 @@ class TransactionPoolTests {
 
         assertTrue(clearCalled.get());
     }
+
+    @Test
+    @Timeout(value = 1, unit = TimeUnit.MINUTES)
+    void concurrentSubmitTest() throws InterruptedException {
+        final int producerCount = 4;
+        final int transactionsPerProducer = 10_000;
+        final int transactionCount = producerCount * transactionsPerProducer;
+
+        final TransactionPoolNexus transactionPoolNexus =
+                new TransactionPoolNexus(TestPlatformContextBuilder.create().build());
+        transactionPoolNexus.updatePlatformStatus(PlatformStatus.ACTIVE);
+
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Throwable> errors = new CopyOnWriteArrayList<>();
+        final List<Thread> producers = new ArrayList<>();
+        for (int producer = 0; producer < producerCount; producer++) {
+            final int producerId = producer;
+            final Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < transactionsPerProducer; i++) {
+                        final byte[] bytes = ByteBuffer.allocate(8)
+                                .putInt(producerId)
+                                .putInt(i)
+                                .array();
+                        assertTrue(
+                                transactionPoolNexus.submitApplicationTransaction(Bytes.wrap(bytes)),
+                                "transaction " + i + " of producer " + producerId + " was rejected");
+                    }
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    errors.add(e);
+                } catch (final Throwable t) {
+                    errors.add(t);
+                }
+            });
+            producers.add(thread);
+            thread.start();
+        }
+
+        start.countDown();
+
+        // drain from a single consumer while the producers are running, transactions from each producer
+        // must come out in the order they were submitted
+        final int[] nextExpected = new int[producerCount];
+        final long deadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        int received = 0;
+        while (received < transactionCount && errors.isEmpty()) {
+            assertTrue(
+                    System.nanoTime() < deadline,
+                    "only " + received + " of " + transactionCount + " transactions were drained in time");
+            for (final EventTransaction transaction : transactionPoolNexus.getTransactions()) {
+                final ByteBuffer buffer = ByteBuffer.wrap(
+                        ((Bytes) transaction.transaction().as()).toByteArray());
+                final int producerId = buffer.getInt();
+                assertEquals(nextExpected[producerId], buffer.getInt());
+                nextExpected[producerId]++;
+                received++;
+            }
+        }
+
+        joinAll(producers);
+        assertTrue(errors.isEmpty(), "the producers should not fail: " + errors);
+        assertEquals(transactionCount, received);
+        assertEquals(0, transactionPoolNexus.getTransactionCount());
+        assertTrue(transactionPoolNexus.getTransactions().isEmpty());
+        assertFalse(transactionPoolNexus.hasBufferedSignatureTransactions());
+    }
+
+    @Test
+    @Timeout(value = 1, unit = TimeUnit.MINUTES)
+    void concurrentDrainAndClearTest() throws InterruptedException {
+        final int transactionCount = 50_000;
+
+        final TransactionPoolNexus transactionPoolNexus =
+                new TransactionPoolNexus(TestPlatformContextBuilder.create().build());
+        transactionPoolNexus.updatePlatformStatus(PlatformStatus.ACTIVE);
+
+        final List<Throwable> errors = new CopyOnWriteArrayList<>();
+        final AtomicBoolean producing = new AtomicBoolean(true);
+        final Thread producer = new Thread(() -> {
+            try {
+                for (int i = 0; i < transactionCount; i++) {
+                    transactionPoolNexus.submitApplicationTransaction(Bytes.wrap(new byte[1 + i % 100]));
+                    if (i % 10 == 0) {
+                        final StateSignatureTransaction signature = StateSignatureTransaction.newBuilder()
+                                .round(i)
+                                .signature(Bytes.EMPTY)
+                                .build();
+                        transactionPoolNexus.submitTransaction(
+                                new EventTransaction(new OneOf<>(STATE_SIGNATURE_TRANSACTION, signature)), true);
+                    }
+                }
+            } catch (final Throwable t) {
+                errors.add(t);
+            } finally {
+                producing.set(false);
+            }
+        });
+
+        // the event creator takes transactions while another thread clears the pool
+        final Thread consumer = new Thread(() -> {
+            try {
+                while (producing.get()) {
+                    for (final EventTransaction transaction : transactionPoolNexus.getTransactions()) {
+                        assertNotNull(transaction, "a taken transaction must never be null");
+                    }
+                }
+            } catch (final Throwable t) {
+                errors.add(t);
+            }
+        });
+
+        producer.start();
+        consumer.start();
+        final long deadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        while (producing.get()) {
+            assertTrue(System.nanoTime() < deadline, "the producer did not finish in time");
+            transactionPoolNexus.clear();
+        }
+        joinAll(List.of(producer, consumer));
+
+        assertTrue(errors.isEmpty(), "the producer and consumer should not fail: " + errors);
+        transactionPoolNexus.clear();
+        assertEquals(0, transactionPoolNexus.getTransactionCount());
+        assertFalse(transactionPoolNexus.hasBufferedSignatureTransactions());
+    }
+
+    /**
+     * Waits for the given threads to finish, failing if any of them is still running after {@link #DRAIN_TIMEOUT}.
+     */
+    private static void joinAll(@NonNull final List<Thread> threads) throws InterruptedException {
+        for (final Thread thread : threads) {
+            thread.join(DRAIN_TIMEOUT);
+            assertFalse(thread.isAlive(), thread.getName() + " did not finish in time");
+        }
+    }
 }
@@ -16,18 +16,44 @@
 
 package com.swirlds.platform.state.signed;
 
+import static com.swirlds.common.test.fixtures.RandomUtils.randomHash;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.merkle.MerkleNode;
+import com.swirlds.common.metrics.RunningAverageMetric;
+import com.swirlds.common.test.fixtures.merkle.dummy.SelfHashingDummyMerkleLeaf;
 import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
+import com.swirlds.common.utility.Labeled;
+import com.swirlds.metrics.api.MetricConfig;
+import com.swirlds.metrics.api.Metrics;
 import com.swirlds.platform.internal.ConsensusRound;
+import com.swirlds.platform.state.MerkleRoot;
 import com.swirlds.platform.state.hasher.DefaultStateHasher;
 import com.swirlds.platform.state.hasher.StateHasher;
 import com.swirlds.platform.wiring.components.StateAndRound;
+import com.swirlds.state.merkle.singleton.StringLeaf;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 
 /**
  * Unit tests for {@link DefaultStateHasher}
@@ -53,4 +79,165 @@ public class DefaultStateHasherTests {
         final StateAndRound result = hasher.hashState(stateAndRound);
         assertNotEquals(null, result, "The hasher should return a new StateAndRound");
     }
+
+    @Test
+    @DisplayName("Unmodified subtrees are skipped")
+    void unmodifiedSubtreesAreSkipped() {
+        final Map<String, RunningAverageMetric> metrics = new HashMap<>();
+        final StateHasher hasher = new DefaultStateHasher(buildPlatformContext(metrics));
+
+        final StringLeaf modifiedLeaf = new StringLeaf("ServiceA.modified");
+        final StringLeaf unmodifiedLeaf = new StringLeaf("ServiceA.unmodified");
+        final Hash unmodifiedHash = randomHash();
+        unmodifiedLeaf.setHash(unmodifiedHash);
+        final LabeledSelfHashingLeaf selfHashingLeaf = new LabeledSelfHashingLeaf("ServiceB.map", randomHash());
+        final StateAndRound stateAndRound = buildStateAndRound(modifiedLeaf, unmodifiedLeaf, selfHashingLeaf);
+
+        // the first time, the self hashing child has no previous hash, so it counts as modified
+        assertNotNull(hasher.hashState(stateAndRound), "The hasher should return a new StateAndRound");
+        assertNotNull(modifiedLeaf.getHash(), "The modified subtree should have been hashed");
+        assertSame(unmodifiedHash, unmodifiedLeaf.getHash(), "The unmodified subtree should not have been hashed");
+
+        // nothing has changed since the previous state was hashed
+        hasher.hashState(stateAndRound);
+
+        // only the self hashing child has changed
+        selfHashingLeaf.setCurrentHash(randomHash());
+        hasher.hashState(stateAndRound);
+
+        final RunningAverageMetric modifiedSubtrees = metrics.get("sigStateHashModifiedSubtrees");
+        final InOrder inOrder = inOrder(modifiedSubtrees);
+        inOrder.verify(modifiedSubtrees).update(2.0);
+        inOrder.verify(modifiedSubtrees).update(0.0);
+        inOrder.verify(modifiedSubtrees).update(1.0);
+    }
+
+    @Test
+    @DisplayName("Hashing time is reported once per service")
+    void hashingTimeIsReportedPerService() {
+        final Map<String, RunningAverageMetric> metrics = new HashMap<>();
+        final StateHasher hasher = new DefaultStateHasher(buildPlatformContext(metrics));
+
+        final LabeledSelfHashingLeaf selfHashingLeaf = new LabeledSelfHashingLeaf("ServiceC.map", randomHash());
+        final StateAndRound stateAndRound = buildStateAndRound(
+                new StringLeaf("ServiceA.one"),
+                new StringLeaf("ServiceA.two"),
+                new StringLeaf("ServiceB.one"),
+                selfHashingLeaf);
+
+        hasher.hashState(stateAndRound);
+
+        // service A has two modified subtrees, but its time is reported once for the state
+        verify(metrics.get("sigStateHash_ServiceA"), times(1)).update(anyDouble());
+        verify(metrics.get("sigStateHash_ServiceB"), times(1)).update(anyDouble());
+        verify(metrics.get("sigStateHash_ServiceC"), times(1)).update(anyDouble());
+
+        // nothing was modified, so no time is reported for any service
+        hasher.hashState(stateAndRound);
+        verify(metrics.get("sigStateHash_ServiceA"), times(1)).update(anyDouble());
+        verify(metrics.get("sigStateHash_ServiceB"), times(1)).update(anyDouble());
+        verify(metrics.get("sigStateHash_ServiceC"), times(1)).update(anyDouble());
+
+        // a self hashing child whose hash changed is reported
+        selfHashingLeaf.setCurrentHash(randomHash());
+        hasher.hashState(stateAndRound);
+        verify(metrics.get("sigStateHash_ServiceA"), times(1)).update(anyDouble());
+        verify(metrics.get("sigStateHash_ServiceC"), times(2)).update(anyDouble());
+    }
+
+    @Test
+    @DisplayName("Each service reports only the time spent hashing it")
+    void hashingTimeIsMeasuredPerSubtree() {
+        final Map<String, RunningAverageMetric> metrics = new HashMap<>();
+        final StateHasher hasher = new DefaultStateHasher(buildPlatformContext(metrics));
+
+        // the slow service comes first, so the fast one is waited on only once the slow one is done
+        final LabeledSelfHashingLeaf slowLeaf = new LabeledSelfHashingLeaf("ServiceA.map", randomHash());
+        slowLeaf.setDelay(Duration.ofMillis(200));
+        final StateAndRound stateAndRound = buildStateAndRound(slowLeaf, new StringLeaf("ServiceB.one"));
+
+        hasher.hashState(stateAndRound);
+
+        final ArgumentCaptor<Double> slowTime = ArgumentCaptor.forClass(Double.class);
+        verify(metrics.get("sigStateHash_ServiceA")).update(slowTime.capture());
+        final ArgumentCaptor<Double> fastTime = ArgumentCaptor.forClass(Double.class);
+        verify(metrics.get("sigStateHash_ServiceB")).update(fastTime.capture());
+        assertTrue(slowTime.getValue() >= 200, "the slow service should report the time it took to hash");
+        assertTrue(
+                fastTime.getValue() < slowTime.getValue(),
+                "the fast service should not report the time spent waiting for the slow one");
+    }
+
+    /**
+     * Build a platform context whose metrics are mocks, kept in the given map by name.
+     */
+    @NonNull
+    private static PlatformContext buildPlatformContext(@NonNull final Map<String, RunningAverageMetric> metricsMap) {
+        final Metrics metrics = mock(Metrics.class);
+        when(metrics.getOrCreate(any())).thenAnswer(invocation -> {
+            final MetricConfig<?, ?> config = invocation.getArgument(0);
+            return metricsMap.computeIfAbsent(config.getName(), name -> mock(RunningAverageMetric.class));
+        });
+        return TestPlatformContextBuilder.create().withMetrics(metrics).build();
+    }
+
+    /**
+     * Build a state whose root has the given children. The root itself is already hashed.
+     */
+    @NonNull
+    private static StateAndRound buildStateAndRound(@NonNull final MerkleNode... children) {
+        final List<MerkleNode> childList = List.of(children);
+        final MerkleRoot root = mock(MerkleRoot.class);
+        when(root.isLeaf()).thenReturn(false);
+        when(root.asInternal()).thenReturn(root);
+        when(root.getNumberOfChildren()).thenReturn(childList.size());
+        when(root.getChild(anyInt())).thenAnswer(invocation -> childList.get(invocation.<Integer>getArgument(0)));
+        when(root.getHash()).thenReturn(randomHash());
+
+        final SignedState signedState = mock(SignedState.class);
+        when(signedState.getState()).thenReturn(root);
+        final ReservedSignedState reservedSignedState = mock(ReservedSignedState.class);
+        when(reservedSignedState.get()).thenReturn(signedState);
+
+        return new StateAndRound(reservedSignedState, mock(ConsensusRound.class));
+    }
+
+    /**
+     * A self hashing leaf with a label and a hash that can be changed, like a virtual map of a service.
+     */
+    private static class LabeledSelfHashingLeaf extends SelfHashingDummyMerkleLeaf implements Labeled {
+        private final String label;
+        private volatile Hash currentHash;
+        private volatile Duration delay = Duration.ZERO;
+
+        LabeledSelfHashingLeaf(@NonNull final String label, @NonNull final Hash hash) {
+            this.label = label;
+            this.currentHash = hash;
+        }
+
+        void setCurrentHash(@NonNull final Hash hash) {
+            this.currentHash = hash;
+        }
+
+        void setDelay(@NonNull final Duration delay) {
+            this.delay = delay;
+        }
+
+        @Override
+        public Hash getHash() {
+            if (!delay.isZero()) {
+                try {
+                    Thread.sleep(delay);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return currentHash;
+        }
+
+        @Override
+        public String getLabel() {
+            return label;
+        }
+    }
 }
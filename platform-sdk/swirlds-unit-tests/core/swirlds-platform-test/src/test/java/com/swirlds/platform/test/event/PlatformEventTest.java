@@ -16,13 +16,17 @@
 
 package com.swirlds.platform.test.event;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.swirlds.common.constructable.ConstructableRegistry;
 import com.swirlds.common.constructable.ConstructableRegistryException;
+import com.swirlds.common.io.streams.SerializableDataInputStream;
+import com.swirlds.common.io.streams.SerializableDataOutputStream;
 import com.swirlds.common.test.fixtures.RandomUtils;
 import com.swirlds.common.test.fixtures.Randotron;
 import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
@@ -32,6 +36,8 @@ import com.swirlds.platform.system.BasicSoftwareVersion;
 import com.swirlds.platform.system.StaticSoftwareVersion;
 import com.swirlds.platform.test.fixtures.event.TestingEventBuilder;
 import com.swirlds.platform.test.utils.EqualsVerifier;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.Random;
@@ -106,6 +112,34 @@ class PlatformEventTest {
         assertEquals(platformEvent, copy, "deserialized version should be the same");
     }
 
+    @Test
+    @DisplayName("Cached serialized bytes match stream serialization")
+    void serializedBytesMatchStreamSerialization() throws IOException, ConstructableRegistryException {
+        final Random random = RandomUtils.getRandomPrintSeed();
+
+        final PlatformEvent platformEvent = new TestingEventBuilder(random)
+                .setAppTransactionCount(2)
+                .setSystemTransactionCount(2)
+                .build();
+        ConstructableRegistry.getInstance().registerConstructables("com.swirlds");
+
+        final ByteArrayOutputStream io = new ByteArrayOutputStream();
+        final SerializableDataOutputStream out = new SerializableDataOutputStream(io);
+        EventSerializationUtils.serializePlatformEvent(out, platformEvent, true);
+        out.flush();
+
+        final byte[] serializedBytes = platformEvent.getSerializedBytes().toByteArray();
+        assertArrayEquals(io.toByteArray(), serializedBytes, "cached bytes should match stream serialization");
+        assertSame(
+                platformEvent.getSerializedBytes(),
+                platformEvent.getSerializedBytes(),
+                "the serialized bytes should only be computed once");
+
+        final PlatformEvent copy = EventSerializationUtils.deserializePlatformEvent(
+                new SerializableDataInputStream(new ByteArrayInputStream(serializedBytes)), true);
+        assertEquals(platformEvent, copy, "deserialized version should be the same");
+    }
+
     @Test
     void validateEqualsHashCode() {
         assertTrue(EqualsVerifier.verify(random -> new TestingEventBuilder(random).build()));
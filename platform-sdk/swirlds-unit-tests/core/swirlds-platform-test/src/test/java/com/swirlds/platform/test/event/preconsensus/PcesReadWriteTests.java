@@ -44,6 +44,7 @@ import com.swirlds.platform.test.fixtures.event.generator.StandardGraphGenerator
 import com.swirlds.platform.test.fixtures.event.source.StandardEventSource;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Instant;
@@ -153,6 +154,103 @@ class PcesReadWriteTests {
         }
     }
 
+    @ParameterizedTest
+    @MethodSource("buildArguments")
+    @DisplayName("Write Then Read With Small Buffer And Sync Test")
+    void writeThenReadWithSmallBufferAndSyncTest(@NonNull final AncientMode ancientMode) throws IOException {
+        final Random random = RandomUtils.getRandomPrintSeed();
+
+        final int numEvents = 100;
+
+        final StandardGraphGenerator generator = new StandardGraphGenerator(
+                ancientMode == GENERATION_THRESHOLD ? DEFAULT_PLATFORM_CONTEXT : BIRTH_ROUND_PLATFORM_CONTEXT,
+                random.nextLong(),
+                new StandardEventSource(),
+                new StandardEventSource(),
+                new StandardEventSource(),
+                new StandardEventSource());
+
+        final List<PlatformEvent> events = new ArrayList<>();
+        long upperBound = Long.MIN_VALUE;
+        for (int i = 0; i < numEvents; i++) {
+            final PlatformEvent event = generator.generateEvent().getBaseEvent();
+            events.add(event);
+            upperBound = Math.max(upperBound, event.getAncientIndicator(ancientMode));
+        }
+
+        final PcesFile file = PcesFile.of(
+                ancientMode, RandomUtils.randomInstant(random), random.nextInt(0, 100), 0, upperBound, 0, testDirectory);
+
+        // A buffer much smaller than an event forces every event to be split across several writes to the file
+        final PcesMutableFile mutableFile = file.getMutableFile(true, 64);
+        for (int i = 0; i < events.size(); i++) {
+            mutableFile.writeEvent(events.get(i));
+            if (i % 10 == 0) {
+                mutableFile.flush();
+                assertEquals(mutableFile.fileSize(), Files.size(file.getPath()));
+            }
+        }
+
+        mutableFile.close();
+        assertEquals(mutableFile.fileSize(), Files.size(file.getPath()));
+
+        final IOIterator<PlatformEvent> iterator = file.iterator(Long.MIN_VALUE);
+        final List<PlatformEvent> deserializedEvents = new ArrayList<>();
+        iterator.forEachRemaining(deserializedEvents::add);
+        assertEquals(events, deserializedEvents);
+    }
+
+    @ParameterizedTest
+    @MethodSource("buildArguments")
+    @DisplayName("Write Files With Shared Buffer Test")
+    void writeFilesWithSharedBufferTest(@NonNull final AncientMode ancientMode) throws IOException {
+        final Random random = RandomUtils.getRandomPrintSeed();
+
+        final int numEvents = 100;
+
+        final StandardGraphGenerator generator = new StandardGraphGenerator(
+                ancientMode == GENERATION_THRESHOLD ? DEFAULT_PLATFORM_CONTEXT : BIRTH_ROUND_PLATFORM_CONTEXT,
+                random.nextLong(),
+                new StandardEventSource(),
+                new StandardEventSource(),
+                new StandardEventSource(),
+                new StandardEventSource());
+
+        final List<PlatformEvent> events = new ArrayList<>();
+        long upperBound = Long.MIN_VALUE;
+        for (int i = 0; i < numEvents; i++) {
+            final PlatformEvent event = generator.generateEvent().getBaseEvent();
+            events.add(event);
+            upperBound = Math.max(upperBound, event.getAncientIndicator(ancientMode));
+        }
+
+        // Each file is written with the same buffer, one after the other, the way the PCES writer does
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(256);
+        final Instant timestamp = RandomUtils.randomInstant(random);
+        final List<PcesFile> files = new ArrayList<>();
+        for (int fileIndex = 0; fileIndex < 3; fileIndex++) {
+            final PcesFile file = PcesFile.of(ancientMode, timestamp, fileIndex, 0, upperBound, 0, testDirectory);
+            files.add(file);
+
+            final PcesMutableFile mutableFile = file.getMutableFile(false, buffer);
+            for (final PlatformEvent event : events) {
+                mutableFile.writeEvent(event);
+            }
+            mutableFile.close();
+            assertEquals(mutableFile.fileSize(), Files.size(file.getPath()));
+
+            // leave bytes in the buffer that belong to no file, the next file must not write them
+            buffer.put(new byte[] {1, 2, 3});
+        }
+
+        for (final PcesFile file : files) {
+            final IOIterator<PlatformEvent> iterator = file.iterator(Long.MIN_VALUE);
+            final List<PlatformEvent> deserializedEvents = new ArrayList<>();
+            iterator.forEachRemaining(deserializedEvents::add);
+            assertEquals(events, deserializedEvents);
+        }
+    }
+
     @ParameterizedTest
     @MethodSource("buildArguments")
     @DisplayName("Read Files After Minimum Test")
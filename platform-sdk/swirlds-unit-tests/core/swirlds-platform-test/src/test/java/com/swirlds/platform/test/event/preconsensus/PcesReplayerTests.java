@@ -18,6 +18,9 @@ package com.swirlds.platform.test.event.preconsensus;
 
 import static com.swirlds.common.test.fixtures.AssertionUtils.assertEventuallyEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
@@ -26,17 +29,21 @@ import static org.mockito.Mockito.when;
 
 import com.swirlds.base.test.fixtures.time.FakeTime;
 import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.crypto.Hash;
 import com.swirlds.common.io.IOIterator;
 import com.swirlds.common.test.fixtures.Randotron;
 import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
 import com.swirlds.common.wiring.wires.output.StandardOutputWire;
 import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
 import com.swirlds.platform.event.PlatformEvent;
+import com.swirlds.platform.event.hashing.PbjStreamHasher;
 import com.swirlds.platform.event.preconsensus.PcesConfig_;
 import com.swirlds.platform.event.preconsensus.PcesReplayer;
 import com.swirlds.platform.state.signed.ReservedSignedState;
 import com.swirlds.platform.state.signed.SignedState;
 import com.swirlds.platform.test.fixtures.event.TestingEventBuilder;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -185,4 +192,105 @@ class PcesReplayerTests {
         assertTrue(flushIntakeCalled.get());
         assertTrue(flushTransactionHandlingCalled.get());
     }
+
+    @Test
+    @DisplayName("Events are hashed and replayed in order")
+    void testEventsHashedInOrder() throws IOException {
+        final TestConfigBuilder configBuilder = new TestConfigBuilder()
+                .withValue(PcesConfig_.LIMIT_REPLAY_FREQUENCY, false)
+                .withValue(PcesConfig_.REPLAY_QUEUE_SIZE, 4)
+                .withValue(PcesConfig_.REPLAY_HASH_POOL_SIZE, 3);
+
+        final PlatformContext platformContext = TestPlatformContextBuilder.create()
+                .withTime(time)
+                .withConfiguration(configBuilder.getOrCreateConfig())
+                .build();
+
+        final List<PlatformEvent> events = new ArrayList<>();
+        while (ioIterator.hasNext()) {
+            final PlatformEvent event = ioIterator.next();
+            event.setHash(null);
+            events.add(event);
+        }
+        final Iterator<PlatformEvent> eventIterator = events.iterator();
+
+        final List<PlatformEvent> replayedEvents = new ArrayList<>();
+        doAnswer(invocation -> {
+                    replayedEvents.add(invocation.getArgument(0));
+                    return null;
+                })
+                .when(eventOutputWire)
+                .forward(any());
+
+        final PcesReplayer replayer = new PcesReplayer(
+                platformContext,
+                eventOutputWire,
+                flushIntake,
+                flushTransactionHandling,
+                latestImmutableStateSupplier,
+                () -> true);
+
+        replayer.replayPces(new IOIterator<>() {
+            @Override
+            public boolean hasNext() {
+                return eventIterator.hasNext();
+            }
+
+            @Override
+            public PlatformEvent next() {
+                return eventIterator.next();
+            }
+        });
+
+        assertEquals(events.size(), replayedEvents.size());
+        for (int i = 0; i < events.size(); i++) {
+            final PlatformEvent replayed = replayedEvents.get(i);
+            assertSame(events.get(i), replayed);
+
+            final Hash hash = replayed.getHash();
+            assertNotNull(hash);
+            assertEquals(new PbjStreamHasher().hashEvent(replayed).getHash(), hash);
+        }
+    }
+
+    @Test
+    @DisplayName("Read errors are reported to the caller")
+    void testReadError() {
+        final TestConfigBuilder configBuilder =
+                new TestConfigBuilder().withValue(PcesConfig_.LIMIT_REPLAY_FREQUENCY, false);
+
+        final PlatformContext platformContext = TestPlatformContextBuilder.create()
+                .withTime(time)
+                .withConfiguration(configBuilder.getOrCreateConfig())
+                .build();
+
+        final PcesReplayer replayer = new PcesReplayer(
+                platformContext,
+                eventOutputWire,
+                flushIntake,
+                flushTransactionHandling,
+                latestImmutableStateSupplier,
+                () -> true);
+
+        final IOIterator<PlatformEvent> failingIterator = new IOIterator<>() {
+            private int count = 0;
+
+            @Override
+            public boolean hasNext() throws IOException {
+                if (count == eventCount / 2) {
+                    throw new IOException("intentional failure");
+                }
+                return ioIterator.hasNext();
+            }
+
+            @Override
+            public PlatformEvent next() throws IOException {
+                count++;
+                return ioIterator.next();
+            }
+        };
+
+        assertThrows(UncheckedIOException.class, () -> replayer.replayPces(failingIterator));
+        assertEquals(eventCount / 2, eventOutputCount.get());
+    }
 }
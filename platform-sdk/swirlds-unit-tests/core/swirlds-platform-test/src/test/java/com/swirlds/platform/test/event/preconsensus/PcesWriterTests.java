@@ -802,4 +802,40 @@ class PcesWriterTests {
         assertEquals(
                 8, writer.writeEvent(events.get(8)), "Flush requests for later sequences numbers should be maintained");
     }
+
+    @ParameterizedTest
+    @MethodSource("buildArguments")
+    @DisplayName("Batch write test")
+    void batchWriteTest(@NonNull final AncientMode ancientMode) throws IOException {
+        final Randotron r = Randotron.create();
+        final PlatformContext platformContext = buildContext(ancientMode);
+        final PcesFileManager fileManager =
+                new PcesFileManager(platformContext, new PcesFileTracker(ancientMode), selfId, 0);
+        final PcesWriter writer = new DefaultPcesWriter(platformContext, fileManager);
+
+        writer.beginStreamingNewEvents();
+
+        final List<PlatformEvent> events = new ArrayList<>();
+        for (long i = 0; i < 8; i++) {
+            final PlatformEvent event = new TestingEventBuilder(r).build();
+            event.setStreamSequenceNumber(i);
+            events.add(event);
+        }
+
+        assertNull(writer.writeEvents(List.of()), "An empty batch should not flush");
+        assertNull(writer.submitFlushRequest(1L), "No event has been written to flush");
+        assertNull(writer.submitFlushRequest(3L), "No event has been written to flush");
+        assertEquals(
+                4,
+                writer.writeEvents(events.subList(0, 5)),
+                "Flush requests satisfied by a batch should be honored once the whole batch is written");
+        assertNull(
+                writer.writeEvents(events.subList(5, 7)),
+                "Writing a batch with no pending flush requests should not flush");
+        assertNull(writer.submitFlushRequest(7L), "No event has been written to flush");
+        assertEquals(
+                7,
+                writer.writeEvents(events.subList(7, 8)),
+                "Pending flush request for a sequence number in the batch should cause a flush");
+    }
 }
@@ -33,9 +33,12 @@ import com.swirlds.common.context.PlatformContext;
 import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
 import com.swirlds.config.api.Configuration;
 import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
+import com.swirlds.platform.consensus.EventWindow;
+import com.swirlds.platform.event.AncientMode;
 import com.swirlds.platform.event.PlatformEvent;
 import com.swirlds.platform.event.creation.EventCreationConfig_;
 import com.swirlds.platform.event.creation.EventCreator;
+import com.swirlds.platform.event.creation.rules.AdaptiveRateRule;
 import com.swirlds.platform.event.creation.rules.AggregateEventCreationRules;
 import com.swirlds.platform.event.creation.rules.EventCreationRule;
 import com.swirlds.platform.event.creation.rules.MaximumRateRule;
@@ -47,6 +50,7 @@ import java.time.Duration;
 import java.util.List;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 import org.junit.jupiter.api.DisplayName;
@@ -268,4 +272,104 @@ class EventCreationRulesTests {
         unhealthyDuration.set(Duration.ofSeconds(5));
         assertTrue(rule.isEventCreationPermitted());
     }
+
+    @Test
+    void adaptiveRateRuleTest() {
+        final Configuration configuration = new TestConfigBuilder()
+                .withValue(EventCreationConfig_.MAX_CREATION_RATE, 100)
+                .withValue(EventCreationConfig_.MIN_CREATION_RATE, 10)
+                .withValue(EventCreationConfig_.DEEP_TRANSACTION_POOL_SIZE, 100)
+                .withValue(EventCreationConfig_.EVENT_INTAKE_THROTTLE, 100)
+                .withValue(EventCreationConfig_.TARGET_CONSENSUS_LATENCY, "3s")
+                .getOrCreateConfig();
+
+        final FakeTime time = new FakeTime();
+        final PlatformContext platformContext = TestPlatformContextBuilder.create()
+                .withConfiguration(configuration)
+                .withTime(time)
+                .build();
+
+        final AtomicLong transactionPoolDepth = new AtomicLong(0);
+        final AtomicLong intakeQueueSize = new AtomicLong(0);
+        final AtomicReference<Duration> unhealthyDuration = new AtomicReference<>(Duration.ZERO);
+        final AdaptiveRateRule rule = new AdaptiveRateRule(
+                platformContext, transactionPoolDepth::get, intakeQueueSize::get, unhealthyDuration::get);
+
+        // the first event can always be created
+        assertTrue(rule.isEventCreationPermitted());
+        rule.eventWasCreated();
+
+        // no demand, so the minimum rate of 10hz applies
+        time.tick(Duration.ofMillis(50));
+        assertFalse(rule.isEventCreationPermitted());
+        time.tick(Duration.ofMillis(50));
+        assertTrue(rule.isEventCreationPermitted());
+        rule.eventWasCreated();
+
+        // a deep transaction pool allows the maximum rate of 100hz
+        transactionPoolDepth.set(100);
+        time.tick(Duration.ofMillis(10));
+        assertTrue(rule.isEventCreationPermitted());
+        rule.eventWasCreated();
+
+        // a saturated intake queue forces the minimum rate, no matter the demand
+        intakeQueueSize.set(100);
+        time.tick(Duration.ofMillis(50));
+        assertFalse(rule.isEventCreationPermitted());
+        time.tick(Duration.ofMillis(50));
+        assertTrue(rule.isEventCreationPermitted());
+        rule.eventWasCreated();
+
+        // so does being unhealthy for too long
+        intakeQueueSize.set(0);
+        unhealthyDuration.set(Duration.ofSeconds(2));
+        time.tick(Duration.ofMillis(50));
+        assertFalse(rule.isEventCreationPermitted());
+        unhealthyDuration.set(Duration.ZERO);
+        assertTrue(rule.isEventCreationPermitted());
+    }
+
+    @Test
+    void adaptiveRateRuleLatencyTest() {
+        final Configuration configuration = new TestConfigBuilder()
+                .withValue(EventCreationConfig_.MAX_CREATION_RATE, 100)
+                .withValue(EventCreationConfig_.MIN_CREATION_RATE, 10)
+                .withValue(EventCreationConfig_.TARGET_CONSENSUS_LATENCY, "3s")
+                .getOrCreateConfig();
+
+        final FakeTime time = new FakeTime();
+        final PlatformContext platformContext = TestPlatformContextBuilder.create()
+                .withConfiguration(configuration)
+                .withTime(time)
+                .build();
+
+        final AdaptiveRateRule rule =
+                new AdaptiveRateRule(platformContext, () -> 0, () -> 0, () -> Duration.ZERO);
+
+        rule.setEventWindow(new EventWindow(4, 1, 1, AncientMode.GENERATION_THRESHOLD));
+        rule.eventWasCreated();
+
+        // latency is within the target, so the minimum rate applies
+        time.tick(Duration.ofMillis(50));
+        assertFalse(rule.isEventCreationPermitted());
+
+        // the event created while round 5 was pending has now waited twice the target latency
+        time.tick(Duration.ofMillis(5950));
+        rule.eventWasCreated();
+        time.tick(Duration.ofMillis(10));
+        assertTrue(rule.isEventCreationPermitted());
+
+        // once round 5 reaches consensus the smoothed estimate is still well above the target, so the rate stays
+        // well above the minimum
+        rule.setEventWindow(new EventWindow(5, 1, 1, AncientMode.GENERATION_THRESHOLD));
+        rule.eventWasCreated();
+        time.tick(Duration.ofMillis(20));
+        assertTrue(rule.isEventCreationPermitted());
+
+        // after a reconnect there is no estimate, so the minimum rate applies again
+        rule.clear();
+        rule.eventWasCreated();
+        time.tick(Duration.ofMillis(10));
+        assertFalse(rule.isEventCreationPermitted());
+    }
 }
@@ -0,0 +1,300 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.test.sync;
+
+import static com.swirlds.common.threading.manager.AdHocThreadManager.getStaticThreadManager;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.swirlds.base.test.fixtures.time.FakeTime;
+import com.swirlds.base.utility.Pair;
+import com.swirlds.common.constructable.ConstructableRegistry;
+import com.swirlds.common.constructable.ConstructableRegistryException;
+import com.swirlds.common.metrics.noop.NoOpMetrics;
+import com.swirlds.common.platform.NodeId;
+import com.swirlds.common.test.fixtures.RandomUtils;
+import com.swirlds.common.threading.pool.CachedPoolParallelExecutor;
+import com.swirlds.common.threading.pool.ParallelExecutor;
+import com.swirlds.platform.event.PlatformEvent;
+import com.swirlds.platform.gossip.NoOpIntakeEventCounter;
+import com.swirlds.platform.gossip.broadcast.BroadcastMetrics;
+import com.swirlds.platform.gossip.broadcast.EventBroadcaster;
+import com.swirlds.platform.gossip.shadowgraph.Shadowgraph;
+import com.swirlds.platform.network.Connection;
+import com.swirlds.platform.network.protocol.BroadcastProtocolFactory;
+import com.swirlds.platform.network.protocol.Protocol;
+import com.swirlds.platform.system.BasicSoftwareVersion;
+import com.swirlds.platform.system.StaticSoftwareVersion;
+import com.swirlds.platform.test.fixtures.event.TestingEventBuilder;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link com.swirlds.platform.gossip.broadcast.BroadcastProtocol}
+ */
+@DisplayName("Broadcast Protocol Tests")
+class BroadcastProtocolTests {
+
+    private final NodeId nodeA = new NodeId(0);
+    private final NodeId nodeB = new NodeId(1);
+
+    private ParallelExecutor executor;
+    private AtomicBoolean gossipHalted;
+    private FakeTime time;
+
+    @BeforeAll
+    static void beforeAll() throws ConstructableRegistryException {
+        StaticSoftwareVersion.setSoftwareVersion(new BasicSoftwareVersion(1));
+        ConstructableRegistry.getInstance().registerConstructables("com.swirlds");
+    }
+
+    @AfterAll
+    static void afterAll() {
+        StaticSoftwareVersion.reset();
+    }
+
+    @BeforeEach
+    void setup() {
+        executor = new CachedPoolParallelExecutor(getStaticThreadManager(), "broadcast-test");
+        executor.start();
+        gossipHalted = new AtomicBoolean(false);
+        time = new FakeTime();
+    }
+
+    /**
+     * Builds a factory for the protocols of a single node.
+     */
+    private BroadcastProtocolFactory buildFactory(
+            final EventBroadcaster broadcaster, final Shadowgraph shadowgraph, final List<PlatformEvent> received) {
+        return buildFactory(broadcaster, shadowgraph, received, 16);
+    }
+
+    /**
+     * Builds a factory for the protocols of a single node that sends at most the given number of events per run.
+     */
+    private BroadcastProtocolFactory buildFactory(
+            final EventBroadcaster broadcaster,
+            final Shadowgraph shadowgraph,
+            final List<PlatformEvent> received,
+            final int maxEventsPerRun) {
+        return new BroadcastProtocolFactory(
+                broadcaster,
+                shadowgraph,
+                new NoOpIntakeEventCounter(),
+                received::add,
+                gossipHalted::get,
+                executor,
+                maxEventsPerRun,
+                new BroadcastMetrics(new NoOpMetrics()),
+                time);
+    }
+
+    /**
+     * Runs both sides of the protocol at the same time.
+     */
+    private static void runBothSides(final Protocol protocolA, final Protocol protocolB) throws IOException {
+        final Pair<Connection, Connection> connections = ConnectionFactory.createLocalConnections(
+                new NodeId(0), new NodeId(1));
+        final CompletableFuture<Void> sideB = CompletableFuture.runAsync(() -> {
+            try {
+                protocolB.runProtocol(connections.right());
+            } catch (final Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        try {
+            protocolA.runProtocol(connections.left());
+        } catch (final Exception e) {
+            throw new RuntimeException(e);
+        }
+        sideB.join();
+    }
+
+    @Test
+    @DisplayName("Self events are pushed to the peer")
+    void eventsArePushed() throws IOException {
+        final Random random = RandomUtils.getRandomPrintSeed();
+        final BroadcastMetrics metrics = new BroadcastMetrics(new NoOpMetrics());
+        final EventBroadcaster broadcasterA = new EventBroadcaster(16, metrics);
+        final EventBroadcaster broadcasterB = new EventBroadcaster(16, metrics);
+        final List<PlatformEvent> receivedByA = Collections.synchronizedList(new ArrayList<>());
+        final List<PlatformEvent> receivedByB = Collections.synchronizedList(new ArrayList<>());
+
+        final Protocol protocolA =
+                buildFactory(broadcasterA, mock(Shadowgraph.class), receivedByA).build(nodeB);
+        final Protocol protocolB =
+                buildFactory(broadcasterB, mock(Shadowgraph.class), receivedByB).build(nodeA);
+
+        assertFalse(protocolA.shouldInitiate(), "nothing to broadcast yet");
+
+        final List<PlatformEvent> events = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            final PlatformEvent event = new TestingEventBuilder(random).build();
+            events.add(event);
+            broadcasterA.broadcast(event);
+        }
+        assertTrue(protocolA.shouldInitiate(), "events are waiting to be broadcast");
+
+        runBothSides(protocolA, protocolB);
+
+        assertFalse(protocolA.shouldInitiate(), "all events should have been sent");
+        assertTrue(receivedByA.isEmpty(), "B had nothing to broadcast");
+        assertEquals(events, receivedByB, "B should receive the events in the order they were created");
+        for (final PlatformEvent event : receivedByB) {
+            assertEquals(nodeA, event.getSenderId(), "sender should be set to the peer");
+        }
+    }
+
+    @Test
+    @DisplayName("Events that are already known are dropped")
+    void duplicatesAreDropped() throws IOException {
+        final Random random = RandomUtils.getRandomPrintSeed();
+        final BroadcastMetrics metrics = new BroadcastMetrics(new NoOpMetrics());
+        final EventBroadcaster broadcasterA = new EventBroadcaster(16, metrics);
+        final List<PlatformEvent> receivedByB = Collections.synchronizedList(new ArrayList<>());
+
+        final Shadowgraph shadowgraphB = mock(Shadowgraph.class);
+        when(shadowgraphB.isHashInGraph(any())).thenReturn(true);
+
+        final Protocol protocolA = buildFactory(broadcasterA, mock(Shadowgraph.class), new ArrayList<>())
+                .build(nodeB);
+        final Protocol protocolB = buildFactory(new EventBroadcaster(16, metrics), shadowgraphB, receivedByB)
+                .build(nodeA);
+
+        broadcasterA.broadcast(new TestingEventBuilder(random).build());
+        runBothSides(protocolA, protocolB);
+
+        assertTrue(receivedByB.isEmpty(), "a known event should not be passed on");
+    }
+
+    @Test
+    @DisplayName("Nodes configured with different run sizes can talk to each other")
+    void differentMaxEventsPerRun() throws IOException {
+        final Random random = RandomUtils.getRandomPrintSeed();
+        final BroadcastMetrics metrics = new BroadcastMetrics(new NoOpMetrics());
+        final EventBroadcaster broadcasterA = new EventBroadcaster(16, metrics);
+        final List<PlatformEvent> receivedByB = Collections.synchronizedList(new ArrayList<>());
+
+        final Protocol protocolA = buildFactory(broadcasterA, mock(Shadowgraph.class), new ArrayList<>(), 16)
+                .build(nodeB);
+        final Protocol protocolB = buildFactory(
+                        new EventBroadcaster(16, metrics), mock(Shadowgraph.class), receivedByB, 2)
+                .build(nodeA);
+
+        final List<PlatformEvent> events = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            final PlatformEvent event = new TestingEventBuilder(random).build();
+            events.add(event);
+            broadcasterA.broadcast(event);
+        }
+
+        runBothSides(protocolA, protocolB);
+
+        assertEquals(events, receivedByB, "B should accept more events per run than it sends itself");
+    }
+
+    @Test
+    @DisplayName("Events that do not fit in the queue are left for sync")
+    void fullQueue() {
+        final Random random = RandomUtils.getRandomPrintSeed();
+        final EventBroadcaster broadcaster = new EventBroadcaster(2, new BroadcastMetrics(new NoOpMetrics()));
+        broadcaster.getQueue(nodeB);
+
+        for (int i = 0; i < 5; i++) {
+            broadcaster.broadcast(new TestingEventBuilder(random).build());
+        }
+        assertEquals(2, broadcaster.getQueue(nodeB).size());
+
+        broadcaster.clear();
+        assertTrue(broadcaster.getQueue(nodeB).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Nothing is initiated or accepted while gossip is halted")
+    void haltedGossip() {
+        final EventBroadcaster broadcaster = new EventBroadcaster(16, new BroadcastMetrics(new NoOpMetrics()));
+        final Protocol protocol = buildFactory(broadcaster, mock(Shadowgraph.class), new ArrayList<>())
+                .build(nodeB);
+        broadcaster.broadcast(new TestingEventBuilder(RandomUtils.getRandomPrintSeed()).build());
+
+        assertTrue(protocol.shouldInitiate());
+        assertTrue(protocol.shouldAccept());
+
+        gossipHalted.set(true);
+        assertFalse(protocol.shouldInitiate());
+        assertFalse(protocol.shouldAccept());
+        assertTrue(protocol.acceptOnSimultaneousInitiate());
+    }
+
+    @Test
+    @DisplayName("A peer that rejects broadcast is asked again less and less often")
+    void backOffAfterRejection() throws IOException {
+        final Random random = RandomUtils.getRandomPrintSeed();
+        final BroadcastMetrics metrics = new BroadcastMetrics(new NoOpMetrics());
+        final EventBroadcaster broadcaster = new EventBroadcaster(16, metrics);
+        final Protocol protocol = buildFactory(broadcaster, mock(Shadowgraph.class), new ArrayList<>())
+                .build(nodeB);
+        broadcaster.broadcast(new TestingEventBuilder(random).build());
+
+        // e.g. a peer that does not have broadcast enabled
+        assertTrue(protocol.shouldInitiate());
+        protocol.initiateRejected();
+        assertFalse(protocol.shouldInitiate(), "should not initiate right after a rejection");
+        time.tick(Duration.ofSeconds(1));
+        assertTrue(protocol.shouldInitiate(), "should initiate once the backoff has elapsed");
+
+        protocol.initiateRejected();
+        time.tick(Duration.ofSeconds(1));
+        assertFalse(protocol.shouldInitiate(), "the backoff should double after each rejection");
+        time.tick(Duration.ofSeconds(1));
+        assertTrue(protocol.shouldInitiate());
+
+        for (int i = 0; i < 20; i++) {
+            protocol.initiateRejected();
+        }
+        time.tick(Duration.ofMinutes(1));
+        assertTrue(protocol.shouldInitiate(), "the backoff should be capped");
+
+        // losing a negotiation to a protocol with a higher priority is not a rejection
+        protocol.initiateFailed();
+        assertTrue(protocol.shouldInitiate());
+
+        // a run shows that the peer has broadcast enabled, which resets the backoff
+        protocol.initiateRejected();
+        final Protocol peerProtocol = buildFactory(
+                        new EventBroadcaster(16, metrics), mock(Shadowgraph.class), new ArrayList<>())
+                .build(nodeA);
+        runBothSides(protocol, peerProtocol);
+        broadcaster.broadcast(new TestingEventBuilder(random).build());
+        assertTrue(protocol.shouldInitiate(), "a run should reset the backoff");
+    }
+}
@@ -22,6 +22,7 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -55,6 +56,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -676,6 +679,70 @@ class ShadowgraphTest {
         }
     }
 
+    @Test
+    @DisplayName("A tip snapshot is not affected by later changes to the shadowgraph")
+    void testTipSnapshotIsImmutable() throws ShadowgraphInsertionException {
+        final Random random = RandomUtils.getRandomPrintSeed();
+        initShadowgraph(random, 100, 4);
+
+        final List<ShadowEvent> tips = shadowgraph.getTips();
+        final List<ShadowEvent> tipsCopy = new ArrayList<>(tips);
+
+        for (int i = 0; i < 20; i++) {
+            shadowgraph.addEvent(emitter.emitEvent().getBaseEvent());
+        }
+
+        assertEquals(tipsCopy, tips, "the tips returned earlier should not change");
+        assertNotEquals(tipsCopy, shadowgraph.getTips(), "new events should have replaced the tips");
+        assertThrows(UnsupportedOperationException.class, () -> tips.add(tipsCopy.getFirst()));
+    }
+
+    @Test
+    @DisplayName("Readers can look up events while events are being inserted")
+    void testConcurrentReadsDuringInsert() throws InterruptedException {
+        final Random random = RandomUtils.getRandomPrintSeed();
+        initShadowgraph(random, 10, 4);
+
+        final List<EventImpl> newEvents = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            newEvents.add(emitter.emitEvent());
+        }
+
+        final AtomicBoolean done = new AtomicBoolean(false);
+        final AtomicReference<Throwable> readerError = new AtomicReference<>();
+        final List<Thread> readers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            final Thread reader = new Thread(() -> {
+                try {
+                    while (!done.get()) {
+                        final List<ShadowEvent> tips = shadowgraph.getTips();
+                        for (final ShadowEvent tip : tips) {
+                            assertNotNull(shadowgraph.getEvent(tip.getEventBaseHash()));
+                        }
+                        shadowgraph.findAncestors(tips, e -> true);
+                    }
+                } catch (final Throwable t) {
+                    readerError.set(t);
+                }
+            });
+            readers.add(reader);
+            reader.start();
+        }
+
+        for (final EventImpl event : newEvents) {
+            assertDoesNotThrow(() -> shadowgraph.addEvent(event.getBaseEvent()));
+        }
+        done.set(true);
+        for (final Thread reader : readers) {
+            reader.join();
+        }
+
+        assertNull(readerError.get(), "readers should not fail while events are being inserted");
+        for (final EventImpl event : newEvents) {
+            assertTrue(shadowgraph.isHashInGraph(event.getBaseHash()), "all inserted events should be present");
+        }
+    }
+
     @RepeatedTest(10)
     void testTipsExpired() {
         final Random random = RandomUtils.getRandomPrintSeed();